@@ -0,0 +1,277 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.headless;
+
+import com.badlogic.gdx.Application;
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.LifecycleListener;
+import com.badlogic.gdx.Preferences;
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Clipboard;
+import com.badlogic.gdx.utils.GdxNativesLoader;
+import com.badlogic.gdx.utils.GdxRuntimeException;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/** An application without a window, GL context or audio device, for running game logic on servers and in automated tests. The
+ * main loop calls {@link ApplicationListener#render()} either every {@link HeadlessApplicationConfiguration#renderInterval}
+ * seconds or as fast as possible. {@link Gdx#gl} is a no-op implementation, files are backed by the local file system and
+ * networking by java.net. */
+public class HeadlessApplication implements Application {
+	protected final HeadlessGraphics graphics;
+	protected final HeadlessAudio audio;
+	protected final HeadlessFiles files;
+	protected final HeadlessInput input;
+	protected final HeadlessNet net;
+	protected final ApplicationListener listener;
+	protected Thread mainLoopThread;
+	protected volatile boolean running = true;
+	protected final Array<Runnable> runnables = new Array();
+	protected final Array<Runnable> executedRunnables = new Array();
+	protected final Array<LifecycleListener> lifecycleListeners = new Array();
+	private final Map<String, Preferences> preferences = new HashMap();
+	private final HeadlessClipboard clipboard = new HeadlessClipboard();
+	private final long renderInterval;
+	private final boolean forceExit;
+	private final String preferencesDirectory;
+	private int logLevel = LOG_INFO;
+
+	public HeadlessApplication (ApplicationListener listener) {
+		this(listener, new HeadlessApplicationConfiguration());
+	}
+
+	public HeadlessApplication (ApplicationListener listener, HeadlessApplicationConfiguration config) {
+		if (listener == null) throw new IllegalArgumentException("listener cannot be null.");
+		if (config == null) throw new IllegalArgumentException("config cannot be null.");
+
+		GdxNativesLoader.load();
+
+		this.listener = listener;
+		renderInterval = config.renderInterval > 0 ? (long)(config.renderInterval * 1000000000f) : 0;
+		forceExit = config.forceExit;
+		preferencesDirectory = config.preferencesDirectory;
+
+		graphics = new HeadlessGraphics(config);
+		audio = new HeadlessAudio();
+		files = new HeadlessFiles();
+		input = new HeadlessInput();
+		net = new HeadlessNet();
+
+		Gdx.app = this;
+		Gdx.graphics = graphics;
+		Gdx.audio = audio;
+		Gdx.files = files;
+		Gdx.input = input;
+		Gdx.net = net;
+		Gdx.gl = graphics.getGLCommon();
+		Gdx.gl10 = graphics.getGL10();
+		Gdx.gl11 = null;
+		Gdx.gl20 = graphics.getGL20();
+
+		mainLoopThread = new Thread("HeadlessApplication") {
+			public void run () {
+				try {
+					HeadlessApplication.this.mainLoop();
+				} catch (Throwable t) {
+					if (t instanceof RuntimeException)
+						throw (RuntimeException)t;
+					else
+						throw new GdxRuntimeException(t);
+				}
+			}
+		};
+		mainLoopThread.start();
+	}
+
+	void mainLoop () {
+		listener.create();
+		listener.resize(graphics.getWidth(), graphics.getHeight());
+
+		long nextFrameTime = System.nanoTime();
+		while (running) {
+			synchronized (runnables) {
+				executedRunnables.clear();
+				executedRunnables.addAll(runnables);
+				runnables.clear();
+			}
+			for (int i = 0; i < executedRunnables.size; i++)
+				executedRunnables.get(i).run();
+			// If one of the runnables set running to false, for example after an exit().
+			if (!running) break;
+
+			long time = System.nanoTime();
+			graphics.frameStart(time);
+			listener.render();
+
+			if (renderInterval > 0) {
+				// Schedule against the previous frame's start so sleep inaccuracy doesn't accumulate.
+				nextFrameTime = Math.max(nextFrameTime + renderInterval, time);
+				long sleep = nextFrameTime - System.nanoTime();
+				if (sleep > 0) {
+					try {
+						Thread.sleep(sleep / 1000000, (int)(sleep % 1000000));
+					} catch (InterruptedException ignored) {
+					}
+				}
+			}
+		}
+
+		synchronized (lifecycleListeners) {
+			for (LifecycleListener listener : lifecycleListeners) {
+				listener.pause();
+				listener.dispose();
+			}
+		}
+		listener.pause();
+		listener.dispose();
+		if (forceExit) System.exit(-1);
+	}
+
+	/** Stops the main loop and waits for the listener to be disposed. Must not be called from the main loop thread. */
+	public void stop () {
+		running = false;
+		try {
+			mainLoopThread.join();
+		} catch (InterruptedException ignored) {
+		}
+	}
+
+	public ApplicationListener getApplicationListener () {
+		return listener;
+	}
+
+	public HeadlessGraphics getGraphics () {
+		return graphics;
+	}
+
+	public HeadlessAudio getAudio () {
+		return audio;
+	}
+
+	public HeadlessInput getInput () {
+		return input;
+	}
+
+	public HeadlessFiles getFiles () {
+		return files;
+	}
+
+	public HeadlessNet getNet () {
+		return net;
+	}
+
+	public ApplicationType getType () {
+		return ApplicationType.HeadlessDesktop;
+	}
+
+	public int getVersion () {
+		return 0;
+	}
+
+	public long getJavaHeap () {
+		return Runtime.getRuntime().totalMemory() - Runtime.getRuntime().freeMemory();
+	}
+
+	public long getNativeHeap () {
+		return getJavaHeap();
+	}
+
+	public Preferences getPreferences (String name) {
+		if (preferences.containsKey(name))
+			return preferences.get(name);
+		else {
+			Preferences prefs = new HeadlessPreferences(name, preferencesDirectory);
+			preferences.put(name, prefs);
+			return prefs;
+		}
+	}
+
+	public Clipboard getClipboard () {
+		return clipboard;
+	}
+
+	public void postRunnable (Runnable runnable) {
+		synchronized (runnables) {
+			runnables.add(runnable);
+		}
+	}
+
+	public void exit () {
+		postRunnable(new Runnable() {
+			public void run () {
+				running = false;
+			}
+		});
+	}
+
+	public void setLogLevel (int logLevel) {
+		this.logLevel = logLevel;
+	}
+
+	public void debug (String tag, String message) {
+		if (logLevel >= LOG_DEBUG) {
+			System.out.println(tag + ": " + message);
+		}
+	}
+
+	public void debug (String tag, String message, Throwable exception) {
+		if (logLevel >= LOG_DEBUG) {
+			System.out.println(tag + ": " + message);
+			exception.printStackTrace(System.out);
+		}
+	}
+
+	public void log (String tag, String message) {
+		if (logLevel >= LOG_INFO) {
+			System.out.println(tag + ": " + message);
+		}
+	}
+
+	public void log (String tag, String message, Exception exception) {
+		if (logLevel >= LOG_INFO) {
+			System.out.println(tag + ": " + message);
+			exception.printStackTrace(System.out);
+		}
+	}
+
+	public void error (String tag, String message) {
+		if (logLevel >= LOG_ERROR) {
+			System.err.println(tag + ": " + message);
+		}
+	}
+
+	public void error (String tag, String message, Throwable exception) {
+		if (logLevel >= LOG_ERROR) {
+			System.err.println(tag + ": " + message);
+			exception.printStackTrace(System.err);
+		}
+	}
+
+	public void addLifecycleListener (LifecycleListener listener) {
+		synchronized (lifecycleListeners) {
+			lifecycleListeners.add(listener);
+		}
+	}
+
+	public void removeLifecycleListener (LifecycleListener listener) {
+		synchronized (lifecycleListeners) {
+			lifecycleListeners.removeValue(listener, true);
+		}
+	}
+}
@@ -0,0 +1,41 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.headless;
+
+import com.badlogic.gdx.ApplicationListener;
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.Graphics;
+
+/** Configuration for a {@link HeadlessApplication}. */
+public class HeadlessApplicationConfiguration {
+	/** Width reported by {@link Graphics#getWidth()}, nothing is ever displayed. **/
+	public int width = 640;
+	/** Height reported by {@link Graphics#getHeight()}, nothing is ever displayed. **/
+	public int height = 480;
+	/** True to provide a no-op {@link Gdx#gl20}, false to provide a no-op {@link Gdx#gl10}. **/
+	public boolean useGL20 = true;
+	/** Seconds between calls to {@link ApplicationListener#render()}. The CPU sleeps as needed. Use 0 or less to never sleep and
+	 * run the loop as fast as possible. **/
+	public float renderInterval = 1 / 60f;
+	/** The delta time in seconds reported by {@link Graphics#getDeltaTime()} for every frame, for deterministic fixed step
+	 * simulation. Use 0 to report the measured time since the last frame. **/
+	public float fixedDeltaTime = 0;
+	/** True to call System.exit() when the main loop is complete. **/
+	public boolean forceExit = false;
+	/** Directory below the user's home directory in which preferences are stored. **/
+	public String preferencesDirectory = ".prefs/";
+}
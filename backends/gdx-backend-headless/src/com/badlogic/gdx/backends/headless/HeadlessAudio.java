@@ -0,0 +1,173 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.headless;
+
+import com.badlogic.gdx.Audio;
+import com.badlogic.gdx.audio.AudioDevice;
+import com.badlogic.gdx.audio.AudioRecorder;
+import com.badlogic.gdx.audio.Music;
+import com.badlogic.gdx.audio.Sound;
+import com.badlogic.gdx.files.FileHandle;
+
+/** {@link Audio} implementation without an audio device. Sounds and music can be created and controlled but are never heard. */
+public class HeadlessAudio implements Audio {
+	public AudioDevice newAudioDevice (int samplingRate, boolean isMono) {
+		return new HeadlessAudioDevice(isMono);
+	}
+
+	public AudioRecorder newAudioRecorder (int samplingRate, boolean isMono) {
+		return new HeadlessAudioRecorder();
+	}
+
+	public Sound newSound (FileHandle fileHandle) {
+		return new HeadlessSound();
+	}
+
+	public Music newMusic (FileHandle file) {
+		return new HeadlessMusic();
+	}
+
+	static class HeadlessSound implements Sound {
+		public long play () {
+			return 0;
+		}
+
+		public long play (float volume) {
+			return 0;
+		}
+
+		public long play (float volume, float pitch, float pan) {
+			return 0;
+		}
+
+		public long loop () {
+			return 0;
+		}
+
+		public long loop (float volume) {
+			return 0;
+		}
+
+		public long loop (float volume, float pitch, float pan) {
+			return 0;
+		}
+
+		public void stop () {
+		}
+
+		public void dispose () {
+		}
+
+		public void stop (long soundId) {
+		}
+
+		public void setLooping (long soundId, boolean looping) {
+		}
+
+		public void setPitch (long soundId, float pitch) {
+		}
+
+		public void setVolume (long soundId, float volume) {
+		}
+
+		public void setPan (long soundId, float pan, float volume) {
+		}
+
+		public void setPriority (long soundId, int priority) {
+		}
+	}
+
+	static class HeadlessMusic implements Music {
+		private boolean playing, isLooping;
+		private float volume = 1;
+
+		public void play () {
+			playing = true;
+		}
+
+		public void pause () {
+			playing = false;
+		}
+
+		public void stop () {
+			playing = false;
+		}
+
+		public boolean isPlaying () {
+			return playing;
+		}
+
+		public void setLooping (boolean isLooping) {
+			this.isLooping = isLooping;
+		}
+
+		public boolean isLooping () {
+			return isLooping;
+		}
+
+		public void setVolume (float volume) {
+			this.volume = volume;
+		}
+
+		public float getVolume () {
+			return volume;
+		}
+
+		public float getPosition () {
+			return 0;
+		}
+
+		public void dispose () {
+		}
+	}
+
+	static class HeadlessAudioDevice implements AudioDevice {
+		private final boolean isMono;
+
+		HeadlessAudioDevice (boolean isMono) {
+			this.isMono = isMono;
+		}
+
+		public boolean isMono () {
+			return isMono;
+		}
+
+		public void writeSamples (short[] samples, int offset, int numSamples) {
+		}
+
+		public void writeSamples (float[] samples, int offset, int numSamples) {
+		}
+
+		public int getLatency () {
+			return 0;
+		}
+
+		public void dispose () {
+		}
+
+		public void setVolume (float volume) {
+		}
+	}
+
+	static class HeadlessAudioRecorder implements AudioRecorder {
+		public void read (short[] samples, int offset, int numSamples) {
+		}
+
+		public void dispose () {
+		}
+	}
+}
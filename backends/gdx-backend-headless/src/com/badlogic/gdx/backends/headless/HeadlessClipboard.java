@@ -0,0 +1,32 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.headless;
+
+import com.badlogic.gdx.utils.Clipboard;
+
+/** Clipboard that only stores its contents in memory, there is no system clipboard to use. */
+public class HeadlessClipboard implements Clipboard {
+	private String contents = "";
+
+	public String getContents () {
+		return contents;
+	}
+
+	public void setContents (String contents) {
+		this.contents = contents;
+	}
+}
@@ -0,0 +1,298 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.headless;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL10;
+
+/** No-op implementation of {@link GL10}. Texture handles are unique, so textures can be created without a GPU. */
+public class HeadlessGL10 implements GL10 {
+	private int lastHandle;
+
+	public void glActiveTexture (int texture) {
+	}
+
+	public void glAlphaFunc (int func, float ref) {
+	}
+
+	public void glBindTexture (int target, int texture) {
+	}
+
+	public void glBlendFunc (int sfactor, int dfactor) {
+	}
+
+	public void glClear (int mask) {
+	}
+
+	public void glClearColor (float red, float green, float blue, float alpha) {
+	}
+
+	public void glClearDepthf (float depth) {
+	}
+
+	public void glClearStencil (int s) {
+	}
+
+	public void glClientActiveTexture (int texture) {
+	}
+
+	public void glColor4f (float red, float green, float blue, float alpha) {
+	}
+
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+	}
+
+	public void glColorPointer (int size, int type, int stride, Buffer pointer) {
+	}
+
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border, int imageSize, Buffer data) {
+	}
+
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int imageSize, Buffer data) {
+	}
+
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+	}
+
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+	}
+
+	public void glCullFace (int mode) {
+	}
+
+	public void glDeleteTextures (int n, IntBuffer textures) {
+	}
+
+	public void glDeleteTextures (int n, int[] textures, int offset) {
+	}
+
+	public void glDepthFunc (int func) {
+	}
+
+	public void glDepthMask (boolean flag) {
+	}
+
+	public void glDepthRangef (float zNear, float zFar) {
+	}
+
+	public void glDisable (int cap) {
+	}
+
+	public void glDisableClientState (int array) {
+	}
+
+	public void glDrawArrays (int mode, int first, int count) {
+	}
+
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+	}
+
+	public void glEnable (int cap) {
+	}
+
+	public void glEnableClientState (int array) {
+	}
+
+	public void glFinish () {
+	}
+
+	public void glFlush () {
+	}
+
+	public void glFogf (int pname, float param) {
+	}
+
+	public void glFogfv (int pname, FloatBuffer params) {
+	}
+
+	public void glFogfv (int pname, float[] params, int offset) {
+	}
+
+	public void glFrontFace (int mode) {
+	}
+
+	public void glFrustumf (float left, float right, float bottom, float top, float zNear, float zFar) {
+	}
+
+	public void glGenTextures (int n, IntBuffer textures) {
+		for (int i = 0; i < n; i++)
+			textures.put(textures.position() + i, ++lastHandle);
+	}
+
+	public void glGenTextures (int n, int[] textures, int offset) {
+		for (int i = 0; i < n; i++)
+			textures[offset + i] = ++lastHandle;
+	}
+
+	public int glGetError () {
+		return GL_NO_ERROR;
+	}
+
+	public void glGetIntegerv (int pname, IntBuffer params) {
+	}
+
+	public void glGetIntegerv (int pname, int[] params, int offset) {
+	}
+
+	public String glGetString (int name) {
+		return "";
+	}
+
+	public void glHint (int target, int mode) {
+	}
+
+	public void glLightf (int light, int pname, float param) {
+	}
+
+	public void glLightfv (int light, int pname, FloatBuffer params) {
+	}
+
+	public void glLightfv (int light, int pname, float[] params, int offset) {
+	}
+
+	public void glLightModelf (int pname, float param) {
+	}
+
+	public void glLightModelfv (int pname, FloatBuffer params) {
+	}
+
+	public void glLightModelfv (int pname, float[] params, int offset) {
+	}
+
+	public void glLineWidth (float width) {
+	}
+
+	public void glLoadIdentity () {
+	}
+
+	public void glLoadMatrixf (FloatBuffer m) {
+	}
+
+	public void glLoadMatrixf (float[] m, int offset) {
+	}
+
+	public void glLogicOp (int opcode) {
+	}
+
+	public void glMaterialf (int face, int pname, float param) {
+	}
+
+	public void glMaterialfv (int face, int pname, FloatBuffer params) {
+	}
+
+	public void glMaterialfv (int face, int pname, float[] params, int offset) {
+	}
+
+	public void glMatrixMode (int mode) {
+	}
+
+	public void glMultiTexCoord4f (int target, float s, float t, float r, float q) {
+	}
+
+	public void glMultMatrixf (FloatBuffer m) {
+	}
+
+	public void glMultMatrixf (float[] m, int offset) {
+	}
+
+	public void glNormal3f (float nx, float ny, float nz) {
+	}
+
+	public void glNormalPointer (int type, int stride, Buffer pointer) {
+	}
+
+	public void glOrthof (float left, float right, float bottom, float top, float zNear, float zFar) {
+	}
+
+	public void glPixelStorei (int pname, int param) {
+	}
+
+	public void glPointSize (float size) {
+	}
+
+	public void glPolygonMode (int face, int mode) {
+	}
+
+	public void glPolygonOffset (float factor, float units) {
+	}
+
+	public void glPopMatrix () {
+	}
+
+	public void glPushMatrix () {
+	}
+
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+	}
+
+	public void glRotatef (float angle, float x, float y, float z) {
+	}
+
+	public void glSampleCoverage (float value, boolean invert) {
+	}
+
+	public void glScalef (float x, float y, float z) {
+	}
+
+	public void glScissor (int x, int y, int width, int height) {
+	}
+
+	public void glShadeModel (int mode) {
+	}
+
+	public void glStencilFunc (int func, int ref, int mask) {
+	}
+
+	public void glStencilMask (int mask) {
+	}
+
+	public void glStencilOp (int fail, int zfail, int zpass) {
+	}
+
+	public void glTexCoordPointer (int size, int type, int stride, Buffer pointer) {
+	}
+
+	public void glTexEnvf (int target, int pname, float param) {
+	}
+
+	public void glTexEnvfv (int target, int pname, FloatBuffer params) {
+	}
+
+	public void glTexEnvfv (int target, int pname, float[] params, int offset) {
+	}
+
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type, Buffer pixels) {
+	}
+
+	public void glTexParameterf (int target, int pname, float param) {
+	}
+
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type, Buffer pixels) {
+	}
+
+	public void glTranslatef (float x, float y, float z) {
+	}
+
+	public void glVertexPointer (int size, int type, int stride, Buffer pointer) {
+	}
+
+	public void glViewport (int x, int y, int width, int height) {
+	}
+}
@@ -0,0 +1,184 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.headless;
+
+import com.badlogic.gdx.Graphics;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.GL11;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.GLCommon;
+
+/** {@link Graphics} implementation without a display. It provides a no-op {@link GL10} or {@link GL20} so that code creating
+ * textures, meshes and shaders can run without a GPU. */
+public class HeadlessGraphics implements Graphics {
+	private final int width, height;
+	private final float fixedDeltaTime;
+	private final BufferFormat bufferFormat = new BufferFormat(8, 8, 8, 8, 16, 0, 0, false);
+	private float deltaTime;
+	private long frameStart, lastTime = -1;
+	private int frames, fps;
+	private long frameId = -1;
+
+	private GLCommon gl;
+	private HeadlessGL10 gl10;
+	private HeadlessGL20 gl20;
+
+	public HeadlessGraphics (HeadlessApplicationConfiguration config) {
+		width = config.width;
+		height = config.height;
+		fixedDeltaTime = config.fixedDeltaTime;
+		if (config.useGL20)
+			gl = gl20 = new HeadlessGL20();
+		else
+			gl = gl10 = new HeadlessGL10();
+	}
+
+	void frameStart (long time) {
+		if (lastTime == -1) lastTime = time;
+		deltaTime = fixedDeltaTime > 0 ? fixedDeltaTime : (time - lastTime) / 1000000000.0f;
+		lastTime = time;
+
+		if (time - frameStart >= 1000000000) {
+			fps = frames;
+			frames = 0;
+			frameStart = time;
+		}
+		frames++;
+		frameId++;
+	}
+
+	/** @return the number of frames rendered so far, starting at 0 for the first frame. */
+	public long getFrameId () {
+		return frameId;
+	}
+
+	public boolean isGL11Available () {
+		return false;
+	}
+
+	public boolean isGL20Available () {
+		return gl20 != null;
+	}
+
+	public GLCommon getGLCommon () {
+		return gl;
+	}
+
+	public GL10 getGL10 () {
+		return gl10;
+	}
+
+	public GL11 getGL11 () {
+		return null;
+	}
+
+	public GL20 getGL20 () {
+		return gl20;
+	}
+
+	public int getWidth () {
+		return width;
+	}
+
+	public int getHeight () {
+		return height;
+	}
+
+	public float getDeltaTime () {
+		return deltaTime;
+	}
+
+	public float getRawDeltaTime () {
+		return deltaTime;
+	}
+
+	public int getFramesPerSecond () {
+		return fps;
+	}
+
+	public GraphicsType getType () {
+		return GraphicsType.Mock;
+	}
+
+	public float getPpiX () {
+		return 96;
+	}
+
+	public float getPpiY () {
+		return 96;
+	}
+
+	public float getPpcX () {
+		return 96 / 2.54f;
+	}
+
+	public float getPpcY () {
+		return 96 / 2.54f;
+	}
+
+	public float getDensity () {
+		return 1;
+	}
+
+	public boolean supportsDisplayModeChange () {
+		return false;
+	}
+
+	public DisplayMode[] getDisplayModes () {
+		return new DisplayMode[0];
+	}
+
+	public DisplayMode getDesktopDisplayMode () {
+		return null;
+	}
+
+	public boolean setDisplayMode (DisplayMode displayMode) {
+		return false;
+	}
+
+	public boolean setDisplayMode (int width, int height, boolean fullscreen) {
+		return false;
+	}
+
+	public void setTitle (String title) {
+	}
+
+	public void setVSync (boolean vsync) {
+	}
+
+	public BufferFormat getBufferFormat () {
+		return bufferFormat;
+	}
+
+	public boolean supportsExtension (String extension) {
+		return false;
+	}
+
+	public void setContinuousRendering (boolean isContinuous) {
+	}
+
+	public boolean isContinuousRendering () {
+		return true;
+	}
+
+	public void requestRendering () {
+	}
+
+	public boolean isFullscreen () {
+		return false;
+	}
+}
@@ -0,0 +1,165 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.backends.headless;
+
+import com.badlogic.gdx.Input;
+import com.badlogic.gdx.InputProcessor;
+
+/** {@link Input} implementation without any input devices. No keys or buttons are ever pressed and text input is always
+ * canceled. */
+public class HeadlessInput implements Input {
+	private InputProcessor processor;
+
+	public float getAccelerometerX () {
+		return 0;
+	}
+
+	public float getAccelerometerY () {
+		return 0;
+	}
+
+	public float getAccelerometerZ () {
+		return 0;
+	}
+
+	public int getX () {
+		return 0;
+	}
+
+	public int getX (int pointer) {
+		return 0;
+	}
+
+	public int getDeltaX () {
+		return 0;
+	}
+
+	public int getDeltaX (int pointer) {
+		return 0;
+	}
+
+	public int getY () {
+		return 0;
+	}
+
+	public int getY (int pointer) {
+		return 0;
+	}
+
+	public int getDeltaY () {
+		return 0;
+	}
+
+	public int getDeltaY (int pointer) {
+		return 0;
+	}
+
+	public boolean isTouched () {
+		return false;
+	}
+
+	public boolean justTouched () {
+		return false;
+	}
+
+	public boolean isTouched (int pointer) {
+		return false;
+	}
+
+	public boolean isButtonPressed (int button) {
+		return false;
+	}
+
+	public boolean isKeyPressed (int key) {
+		return false;
+	}
+
+	public void getTextInput (TextInputListener listener, String title, String text) {
+		listener.canceled();
+	}
+
+	public void getPlaceholderTextInput (TextInputListener listener, String title, String placeholder) {
+		listener.canceled();
+	}
+
+	public void setOnscreenKeyboardVisible (boolean visible) {
+	}
+
+	public void vibrate (int milliseconds) {
+	}
+
+	public void vibrate (long[] pattern, int repeat) {
+	}
+
+	public void cancelVibrate () {
+	}
+
+	public float getAzimuth () {
+		return 0;
+	}
+
+	public float getPitch () {
+		return 0;
+	}
+
+	public float getRoll () {
+		return 0;
+	}
+
+	public void getRotationMatrix (float[] matrix) {
+	}
+
+	public long getCurrentEventTime () {
+		return 0;
+	}
+
+	public void setCatchBackKey (boolean catchBack) {
+	}
+
+	public void setCatchMenuKey (boolean catchMenu) {
+	}
+
+	public void setInputProcessor (InputProcessor processor) {
+		this.processor = processor;
+	}
+
+	public InputProcessor getInputProcessor () {
+		return processor;
+	}
+
+	public boolean isPeripheralAvailable (Peripheral peripheral) {
+		return false;
+	}
+
+	public int getRotation () {
+		return 0;
+	}
+
+	public Orientation getNativeOrientation () {
+		return Orientation.Landscape;
+	}
+
+	public void setCursorCatched (boolean catched) {
+	}
+
+	public boolean isCursorCatched () {
+		return false;
+	}
+
+	public void setCursorPosition (int x, int y) {
+	}
+}
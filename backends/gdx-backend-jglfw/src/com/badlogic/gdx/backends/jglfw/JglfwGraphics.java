@@ -11,6 +11,7 @@ import com.badlogic.gdx.graphics.GL10;
 import com.badlogic.gdx.graphics.GL11;
 import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.GLCommon;
+import com.badlogic.gdx.graphics.glutils.GLProfiler;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.jglfw.GlfwVideoMode;
@@ -41,9 +42,10 @@ public class JglfwGraphics implements Graphics {
 	private int frames, fps;
 
 	private GLCommon gl;
-	private JglfwGL10 gl10;
-	private JglfwGL11 gl11;
-	private JglfwGL20 gl20;
+	private GL10 gl10;
+	private GL11 gl11;
+	private GL20 gl20;
+	private boolean glProfiling;
 
 	public JglfwGraphics (JglfwApplicationConfiguration config) {
 		// Store values from config.
@@ -91,6 +93,21 @@ public class JglfwGraphics implements Graphics {
 		if (!config.hidden) show();
 	}
 
+	/** Enables or disables counting GL calls in {@link GLProfiler}. The GL instances returned by this Graphics and set in
+	 * {@link Gdx} are replaced with profiling wrappers or restored. Can be called at any time on the rendering thread. */
+	public void setGLProfiling (boolean enabled) {
+		glProfiling = enabled;
+		GLProfiler.setEnabled(enabled);
+		gl = Gdx.gl;
+		gl10 = Gdx.gl10;
+		gl11 = Gdx.gl11;
+		gl20 = Gdx.gl20;
+	}
+
+	public boolean isGLProfiling () {
+		return glProfiling;
+	}
+
 	private boolean createWindow (int width, int height, boolean fullscreen) {
 		if (fullscreen && fullscreenMonitor == 0) fullscreenMonitor = getWindowMonitor();
 
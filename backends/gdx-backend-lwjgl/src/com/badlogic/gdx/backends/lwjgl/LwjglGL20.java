@@ -99,6 +99,7 @@ final class LwjglGL20 implements com.badlogic.gdx.graphics.GL20 {
 			GL15.glBufferData(target, (DoubleBuffer)data, usage);
 		else if (data instanceof ShortBuffer) //
 			GL15.glBufferData(target, (ShortBuffer)data, usage);
+		else if (data == null) GL15.glBufferData(target, size, usage);
 	}
 
 	public void glBufferSubData (int target, int offset, int size, Buffer data) {
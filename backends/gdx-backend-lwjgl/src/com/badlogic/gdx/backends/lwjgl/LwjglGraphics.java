@@ -24,6 +24,7 @@ import com.badlogic.gdx.graphics.GL20;
 import com.badlogic.gdx.graphics.GLCommon;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.graphics.Pixmap.Format;
+import com.badlogic.gdx.graphics.glutils.GLProfiler;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 import java.awt.Canvas;
@@ -43,6 +44,7 @@ public class LwjglGraphics implements Graphics {
 	GL10 gl10;
 	GL11 gl11;
 	GL20 gl20;
+	boolean glProfiling;
 	float deltaTime = 0;
 	long frameStart = 0;
 	int frames = 0;
@@ -250,6 +252,22 @@ public class LwjglGraphics implements Graphics {
 		Gdx.gl10 = gl10;
 		Gdx.gl11 = gl11;
 		Gdx.gl20 = gl20;
+		if (glProfiling) setGLProfiling(true);
+	}
+
+	/** Enables or disables counting GL calls in {@link GLProfiler}. The GL instances returned by this Graphics and set in
+	 * {@link Gdx} are replaced with profiling wrappers or restored. Can be called at any time on the rendering thread. */
+	public void setGLProfiling (boolean enabled) {
+		glProfiling = enabled;
+		GLProfiler.setEnabled(enabled);
+		gl = Gdx.gl;
+		gl10 = Gdx.gl10;
+		gl11 = Gdx.gl11;
+		gl20 = Gdx.gl20;
+	}
+
+	public boolean isGLProfiling () {
+		return glProfiling;
 	}
 
 	@Override
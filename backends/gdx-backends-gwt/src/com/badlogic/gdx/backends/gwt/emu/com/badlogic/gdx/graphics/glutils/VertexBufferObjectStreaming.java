@@ -0,0 +1,35 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.glutils;
+
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+
+/** WebGL cannot orphan a buffer object by calling glBufferData without data and only accepts float buffers, so on GWT the
+ * vertices are uploaded with glBufferData every time they change, like a dynamic {@link VertexBufferObject}. The batches are
+ * ignored. */
+public class VertexBufferObjectStreaming extends VertexBufferObject {
+	public VertexBufferObjectStreaming (int numVertices, int batches, VertexAttribute... attributes) {
+		this(numVertices, batches, new VertexAttributes(attributes));
+	}
+
+	public VertexBufferObjectStreaming (int numVertices, int batches, VertexAttributes attributes) {
+		super(false, numVertices, attributes);
+		if (batches < 1) throw new IllegalArgumentException("batches must be > 0: " + batches);
+	}
+}
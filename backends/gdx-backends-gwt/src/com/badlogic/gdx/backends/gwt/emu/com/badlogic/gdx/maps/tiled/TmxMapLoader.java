@@ -45,6 +45,8 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		boolean yUp = true;
 		/** generate mipmaps? **/
 		public boolean generateMipMaps = false;		
+		/** Whether tile layers store their cells packed in an int[] instead of one Cell object per tile **/
+		public boolean packedLayers = false;
 	}
 	
 	protected static final int FLAG_FLIP_HORIZONTALLY = 0x80000000;
@@ -55,6 +57,7 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 	protected XmlReader xml = new XmlReader();
 	protected Element root;
 	protected boolean yUp;
+	protected boolean packedLayers;
 
 	protected int mapWidthInPixels;
 	protected int mapHeightInPixels;
@@ -97,6 +100,7 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 	public TiledMap load(String fileName, TmxMapLoader.Parameters parameters) {
 		try {
 			this.yUp = parameters.yUp;
+			this.packedLayers = parameters.packedLayers;
 			FileHandle tmxFile = resolve(fileName);
 			root = xml.parse(tmxFile);
 			ObjectMap<String, Texture> textures = new ObjectMap<String, Texture>();
@@ -119,8 +123,10 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		FileHandle tmxFile = resolve(fileName);
 		if (parameter != null) {
 			yUp = parameter.yUp;
+			packedLayers = parameter.packedLayers;
 		} else {
 			yUp = true;
+			packedLayers = false;
 		}
 		try {
 			map = loadTilemap(root, tmxFile, new AssetManagerImageResolver(manager));
@@ -367,12 +373,13 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 			int tileHeight = element.getParent().getIntAttribute("tileheight", 0);
 			boolean visible = element.getIntAttribute("visible", 1) == 1;
 			float opacity = element.getFloatAttribute("opacity", 1.0f);
-			TiledMapTileLayer layer = new TiledMapTileLayer(width, height, tileWidth, tileHeight);
+			TiledMapTileSets tilesets = map.getTileSets();
+			TiledMapTileLayer layer = packedLayers ? new TiledMapTileLayer(width, height, tileWidth, tileHeight, tilesets)
+				: new TiledMapTileLayer(width, height, tileWidth, tileHeight);
 			layer.setVisible(visible);
 			layer.setOpacity(opacity);
 			layer.setName(name);
-			
-			TiledMapTileSets tilesets = map.getTileSets();
+
 			
 			Element data = element.getChildByName("data");
 			String encoding = data.getAttribute("encoding", null);
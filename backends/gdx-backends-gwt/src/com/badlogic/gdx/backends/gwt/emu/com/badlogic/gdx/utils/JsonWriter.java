@@ -104,6 +104,30 @@ public class JsonWriter extends Writer {
 		return this;
 	}
 
+	public JsonWriter value (boolean value) throws IOException {
+		return value((Object)value);
+	}
+
+	public JsonWriter value (char value) throws IOException {
+		return value((Object)String.valueOf(value));
+	}
+
+	public JsonWriter value (int value) throws IOException {
+		return value((Object)value);
+	}
+
+	public JsonWriter value (long value) throws IOException {
+		return value((Object)value);
+	}
+
+	public JsonWriter value (float value) throws IOException {
+		return value((Object)value);
+	}
+
+	public JsonWriter value (double value) throws IOException {
+		return value((Object)value);
+	}
+
 	public JsonWriter object (String name) throws IOException {
 		return name(name).object();
 	}
@@ -26,25 +26,28 @@ import com.badlogic.gwtref.client.Type;
  * @author Nathan Sweet */
 public class ReflectionPool<T> extends Pool<T> {
 	private final Class<T> type;
+	private final Type reflectionType;
 
 	public ReflectionPool (Class<T> type) {
 		this.type = type;
+		reflectionType = ReflectionCache.getType(type);
 	}
 
 	public ReflectionPool (Class<T> type, int initialCapacity, int max) {
 		super(initialCapacity, max);
 		this.type = type;
+		reflectionType = ReflectionCache.getType(type);
 	}
 
 	public ReflectionPool (Class<T> type, int initialCapacity) {
 		super(initialCapacity);
 		this.type = type;
+		reflectionType = ReflectionCache.getType(type);
 	}
 
 	protected T newObject () {
-		Type t = ReflectionCache.getType(type);
 		try {
-			return (T)t.newInstance();
+			return (T)reflectionType.newInstance();
 		} catch (Exception ex) {
 			throw new GdxRuntimeException("Unable to create new instance: " + type.getName(), ex);
 		}
@@ -220,6 +220,11 @@ public class TexturePacker2 {
 			}
 		}
 
+		if (settings.binaryAtlas) {
+			writeBinaryPackFile(packFile, pages);
+			return;
+		}
+
 		FileWriter writer = new FileWriter(packFile, true);
 // if (settings.jsonOutput) {
 // } else {
@@ -239,6 +244,45 @@ public class TexturePacker2 {
 		writer.close();
 	}
 
+	/** Adds the pages to the existing pack file, if any, and rewrites it in the binary format. */
+	private void writeBinaryPackFile (File packFile, Array<Page> pages) {
+		FileHandle packFileHandle = new FileHandle(packFile);
+		FileHandle imagesDir = packFileHandle.parent();
+		TextureAtlasData data = packFile.exists() ? new TextureAtlasData(packFileHandle, imagesDir, false) : new TextureAtlasData();
+		for (Page page : pages) {
+			TextureAtlasData.Page atlasPage = new TextureAtlasData.Page(imagesDir.child(page.imageName),
+				settings.filterMin.isMipMap(), settings.format, settings.filterMin, settings.filterMag, settings.wrapX, settings.wrapY);
+			data.getPages().add(atlasPage);
+			for (Rect rect : page.outputRects) {
+				data.getRegions().add(newRegion(atlasPage, page, rect, rect.name));
+				for (String alias : rect.aliases)
+					data.getRegions().add(newRegion(atlasPage, page, rect, alias));
+			}
+		}
+		data.writeBinary(packFileHandle);
+	}
+
+	/** Returns the same region data that {@link #writeRect(FileWriter, Page, Rect, String)} writes. */
+	private Region newRegion (TextureAtlasData.Page atlasPage, Page page, Rect rect, String name) {
+		Region region = new Region();
+		region.page = atlasPage;
+		region.name = settings.flattenPaths ? new FileHandle(name).name() : name;
+		region.rotate = rect.rotated;
+		region.left = page.x + rect.x;
+		region.top = page.y + page.height - rect.height - rect.y;
+		region.width = rect.image.getWidth();
+		region.height = rect.image.getHeight();
+		region.splits = rect.splits;
+		region.pads = rect.pads;
+		if (rect.pads != null && rect.splits == null) region.splits = new int[4];
+		region.originalWidth = rect.originalWidth;
+		region.originalHeight = rect.originalHeight;
+		region.offsetX = rect.offsetX;
+		region.offsetY = rect.originalHeight - rect.image.getHeight() - rect.offsetY;
+		region.index = rect.index;
+		return region;
+	}
+
 	private void writeRect (FileWriter writer, Page page, Rect rect, String name) throws IOException {
 		String rectName = settings.flattenPaths ? new FileHandle(name).name() : name;
 		writer.write(rectName + "\n");
@@ -392,6 +436,8 @@ public class TexturePacker2 {
 		public boolean flattenPaths;
 		public boolean premultiplyAlpha;
 		public boolean useIndexes = true;
+		/** Writes the pack file in the binary format, which loads faster than the text format. */
+		public boolean binaryAtlas;
 
 		public Settings () {
 		}
@@ -424,6 +470,7 @@ public class TexturePacker2 {
 			combineSubdirectories = settings.combineSubdirectories;
 			flattenPaths = settings.flattenPaths;
 			premultiplyAlpha = settings.premultiplyAlpha;
+			binaryAtlas = settings.binaryAtlas;
 		}
 	}
 
@@ -66,9 +66,7 @@ class AssetLoadingTask implements Callable<Void> {
 		if (dependenciesLoaded == false) {
 			dependencies = asyncLoader.getDependencies(assetDesc.fileName, assetDesc.params);
 			if (dependencies != null) {
-				for (AssetDescriptor desc : dependencies) {
-					manager.injectDependency(assetDesc.fileName, desc);
-				}
+				manager.injectDependencies(assetDesc.fileName, dependencies);
 			} else {
 				// if we have no dependencies, we load the async part of the task immediately.
 				asyncLoader.loadAsync(manager, assetDesc.fileName, assetDesc.params);
@@ -105,9 +103,7 @@ class AssetLoadingTask implements Callable<Void> {
 				asset = syncLoader.load(manager, assetDesc.fileName, assetDesc.params);
 				return;
 			}
-			for (AssetDescriptor desc : dependencies) {
-				manager.injectDependency(assetDesc.fileName, desc);
-			}
+			manager.injectDependencies(assetDesc.fileName, dependencies);
 		} else {
 			asset = syncLoader.load(manager, assetDesc.fileName, assetDesc.params);
 		}
@@ -58,8 +58,14 @@ public class AssetManager implements Disposable {
 	final ObjectMap<Class, ObjectMap<String, AssetLoader>> loaders = new ObjectMap<Class, ObjectMap<String, AssetLoader>>();
 	final Array<AssetDescriptor> loadQueue = new Array<AssetDescriptor>();
 	final ExecutorService threadPool;
-
-	Stack<AssetLoadingTask> tasks = new Stack<AssetLoadingTask>();
+	final int maxConcurrentLoads;
+
+	/** One stack per asset being loaded concurrently. Each stack holds a queued asset at the bottom and its dependencies above it. */
+	final Array<Stack<AssetLoadingTask>> taskStacks = new Array<Stack<AssetLoadingTask>>();
+	/** The task responsible for loading each file name. Other tasks for the same file name wait for it to finish. */
+	final ObjectMap<String, AssetLoadingTask> loadingTasks = new ObjectMap<String, AssetLoadingTask>();
+	/** The task stack currently using each loader, see {@link AssetLoader#isConcurrent()}. */
+	final ObjectMap<AssetLoader, Stack<AssetLoadingTask>> busyLoaders = new ObjectMap<AssetLoader, Stack<AssetLoadingTask>>();
 	AssetErrorListener listener = null;
 	int loaded = 0;
 	int toLoad = 0;
@@ -73,6 +79,17 @@ public class AssetManager implements Disposable {
 
 	/** Creates a new AssetManager with all default loaders. */
 	public AssetManager (FileHandleResolver resolver) {
+		this(resolver, 1);
+	}
+
+	/** Creates a new AssetManager with all default loaders. Up to loaderThreads queued assets and their dependencies are loaded at
+	 * the same time, each with the asynchronous part running on its own worker thread. The synchronous part of each asset is still
+	 * loaded on the rendering thread in {@link #update()}. A loader that is not {@link AssetLoader#isConcurrent() concurrent} is
+	 * only used for one asset at a time.
+	 * @param loaderThreads the number of worker threads, 1 loads assets one after another. */
+	public AssetManager (FileHandleResolver resolver, int loaderThreads) {
+		if (loaderThreads < 1) throw new IllegalArgumentException("loaderThreads must be > 0: " + loaderThreads);
+		maxConcurrentLoads = loaderThreads;
 		setLoader(BitmapFont.class, new BitmapFontLoader(resolver));
 		setLoader(Music.class, new MusicLoader(resolver));
 		setLoader(Pixmap.class, new PixmapLoader(resolver));
@@ -80,10 +97,12 @@ public class AssetManager implements Disposable {
 		setLoader(TextureAtlas.class, new TextureAtlasLoader(resolver));
 		setLoader(Texture.class, new TextureLoader(resolver));
 		setLoader(Skin.class, new SkinLoader(resolver));
-		threadPool = Executors.newFixedThreadPool(1, new ThreadFactory() {
+		threadPool = Executors.newFixedThreadPool(loaderThreads, new ThreadFactory() {
+			int count;
+
 			@Override
-			public Thread newThread (Runnable r) {
-				Thread thread = new Thread(r, "AssetManager-Loader-Thread");
+			public synchronized Thread newThread (Runnable r) {
+				Thread thread = new Thread(r, count++ == 0 ? "AssetManager-Loader-Thread" : "AssetManager-Loader-Thread-" + count);
 				thread.setDaemon(true);
 				return thread;
 			}
@@ -133,10 +152,10 @@ public class AssetManager implements Disposable {
 			return;
 		}
 
-		// check if it's currently processed (and the first element in the stack, thus not a dependency)
+		// check if it's currently processed (and the first element in a stack, thus not a dependency)
 		// and cancel if necessary
-		if (tasks.size() > 0) {
-			AssetLoadingTask currAsset = tasks.firstElement();
+		for (int i = 0; i < taskStacks.size; i++) {
+			AssetLoadingTask currAsset = taskStacks.get(i).firstElement();
 			if (currAsset.assetDesc.fileName.equals(fileName)) {
 				currAsset.cancel = true;
 				log.debug("Unload (from tasks): " + fileName);
@@ -279,12 +298,15 @@ public class AssetManager implements Disposable {
 		}
 
 		// check task list
-		for (int i = 0; i < tasks.size(); i++) {
-			AssetDescriptor desc = tasks.get(i).assetDesc;
-			if (desc.fileName.equals(fileName) && !desc.type.equals(type))
-				throw new GdxRuntimeException("Asset with name '" + fileName
-					+ "' already in task list, but has different type (expected: " + type.getSimpleName() + ", found: "
-					+ desc.type.getSimpleName() + ")");
+		for (int i = 0; i < taskStacks.size; i++) {
+			Stack<AssetLoadingTask> tasks = taskStacks.get(i);
+			for (int ii = 0; ii < tasks.size(); ii++) {
+				AssetDescriptor desc = tasks.get(ii).assetDesc;
+				if (desc.fileName.equals(fileName) && !desc.type.equals(type))
+					throw new GdxRuntimeException("Asset with name '" + fileName
+						+ "' already in task list, but has different type (expected: " + type.getSimpleName() + ", found: "
+						+ desc.type.getSimpleName() + ")");
+			}
 		}
 
 		// check loaded assets
@@ -320,38 +342,51 @@ public class AssetManager implements Disposable {
 		if (asset instanceof Disposable) ((Disposable)asset).dispose();
 	}
 
-	/** Updates the AssetManager, keeping it loading any assets in the preload queue.
+	/** Updates the AssetManager, keeping it loading any assets in the preload queue. Each asset currently being loaded is updated
+	 * once.
 	 * @return true if all loading is finished. */
 	public synchronized boolean update () {
-		try {
-			if (tasks.size() == 0) {
-				// loop until we have a new task ready to be processed
-				while (loadQueue.size != 0 && tasks.size() == 0) {
-					nextTask();
-				}
-				// have we not found a task? We are done!
-				if (tasks.size() == 0) return true;
-			}
-			return updateTask() && loadQueue.size == 0 && tasks.size() == 0;
-		} catch (Throwable t) {
-			handleTaskError(t);
-			return loadQueue.size == 0;
-		}
+		return updateTasks(0);
 	}
 
-	/** Updates the AssetManager continuously for the specified number of milliseconds, yeilding the CPU to the loading thread
+	/** Updates the AssetManager continuously for the specified number of milliseconds, yeilding the CPU to the loading threads
 	 * between updates. This may block for less time if all loading tasks are complete. This may block for more time if the portion
-	 * of a single task that happens in the GL thread takes a long time.
+	 * of a single task that happens in the GL thread takes a long time. No further synchronous loading is started once the time is
+	 * up, so this can be used as a per frame budget.
 	 * @return true if all loading is finished. */
 	public synchronized boolean update (int millis) {
 		long endTime = System.currentTimeMillis() + millis;
 		while (true) {
-			boolean done = update();
+			boolean done = updateTasks(endTime);
 			if (done || System.currentTimeMillis() > endTime) return done;
 			Thread.yield();
 		}
 	}
 
+	/** Fills free task stacks from the load queue and updates the top task of each stack once.
+	 * @param endTime the time in milliseconds after which no further tasks are updated, or 0 to update all.
+	 * @return true if all loading is finished. */
+	private boolean updateTasks (long endTime) {
+		try {
+			while (loadQueue.size != 0 && taskStacks.size < maxConcurrentLoads)
+				nextTask();
+		} catch (Throwable t) {
+			handleTaskError(null, t);
+			return loadQueue.size == 0 && taskStacks.size == 0;
+		}
+		for (int i = 0; i < taskStacks.size; i++) {
+			Stack<AssetLoadingTask> tasks = taskStacks.get(i);
+			try {
+				updateTask(tasks);
+			} catch (Throwable t) {
+				handleTaskError(tasks, t);
+			}
+			if (i < taskStacks.size && taskStacks.get(i) != tasks) i--;
+			if (endTime != 0 && System.currentTimeMillis() > endTime) break;
+		}
+		return loadQueue.size == 0 && taskStacks.size == 0;
+	}
+
 	/** blocks until all assets are loaded. */
 	public void finishLoading () {
 		log.debug("Waiting for loading to complete...");
@@ -360,6 +395,14 @@ public class AssetManager implements Disposable {
 		log.debug("Loading complete.");
 	}
 
+	/** Injects all dependencies of an asset at once, so the rendering thread can't start loading the first dependency before the
+	 * others are pushed on top of it. */
+	synchronized void injectDependencies (String parentAssetFilename, Array<AssetDescriptor> dependendAssetDescs) {
+		for (AssetDescriptor desc : dependendAssetDescs) {
+			injectDependency(parentAssetFilename, desc);
+		}
+	}
+
 	synchronized void injectDependency (String parentAssetFilename, AssetDescriptor dependendAssetDesc) {
 		// add the asset as a dependency of the parent asset
 		Array<String> dependencies = assetDependencies.get(parentAssetFilename);
@@ -369,6 +412,17 @@ public class AssetManager implements Disposable {
 		}
 		dependencies.add(dependendAssetDesc.fileName);
 
+		// find the stack of the parent asset, dependencies are loaded before the parent.
+		Stack<AssetLoadingTask> tasks = null;
+		AssetLoadingTask parentTask = loadingTasks.get(parentAssetFilename);
+		for (int i = 0; i < taskStacks.size; i++) {
+			if (taskStacks.get(i).contains(parentTask)) {
+				tasks = taskStacks.get(i);
+				break;
+			}
+		}
+		if (tasks == null) throw new GdxRuntimeException("Asset not being loaded: " + parentAssetFilename);
+
 		// if the asset is already loaded, increase its reference count.
 		if (isLoaded(dependendAssetDesc.fileName)) {
 			log.debug("Dependency already loaded: " + dependendAssetDesc);
@@ -380,12 +434,12 @@ public class AssetManager implements Disposable {
 		// else add a new task for the asset.
 		else {
 			log.info("Loading dependency: " + dependendAssetDesc);
-			addTask(dependendAssetDesc);
+			addTask(dependendAssetDesc, tasks);
 		}
 	}
 
-	/** Removes a task from the loadQueue and adds it to the task stack. If the asset is already loaded (which can happen if it was
-	 * a dependency of a previously loaded asset) its reference count will be increased. */
+	/** Removes a task from the loadQueue and adds it to a new task stack. If the asset is already loaded (which can happen if it
+	 * was a dependency of a previously loaded asset) its reference count will be increased. */
 	private void nextTask () {
 		AssetDescriptor assetDesc = loadQueue.removeIndex(0);
 
@@ -400,16 +454,20 @@ public class AssetManager implements Disposable {
 		} else {
 			// else add a new task for the asset.
 			log.info("Loading: " + assetDesc);
-			addTask(assetDesc);
+			Stack<AssetLoadingTask> tasks = new Stack<AssetLoadingTask>();
+			addTask(assetDesc, tasks);
+			taskStacks.add(tasks);
 		}
 	}
 
-	/** Adds a {@link AssetLoadingTask} to the task stack for the given asset.
+	/** Adds a {@link AssetLoadingTask} to the given task stack for the given asset.
 	 * @param assetDesc */
-	private void addTask (AssetDescriptor assetDesc) {
+	private void addTask (AssetDescriptor assetDesc, Stack<AssetLoadingTask> tasks) {
 		AssetLoader loader = getLoader(assetDesc.type, assetDesc.fileName);
 		if (loader == null) throw new GdxRuntimeException("No loader for type: " + assetDesc.type.getSimpleName());
-		tasks.push(new AssetLoadingTask(this, assetDesc, loader, threadPool));
+		AssetLoadingTask task = new AssetLoadingTask(this, assetDesc, loader, threadPool);
+		if (!loadingTasks.containsKey(assetDesc.fileName)) loadingTasks.put(assetDesc.fileName, task);
+		tasks.push(task);
 	}
 
 	/** Adds an asset to this AssetManager */
@@ -426,17 +484,45 @@ public class AssetManager implements Disposable {
 		typeToAssets.put(fileName, new RefCountedContainer(asset));
 	}
 
-	/** Updates the current task on the top of the task stack.
+	/** Updates the current task on the top of the given task stack. The task waits if another task is loading the same asset or is
+	 * using the same non-concurrent loader.
 	 * @return true if the asset is loaded. */
-	private boolean updateTask () {
+	private boolean updateTask (Stack<AssetLoadingTask> tasks) {
 		AssetLoadingTask task = tasks.peek();
+		String fileName = task.assetDesc.fileName;
+
+		AssetLoadingTask owner = loadingTasks.get(fileName);
+		if (owner != task) {
+			if (owner != null && owner.ticks > 0) return false;
+			if (owner == null && isLoaded(fileName)) {
+				// the asset was loaded by another task in the meantime, increase its reference count
+				log.debug("Loaded by other task: " + task.assetDesc);
+				if (!task.cancel) {
+					assets.get(assetTypes.get(fileName)).get(fileName).incRefCount();
+					incrementRefCountedDependencies(fileName);
+				}
+				if (tasks.size() == 1) loaded++;
+				popTask(tasks);
+				return true;
+			}
+			// the other task has not started yet or failed, load the asset with this task instead
+			loadingTasks.put(fileName, task);
+		}
+
+		if (!task.loader.isConcurrent()) {
+			Stack<AssetLoadingTask> loaderTasks = busyLoaders.get(task.loader);
+			if (loaderTasks == null)
+				busyLoaders.put(task.loader, tasks);
+			else if (loaderTasks != tasks) return false;
+		}
+
 		// if the task has finished loading
 		if (task.update()) {
-			addAsset(task.assetDesc.fileName, task.assetDesc.type, task.getAsset());
+			addAsset(fileName, task.assetDesc.type, task.getAsset());
 
 			// increase the number of loaded assets and pop the task from the stack
 			if (tasks.size() == 1) loaded++;
-			tasks.pop();
+			popTask(tasks);
 
 			// remove the asset if it was canceled.
 			if (task.cancel) {
@@ -457,6 +543,24 @@ public class AssetManager implements Disposable {
 		}
 	}
 
+	/** Pops the top task from the given task stack, releasing its file name and loader. Removes the stack if it is empty. */
+	private void popTask (Stack<AssetLoadingTask> tasks) {
+		AssetLoadingTask task = tasks.pop();
+		releaseTask(task, tasks);
+		if (tasks.isEmpty()) taskStacks.removeValue(tasks, true);
+	}
+
+	private void releaseTask (AssetLoadingTask task, Stack<AssetLoadingTask> tasks) {
+		if (loadingTasks.get(task.assetDesc.fileName) == task) loadingTasks.remove(task.assetDesc.fileName);
+		if (busyLoaders.get(task.loader) != tasks) return;
+		// the loader stays in use by the stack while a parent task that uses it is still loading
+		for (int i = 0; i < tasks.size(); i++) {
+			AssetLoadingTask other = tasks.get(i);
+			if (other.loader == task.loader && other.ticks > 0) return;
+		}
+		busyLoaders.remove(task.loader);
+	}
+
 	private void incrementRefCountedDependencies (String parent) {
 		Array<String> dependencies = assetDependencies.get(parent);
 		if (dependencies == null) return;
@@ -470,15 +574,17 @@ public class AssetManager implements Disposable {
 	}
 
 	/** Handles a runtime/loading error in {@link #update()} by optionally invoking the {@link AssetErrorListener}.
+	 * @param tasks the task stack that failed or null
 	 * @param t */
-	private void handleTaskError (Throwable t) {
+	private void handleTaskError (Stack<AssetLoadingTask> tasks, Throwable t) {
 		log.error("Error loading asset.", t);
 
-		if (tasks.isEmpty()) throw new GdxRuntimeException(t);
+		if (tasks == null || tasks.isEmpty()) throw new GdxRuntimeException(t);
 
 		// pop the faulty task from the stack
 		AssetLoadingTask task = tasks.pop();
 		AssetDescriptor assetDesc = task.assetDesc;
+		releaseTask(task, tasks);
 
 		// remove all dependencies
 		if (task.dependenciesLoaded && task.dependencies != null) {
@@ -488,7 +594,9 @@ public class AssetManager implements Disposable {
 		}
 
 		// clear the rest of the stack
-		tasks.clear();
+		while (!tasks.isEmpty())
+			releaseTask(tasks.pop(), tasks);
+		taskStacks.removeValue(tasks, true);
 
 		// inform the listener that something bad happened
 		if (listener != null) {
@@ -526,7 +634,10 @@ public class AssetManager implements Disposable {
 
 	/** @return the number of currently queued assets */
 	public synchronized int getQueuedAssets () {
-		return loadQueue.size + (tasks.size());
+		int queued = loadQueue.size;
+		for (int i = 0; i < taskStacks.size; i++)
+			queued += taskStacks.get(i).size();
+		return queued;
 	}
 
 	/** @return the progress in percent of completion. */
@@ -592,7 +703,9 @@ public class AssetManager implements Disposable {
 		this.loaded = 0;
 		this.toLoad = 0;
 		this.loadQueue.clear();
-		this.tasks.clear();
+		this.taskStacks.clear();
+		this.loadingTasks.clear();
+		this.busyLoaders.clear();
 	}
 
 	/** @return the {@link Logger} used by the {@link AssetManager} */
@@ -18,6 +18,7 @@ package com.badlogic.gdx.assets.loaders;
 
 import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetLoaderParameters;
+import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.utils.Array;
 
@@ -46,4 +47,10 @@ public abstract class AssetLoader<T, P extends AssetLoaderParameters<T>> {
 	 * @param parameter parameters for loading the asset
 	 * @return other assets that the asset depends on and need to be loaded first or null if there are no dependencies. */
 	public abstract Array<AssetDescriptor> getDependencies (String fileName, P parameter);
+
+	/** @return whether this loader keeps no state between loading steps, so that an {@link AssetManager} with more than one loader
+	 *         thread may load several assets with it at the same time. Defaults to false. */
+	public boolean isConcurrent () {
+		return false;
+	}
 }
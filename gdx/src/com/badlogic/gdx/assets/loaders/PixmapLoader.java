@@ -21,6 +21,7 @@ import com.badlogic.gdx.assets.AssetLoaderParameters;
 import com.badlogic.gdx.assets.AssetManager;
 import com.badlogic.gdx.graphics.Pixmap;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
 /** {@link AssetLoader} for {@link Pixmap} instances. The Pixmap is loaded asynchronously.
  * @author mzechner */
@@ -29,17 +30,21 @@ public class PixmapLoader extends AsynchronousAssetLoader<Pixmap, PixmapLoader.P
 		super(resolver);
 	}
 
-	Pixmap pixmap;
+	final ObjectMap<String, Pixmap> pixmaps = new ObjectMap<String, Pixmap>();
 
 	@Override
 	public void loadAsync (AssetManager manager, String fileName, PixmapParameter parameter) {
-		pixmap = null;
-		pixmap = new Pixmap(resolve(fileName));
+		Pixmap pixmap = new Pixmap(resolve(fileName));
+		synchronized (pixmaps) {
+			pixmaps.put(fileName, pixmap);
+		}
 	}
 
 	@Override
 	public Pixmap loadSync (AssetManager manager, String fileName, PixmapParameter parameter) {
-		return pixmap;
+		synchronized (pixmaps) {
+			return pixmaps.remove(fileName);
+		}
 	}
 
 	@Override
@@ -47,6 +52,11 @@ public class PixmapLoader extends AsynchronousAssetLoader<Pixmap, PixmapLoader.P
 		return null;
 	}
 
+	@Override
+	public boolean isConcurrent () {
+		return true;
+	}
+
 	static public class PixmapParameter extends AssetLoaderParameters<Pixmap> {
 	}
 }
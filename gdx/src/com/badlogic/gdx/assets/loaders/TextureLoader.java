@@ -30,6 +30,7 @@ import com.badlogic.gdx.graphics.TextureData;
 import com.badlogic.gdx.graphics.glutils.ETC1TextureData;
 import com.badlogic.gdx.graphics.glutils.FileTextureData;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.ObjectMap;
 
 /** {@link AssetLoader} for {@link Texture} instances. The pixel data is loaded asynchronously. The texture is then created on the
  * rendering thread, synchronously. Passing a {@link TextureParameter} to
@@ -37,8 +38,8 @@ import com.badlogic.gdx.utils.Array;
  * various Texture constructors, e.g. filtering, whether to generate mipmaps and so on.
  * @author mzechner */
 public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoader.TextureParameter> {
-	TextureData data;
-	Texture texture;
+	/** Texture data loaded asynchronously per file name, so several textures can be loaded at the same time. */
+	final ObjectMap<String, TextureData> textureData = new ObjectMap<String, TextureData>();
 
 	public TextureLoader (FileHandleResolver resolver) {
 		super(resolver);
@@ -46,16 +47,15 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 
 	@Override
 	public void loadAsync (AssetManager manager, String fileName, TextureParameter parameter) {
+		TextureData data;
 		if (parameter == null || (parameter != null && parameter.textureData == null)) {
 			Pixmap pixmap = null;
 			Format format = null;
 			boolean genMipMaps = false;
-			texture = null;
 
 			if (parameter != null) {
 				format = parameter.format;
 				genMipMaps = parameter.genMipMaps;
-				texture = parameter.texture;
 			}
 
 			FileHandle handle = resolve(fileName);
@@ -71,13 +71,19 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 		} else {
 			data = parameter.textureData;
 			if (!data.isPrepared()) data.prepare();
-			texture = parameter.texture;
+		}
+		synchronized (textureData) {
+			textureData.put(fileName, data);
 		}
 	}
 
 	@Override
 	public Texture loadSync (AssetManager manager, String fileName, TextureParameter parameter) {
-		Texture texture = this.texture;
+		TextureData data;
+		synchronized (textureData) {
+			data = textureData.remove(fileName);
+		}
+		Texture texture = parameter != null ? parameter.texture : null;
 		if (texture != null) {
 			texture.load(data);
 		} else {
@@ -95,6 +101,11 @@ public class TextureLoader extends AsynchronousAssetLoader<Texture, TextureLoade
 		return null;
 	}
 
+	@Override
+	public boolean isConcurrent () {
+		return true;
+	}
+
 	static public class TextureParameter extends AssetLoaderParameters<Texture> {
 		/** the format of the final Texture. Uses the source images format if null **/
 		public Format format = null;
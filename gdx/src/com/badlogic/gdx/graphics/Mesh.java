@@ -33,6 +33,7 @@ import com.badlogic.gdx.graphics.glutils.IndexData;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.graphics.glutils.VertexArray;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObject;
+import com.badlogic.gdx.graphics.glutils.VertexBufferObjectStreaming;
 import com.badlogic.gdx.graphics.glutils.VertexBufferObjectSubData;
 import com.badlogic.gdx.graphics.glutils.VertexData;
 import com.badlogic.gdx.math.Matrix4;
@@ -70,8 +71,15 @@ import com.badlogic.gdx.utils.GdxRuntimeException;
 public class Mesh implements Disposable {
 	public enum VertexDataType {
 		VertexArray, VertexBufferObject, VertexBufferObjectSubData,
+		/** Vertices are appended to a buffer object holding several batches, see {@link VertexBufferObjectStreaming}. Use this
+		 * for vertices that are set every time before the mesh is rendered. Falls back to {@link #VertexArray} with OpenGL ES 1.0. */
+		VertexBufferObjectStreaming,
 	}
 
+	/** The number of batches a mesh of type {@link VertexDataType#VertexBufferObjectStreaming} can hold before its buffer object
+	 * is orphaned. */
+	public static int streamingBatches = 4;
+
 	/** list of all meshes **/
 	static final Map<Application, List<Mesh>> meshes = new HashMap<Application, List<Mesh>>();
 
@@ -184,6 +192,10 @@ public class Mesh implements Disposable {
 			vertices = new VertexBufferObjectSubData(isStatic, maxVertices, attributes);
 			indices = new IndexBufferObjectSubData(isStatic, maxIndices);
 			isVertexArray = false;
+		} else if (type == VertexDataType.VertexBufferObjectStreaming && (Gdx.gl20 != null || Gdx.gl11 != null)) {
+			vertices = new VertexBufferObjectStreaming(maxVertices, streamingBatches, attributes);
+			indices = new IndexBufferObject(isStatic, maxIndices);
+			isVertexArray = false;
 		} else {
 			vertices = new VertexArray(maxVertices, attributes);
 			indices = new IndexArray(maxIndices);
@@ -690,6 +702,8 @@ public class Mesh implements Disposable {
 		for (int i = 0; i < meshesList.size(); i++) {
 			if (meshesList.get(i).vertices instanceof VertexBufferObject) {
 				((VertexBufferObject)meshesList.get(i).vertices).invalidate();
+			} else if (meshesList.get(i).vertices instanceof VertexBufferObjectStreaming) {
+				((VertexBufferObjectStreaming)meshesList.get(i).vertices).invalidate();
 			}
 			meshesList.get(i).indices.invalidate();
 		}
@@ -0,0 +1,555 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.g2d;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.math.MathUtils;
+import com.badlogic.gdx.utils.NumberUtils;
+
+/** A {@link ParticleEmitter} that keeps the particle state in parallel primitive arrays instead of a {@link Sprite} per particle.
+ * Particles are updated in a loop over the arrays, their vertices are computed during the update and all particles are drawn with
+ * a single {@link SpriteBatch#draw(com.badlogic.gdx.graphics.Texture, float[], int, int)} call. It reads and writes the same
+ * effect files as ParticleEmitter, but does not support {@link #newParticle(Sprite)} and the draw order of particles can change
+ * when particles die. To load effects with it, override {@link ParticleEffect#newEmitter(BufferedReader)}. */
+public class ArrayParticleEmitter extends ParticleEmitter {
+	static private final int VERTEX_SIZE = 2 + 1 + 2;
+	static private final int SPRITE_SIZE = 4 * VERTEX_SIZE;
+
+	// Particle state, indexed from 0 to activeCount - 1. Not initialized here because super constructors set the capacity.
+	private int[] lives, currentLives;
+	private float[] scales, scaleDiffs, currentScales;
+	private float[] rotations, rotationDiffs, currentRotations;
+	private float[] velocities, velocityDiffs;
+	private float[] angles, angleDiffs, angleCos, angleSin;
+	private float[] transparencies, transparencyDiffs;
+	private float[] winds, windDiffs;
+	private float[] gravities, gravityDiffs;
+	private float[] tints;
+	private float[] xs, ys;
+	private float[] colors;
+	private float[] vertices;
+
+	// Sprite data shared by all particles.
+	private Sprite spriteData;
+	private float width, height, originX, originY;
+	private float u1, v1, u2, v2, u3, v3, u4, v4;
+
+	public ArrayParticleEmitter () {
+	}
+
+	public ArrayParticleEmitter (BufferedReader reader) throws IOException {
+		super(reader);
+	}
+
+	public ArrayParticleEmitter (ParticleEmitter emitter) {
+		super(emitter);
+	}
+
+	public void setMaxParticleCount (int maxParticleCount) {
+		this.maxParticleCount = maxParticleCount;
+		activeCount = 0;
+		lives = new int[maxParticleCount];
+		currentLives = new int[maxParticleCount];
+		scales = new float[maxParticleCount];
+		scaleDiffs = new float[maxParticleCount];
+		currentScales = new float[maxParticleCount];
+		rotations = new float[maxParticleCount];
+		rotationDiffs = new float[maxParticleCount];
+		currentRotations = new float[maxParticleCount];
+		velocities = new float[maxParticleCount];
+		velocityDiffs = new float[maxParticleCount];
+		angles = new float[maxParticleCount];
+		angleDiffs = new float[maxParticleCount];
+		angleCos = new float[maxParticleCount];
+		angleSin = new float[maxParticleCount];
+		transparencies = new float[maxParticleCount];
+		transparencyDiffs = new float[maxParticleCount];
+		winds = new float[maxParticleCount];
+		windDiffs = new float[maxParticleCount];
+		gravities = new float[maxParticleCount];
+		gravityDiffs = new float[maxParticleCount];
+		tints = new float[maxParticleCount * 3];
+		xs = new float[maxParticleCount];
+		ys = new float[maxParticleCount];
+		colors = new float[maxParticleCount];
+		vertices = new float[maxParticleCount * SPRITE_SIZE];
+	}
+
+	public void addParticle () {
+		addParticles(1);
+	}
+
+	public void addParticles (int count) {
+		count = Math.min(count, maxParticleCount - activeCount);
+		if (count <= 0) return;
+		updateSpriteData();
+		for (int i = 0; i < count; i++)
+			activateParticle(activeCount++);
+	}
+
+	public void update (float delta) {
+		accumulator += Math.min(delta * 1000, 250);
+		if (accumulator < 1) return;
+		int deltaMillis = (int)accumulator;
+		accumulator -= deltaMillis;
+
+		updateParticles(delta, deltaMillis);
+		updateEmission(deltaMillis);
+	}
+
+	public void draw (SpriteBatch spriteBatch) {
+		if (activeCount == 0) return;
+		if (additive) spriteBatch.setBlendFunction(GL10.GL_SRC_ALPHA, GL10.GL_ONE);
+		spriteBatch.draw(sprite.getTexture(), vertices, 0, activeCount * SPRITE_SIZE);
+		if (additive) spriteBatch.setBlendFunction(GL10.GL_SRC_ALPHA, GL10.GL_ONE_MINUS_SRC_ALPHA);
+	}
+
+	/** Updates and draws the particles. Particles emitted by this update are drawn the next time, as with ParticleEmitter. */
+	public void draw (SpriteBatch spriteBatch, float delta) {
+		accumulator += Math.min(delta * 1000, 250);
+		if (accumulator < 1) {
+			draw(spriteBatch);
+			return;
+		}
+		int deltaMillis = (int)accumulator;
+		accumulator -= deltaMillis;
+
+		updateParticles(delta, deltaMillis);
+		draw(spriteBatch);
+		updateEmission(deltaMillis);
+	}
+
+	/** Returns the vertices of the active particles, {@link #getActiveCount()} sprites of 20 floats each in the format expected by
+	 * {@link SpriteBatch#draw(com.badlogic.gdx.graphics.Texture, float[], int, int)}. */
+	public float[] getVertices () {
+		return vertices;
+	}
+
+	float[] copyVertices (float[] vertices) {
+		int size = activeCount * SPRITE_SIZE;
+		if (vertices == null || vertices.length < size) vertices = new float[maxParticleCount * SPRITE_SIZE];
+		System.arraycopy(this.vertices, 0, vertices, 0, size);
+		return vertices;
+	}
+
+	public void setPosition (float x, float y) {
+		if (attached) {
+			float xAmount = x - this.x;
+			float yAmount = y - this.y;
+			float[] xs = this.xs, ys = this.ys, vertices = this.vertices;
+			for (int i = 0, n = activeCount; i < n; i++) {
+				xs[i] += xAmount;
+				ys[i] += yAmount;
+			}
+			for (int i = 0, n = activeCount * SPRITE_SIZE; i < n; i += VERTEX_SIZE) {
+				vertices[i] += xAmount;
+				vertices[i + 1] += yAmount;
+			}
+		}
+		this.x = x;
+		this.y = y;
+	}
+
+	public void setSprite (Sprite sprite) {
+		this.sprite = sprite;
+		spriteData = null;
+	}
+
+	public void setFlip (boolean flipX, boolean flipY) {
+		super.setFlip(flipX, flipY);
+		spriteData = null;
+	}
+
+	/** Copies the size, origin and texture coordinates of the sprite, which are the same for every particle. */
+	private void updateSpriteData () {
+		Sprite sprite = this.sprite;
+		if (sprite == spriteData) return;
+		spriteData = sprite;
+		width = sprite.getWidth();
+		height = sprite.getHeight();
+		originX = sprite.getOriginX();
+		originY = sprite.getOriginY();
+		float[] spriteVertices = sprite.getVertices();
+		u1 = spriteVertices[SpriteBatch.U1];
+		v1 = spriteVertices[SpriteBatch.V1];
+		u2 = spriteVertices[SpriteBatch.U2];
+		v2 = spriteVertices[SpriteBatch.V2];
+		u3 = spriteVertices[SpriteBatch.U3];
+		v3 = spriteVertices[SpriteBatch.V3];
+		u4 = spriteVertices[SpriteBatch.U4];
+		v4 = spriteVertices[SpriteBatch.V4];
+		if (flipX) {
+			float temp = u1;
+			u1 = u3;
+			u3 = temp;
+			temp = u2;
+			u2 = u4;
+			u4 = temp;
+		}
+		if (flipY) {
+			float temp = v1;
+			v1 = v3;
+			v3 = temp;
+			temp = v2;
+			v2 = v4;
+			v4 = temp;
+		}
+	}
+
+	private void updateParticles (float delta, int deltaMillis) {
+		if (activeCount == 0) return;
+		updateSpriteData();
+		int activeCount = this.activeCount;
+		for (int i = 0; i < activeCount;) {
+			if (updateParticle(i, delta, deltaMillis))
+				i++;
+			else {
+				// Fill the gap with the last particle, which is updated next.
+				activeCount--;
+				if (i < activeCount) moveParticle(activeCount, i);
+			}
+		}
+		this.activeCount = activeCount;
+	}
+
+	private void activateParticle (int index) {
+		float percent = durationTimer / (float)duration;
+		int updateFlags = this.updateFlags;
+
+		currentLives[index] = lives[index] = life + (int)(lifeDiff * lifeValue.getScale(percent));
+
+		if (velocityValue.active) {
+			velocities[index] = velocityValue.newLowValue();
+			velocityDiffs[index] = velocityValue.newHighValue();
+			if (!velocityValue.isRelative()) velocityDiffs[index] -= velocities[index];
+		}
+
+		angles[index] = angleValue.newLowValue();
+		angleDiffs[index] = angleValue.newHighValue();
+		if (!angleValue.isRelative()) angleDiffs[index] -= angles[index];
+		float angle = 0;
+		if ((updateFlags & UPDATE_ANGLE) == 0) {
+			angle = angles[index] + angleDiffs[index] * angleValue.getScale(0);
+			angles[index] = angle;
+			angleCos[index] = MathUtils.cosDeg(angle);
+			angleSin[index] = MathUtils.sinDeg(angle);
+		}
+
+		float spriteWidth = width;
+		scales[index] = scaleValue.newLowValue() / spriteWidth;
+		scaleDiffs[index] = scaleValue.newHighValue() / spriteWidth;
+		if (!scaleValue.isRelative()) scaleDiffs[index] -= scales[index];
+		currentScales[index] = scales[index] + scaleDiffs[index] * scaleValue.getScale(0);
+
+		if (rotationValue.active) {
+			rotations[index] = rotationValue.newLowValue();
+			rotationDiffs[index] = rotationValue.newHighValue();
+			if (!rotationValue.isRelative()) rotationDiffs[index] -= rotations[index];
+			float rotation = rotations[index] + rotationDiffs[index] * rotationValue.getScale(0);
+			if (aligned) rotation += angle;
+			currentRotations[index] = rotation;
+		} else {
+			rotations[index] = 0;
+			rotationDiffs[index] = 0;
+			currentRotations[index] = 0;
+		}
+
+		if (windValue.active) {
+			winds[index] = windValue.newLowValue();
+			windDiffs[index] = windValue.newHighValue();
+			if (!windValue.isRelative()) windDiffs[index] -= winds[index];
+		}
+
+		if (gravityValue.active) {
+			gravities[index] = gravityValue.newLowValue();
+			gravityDiffs[index] = gravityValue.newHighValue();
+			if (!gravityValue.isRelative()) gravityDiffs[index] -= gravities[index];
+		}
+
+		float[] color = tintValue.getColor(0);
+		float r = color[0], g = color[1], b = color[2];
+		int tintIndex = index * 3;
+		tints[tintIndex] = r;
+		tints[tintIndex + 1] = g;
+		tints[tintIndex + 2] = b;
+
+		float transparency = transparencies[index] = transparencyValue.newLowValue();
+		transparencyDiffs[index] = transparencyValue.newHighValue() - transparency;
+		colors[index] = toFloatBits(r, g, b, transparency + transparencyDiffs[index] * transparencyValue.getScale(0));
+
+		// Spawn.
+		float x = this.x;
+		if (xOffsetValue.active) x += xOffsetValue.newLowValue();
+		float y = this.y;
+		if (yOffsetValue.active) y += yOffsetValue.newLowValue();
+		switch (spawnShapeValue.shape) {
+		case square: {
+			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
+			x += MathUtils.random(width) - width / 2;
+			y += MathUtils.random(height) - height / 2;
+			break;
+		}
+		case ellipse: {
+			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
+			float radiusX = width / 2;
+			float radiusY = height / 2;
+			if (radiusX == 0 || radiusY == 0) break;
+			float scaleY = radiusX / (float)radiusY;
+			if (spawnShapeValue.edges) {
+				float spawnAngle;
+				switch (spawnShapeValue.side) {
+				case top:
+					spawnAngle = -MathUtils.random(179f);
+					break;
+				case bottom:
+					spawnAngle = MathUtils.random(179f);
+					break;
+				default:
+					spawnAngle = MathUtils.random(360f);
+					break;
+				}
+				float cosDeg = MathUtils.cosDeg(spawnAngle);
+				float sinDeg = MathUtils.sinDeg(spawnAngle);
+				x += cosDeg * radiusX;
+				y += sinDeg * radiusX / scaleY;
+				if ((updateFlags & UPDATE_ANGLE) == 0) {
+					angles[index] = spawnAngle;
+					angleCos[index] = cosDeg;
+					angleSin[index] = sinDeg;
+				}
+			} else {
+				float radius2 = radiusX * radiusX;
+				while (true) {
+					float px = MathUtils.random(width) - radiusX;
+					float py = MathUtils.random(width) - radiusX;
+					if (px * px + py * py <= radius2) {
+						x += px;
+						y += py / scaleY;
+						break;
+					}
+				}
+			}
+			break;
+		}
+		case line: {
+			float width = spawnWidth + (spawnWidthDiff * spawnWidthValue.getScale(percent));
+			float height = spawnHeight + (spawnHeightDiff * spawnHeightValue.getScale(percent));
+			if (width != 0) {
+				float lineX = width * MathUtils.random();
+				x += lineX;
+				y += lineX * (height / (float)width);
+			} else
+				y += height * MathUtils.random();
+			break;
+		}
+		}
+
+		float spriteHeight = height;
+		xs[index] = x - spriteWidth / 2;
+		ys[index] = y - spriteHeight / 2;
+
+		int offsetTime = (int)(lifeOffset + lifeOffsetDiff * lifeOffsetValue.getScale(percent));
+		if (offsetTime > 0) {
+			if (offsetTime >= currentLives[index]) offsetTime = currentLives[index] - 1;
+			updateParticle(index, offsetTime / 1000f, offsetTime);
+		} else
+			computeVertices(index);
+	}
+
+	/** Updates the particle and computes its vertices.
+	 * @return false if the particle died. */
+	private boolean updateParticle (int index, float delta, int deltaMillis) {
+		int life = currentLives[index] - deltaMillis;
+		if (life <= 0) return false;
+		currentLives[index] = life;
+
+		float percent = 1 - life / (float)lives[index];
+		int updateFlags = this.updateFlags;
+
+		if ((updateFlags & UPDATE_SCALE) != 0)
+			currentScales[index] = scales[index] + scaleDiffs[index] * scaleValue.getScale(percent);
+
+		if ((updateFlags & UPDATE_VELOCITY) != 0) {
+			float velocity = (velocities[index] + velocityDiffs[index] * velocityValue.getScale(percent)) * delta;
+
+			float velocityX, velocityY;
+			if ((updateFlags & UPDATE_ANGLE) != 0) {
+				float angle = angles[index] + angleDiffs[index] * angleValue.getScale(percent);
+				velocityX = velocity * MathUtils.cosDeg(angle);
+				velocityY = velocity * MathUtils.sinDeg(angle);
+				if ((updateFlags & UPDATE_ROTATION) != 0) {
+					float rotation = rotations[index] + rotationDiffs[index] * rotationValue.getScale(percent);
+					if (aligned) rotation += angle;
+					currentRotations[index] = rotation;
+				}
+			} else {
+				velocityX = velocity * angleCos[index];
+				velocityY = velocity * angleSin[index];
+				if (aligned || (updateFlags & UPDATE_ROTATION) != 0) {
+					float rotation = rotations[index] + rotationDiffs[index] * rotationValue.getScale(percent);
+					if (aligned) rotation += angles[index];
+					currentRotations[index] = rotation;
+				}
+			}
+
+			if ((updateFlags & UPDATE_WIND) != 0)
+				velocityX += (winds[index] + windDiffs[index] * windValue.getScale(percent)) * delta;
+
+			if ((updateFlags & UPDATE_GRAVITY) != 0)
+				velocityY += (gravities[index] + gravityDiffs[index] * gravityValue.getScale(percent)) * delta;
+
+			xs[index] += velocityX;
+			ys[index] += velocityY;
+		} else {
+			if ((updateFlags & UPDATE_ROTATION) != 0)
+				currentRotations[index] = rotations[index] + rotationDiffs[index] * rotationValue.getScale(percent);
+		}
+
+		float r, g, b;
+		if ((updateFlags & UPDATE_TINT) != 0) {
+			float[] color = tintValue.getColor(percent);
+			r = color[0];
+			g = color[1];
+			b = color[2];
+		} else {
+			int tintIndex = index * 3;
+			r = tints[tintIndex];
+			g = tints[tintIndex + 1];
+			b = tints[tintIndex + 2];
+		}
+		colors[index] = toFloatBits(r, g, b, transparencies[index] + transparencyDiffs[index] * transparencyValue.getScale(percent));
+
+		computeVertices(index);
+		return true;
+	}
+
+	/** Computes the vertices of a particle the same way {@link Sprite#getVertices()} does. */
+	private void computeVertices (int index) {
+		float localX = -originX;
+		float localY = -originY;
+		float localX2 = localX + width;
+		float localY2 = localY + height;
+		float worldOriginX = xs[index] - localX;
+		float worldOriginY = ys[index] - localY;
+		float scale = currentScales[index];
+		if (scale != 1) {
+			localX *= scale;
+			localY *= scale;
+			localX2 *= scale;
+			localY2 *= scale;
+		}
+
+		float x1, y1, x2, y2, x3, y3, x4, y4;
+		float rotation = currentRotations[index];
+		if (rotation != 0) {
+			float cos = MathUtils.cosDeg(rotation);
+			float sin = MathUtils.sinDeg(rotation);
+			float localXCos = localX * cos;
+			float localXSin = localX * sin;
+			float localYCos = localY * cos;
+			float localYSin = localY * sin;
+			float localX2Cos = localX2 * cos;
+			float localX2Sin = localX2 * sin;
+			float localY2Cos = localY2 * cos;
+			float localY2Sin = localY2 * sin;
+
+			x1 = localXCos - localYSin + worldOriginX;
+			y1 = localYCos + localXSin + worldOriginY;
+			x2 = localXCos - localY2Sin + worldOriginX;
+			y2 = localY2Cos + localXSin + worldOriginY;
+			x3 = localX2Cos - localY2Sin + worldOriginX;
+			y3 = localY2Cos + localX2Sin + worldOriginY;
+			x4 = x1 + (x3 - x2);
+			y4 = y3 - (y2 - y1);
+		} else {
+			x1 = localX + worldOriginX;
+			y1 = localY + worldOriginY;
+			x2 = x1;
+			y2 = localY2 + worldOriginY;
+			x3 = localX2 + worldOriginX;
+			y3 = y2;
+			x4 = x3;
+			y4 = y1;
+		}
+
+		float color = colors[index];
+		float[] vertices = this.vertices;
+		int i = index * SPRITE_SIZE;
+		vertices[i] = x1;
+		vertices[i + 1] = y1;
+		vertices[i + 2] = color;
+		vertices[i + 3] = u1;
+		vertices[i + 4] = v1;
+
+		vertices[i + 5] = x2;
+		vertices[i + 6] = y2;
+		vertices[i + 7] = color;
+		vertices[i + 8] = u2;
+		vertices[i + 9] = v2;
+
+		vertices[i + 10] = x3;
+		vertices[i + 11] = y3;
+		vertices[i + 12] = color;
+		vertices[i + 13] = u3;
+		vertices[i + 14] = v3;
+
+		vertices[i + 15] = x4;
+		vertices[i + 16] = y4;
+		vertices[i + 17] = color;
+		vertices[i + 18] = u4;
+		vertices[i + 19] = v4;
+	}
+
+	private void moveParticle (int from, int to) {
+		lives[to] = lives[from];
+		currentLives[to] = currentLives[from];
+		scales[to] = scales[from];
+		scaleDiffs[to] = scaleDiffs[from];
+		currentScales[to] = currentScales[from];
+		rotations[to] = rotations[from];
+		rotationDiffs[to] = rotationDiffs[from];
+		currentRotations[to] = currentRotations[from];
+		velocities[to] = velocities[from];
+		velocityDiffs[to] = velocityDiffs[from];
+		angles[to] = angles[from];
+		angleDiffs[to] = angleDiffs[from];
+		angleCos[to] = angleCos[from];
+		angleSin[to] = angleSin[from];
+		transparencies[to] = transparencies[from];
+		transparencyDiffs[to] = transparencyDiffs[from];
+		winds[to] = winds[from];
+		windDiffs[to] = windDiffs[from];
+		gravities[to] = gravities[from];
+		gravityDiffs[to] = gravityDiffs[from];
+		System.arraycopy(tints, from * 3, tints, to * 3, 3);
+		xs[to] = xs[from];
+		ys[to] = ys[from];
+		colors[to] = colors[from];
+		System.arraycopy(vertices, from * SPRITE_SIZE, vertices, to * SPRITE_SIZE, SPRITE_SIZE);
+	}
+
+	static private float toFloatBits (float r, float g, float b, float a) {
+		int intBits = ((int)(255 * a) << 24) | ((int)(255 * b) << 16) | ((int)(255 * g) << 8) | ((int)(255 * r));
+		return NumberUtils.intToFloatColor(intBits);
+	}
+}
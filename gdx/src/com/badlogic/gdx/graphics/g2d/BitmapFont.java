@@ -33,13 +33,14 @@ import com.badlogic.gdx.utils.FloatArray;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.StringTokenizer;
 
 /** Renders bitmap fonts. The font consists of 2 files: an image file or {@link TextureRegion} containing the glyphs and a file in
- * the AngleCode BMFont text format that describes where each glyph is on the image. Currently only a single image of glyphs is
- * supported.<br>
+ * the AngleCode BMFont text or binary format that describes where each glyph is on the image. Currently only a single image of
+ * glyphs is supported.<br>
  * <br>
  * Text is drawn using a {@link SpriteBatch}. Text can be cached in a {@link BitmapFontCache} for faster rendering of static text,
  * which saves needing to compute the location of each glyph each frame.<br>
@@ -55,6 +56,7 @@ public class BitmapFont implements Disposable {
 	static private final int LOG2_PAGE_SIZE = 9;
 	static private final int PAGE_SIZE = 1 << LOG2_PAGE_SIZE;
 	static private final int PAGES = 0x10000 / PAGE_SIZE;
+	static private final int MAX_FLAT_GLYPHS = 0x3000;
 
 	public static final char[] xChars = {'x', 'e', 'a', 'o', 'n', 's', 'r', 'c', 'u', 'm', 'v', 'w', 'z'};
 	public static final char[] capChars = {'M', 'N', 'B', 'D', 'C', 'E', 'F', 'K', 'A', 'G', 'H', 'I', 'J', 'L', 'O', 'P', 'Q',
@@ -280,6 +282,21 @@ public class BitmapFont implements Disposable {
 	 * @param start The first character of the string.
 	 * @param end The last character of the string (exclusive). */
 	public TextBounds getBounds (CharSequence str, int start, int end, TextBounds textBounds) {
+		textBounds.width = getWidth(str, start, end);
+		textBounds.height = data.capHeight;
+		return textBounds;
+	}
+
+	/** Returns the width of the specified text.
+	 * @see #getWidth(CharSequence, int, int) */
+	public float getWidth (CharSequence str) {
+		return getWidth(str, 0, str.length());
+	}
+
+	/** Returns the width of the specified string, without using a {@link TextBounds}.
+	 * @param start The first character of the string.
+	 * @param end The last character of the string (exclusive). */
+	public float getWidth (CharSequence str, int start, int end) {
 		BitmapFontData data = this.data;
 		int width = 0;
 		Glyph lastGlyph = null;
@@ -299,9 +316,7 @@ public class BitmapFont implements Disposable {
 				width += g.xadvance;
 			}
 		}
-		textBounds.width = width * data.scaleX;
-		textBounds.height = data.capHeight;
-		return textBounds;
+		return width * data.scaleX;
 	}
 
 	/** Returns the bounds of the specified text, which may contain newlines.
@@ -319,7 +334,7 @@ public class BitmapFont implements Disposable {
 		int length = str.length();
 		while (start < length) {
 			int lineEnd = indexOf(str, '\n', start);
-			float lineWidth = getBounds(str, start, lineEnd).width;
+			float lineWidth = getWidth(str, start, lineEnd);
 			maxWidth = Math.max(maxWidth, lineWidth);
 			start = lineEnd + 1;
 			numLines++;
@@ -373,7 +388,7 @@ public class BitmapFont implements Disposable {
 				}
 			}
 			if (lineEnd > start) {
-				float lineWidth = getBounds(str, start, lineEnd).width;
+				float lineWidth = getWidth(str, start, lineEnd);
 				maxWidth = Math.max(maxWidth, lineWidth);
 			}
 			start = nextStart;
@@ -698,6 +713,8 @@ public class BitmapFont implements Disposable {
 		public float scaleX = 1, scaleY = 1;
 
 		public final Glyph[][] glyphs = new Glyph[PAGES][];
+		/** The glyphs indexed directly by character, or null. See {@link #flattenGlyphs()}. */
+		Glyph[] flatGlyphs;
 		public float spaceWidth;
 		public float xHeight = 1;
 
@@ -708,7 +725,63 @@ public class BitmapFont implements Disposable {
 		public BitmapFontData (FileHandle fontFile, boolean flip) {
 			this.fontFile = fontFile;
 			this.flipped = flip;
-			BufferedReader reader = new BufferedReader(new InputStreamReader(fontFile.read()), 512);
+			byte[] bytes = fontFile.readBytes();
+			try {
+				int baseLine;
+				if (bytes.length >= 4 && bytes[0] == 'B' && bytes[1] == 'M' && bytes[2] == 'F')
+					baseLine = parseBinary(bytes, flip);
+				else
+					baseLine = parseText(bytes, flip);
+
+				Glyph spaceGlyph = getGlyph(' ');
+				if (spaceGlyph == null) {
+					spaceGlyph = new Glyph();
+					Glyph xadvanceGlyph = getGlyph('l');
+					if (xadvanceGlyph == null) xadvanceGlyph = getFirstGlyph();
+					spaceGlyph.xadvance = xadvanceGlyph.xadvance;
+					setGlyph(' ', spaceGlyph);
+				}
+				spaceWidth = spaceGlyph != null ? spaceGlyph.xadvance + spaceGlyph.width : 1;
+
+				Glyph xGlyph = null;
+				for (int i = 0; i < xChars.length; i++) {
+					xGlyph = getGlyph(xChars[i]);
+					if (xGlyph != null) break;
+				}
+				if (xGlyph == null) xGlyph = getFirstGlyph();
+				xHeight = xGlyph.height;
+
+				Glyph capGlyph = null;
+				for (int i = 0; i < capChars.length; i++) {
+					capGlyph = getGlyph(capChars[i]);
+					if (capGlyph != null) break;
+				}
+				if (capGlyph == null) {
+					for (Glyph[] page : this.glyphs) {
+						if (page == null) continue;
+						for (Glyph glyph : page) {
+							if (glyph == null || glyph.height == 0 || glyph.width == 0) continue;
+							capHeight = Math.max(capHeight, glyph.height);
+						}
+					}
+				} else
+					capHeight = capGlyph.height;
+
+				ascent = baseLine - capHeight;
+				down = -lineHeight;
+				if (flip) {
+					ascent = -ascent;
+					down = -down;
+				}
+			} catch (Exception ex) {
+				throw new GdxRuntimeException("Error loading font file: " + fontFile, ex);
+			}
+		}
+
+		/** Parses the BMFont text format.
+		 * @return The base line. */
+		private int parseText (byte[] bytes, boolean flip) throws IOException {
+			BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes)), 512);
 			try {
 				reader.readLine(); // info
 
@@ -789,49 +862,7 @@ public class BitmapFont implements Disposable {
 					int amount = Integer.parseInt(tokens.nextToken());
 					glyph.setKerning(second, amount);
 				}
-
-				Glyph spaceGlyph = getGlyph(' ');
-				if (spaceGlyph == null) {
-					spaceGlyph = new Glyph();
-					Glyph xadvanceGlyph = getGlyph('l');
-					if (xadvanceGlyph == null) xadvanceGlyph = getFirstGlyph();
-					spaceGlyph.xadvance = xadvanceGlyph.xadvance;
-					setGlyph(' ', spaceGlyph);
-				}
-				spaceWidth = spaceGlyph != null ? spaceGlyph.xadvance + spaceGlyph.width : 1;
-
-				Glyph xGlyph = null;
-				for (int i = 0; i < xChars.length; i++) {
-					xGlyph = getGlyph(xChars[i]);
-					if (xGlyph != null) break;
-				}
-				if (xGlyph == null) xGlyph = getFirstGlyph();
-				xHeight = xGlyph.height;
-
-				Glyph capGlyph = null;
-				for (int i = 0; i < capChars.length; i++) {
-					capGlyph = getGlyph(capChars[i]);
-					if (capGlyph != null) break;
-				}
-				if (capGlyph == null) {
-					for (Glyph[] page : this.glyphs) {
-						if (page == null) continue;
-						for (Glyph glyph : page) {
-							if (glyph == null || glyph.height == 0 || glyph.width == 0) continue;
-							capHeight = Math.max(capHeight, glyph.height);
-						}
-					}
-				} else
-					capHeight = capGlyph.height;
-
-				ascent = baseLine - capHeight;
-				down = -lineHeight;
-				if (flip) {
-					ascent = -ascent;
-					down = -down;
-				}
-			} catch (Exception ex) {
-				throw new GdxRuntimeException("Error loading font file: " + fontFile, ex);
+				return baseLine;
 			} finally {
 				try {
 					reader.close();
@@ -840,10 +871,127 @@ public class BitmapFont implements Disposable {
 			}
 		}
 
+		/** Parses the BMFont binary format, version 3. Only the common, pages, chars and kerning pairs blocks are used.
+		 * @return The base line. */
+		private int parseBinary (byte[] bytes, boolean flip) {
+			if (bytes[3] != 3) throw new GdxRuntimeException("Unsupported binary font version: " + bytes[3]);
+			int baseLine = 0;
+			descent = 0;
+			int offset = 4;
+			while (offset + 5 <= bytes.length) {
+				int type = bytes[offset];
+				int size = readInt(bytes, offset + 1);
+				offset += 5;
+				if (size < 0 || offset + size > bytes.length) throw new GdxRuntimeException("Invalid font file: " + fontFile);
+				switch (type) {
+				case 2: // common
+					lineHeight = readShort(bytes, offset) & 0xffff;
+					baseLine = readShort(bytes, offset + 2) & 0xffff;
+					break;
+				case 3: // pages
+					int end = offset;
+					while (end < offset + size && bytes[end] != 0)
+						end++;
+					String imgFilename;
+					try {
+						imgFilename = new String(bytes, offset, end - offset, "UTF-8");
+					} catch (IOException ex) {
+						throw new GdxRuntimeException(ex);
+					}
+					imagePath = fontFile.parent().child(imgFilename).path().replaceAll("\\\\", "/");
+					break;
+				case 4: // chars
+					for (int i = offset, n = offset + size - 19; i < n; i += 20) {
+						int ch = readInt(bytes, i);
+						if (ch < 0 || ch > Character.MAX_VALUE) continue;
+						Glyph glyph = new Glyph();
+						setGlyph(ch, glyph);
+						glyph.srcX = readShort(bytes, i + 4) & 0xffff;
+						glyph.srcY = readShort(bytes, i + 6) & 0xffff;
+						glyph.width = readShort(bytes, i + 8) & 0xffff;
+						glyph.height = readShort(bytes, i + 10) & 0xffff;
+						glyph.xoffset = readShort(bytes, i + 12);
+						if (flip)
+							glyph.yoffset = readShort(bytes, i + 14);
+						else
+							glyph.yoffset = -(glyph.height + readShort(bytes, i + 14));
+						glyph.xadvance = readShort(bytes, i + 16);
+						if (glyph.width > 0 && glyph.height > 0) descent = Math.min(baseLine + glyph.yoffset, descent);
+					}
+					break;
+				case 5: // kerning pairs
+					for (int i = offset, n = offset + size - 9; i < n; i += 10) {
+						int first = readInt(bytes, i);
+						int second = readInt(bytes, i + 4);
+						if (first < 0 || first > Character.MAX_VALUE || second < 0 || second > Character.MAX_VALUE) continue;
+						Glyph glyph = getGlyph((char)first);
+						if (glyph != null) glyph.setKerning(second, readShort(bytes, i + 8));
+					}
+					break;
+				}
+				offset += size;
+			}
+			if (imagePath == null) throw new GdxRuntimeException("Invalid font file: " + fontFile);
+			return baseLine;
+		}
+
+		static private int readInt (byte[] bytes, int i) {
+			return (bytes[i] & 0xff) | (bytes[i + 1] & 0xff) << 8 | (bytes[i + 2] & 0xff) << 16 | (bytes[i + 3] & 0xff) << 24;
+		}
+
+		static private short readShort (byte[] bytes, int i) {
+			return (short)((bytes[i] & 0xff) | (bytes[i + 1] & 0xff) << 8);
+		}
+
 		public void setGlyph (int ch, Glyph glyph) {
 			Glyph[] page = glyphs[ch / PAGE_SIZE];
 			if (page == null) glyphs[ch / PAGE_SIZE] = page = new Glyph[PAGE_SIZE];
 			page[ch & PAGE_SIZE - 1] = glyph;
+
+			Glyph[] flatGlyphs = this.flatGlyphs;
+			if (flatGlyphs != null) {
+				if (ch >= flatGlyphs.length) {
+					if (ch >= MAX_FLAT_GLYPHS) {
+						this.flatGlyphs = null;
+						return;
+					}
+					Glyph[] newGlyphs = new Glyph[ch + 1];
+					System.arraycopy(flatGlyphs, 0, newGlyphs, 0, flatGlyphs.length);
+					this.flatGlyphs = flatGlyphs = newGlyphs;
+				}
+				flatGlyphs[ch] = glyph;
+			}
+		}
+
+		/** Builds a table of the glyphs indexed directly by character, which makes {@link #getGlyph(char)} a single array access.
+		 * This is only done when all glyphs are for characters less than 0x3000, which covers the alphabetic scripts and
+		 * punctuation of the basic multilingual plane but not CJK. The table is kept up to date by {@link #setGlyph(int, Glyph)}
+		 * and discarded if a glyph is set outside that range. Glyphs stored in {@link #glyphs} directly are not seen by the
+		 * table.
+		 * @return true if the table was built. */
+		public boolean flattenGlyphs () {
+			int max = -1;
+			for (int i = PAGES - 1; i >= 0 && max == -1; i--) {
+				Glyph[] page = glyphs[i];
+				if (page == null) continue;
+				for (int ii = PAGE_SIZE - 1; ii >= 0; ii--) {
+					if (page[ii] != null) {
+						max = i * PAGE_SIZE + ii;
+						break;
+					}
+				}
+			}
+			if (max >= MAX_FLAT_GLYPHS) {
+				flatGlyphs = null;
+				return false;
+			}
+			Glyph[] flatGlyphs = new Glyph[max + 1];
+			for (int i = 0; i <= max; i++) {
+				Glyph[] page = glyphs[i / PAGE_SIZE];
+				if (page != null) flatGlyphs[i] = page[i & PAGE_SIZE - 1];
+			}
+			this.flatGlyphs = flatGlyphs;
+			return true;
 		}
 
 		public Glyph getFirstGlyph () {
@@ -858,6 +1006,8 @@ public class BitmapFont implements Disposable {
 		}
 
 		public Glyph getGlyph (char ch) {
+			Glyph[] flatGlyphs = this.flatGlyphs;
+			if (flatGlyphs != null) return ch < flatGlyphs.length ? flatGlyphs[ch] : null;
 			Glyph[] page = glyphs[ch / PAGE_SIZE];
 			if (page != null) return page[ch & PAGE_SIZE - 1];
 			return null;
@@ -25,6 +25,11 @@ import com.badlogic.gdx.utils.NumberUtils;
 
 /** Caches glyph geometry for a BitmapFont, providing a fast way to render static text. This saves needing to compute the location
  * of each glyph each frame.
+ * <p>
+ * Text that changes a few characters at a time, such as a score, can be cached with
+ * {@link #updateText(CharSequence, float, float)}, which only lays out the characters from the first one that changed. The range of vertices changed since
+ * {@link #resetDirty()} is available from {@link #getDirtyStart()} and {@link #getDirtyEnd()}, so the vertices can be uploaded
+ * partially to a vertex buffer.
  * @author Nathan Sweet
  * @author Matthias Mann */
 public class BitmapFontCache {
@@ -36,6 +41,15 @@ public class BitmapFontCache {
 	private final Color tempColor = new Color(Color.WHITE);
 	private final TextBounds textBounds = new TextBounds();
 	private boolean integer = true;
+	private int dirtyStart = Integer.MAX_VALUE, dirtyEnd;
+
+	// State of the text cached by updateText, runLength is -1 when there is none.
+	private int runLength = -1;
+	private char[] runChars = new char[0];
+	private int[] runVertexStarts = new int[1];
+	private float[] runPenX = new float[1];
+	private float runX, runY, runScaleX, runScaleY;
+	private int runVertexEnd;
 
 	public BitmapFontCache (BitmapFont font) {
 		this(font, font.usesIntegerPositions());
@@ -72,6 +86,7 @@ public class BitmapFontCache {
 			vertices[i] += xAmount;
 			vertices[i + 1] += yAmount;
 		}
+		markDirty(0, idx);
 	}
 
 	public void setColor (float color) {
@@ -80,6 +95,7 @@ public class BitmapFontCache {
 		float[] vertices = this.vertices;
 		for (int i = 2, n = idx; i < n; i += 5)
 			vertices[i] = color;
+		markDirty(0, idx);
 	}
 
 	public void setColor (Color tint) {
@@ -89,6 +105,7 @@ public class BitmapFontCache {
 		float[] vertices = this.vertices;
 		for (int i = 2, n = idx; i < n; i += 5)
 			vertices[i] = color;
+		markDirty(0, idx);
 	}
 
 	public void setColor (float r, float g, float b, float a) {
@@ -99,6 +116,7 @@ public class BitmapFontCache {
 		float[] vertices = this.vertices;
 		for (int i = 2, n = idx; i < n; i += 5)
 			vertices[i] = color;
+		markDirty(0, idx);
 	}
 
 	/** Sets the color of the specified characters. This may only be called after {@link #setText(CharSequence, float, float)} and
@@ -108,6 +126,7 @@ public class BitmapFontCache {
 		float[] vertices = this.vertices;
 		for (int i = start * 20 + 2, n = end * 20; i < n; i += 5)
 			vertices[i] = color;
+		markDirty(start * 20, end * 20);
 	}
 
 	public void draw (SpriteBatch spriteBatch) {
@@ -144,6 +163,35 @@ public class BitmapFontCache {
 		x = 0;
 		y = 0;
 		idx = 0;
+		runLength = -1;
+	}
+
+	private void markDirty (int start, int end) {
+		if (start < dirtyStart) dirtyStart = start;
+		if (end > dirtyEnd) dirtyEnd = end;
+	}
+
+	/** Returns the index of the first vertex that changed since the last call to {@link #resetDirty()}. Each vertex is 5 floats in
+	 * {@link #getVertices()}. If nothing changed, this is not less than {@link #getDirtyEnd()}. */
+	public int getDirtyStart () {
+		return dirtyStart / 5;
+	}
+
+	/** Returns the index after the last vertex that changed since the last call to {@link #resetDirty()}. This is never more than
+	 * {@link #getVertexCount()}. */
+	public int getDirtyEnd () {
+		return Math.min(dirtyEnd, idx) / 5;
+	}
+
+	/** Marks all vertices as unchanged. */
+	public void resetDirty () {
+		dirtyStart = Integer.MAX_VALUE;
+		dirtyEnd = 0;
+	}
+
+	/** Returns the number of vertices in {@link #getVertices()} that are used, 4 for each glyph. */
+	public int getVertexCount () {
+		return idx / 5;
 	}
 
 	private void require (int glyphCount) {
@@ -157,6 +205,7 @@ public class BitmapFontCache {
 
 	private float addToCache (CharSequence str, float x, float y, int start, int end) {
 		float startX = x;
+		int startIdx = idx;
 		BitmapFont font = this.font;
 		Glyph lastGlyph = null;
 		BitmapFontData data = font.data;
@@ -208,6 +257,7 @@ public class BitmapFontCache {
 				}
 			}
 		}
+		markDirty(startIdx, idx);
 		return x - startX;
 	}
 
@@ -270,6 +320,86 @@ public class BitmapFontCache {
 		return addText(str, x, y, start, end);
 	}
 
+	/** Clears any cached glyphs and adds glyphs for the specified text, like {@link #setText(CharSequence, float, float)}. If the
+	 * previous call to this method was at the same position and nothing else changed the glyphs since, except
+	 * {@link #translate(float, float)} and setColor, the glyphs for the characters before the first changed character are kept
+	 * and only the rest of the text is laid out again. The kept glyphs keep their colors.
+	 * @param x The x position for the left most character, relative to the translation since the text was first cached.
+	 * @param y The y position for the top of most capital letters in the font (the {@link BitmapFont#getCapHeight() cap height}).
+	 * @return The bounds of the cached string (the height is the distance from y to the baseline). */
+	public TextBounds updateText (CharSequence str, float x, float y) {
+		BitmapFontData data = font.data;
+		int length = str.length();
+		char[] runChars = this.runChars;
+		int first = 0;
+		if (runLength != -1 && idx == runVertexEnd && x == runX + this.x && y == runY + this.y && data.scaleX == runScaleX
+			&& data.scaleY == runScaleY) {
+			int n = Math.min(length, runLength);
+			while (first < n && runChars[first] == str.charAt(first))
+				first++;
+			if (first == length && first == runLength) {
+				textBounds.width = runPenX[length];
+				textBounds.height = data.capHeight;
+				return textBounds;
+			}
+		} else {
+			clear();
+			runX = x;
+			runY = y;
+			runScaleX = data.scaleX;
+			runScaleY = data.scaleY;
+		}
+
+		if (runChars.length < length) {
+			char[] newChars = new char[length];
+			System.arraycopy(runChars, 0, newChars, 0, first);
+			this.runChars = runChars = newChars;
+		}
+		if (runVertexStarts.length <= length) {
+			int[] newStarts = new int[length + 1];
+			System.arraycopy(runVertexStarts, 0, newStarts, 0, first + 1);
+			runVertexStarts = newStarts;
+			float[] newPenX = new float[length + 1];
+			System.arraycopy(runPenX, 0, newPenX, 0, first + 1);
+			runPenX = newPenX;
+		}
+		int[] runVertexStarts = this.runVertexStarts;
+		float[] runPenX = this.runPenX;
+		for (int i = first; i < length; i++)
+			runChars[i] = str.charAt(i);
+		runLength = length;
+
+		Glyph lastGlyph = null;
+		for (int i = first - 1; i >= 0; i--) {
+			lastGlyph = data.getGlyph(runChars[i]);
+			if (lastGlyph != null) break;
+		}
+		idx = runVertexStarts[first];
+		require(length - first);
+		float scaleX = data.scaleX, scaleY = data.scaleY;
+		float pen = runPenX[first];
+		y += data.ascent;
+		for (int i = first; i < length; i++) {
+			runVertexStarts[i] = idx;
+			runPenX[i] = pen;
+			char ch = runChars[i];
+			Glyph g = data.getGlyph(ch);
+			if (g == null) continue;
+			if (lastGlyph != null) pen += lastGlyph.getKerning(ch) * scaleX;
+			lastGlyph = g;
+			addGlyph(g, x + pen + g.xoffset * scaleX, y + g.yoffset * scaleY, g.width * scaleX, g.height * scaleY);
+			pen += g.xadvance * scaleX;
+		}
+		runVertexStarts[length] = idx;
+		runPenX[length] = pen;
+		runVertexEnd = idx;
+		markDirty(runVertexStarts[first], idx);
+
+		textBounds.width = pen;
+		textBounds.height = data.capHeight;
+		return textBounds;
+	}
+
 	/** Adds glyphs for the specified text.
 	 * @see #addText(CharSequence, float, float, int, int) */
 	public TextBounds addText (CharSequence str, float x, float y) {
@@ -333,7 +463,7 @@ public class BitmapFontCache {
 			int lineEnd = BitmapFont.indexOf(str, '\n', start);
 			float xOffset = 0;
 			if (alignment != HAlignment.LEFT) {
-				float lineWidth = font.getBounds(str, start, lineEnd).width;
+				float lineWidth = font.getWidth(str, start, lineEnd);
 				xOffset = alignmentWidth - lineWidth;
 				if (alignment == HAlignment.CENTER) xOffset /= 2;
 			}
@@ -418,7 +548,7 @@ public class BitmapFontCache {
 			if (lineEnd > start) {
 				float xOffset = 0;
 				if (alignment != HAlignment.LEFT) {
-					float lineWidth = font.getBounds(str, start, lineEnd).width;
+					float lineWidth = font.getWidth(str, start, lineEnd);
 					xOffset = wrapWidth - lineWidth;
 					if (alignment == HAlignment.CENTER) xOffset /= 2;
 				}
@@ -23,17 +23,25 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Writer;
+import java.util.concurrent.ExecutorService;
 
 import com.badlogic.gdx.files.FileHandle;
+import com.badlogic.gdx.graphics.GL10;
 import com.badlogic.gdx.graphics.Texture;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 
 /** See <a href="http://www.badlogicgames.com/wordpress/?p=1255">http://www.badlogicgames.com/wordpress/?p=1255</a>
+ * <p>
+ * The emitters can be simulated on other threads, see {@link #setExecutor(ExecutorService)}.
  * @author mzechner */
 public class ParticleEffect implements Disposable {
 	private final Array<ParticleEmitter> emitters;
+	private ExecutorService executor;
+	private final Array<EmitterUpdate> updates = new Array();
+	private int pendingUpdates;
+	private Throwable updateError;
 
 	public ParticleEffect () {
 		emitters = new Array(8);
@@ -42,40 +50,131 @@ public class ParticleEffect implements Disposable {
 	public ParticleEffect (ParticleEffect effect) {
 		emitters = new Array(true, effect.emitters.size);
 		for (int i = 0, n = effect.emitters.size; i < n; i++)
-			emitters.add(new ParticleEmitter(effect.emitters.get(i)));
+			emitters.add(newEmitter(effect.emitters.get(i)));
 	}
 
 	public void start () {
+		finishUpdate();
 		for (int i = 0, n = emitters.size; i < n; i++)
 			emitters.get(i).start();
 	}
 
 	public void reset () {
+		finishUpdate();
 		for (int i = 0, n = emitters.size; i < n; i++)
 			emitters.get(i).reset();
 	}
 
 	public void update (float delta) {
+		if (executor != null) {
+			startUpdate(delta);
+			return;
+		}
 		for (int i = 0, n = emitters.size; i < n; i++)
 			emitters.get(i).update(delta);
 	}
 
 	public void draw (SpriteBatch spriteBatch) {
+		if (executor != null) {
+			drawUpdates(spriteBatch);
+			return;
+		}
 		for (int i = 0, n = emitters.size; i < n; i++)
 			emitters.get(i).draw(spriteBatch);
 	}
 
 	public void draw (SpriteBatch spriteBatch, float delta) {
+		if (executor != null) {
+			startUpdate(delta);
+			drawUpdates(spriteBatch);
+			return;
+		}
 		for (int i = 0, n = emitters.size; i < n; i++)
 			emitters.get(i).draw(spriteBatch, delta);
 	}
 
+	/** Sets an executor that simulates the emitters, one task per emitter. With an executor, {@link #update(float)} and
+	 * {@link #draw(SpriteBatch, float)} make the particles of the previous update the ones that are drawn and start simulating the
+	 * given delta on the executor, which runs while the caller renders. {@link #draw(SpriteBatch)} draws the particles of the
+	 * previous update, so what is drawn is one update behind. The other methods of this effect wait for the simulation to finish
+	 * before they access the emitters.
+	 * @param executor May be null to simulate on the calling thread, which is the default. */
+	public void setExecutor (ExecutorService executor) {
+		finishUpdate();
+		this.executor = executor;
+		updates.clear();
+	}
+
+	public ExecutorService getExecutor () {
+		return executor;
+	}
+
+	/** Waits until the simulation started on the {@link #setExecutor(ExecutorService) executor} is done. This must be called
+	 * before accessing the emitters directly while an executor is set.
+	 * @throws GdxRuntimeException if the simulation of an emitter failed. */
+	public void finishUpdate () {
+		synchronized (this) {
+			while (pendingUpdates > 0) {
+				try {
+					wait();
+				} catch (InterruptedException ex) {
+					throw new GdxRuntimeException("Interrupted while waiting for the particle effect update.", ex);
+				}
+			}
+		}
+		if (updateError != null) {
+			Throwable ex = updateError;
+			updateError = null;
+			throw new GdxRuntimeException("Error updating particle effect.", ex);
+		}
+	}
+
+	private void startUpdate (float delta) {
+		finishUpdate();
+		Array<ParticleEmitter> emitters = this.emitters;
+		Array<EmitterUpdate> updates = this.updates;
+		boolean changed = updates.size != emitters.size;
+		for (int i = 0, n = updates.size; !changed && i < n; i++)
+			changed = updates.get(i).emitter != emitters.get(i);
+		if (changed) {
+			updates.clear();
+			for (int i = 0, n = emitters.size; i < n; i++)
+				updates.add(new EmitterUpdate(this, emitters.get(i)));
+		}
+
+		int n = updates.size;
+		synchronized (this) {
+			pendingUpdates = n;
+		}
+		for (int i = 0; i < n; i++) {
+			EmitterUpdate update = updates.get(i);
+			update.swap();
+			update.delta = delta;
+			executor.execute(update);
+		}
+	}
+
+	private void drawUpdates (SpriteBatch spriteBatch) {
+		Array<EmitterUpdate> updates = this.updates;
+		for (int i = 0, n = updates.size; i < n; i++) {
+			EmitterUpdate update = updates.get(i);
+			if (update.count == 0) continue;
+			ParticleEmitter emitter = update.emitter;
+			boolean additive = emitter.isAdditive();
+			if (additive) spriteBatch.setBlendFunction(GL10.GL_SRC_ALPHA, GL10.GL_ONE);
+			spriteBatch.draw(emitter.getSprite().getTexture(), update.vertices, 0, update.count * Sprite.SPRITE_SIZE);
+			if (additive) spriteBatch.setBlendFunction(GL10.GL_SRC_ALPHA, GL10.GL_ONE_MINUS_SRC_ALPHA);
+		}
+	}
+
 	public void allowCompletion () {
+		finishUpdate();
 		for (int i = 0, n = emitters.size; i < n; i++)
 			emitters.get(i).allowCompletion();
 	}
 
 	public boolean isComplete () {
+		finishUpdate();
 		for (int i = 0, n = emitters.size; i < n; i++) {
 			ParticleEmitter emitter = emitters.get(i);
 			if (!emitter.isComplete()) return false;
@@ -84,6 +183,7 @@ public class ParticleEffect implements Disposable {
 	}
 
 	public void setDuration (int duration) {
+		finishUpdate();
 		for (int i = 0, n = emitters.size; i < n; i++) {
 			ParticleEmitter emitter = emitters.get(i);
 			emitter.setContinuous(false);
@@ -93,21 +193,25 @@ public class ParticleEffect implements Disposable {
 	}
 
 	public void setPosition (float x, float y) {
+		finishUpdate();
 		for (int i = 0, n = emitters.size; i < n; i++)
 			emitters.get(i).setPosition(x, y);
 	}
 
 	public void setFlip (boolean flipX, boolean flipY) {
+		finishUpdate();
 		for (int i = 0, n = emitters.size; i < n; i++)
 			emitters.get(i).setFlip(flipX, flipY);
 	}
 
 	public void flipY () {
+		finishUpdate();
 		for (int i = 0, n = emitters.size; i < n; i++)
 			emitters.get(i).flipY();
 	}
 
 	public Array<ParticleEmitter> getEmitters () {
+		finishUpdate();
 		return emitters;
 	}
 
@@ -153,13 +257,14 @@ public class ParticleEffect implements Disposable {
 	}
 
 	public void loadEmitters (FileHandle effectFile) {
+		finishUpdate();
 		InputStream input = effectFile.read();
 		emitters.clear();
 		BufferedReader reader = null;
 		try {
 			reader = new BufferedReader(new InputStreamReader(input), 512);
 			while (true) {
-				ParticleEmitter emitter = new ParticleEmitter(reader);
+				ParticleEmitter emitter = newEmitter(reader);
 				reader.readLine();
 				emitter.setImagePath(reader.readLine());
 				emitters.add(emitter);
@@ -176,6 +281,18 @@ public class ParticleEffect implements Disposable {
 		}
 	}
 
+	/** Creates an emitter from the effect file. Override to use another emitter implementation, such as
+	 * {@link ArrayParticleEmitter}. */
+	protected ParticleEmitter newEmitter (BufferedReader reader) throws IOException {
+		return new ParticleEmitter(reader);
+	}
+
+	/** Creates a copy of an emitter when this effect is copied. */
+	protected ParticleEmitter newEmitter (ParticleEmitter emitter) {
+		if (emitter instanceof ArrayParticleEmitter) return new ArrayParticleEmitter(emitter);
+		return new ParticleEmitter(emitter);
+	}
+
 	public void loadEmitterImages (TextureAtlas atlas) {
 		for (int i = 0, n = emitters.size; i < n; i++) {
 			ParticleEmitter emitter = emitters.get(i);
@@ -206,9 +323,48 @@ public class ParticleEffect implements Disposable {
 
 	/** Disposes the texture for each sprite for each ParticleEmitter. */
 	public void dispose () {
+		finishUpdate();
 		for (int i = 0, n = emitters.size; i < n; i++) {
 			ParticleEmitter emitter = emitters.get(i);
 			emitter.getSprite().getTexture().dispose();
 		}
 	}
+
+	/** Simulates one emitter and copies the vertices of its particles. The vertices of the previous simulation are kept for
+	 * drawing while the next one runs. */
+	static private class EmitterUpdate implements Runnable {
+		final ParticleEffect effect;
+		final ParticleEmitter emitter;
+		float delta;
+		float[] vertices, updatedVertices;
+		int count, updatedCount;
+
+		EmitterUpdate (ParticleEffect effect, ParticleEmitter emitter) {
+			this.effect = effect;
+			this.emitter = emitter;
+		}
+
+		/** Makes the vertices of the last simulation the ones that are drawn. */
+		void swap () {
+			float[] temp = vertices;
+			vertices = updatedVertices;
+			updatedVertices = temp;
+			count = updatedCount;
+			updatedCount = 0;
+		}
+
+		public void run () {
+			try {
+				emitter.update(delta);
+				updatedVertices = emitter.copyVertices(updatedVertices);
+				updatedCount = emitter.getActiveCount();
+			} catch (Throwable ex) {
+				effect.updateError = ex;
+			} finally {
+				synchronized (effect) {
+					if (--effect.pendingUpdates == 0) effect.notifyAll();
+				}
+			}
+		}
+	}
 }
@@ -28,60 +28,60 @@ import com.badlogic.gdx.math.MathUtils;
 // BOZO - Add a duplicate emitter button.
 
 public class ParticleEmitter {
-	static private final int UPDATE_SCALE = 1 << 0;
-	static private final int UPDATE_ANGLE = 1 << 1;
-	static private final int UPDATE_ROTATION = 1 << 2;
-	static private final int UPDATE_VELOCITY = 1 << 3;
-	static private final int UPDATE_WIND = 1 << 4;
-	static private final int UPDATE_GRAVITY = 1 << 5;
-	static private final int UPDATE_TINT = 1 << 6;
+	static final int UPDATE_SCALE = 1 << 0;
+	static final int UPDATE_ANGLE = 1 << 1;
+	static final int UPDATE_ROTATION = 1 << 2;
+	static final int UPDATE_VELOCITY = 1 << 3;
+	static final int UPDATE_WIND = 1 << 4;
+	static final int UPDATE_GRAVITY = 1 << 5;
+	static final int UPDATE_TINT = 1 << 6;
 
 	private RangedNumericValue delayValue = new RangedNumericValue();
-	private ScaledNumericValue lifeOffsetValue = new ScaledNumericValue();
+	ScaledNumericValue lifeOffsetValue = new ScaledNumericValue();
 	private RangedNumericValue durationValue = new RangedNumericValue();
-	private ScaledNumericValue lifeValue = new ScaledNumericValue();
+	ScaledNumericValue lifeValue = new ScaledNumericValue();
 	private ScaledNumericValue emissionValue = new ScaledNumericValue();
-	private ScaledNumericValue scaleValue = new ScaledNumericValue();
-	private ScaledNumericValue rotationValue = new ScaledNumericValue();
-	private ScaledNumericValue velocityValue = new ScaledNumericValue();
-	private ScaledNumericValue angleValue = new ScaledNumericValue();
-	private ScaledNumericValue windValue = new ScaledNumericValue();
-	private ScaledNumericValue gravityValue = new ScaledNumericValue();
-	private ScaledNumericValue transparencyValue = new ScaledNumericValue();
-	private GradientColorValue tintValue = new GradientColorValue();
-	private RangedNumericValue xOffsetValue = new ScaledNumericValue();
-	private RangedNumericValue yOffsetValue = new ScaledNumericValue();
-	private ScaledNumericValue spawnWidthValue = new ScaledNumericValue();
-	private ScaledNumericValue spawnHeightValue = new ScaledNumericValue();
-	private SpawnShapeValue spawnShapeValue = new SpawnShapeValue();
-
-	private float accumulator;
-	private Sprite sprite;
+	ScaledNumericValue scaleValue = new ScaledNumericValue();
+	ScaledNumericValue rotationValue = new ScaledNumericValue();
+	ScaledNumericValue velocityValue = new ScaledNumericValue();
+	ScaledNumericValue angleValue = new ScaledNumericValue();
+	ScaledNumericValue windValue = new ScaledNumericValue();
+	ScaledNumericValue gravityValue = new ScaledNumericValue();
+	ScaledNumericValue transparencyValue = new ScaledNumericValue();
+	GradientColorValue tintValue = new GradientColorValue();
+	RangedNumericValue xOffsetValue = new ScaledNumericValue();
+	RangedNumericValue yOffsetValue = new ScaledNumericValue();
+	ScaledNumericValue spawnWidthValue = new ScaledNumericValue();
+	ScaledNumericValue spawnHeightValue = new ScaledNumericValue();
+	SpawnShapeValue spawnShapeValue = new SpawnShapeValue();
+
+	float accumulator;
+	Sprite sprite;
 	private Particle[] particles;
-	private int minParticleCount, maxParticleCount = 4;
-	private float x, y;
+	int minParticleCount, maxParticleCount = 4;
+	float x, y;
 	private String name;
 	private String imagePath;
-	private int activeCount;
+	int activeCount;
 	private boolean[] active;
 	private boolean firstUpdate;
-	private boolean flipX, flipY;
-	private int updateFlags;
+	boolean flipX, flipY;
+	int updateFlags;
 	private boolean allowCompletion;
 
 	private int emission, emissionDiff, emissionDelta;
-	private int lifeOffset, lifeOffsetDiff;
-	private int life, lifeDiff;
-	private float spawnWidth, spawnWidthDiff;
-	private float spawnHeight, spawnHeightDiff;
+	int lifeOffset, lifeOffsetDiff;
+	int life, lifeDiff;
+	float spawnWidth, spawnWidthDiff;
+	float spawnHeight, spawnHeightDiff;
 	public float duration = 1, durationTimer;
 	private float delay, delayTimer;
 
-	private boolean attached;
+	boolean attached;
 	private boolean continuous;
-	private boolean aligned;
+	boolean aligned;
 	private boolean behind;
-	private boolean additive = true;
+	boolean additive = true;
 
 	public ParticleEmitter () {
 		initialize();
@@ -189,36 +189,7 @@ public class ParticleEmitter {
 		}
 		this.activeCount = activeCount;
 
-		if (delayTimer < delay) {
-			delayTimer += deltaMillis;
-			return;
-		}
-
-		if (firstUpdate) {
-			firstUpdate = false;
-			addParticle();
-		}
-
-		if (durationTimer < duration)
-			durationTimer += deltaMillis;
-		else {
-			if (!continuous || allowCompletion) return;
-			restart();
-		}
-
-		emissionDelta += deltaMillis;
-		float emissionTime = emission + emissionDiff * emissionValue.getScale(durationTimer / (float)duration);
-		if (emissionTime > 0) {
-			emissionTime = 1000 / emissionTime;
-			if (emissionDelta >= emissionTime) {
-				int emitCount = (int)(emissionDelta / emissionTime);
-				emitCount = Math.min(emitCount, maxParticleCount - activeCount);
-				emissionDelta -= emitCount * emissionTime;
-				emissionDelta %= emissionTime;
-				addParticles(emitCount);
-			}
-		}
-		if (activeCount < minParticleCount) addParticles(minParticleCount - activeCount);
+		updateEmission(deltaMillis);
 	}
 
 	public void draw (SpriteBatch spriteBatch) {
@@ -266,6 +237,12 @@ public class ParticleEmitter {
 
 		if (additive) spriteBatch.setBlendFunction(GL10.GL_SRC_ALPHA, GL10.GL_ONE_MINUS_SRC_ALPHA);
 
+		updateEmission(deltaMillis);
+	}
+
+	/** Advances the delay and duration timers and adds the particles emitted during the elapsed time. */
+	void updateEmission (int deltaMillis) {
+		int activeCount = this.activeCount;
 		if (delayTimer < delay) {
 			delayTimer += deltaMillis;
 			return;
@@ -298,6 +275,24 @@ public class ParticleEmitter {
 		if (activeCount < minParticleCount) addParticles(minParticleCount - activeCount);
 	}
 
+	/** Copies the vertices of the active particles to the array, {@link Sprite#SPRITE_SIZE} floats per particle.
+	 * @param vertices May be null.
+	 * @return The array the vertices were copied to, which is a new array if the given one was too small. */
+	float[] copyVertices (float[] vertices) {
+		if (vertices == null || vertices.length < activeCount * Sprite.SPRITE_SIZE)
+			vertices = new float[maxParticleCount * Sprite.SPRITE_SIZE];
+		Particle[] particles = this.particles;
+		boolean[] active = this.active;
+		int index = 0;
+		for (int i = 0, n = active.length; i < n; i++) {
+			if (active[i]) {
+				System.arraycopy(particles[i].getVertices(), 0, vertices, index, Sprite.SPRITE_SIZE);
+				index += Sprite.SPRITE_SIZE;
+			}
+		}
+		return vertices;
+	}
+
 	public void start () {
 		firstUpdate = true;
 		allowCompletion = false;
@@ -1159,7 +1154,7 @@ public class ParticleEmitter {
 	}
 
 	static public class GradientColorValue extends ParticleValue {
-		static private float[] temp = new float[4];
+		private float[] temp = new float[4];
 
 		private float[] colors = {1, 1, 1};
 		float[] timeline = {0};
@@ -18,13 +18,11 @@ package com.badlogic.gdx.graphics.g2d;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
-import java.util.ArrayList;
-import java.util.List;
 
 import com.badlogic.gdx.files.FileHandle;
 import com.badlogic.gdx.math.EarClippingTriangulator;
-import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ShortArray;
 
 /** Defines a polygon shape on top of a #TextureRegion for minimising pixel drawing. Can either be constructed through a .psh file
  * from an external editor or programmatically through a list of vertices defining a polygon.
@@ -59,24 +57,15 @@ public class PolygonRegion {
 	public PolygonRegion (TextureRegion region, float[] vertices) {
 		this.region = region;
 
-		EarClippingTriangulator ect = new EarClippingTriangulator();
+		ShortArray triangles = new EarClippingTriangulator().computeTriangles(vertices);
 
-		List<Vector2> polygonVectors = new ArrayList<Vector2>();
-		for (int i = 0; i < vertices.length; i += 2) {
-			polygonVectors.add(new Vector2(vertices[i], vertices[i + 1]));
-		}
-
-		List<Vector2> triangulatedVectors = ect.computeTriangles(polygonVectors);
-
-		localVertices = new float[triangulatedVectors.size() * 2];
-		texCoords = new float[triangulatedVectors.size() * 2];
-
-		float uvWidth = region.u2 - region.u;
-		float uvHeight = region.v2 - region.v;
+		localVertices = new float[triangles.size * 2];
+		texCoords = new float[triangles.size * 2];
 
-		for (int i = 0; i < triangulatedVectors.size(); i++) {
-			localVertices[i * 2] = triangulatedVectors.get(i).x;
-			localVertices[i * 2 + 1] = triangulatedVectors.get(i).y;
+		for (int i = 0; i < triangles.size; i++) {
+			int index = triangles.get(i) * 2;
+			localVertices[i * 2] = vertices[index];
+			localVertices[i * 2 + 1] = vertices[index + 1];
 			texCoords[i * 2] = region.u + (localVertices[i * 2] - region.getRegionX()) / region.getRegionWidth();
 			texCoords[i * 2 + 1] = region.v + (1 - (localVertices[i * 2 + 1] - region.getRegionY()) / region.getRegionHeight());
 		}
@@ -16,6 +16,8 @@
 
 package com.badlogic.gdx.graphics.g2d;
 
+import java.nio.IntBuffer;
+
 import com.badlogic.gdx.Gdx;
 import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL10;
@@ -30,6 +32,7 @@ import com.badlogic.gdx.graphics.VertexAttributes.Usage;
 import com.badlogic.gdx.graphics.glutils.ShaderProgram;
 import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix4;
+import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.NumberUtils;
 
@@ -66,6 +69,11 @@ import com.badlogic.gdx.utils.NumberUtils;
  * </p>
  * 
  * <p>
+ * With GLES 2.0 a SpriteBatch can bind several textures at once, see {@link #SpriteBatch(int, int, ShaderProgram, int)}. Drawing
+ * with a different texture then only causes a flush when all texture units are in use.
+ * </p>
+ * 
+ * <p>
  * A SpriteBatch has to be disposed if it is no longer used.
  * </p>
  * 
@@ -108,6 +116,15 @@ public class SpriteBatch implements Disposable {
 	public int maxSpritesInBatch = 0;
 	private ShaderProgram customShader = null;
 
+	/** The textures bound to each texture unit for the current batch when multiple textures are used, else null. */
+	private final Texture[] textures;
+	private int textureCount;
+	private String[] textureUniforms;
+	/** Pairs of vertex offset and texture unit, each starting a run of vertices using that unit. */
+	private int[] textureRuns;
+	private int textureRunCount;
+	private float[] multiTextureVertices;
+
 	/** Constructs a new SpriteBatch. Sets the projection matrix to an orthographic projection with y-axis point upwards, x-axis
 	 * point to the right and the origin being in the bottom left corner of the screen. The projection will be pixel perfect with
 	 * respect to the screen resolution. */
@@ -167,12 +184,50 @@ public class SpriteBatch implements Disposable {
 	 * @param buffers the number of buffers to use. only makes sense with VBOs. This is an expert function.
 	 * @param defaultShader the default shader to use. This is not owned by the SpriteBatch and must be disposed separately. */
 	public SpriteBatch (int size, int buffers, ShaderProgram defaultShader) {
+		this(size, buffers, defaultShader, 1);
+	}
+
+	/** <p>
+	 * Constructs a new SpriteBatch that can bind up to maxTextures textures to separate texture units at the same time. Each
+	 * vertex stores the index of its texture unit and the shader picks the sampler, so drawing with a different texture only
+	 * flushes the batch when all texture units are in use. Interleaved drawing from a few textures, eg several atlases, then
+	 * needs far fewer render calls.
+	 * </p>
+	 * 
+	 * <p>
+	 * Multiple textures require GLES 2.0. The number of textures is limited to GL_MAX_TEXTURE_IMAGE_UNITS and is 1 with GLES 1.x.
+	 * A default shader for multiple textures must be created with {@link #createDefaultShader(int)}. Custom shaders must have the
+	 * vertex attribute {@link #TEXTURE_INDEX_ATTRIBUTE} and a sampler2D array uniform called "u_textures".
+	 * </p>
+	 * 
+	 * @param size the batch size in number of sprites
+	 * @param buffers the number of buffers to use. only makes sense with VBOs. This is an expert function.
+	 * @param defaultShader the default shader to use. This is not owned by the SpriteBatch and must be disposed separately.
+	 * @param maxTextures the maximum number of textures bound at once. */
+	public SpriteBatch (int size, int buffers, ShaderProgram defaultShader, int maxTextures) {
+		if (maxTextures < 1) throw new IllegalArgumentException("maxTextures must be > 0: " + maxTextures);
+		if (maxTextures > 1) {
+			if (Gdx.graphics.isGL20Available()) {
+				IntBuffer max = BufferUtils.newIntBuffer(16);
+				Gdx.gl.glGetIntegerv(GL20.GL_MAX_TEXTURE_IMAGE_UNITS, max);
+				maxTextures = Math.min(maxTextures, max.get(0));
+			} else
+				maxTextures = 1;
+		}
+
 		this.buffers = new Mesh[buffers];
 
 		for (int i = 0; i < buffers; i++) {
-			this.buffers[i] = new Mesh(VertexDataType.VertexArray, false, size * 4, size * 6, new VertexAttribute(Usage.Position, 2,
-				ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
-				new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+			if (maxTextures > 1) {
+				this.buffers[i] = new Mesh(VertexDataType.VertexArray, false, size * 4, size * 6, new VertexAttribute(Usage.Position,
+					2, ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+					new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"), new VertexAttribute(
+						Usage.Generic, 1, TEXTURE_INDEX_ATTRIBUTE));
+			} else {
+				this.buffers[i] = new Mesh(VertexDataType.VertexArray, false, size * 4, size * 6, new VertexAttribute(Usage.Position,
+					2, ShaderProgram.POSITION_ATTRIBUTE), new VertexAttribute(Usage.ColorPacked, 4, ShaderProgram.COLOR_ATTRIBUTE),
+					new VertexAttribute(Usage.TextureCoordinates, 2, ShaderProgram.TEXCOORD_ATTRIBUTE + "0"));
+			}
 		}
 
 		projectionMatrix.setToOrtho2D(0, 0, Gdx.graphics.getWidth(), Gdx.graphics.getHeight());
@@ -195,8 +250,18 @@ public class SpriteBatch implements Disposable {
 		}
 		mesh = this.buffers[0];
 
+		if (maxTextures > 1) {
+			textures = new Texture[maxTextures];
+			textureUniforms = new String[maxTextures];
+			for (int i = 0; i < maxTextures; i++)
+				textureUniforms[i] = "u_textures[" + i + "]";
+			textureRuns = new int[16];
+			multiTextureVertices = new float[size * 4 * 6];
+		} else
+			textures = null;
+
 		if (Gdx.graphics.isGL20Available() && defaultShader == null) {
-			shader = createDefaultShader();
+			shader = maxTextures > 1 ? createDefaultShader(maxTextures) : createDefaultShader();
 			ownsShader = true;
 		} else
 			shader = defaultShader;
@@ -236,6 +301,54 @@ public class SpriteBatch implements Disposable {
 		return shader;
 	}
 
+	/** Returns a new instance of the default shader used by SpriteBatch for GL2 when multiple textures are used. The texture is
+	 * selected per vertex by {@link #TEXTURE_INDEX_ATTRIBUTE} from the sampler2D array uniform "u_textures".
+	 * @param maxTextures the number of samplers. */
+	static public ShaderProgram createDefaultShader (int maxTextures) {
+		String vertexShader = "attribute vec4 " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
+			+ "attribute vec4 " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "attribute vec2 " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
+			+ "attribute float " + TEXTURE_INDEX_ATTRIBUTE + ";\n" //
+			+ "uniform mat4 u_projTrans;\n" //
+			+ "varying vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "varying float v_texIndex;\n" //
+			+ "\n" //
+			+ "void main()\n" //
+			+ "{\n" //
+			+ "   v_color = " + ShaderProgram.COLOR_ATTRIBUTE + ";\n" //
+			+ "   v_texCoords = " + ShaderProgram.TEXCOORD_ATTRIBUTE + "0;\n" //
+			+ "   v_texIndex = " + TEXTURE_INDEX_ATTRIBUTE + ";\n" //
+			+ "   gl_Position =  u_projTrans * " + ShaderProgram.POSITION_ATTRIBUTE + ";\n" //
+			+ "}\n";
+		// GLSL ES only allows constant sampler array indices, so the sampler is chosen by branching.
+		StringBuilder select = new StringBuilder();
+		for (int i = 0; i < maxTextures - 1; i++)
+			select.append(i == 0 ? "  if" : "  else if").append(" (v_texIndex < " + i + ".5) texel = texture2D(u_textures[" + i
+				+ "], v_texCoords);\n");
+		select.append("  else texel = texture2D(u_textures[" + (maxTextures - 1) + "], v_texCoords);\n");
+		String fragmentShader = "#ifdef GL_ES\n" //
+			+ "#define LOWP lowp\n" //
+			+ "precision mediump float;\n" //
+			+ "#else\n" //
+			+ "#define LOWP \n" //
+			+ "#endif\n" //
+			+ "varying LOWP vec4 v_color;\n" //
+			+ "varying vec2 v_texCoords;\n" //
+			+ "varying float v_texIndex;\n" //
+			+ "uniform sampler2D u_textures[" + maxTextures + "];\n" //
+			+ "void main()\n"//
+			+ "{\n" //
+			+ "  vec4 texel;\n" //
+			+ select //
+			+ "  gl_FragColor = v_color * texel;\n" //
+			+ "}";
+
+		ShaderProgram shader = new ShaderProgram(vertexShader, fragmentShader);
+		if (shader.isCompiled() == false) throw new IllegalArgumentException("couldn't compile shader: " + shader.getLog());
+		return shader;
+	}
+
 	/** Sets up the SpriteBatch for drawing. This will disable depth buffer writting. It enables blending and texturing. If you have
 	 * more texture units enabled than the first one you have to disable them before calling this. Uses a screen coordinate system
 	 * by default where everything is given in pixels. You can specify your own projection and modelview matrices via
@@ -257,6 +370,8 @@ public class SpriteBatch implements Disposable {
 
 		idx = 0;
 		lastTexture = null;
+		textureCount = 0;
+		textureRunCount = 0;
 		drawing = true;
 	}
 
@@ -266,6 +381,8 @@ public class SpriteBatch implements Disposable {
 		if (!drawing) throw new IllegalStateException("SpriteBatch.begin must be called before end.");
 		if (idx > 0) renderMesh();
 		lastTexture = null;
+		textureCount = 0;
+		textureRunCount = 0;
 		idx = 0;
 		drawing = false;
 
@@ -1039,8 +1156,15 @@ public class SpriteBatch implements Disposable {
 		int spritesInBatch = idx / 20;
 		if (spritesInBatch > maxSpritesInBatch) maxSpritesInBatch = spritesInBatch;
 
-		lastTexture.bind();
-		mesh.setVertices(vertices, 0, idx);
+		if (textures != null) {
+			// Bind in reverse so texture unit 0 is left active.
+			for (int i = textureCount - 1; i >= 0; i--)
+				textures[i].bind(i);
+			mesh.setVertices(multiTextureVertices, 0, addTextureIndices());
+		} else {
+			lastTexture.bind();
+			mesh.setVertices(vertices, 0, idx);
+		}
 		mesh.getIndicesBuffer().position(0);
 		mesh.getIndicesBuffer().limit(spritesInBatch * 6);
 
@@ -1064,6 +1188,38 @@ public class SpriteBatch implements Disposable {
 		currBufferIdx++;
 		if (currBufferIdx == buffers.length) currBufferIdx = 0;
 		mesh = buffers[currBufferIdx];
+
+		if (textures != null) {
+			// Vertices added before the next texture switch use the last texture.
+			textures[0] = lastTexture;
+			for (int i = 1; i < textureCount; i++)
+				textures[i] = null;
+			textureCount = 1;
+			textureRuns[0] = 0;
+			textureRuns[1] = 0;
+			textureRunCount = 1;
+		}
+	}
+
+	/** Copies the vertices to {@link #multiTextureVertices}, adding the texture unit index to each vertex.
+	 * @return the number of floats copied. */
+	private int addTextureIndices () {
+		float[] vertices = this.vertices, multiTextureVertices = this.multiTextureVertices;
+		int[] textureRuns = this.textureRuns;
+		int idx = this.idx, i = 0, ii = 0;
+		for (int run = 0, n = textureRunCount << 1; run < n; run += 2) {
+			int end = run + 2 < n ? textureRuns[run + 2] : idx;
+			float unit = textureRuns[run + 1];
+			for (; i < end; i += 5, ii += 6) {
+				multiTextureVertices[ii] = vertices[i];
+				multiTextureVertices[ii + 1] = vertices[i + 1];
+				multiTextureVertices[ii + 2] = vertices[i + 2];
+				multiTextureVertices[ii + 3] = vertices[i + 3];
+				multiTextureVertices[ii + 4] = vertices[i + 4];
+				multiTextureVertices[ii + 5] = unit;
+			}
+		}
+		return ii;
 	}
 
 	/** Disables blending for drawing sprites. */
@@ -1140,18 +1296,52 @@ public class SpriteBatch implements Disposable {
 			gl.glLoadMatrixf(transformMatrix.val, 0);
 		} else {
 			combinedMatrix.set(projectionMatrix).mul(transformMatrix);
-			if (customShader != null) {
-				customShader.setUniformMatrix("u_projTrans", combinedMatrix);
-				customShader.setUniformi("u_texture", 0);
-			} else {
-				shader.setUniformMatrix("u_projTrans", combinedMatrix);
+			ShaderProgram shader = customShader != null ? customShader : this.shader;
+			shader.setUniformMatrix("u_projTrans", combinedMatrix);
+			if (textures != null) {
+				for (int i = 0; i < textures.length; i++)
+					shader.setUniformi(textureUniforms[i], i);
+			} else
 				shader.setUniformi("u_texture", 0);
-			}
 		}
 	}
 
 	private void switchTexture (Texture texture) {
-		renderMesh();
+		if (textures != null) {
+			Texture[] textures = this.textures;
+			int unit = -1;
+			for (int i = 0, n = textureCount; i < n; i++) {
+				if (textures[i] == texture) {
+					unit = i;
+					break;
+				}
+			}
+			if (idx == vertices.length || (unit == -1 && textureCount == textures.length)) {
+				renderMesh();
+				textureCount = 0;
+				textureRunCount = 0;
+				unit = -1;
+			}
+			if (unit == -1) {
+				unit = textureCount++;
+				textures[unit] = texture;
+			}
+			int[] textureRuns = this.textureRuns;
+			int last = (textureRunCount - 1) << 1;
+			if (textureRunCount > 0 && textureRuns[last] == idx)
+				textureRuns[last + 1] = unit; // Nothing was drawn with the previous texture.
+			else if (textureRunCount == 0 || textureRuns[last + 1] != unit) {
+				if (last + 2 == textureRuns.length) {
+					int[] newRuns = new int[textureRuns.length << 1];
+					System.arraycopy(textureRuns, 0, newRuns, 0, textureRuns.length);
+					this.textureRuns = textureRuns = newRuns;
+				}
+				textureRuns[last + 2] = idx;
+				textureRuns[last + 3] = unit;
+				textureRunCount++;
+			}
+		} else
+			renderMesh();
 		lastTexture = texture;
 		invTexWidth = 1.0f / texture.getWidth();
 		invTexHeight = 1.0f / texture.getHeight();
@@ -1161,7 +1351,9 @@ public class SpriteBatch implements Disposable {
 	 * coordinates attribute is called called "a_texCoord0", the color attribute is called "a_color". See
 	 * {@link ShaderProgram#POSITION_ATTRIBUTE}, {@link ShaderProgram#COLOR_ATTRIBUTE} and {@link ShaderProgram#TEXCOORD_ATTRIBUTE}
 	 * which gets "0" appened to indicate the use of the first texture unit. The combined transform and projection matrx is is
-	 * uploaded via a mat4 uniform called "u_projTrans". The texture sampler is passed via a uniform called "u_texture".</p>
+	 * uploaded via a mat4 uniform called "u_projTrans". The texture sampler is passed via a uniform called "u_texture". When
+	 * multiple textures are used, the shader also needs the texture index attribute and sampler array described in
+	 * {@link #SpriteBatch(int, int, ShaderProgram, int)}.</p>
 	 * 
 	 * Call this method with a null argument to use the default shader.</p>
 	 * 
@@ -1192,6 +1384,9 @@ public class SpriteBatch implements Disposable {
 		return !blendingDisabled;
 	}
 
+	/** The name of the vertex attribute holding the texture unit index when multiple textures are used. */
+	static public final String TEXTURE_INDEX_ATTRIBUTE = "a_texIndex";
+
 	static public final int X1 = 0;
 	static public final int Y1 = 1;
 	static public final int C1 = 2;
@@ -30,9 +30,13 @@ import com.badlogic.gdx.graphics.g2d.TextureAtlas.TextureAtlasData.Region;
 import com.badlogic.gdx.utils.Array;
 import com.badlogic.gdx.utils.Disposable;
 import com.badlogic.gdx.utils.GdxRuntimeException;
+import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 
 import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.Comparator;
@@ -41,13 +45,24 @@ import java.util.Set;
 
 /** Loads images from texture atlases created by TexturePacker.<br>
  * <br>
- * A TextureAtlas must be disposed to free up the resources consumed by the backing textures.
+ * A TextureAtlas must be disposed to free up the resources consumed by the backing textures.<br>
+ * <br>
+ * Pack files can be in the text format or in the binary format written by {@link TextureAtlasData#writeBinary(FileHandle)}, which
+ * is detected automatically.
  * @author Nathan Sweet */
 public class TextureAtlas implements Disposable {
 	static final String[] tuple = new String[4];
 
+	/** The first int of a binary pack file. The first byte is 0, which a text pack file never contains. */
+	static final int BINARY_MAGIC = 0x0041544c;
+	static final int BINARY_VERSION = 1;
+
 	private final HashSet<Texture> textures = new HashSet(4);
 	private final Array<AtlasRegion> regions = new Array<AtlasRegion>();
+	/** The position of the first region for each name. It is rebuilt when the number of regions changes and when a lookup finds
+	 * that a region was renamed or replaced. */
+	private final ObjectIntMap<String> regionIndex = new ObjectIntMap();
+	private int indexedRegions = -1;
 
 	public static class TextureAtlasData {
 		public static class Page {
@@ -93,8 +108,23 @@ public class TextureAtlas implements Disposable {
 		final Array<Page> pages = new Array<Page>();
 		final Array<Region> regions = new Array<Region>();
 
+		/** Creates empty data, to which pages and regions can be added. */
+		public TextureAtlasData () {
+		}
+
 		public TextureAtlasData (FileHandle packFile, FileHandle imagesDir, boolean flip) {
-			BufferedReader reader = new BufferedReader(new InputStreamReader(packFile.read()), 64);
+			byte[] bytes = packFile.readBytes();
+			if (bytes.length >= 4 && bytes[0] == 0) {
+				try {
+					readBinary(bytes, imagesDir, flip);
+				} catch (Exception ex) {
+					throw new GdxRuntimeException("Error reading binary pack file: " + packFile, ex);
+				}
+				regions.sort(indexComparator);
+				return;
+			}
+
+			BufferedReader reader = new BufferedReader(new InputStreamReader(new ByteArrayInputStream(bytes)), 64);
 			try {
 				Page pageImage = null;
 				while (true) {
@@ -183,6 +213,127 @@ public class TextureAtlas implements Disposable {
 			regions.sort(indexComparator);
 		}
 
+		private void readBinary (byte[] bytes, FileHandle imagesDir, boolean flip) throws IOException {
+			DataInputStream input = new DataInputStream(new ByteArrayInputStream(bytes));
+			if (input.readInt() != BINARY_MAGIC) throw new GdxRuntimeException("Invalid binary pack file.");
+			int version = input.readInt();
+			if (version != BINARY_VERSION) throw new GdxRuntimeException("Unsupported binary pack file version: " + version);
+
+			String[] strings = new String[input.readInt()];
+			for (int i = 0; i < strings.length; i++)
+				strings[i] = input.readUTF();
+
+			Page[] pages = new Page[input.readInt()];
+			for (int i = 0; i < pages.length; i++) {
+				FileHandle file = imagesDir.child(strings[input.readInt()]);
+				Format format = Format.valueOf(strings[input.readInt()]);
+				TextureFilter min = TextureFilter.valueOf(strings[input.readInt()]);
+				TextureFilter max = TextureFilter.valueOf(strings[input.readInt()]);
+				int repeat = input.readByte();
+				pages[i] = new Page(file, min.isMipMap(), format, min, max, (repeat & 1) != 0 ? Repeat : ClampToEdge,
+					(repeat & 2) != 0 ? Repeat : ClampToEdge);
+				this.pages.add(pages[i]);
+			}
+
+			int regionCount = input.readInt();
+			regions.ensureCapacity(regionCount);
+			for (int i = 0; i < regionCount; i++) {
+				Region region = new Region();
+				region.page = pages[input.readInt()];
+				region.name = strings[input.readInt()];
+				region.index = input.readInt();
+				region.left = input.readInt();
+				region.top = input.readInt();
+				region.width = input.readInt();
+				region.height = input.readInt();
+				region.originalWidth = input.readInt();
+				region.originalHeight = input.readInt();
+				region.offsetX = input.readFloat();
+				region.offsetY = input.readFloat();
+				int flags = input.readByte();
+				region.rotate = (flags & 1) != 0;
+				int[] splits = {input.readInt(), input.readInt(), input.readInt(), input.readInt()};
+				if ((flags & 2) != 0) region.splits = splits;
+				int[] pads = {input.readInt(), input.readInt(), input.readInt(), input.readInt()};
+				if ((flags & 4) != 0) region.pads = pads;
+				region.flip = flip;
+				regions.add(region);
+			}
+		}
+
+		/** Writes the pages and regions in the binary pack file format. It has a table of the strings used by pages and regions, and
+		 * a record of the same size for each region, so it loads without parsing text. The page image paths are written relative to
+		 * the parent directory of the pack file. */
+		public void writeBinary (FileHandle packFile) {
+			String imagesDir = packFile.parent().path() + "/";
+			Array<String> strings = new Array();
+			ObjectIntMap<String> stringIndex = new ObjectIntMap();
+			for (Page page : pages) {
+				String path = page.textureFile.path();
+				addString(path.startsWith(imagesDir) ? path.substring(imagesDir.length()) : page.textureFile.name(), strings,
+					stringIndex);
+				addString(page.format.name(), strings, stringIndex);
+				addString(page.minFilter.name(), strings, stringIndex);
+				addString(page.magFilter.name(), strings, stringIndex);
+			}
+			for (Region region : regions)
+				addString(region.name, strings, stringIndex);
+
+			DataOutputStream output = new DataOutputStream(packFile.write(false));
+			try {
+				output.writeInt(BINARY_MAGIC);
+				output.writeInt(BINARY_VERSION);
+
+				output.writeInt(strings.size);
+				for (String string : strings)
+					output.writeUTF(string);
+
+				output.writeInt(pages.size);
+				for (Page page : pages) {
+					String path = page.textureFile.path();
+					output.writeInt(stringIndex.get(path.startsWith(imagesDir) ? path.substring(imagesDir.length())
+						: page.textureFile.name(), 0));
+					output.writeInt(stringIndex.get(page.format.name(), 0));
+					output.writeInt(stringIndex.get(page.minFilter.name(), 0));
+					output.writeInt(stringIndex.get(page.magFilter.name(), 0));
+					output.writeByte((page.uWrap == Repeat ? 1 : 0) | (page.vWrap == Repeat ? 2 : 0));
+				}
+
+				output.writeInt(regions.size);
+				for (Region region : regions) {
+					output.writeInt(pages.indexOf(region.page, true));
+					output.writeInt(stringIndex.get(region.name, 0));
+					output.writeInt(region.index);
+					output.writeInt(region.left);
+					output.writeInt(region.top);
+					output.writeInt(region.width);
+					output.writeInt(region.height);
+					output.writeInt(region.originalWidth);
+					output.writeInt(region.originalHeight);
+					output.writeFloat(region.offsetX);
+					output.writeFloat(region.offsetY);
+					output.writeByte((region.rotate ? 1 : 0) | (region.splits != null ? 2 : 0) | (region.pads != null ? 4 : 0));
+					for (int i = 0; i < 4; i++)
+						output.writeInt(region.splits != null ? region.splits[i] : 0);
+					for (int i = 0; i < 4; i++)
+						output.writeInt(region.pads != null ? region.pads[i] : 0);
+				}
+			} catch (IOException ex) {
+				throw new GdxRuntimeException("Error writing binary pack file: " + packFile, ex);
+			} finally {
+				try {
+					output.close();
+				} catch (IOException ignored) {
+				}
+			}
+		}
+
+		static private void addString (String string, Array<String> strings, ObjectIntMap<String> stringIndex) {
+			if (stringIndex.containsKey(string)) return;
+			stringIndex.put(string, strings.size);
+			strings.add(string);
+		}
+
 		public Array<Page> getPages () {
 			return pages;
 		}
@@ -281,17 +432,43 @@ public class TextureAtlas implements Disposable {
 			textureRegion.getRegionWidth(), textureRegion.getRegionHeight());
 	}
 
-	/** Returns all regions in the atlas. */
+	/** Returns all regions in the atlas. If regions that have the same name are added, replaced, reordered or renamed in the
+	 * returned array, {@link #invalidateRegionIndex()} must be called for {@link #findRegion(String)} to return the first of them. */
 	public Array<AtlasRegion> getRegions () {
 		return regions;
 	}
 
-	/** Returns the first region found with the specified name. This method uses string comparison to find the region, so the result
-	 * should be cached rather than calling this method multiple times.
+	/** Causes the hash lookup used by {@link #findRegion(String)} to be rebuilt. */
+	public void invalidateRegionIndex () {
+		indexedRegions = -1;
+	}
+
+	/** Returns the first region found with the specified name. This method uses a hash lookup for names that are in the atlas.
+	 * Names that are not found, and regions that were renamed or replaced in {@link #getRegions()}, fall back to string
+	 * comparison of every region.
 	 * @return The region, or null. */
 	public AtlasRegion findRegion (String name) {
-		for (int i = 0, n = regions.size; i < n; i++)
-			if (regions.get(i).name.equals(name)) return regions.get(i);
+		Array<AtlasRegion> regions = this.regions;
+		if (indexedRegions != regions.size) {
+			ObjectIntMap<String> regionIndex = this.regionIndex;
+			regionIndex.clear();
+			for (int i = regions.size - 1; i >= 0; i--)
+				regionIndex.put(regions.get(i).name, i);
+			indexedRegions = regions.size;
+		}
+		int index = regionIndex.get(name, -1);
+		if (index != -1) {
+			AtlasRegion region = regions.get(index);
+			if (region.name.equals(name)) return region;
+		}
+		for (int i = 0, n = regions.size; i < n; i++) {
+			AtlasRegion region = regions.get(i);
+			if (region.name.equals(name)) {
+				indexedRegions = -1;
+				return region;
+			}
+		}
+		if (index != -1) indexedRegions = -1;
 		return null;
 	}
 
@@ -330,13 +507,12 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a sprite. If whitespace was stripped from the region when it was
-	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method uses string comparison to
-	 * find the region and constructs a new sprite, so the result should be cached rather than calling this method multiple times.
+	 * packed, the sprite is automatically positioned as if whitespace had not been stripped. This method constructs a new sprite,
+	 * so the result should be cached rather than calling this method multiple times.
 	 * @return The sprite, or null. */
 	public Sprite createSprite (String name) {
-		for (int i = 0, n = regions.size; i < n; i++)
-			if (regions.get(i).name.equals(name)) return newSprite(regions.get(i));
-		return null;
+		AtlasRegion region = findRegion(name);
+		return region == null ? null : newSprite(region);
 	}
 
 	/** Returns the first region found with the specified name and index as a sprite. This method uses string comparison to find the
@@ -380,21 +556,17 @@ public class TextureAtlas implements Disposable {
 	}
 
 	/** Returns the first region found with the specified name as a {@link NinePatch}. The region must have been packed with
-	 * ninepatch splits. This method uses string comparison to find the region and constructs a new ninepatch, so the result should
-	 * be cached rather than calling this method multiple times.
+	 * ninepatch splits. This method constructs a new ninepatch, so the result should be cached rather than calling this method
+	 * multiple times.
 	 * @return The ninepatch, or null. */
 	public NinePatch createPatch (String name) {
-		for (int i = 0, n = regions.size; i < n; i++) {
-			AtlasRegion region = regions.get(i);
-			if (region.name.equals(name)) {
-				int[] splits = region.splits;
-				if (splits == null) throw new IllegalArgumentException("Region does not have ninepatch splits: " + name);
-				NinePatch patch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
-				if (region.pads != null) patch.setPadding(region.pads[0], region.pads[1], region.pads[2], region.pads[3]);
-				return patch;
-			}
-		}
-		return null;
+		AtlasRegion region = findRegion(name);
+		if (region == null) return null;
+		int[] splits = region.splits;
+		if (splits == null) throw new IllegalArgumentException("Region does not have ninepatch splits: " + name);
+		NinePatch patch = new NinePatch(region, splits[0], splits[1], splits[2], splits[3]);
+		if (region.pads != null) patch.setPadding(region.pads[0], region.pads[1], region.pads[2], region.pads[3]);
+		return patch;
 	}
 
 	/** @return the textures of the pages, unordered */
@@ -0,0 +1,590 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL10;
+
+/** A {@link GL10} that counts calls in {@link GLProfiler} and passes them to the wrapped GL10.
+ * @see GLProfiler#enable() */
+public class GL10Profiler implements GL10 {
+	private final GL10 gl;
+	private int lastError;
+
+	public GL10Profiler (GL10 gl) {
+		if (gl == null) throw new IllegalArgumentException("gl cannot be null.");
+		this.gl = gl;
+	}
+
+	/** Returns the GL10 that calls are passed to. */
+	public GL10 getWrapped () {
+		return gl;
+	}
+
+	/** Counts an error, if any, caused by the last call. */
+	protected void check () {
+		int error = gl.glGetError();
+		if (error != GL_NO_ERROR) {
+			GLProfiler.errors++;
+			lastError = error;
+		}
+	}
+
+	public int glGetError () {
+		GLProfiler.calls++;
+		int error = gl.glGetError();
+		// Errors already consumed by check() are still reported.
+		if (error == GL_NO_ERROR) error = lastError;
+		lastError = GL_NO_ERROR;
+		return error;
+	}
+
+	public void glActiveTexture (int texture) {
+		GLProfiler.calls++;
+		gl.glActiveTexture(texture);
+		check();
+	}
+
+	public void glBindTexture (int target, int texture) {
+		GLProfiler.calls++;
+		GLProfiler.textureBindings++;
+		gl.glBindTexture(target, texture);
+		check();
+	}
+
+	public void glBlendFunc (int sfactor, int dfactor) {
+		GLProfiler.calls++;
+		gl.glBlendFunc(sfactor, dfactor);
+		check();
+	}
+
+	public void glClear (int mask) {
+		GLProfiler.calls++;
+		gl.glClear(mask);
+		check();
+	}
+
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		GLProfiler.calls++;
+		gl.glClearColor(red, green, blue, alpha);
+		check();
+	}
+
+	public void glClearDepthf (float depth) {
+		GLProfiler.calls++;
+		gl.glClearDepthf(depth);
+		check();
+	}
+
+	public void glClearStencil (int s) {
+		GLProfiler.calls++;
+		gl.glClearStencil(s);
+		check();
+	}
+
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		GLProfiler.calls++;
+		gl.glColorMask(red, green, blue, alpha);
+		check();
+	}
+
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border,
+		int imageSize, Buffer data) {
+		GLProfiler.calls++;
+		gl.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+		check();
+	}
+
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format,
+		int imageSize, Buffer data) {
+		GLProfiler.calls++;
+		gl.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+		check();
+	}
+
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		GLProfiler.calls++;
+		gl.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+		check();
+	}
+
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		GLProfiler.calls++;
+		gl.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+		check();
+	}
+
+	public void glCullFace (int mode) {
+		GLProfiler.calls++;
+		gl.glCullFace(mode);
+		check();
+	}
+
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		GLProfiler.calls++;
+		gl.glDeleteTextures(n, textures);
+		check();
+	}
+
+	public void glDepthFunc (int func) {
+		GLProfiler.calls++;
+		gl.glDepthFunc(func);
+		check();
+	}
+
+	public void glDepthMask (boolean flag) {
+		GLProfiler.calls++;
+		gl.glDepthMask(flag);
+		check();
+	}
+
+	public void glDepthRangef (float zNear, float zFar) {
+		GLProfiler.calls++;
+		gl.glDepthRangef(zNear, zFar);
+		check();
+	}
+
+	public void glDisable (int cap) {
+		GLProfiler.calls++;
+		gl.glDisable(cap);
+		check();
+	}
+
+	public void glDrawArrays (int mode, int first, int count) {
+		GLProfiler.calls++;
+		GLProfiler.drawCalls++;
+		GLProfiler.vertexCount += count;
+		gl.glDrawArrays(mode, first, count);
+		check();
+	}
+
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		GLProfiler.calls++;
+		GLProfiler.drawCalls++;
+		GLProfiler.vertexCount += count;
+		gl.glDrawElements(mode, count, type, indices);
+		check();
+	}
+
+	public void glEnable (int cap) {
+		GLProfiler.calls++;
+		gl.glEnable(cap);
+		check();
+	}
+
+	public void glFinish () {
+		GLProfiler.calls++;
+		gl.glFinish();
+		check();
+	}
+
+	public void glFlush () {
+		GLProfiler.calls++;
+		gl.glFlush();
+		check();
+	}
+
+	public void glFrontFace (int mode) {
+		GLProfiler.calls++;
+		gl.glFrontFace(mode);
+		check();
+	}
+
+	public void glGenTextures (int n, IntBuffer textures) {
+		GLProfiler.calls++;
+		gl.glGenTextures(n, textures);
+		check();
+	}
+
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetIntegerv(pname, params);
+		check();
+	}
+
+	public String glGetString (int name) {
+		GLProfiler.calls++;
+		String result = gl.glGetString(name);
+		check();
+		return result;
+	}
+
+	public void glHint (int target, int mode) {
+		GLProfiler.calls++;
+		gl.glHint(target, mode);
+		check();
+	}
+
+	public void glLineWidth (float width) {
+		GLProfiler.calls++;
+		gl.glLineWidth(width);
+		check();
+	}
+
+	public void glPixelStorei (int pname, int param) {
+		GLProfiler.calls++;
+		gl.glPixelStorei(pname, param);
+		check();
+	}
+
+	public void glPolygonOffset (float factor, float units) {
+		GLProfiler.calls++;
+		gl.glPolygonOffset(factor, units);
+		check();
+	}
+
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		GLProfiler.calls++;
+		gl.glReadPixels(x, y, width, height, format, type, pixels);
+		check();
+	}
+
+	public void glScissor (int x, int y, int width, int height) {
+		GLProfiler.calls++;
+		gl.glScissor(x, y, width, height);
+		check();
+	}
+
+	public void glStencilFunc (int func, int ref, int mask) {
+		GLProfiler.calls++;
+		gl.glStencilFunc(func, ref, mask);
+		check();
+	}
+
+	public void glStencilMask (int mask) {
+		GLProfiler.calls++;
+		gl.glStencilMask(mask);
+		check();
+	}
+
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		GLProfiler.calls++;
+		gl.glStencilOp(fail, zfail, zpass);
+		check();
+	}
+
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type,
+		Buffer pixels) {
+		GLProfiler.calls++;
+		gl.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+		check();
+	}
+
+	public void glTexParameterf (int target, int pname, float param) {
+		GLProfiler.calls++;
+		gl.glTexParameterf(target, pname, param);
+		check();
+	}
+
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
+		Buffer pixels) {
+		GLProfiler.calls++;
+		gl.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+		check();
+	}
+
+	public void glViewport (int x, int y, int width, int height) {
+		GLProfiler.calls++;
+		gl.glViewport(x, y, width, height);
+		check();
+	}
+
+	public void glAlphaFunc (int func, float ref) {
+		GLProfiler.calls++;
+		gl.glAlphaFunc(func, ref);
+		check();
+	}
+
+	public void glClientActiveTexture (int texture) {
+		GLProfiler.calls++;
+		gl.glClientActiveTexture(texture);
+		check();
+	}
+
+	public void glColor4f (float red, float green, float blue, float alpha) {
+		GLProfiler.calls++;
+		gl.glColor4f(red, green, blue, alpha);
+		check();
+	}
+
+	public void glColorPointer (int size, int type, int stride, Buffer pointer) {
+		GLProfiler.calls++;
+		gl.glColorPointer(size, type, stride, pointer);
+		check();
+	}
+
+	public void glDeleteTextures (int n, int[] textures, int offset) {
+		GLProfiler.calls++;
+		gl.glDeleteTextures(n, textures, offset);
+		check();
+	}
+
+	public void glDisableClientState (int array) {
+		GLProfiler.calls++;
+		gl.glDisableClientState(array);
+		check();
+	}
+
+	public void glEnableClientState (int array) {
+		GLProfiler.calls++;
+		gl.glEnableClientState(array);
+		check();
+	}
+
+	public void glFogf (int pname, float param) {
+		GLProfiler.calls++;
+		gl.glFogf(pname, param);
+		check();
+	}
+
+	public void glFogfv (int pname, float[] params, int offset) {
+		GLProfiler.calls++;
+		gl.glFogfv(pname, params, offset);
+		check();
+	}
+
+	public void glFogfv (int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl.glFogfv(pname, params);
+		check();
+	}
+
+	public void glFrustumf (float left, float right, float bottom, float top, float zNear, float zFar) {
+		GLProfiler.calls++;
+		gl.glFrustumf(left, right, bottom, top, zNear, zFar);
+		check();
+	}
+
+	public void glGenTextures (int n, int[] textures, int offset) {
+		GLProfiler.calls++;
+		gl.glGenTextures(n, textures, offset);
+		check();
+	}
+
+	public void glGetIntegerv (int pname, int[] params, int offset) {
+		GLProfiler.calls++;
+		gl.glGetIntegerv(pname, params, offset);
+		check();
+	}
+
+	public void glLightModelf (int pname, float param) {
+		GLProfiler.calls++;
+		gl.glLightModelf(pname, param);
+		check();
+	}
+
+	public void glLightModelfv (int pname, float[] params, int offset) {
+		GLProfiler.calls++;
+		gl.glLightModelfv(pname, params, offset);
+		check();
+	}
+
+	public void glLightModelfv (int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl.glLightModelfv(pname, params);
+		check();
+	}
+
+	public void glLightf (int light, int pname, float param) {
+		GLProfiler.calls++;
+		gl.glLightf(light, pname, param);
+		check();
+	}
+
+	public void glLightfv (int light, int pname, float[] params, int offset) {
+		GLProfiler.calls++;
+		gl.glLightfv(light, pname, params, offset);
+		check();
+	}
+
+	public void glLightfv (int light, int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl.glLightfv(light, pname, params);
+		check();
+	}
+
+	public void glLoadIdentity () {
+		GLProfiler.calls++;
+		gl.glLoadIdentity();
+		check();
+	}
+
+	public void glLoadMatrixf (float[] m, int offset) {
+		GLProfiler.calls++;
+		gl.glLoadMatrixf(m, offset);
+		check();
+	}
+
+	public void glLoadMatrixf (FloatBuffer m) {
+		GLProfiler.calls++;
+		gl.glLoadMatrixf(m);
+		check();
+	}
+
+	public void glLogicOp (int opcode) {
+		GLProfiler.calls++;
+		gl.glLogicOp(opcode);
+		check();
+	}
+
+	public void glMaterialf (int face, int pname, float param) {
+		GLProfiler.calls++;
+		gl.glMaterialf(face, pname, param);
+		check();
+	}
+
+	public void glMaterialfv (int face, int pname, float[] params, int offset) {
+		GLProfiler.calls++;
+		gl.glMaterialfv(face, pname, params, offset);
+		check();
+	}
+
+	public void glMaterialfv (int face, int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl.glMaterialfv(face, pname, params);
+		check();
+	}
+
+	public void glMatrixMode (int mode) {
+		GLProfiler.calls++;
+		gl.glMatrixMode(mode);
+		check();
+	}
+
+	public void glMultMatrixf (float[] m, int offset) {
+		GLProfiler.calls++;
+		gl.glMultMatrixf(m, offset);
+		check();
+	}
+
+	public void glMultMatrixf (FloatBuffer m) {
+		GLProfiler.calls++;
+		gl.glMultMatrixf(m);
+		check();
+	}
+
+	public void glMultiTexCoord4f (int target, float s, float t, float r, float q) {
+		GLProfiler.calls++;
+		gl.glMultiTexCoord4f(target, s, t, r, q);
+		check();
+	}
+
+	public void glNormal3f (float nx, float ny, float nz) {
+		GLProfiler.calls++;
+		gl.glNormal3f(nx, ny, nz);
+		check();
+	}
+
+	public void glNormalPointer (int type, int stride, Buffer pointer) {
+		GLProfiler.calls++;
+		gl.glNormalPointer(type, stride, pointer);
+		check();
+	}
+
+	public void glOrthof (float left, float right, float bottom, float top, float zNear, float zFar) {
+		GLProfiler.calls++;
+		gl.glOrthof(left, right, bottom, top, zNear, zFar);
+		check();
+	}
+
+	public void glPointSize (float size) {
+		GLProfiler.calls++;
+		gl.glPointSize(size);
+		check();
+	}
+
+	public void glPopMatrix () {
+		GLProfiler.calls++;
+		gl.glPopMatrix();
+		check();
+	}
+
+	public void glPushMatrix () {
+		GLProfiler.calls++;
+		gl.glPushMatrix();
+		check();
+	}
+
+	public void glRotatef (float angle, float x, float y, float z) {
+		GLProfiler.calls++;
+		gl.glRotatef(angle, x, y, z);
+		check();
+	}
+
+	public void glSampleCoverage (float value, boolean invert) {
+		GLProfiler.calls++;
+		gl.glSampleCoverage(value, invert);
+		check();
+	}
+
+	public void glScalef (float x, float y, float z) {
+		GLProfiler.calls++;
+		gl.glScalef(x, y, z);
+		check();
+	}
+
+	public void glShadeModel (int mode) {
+		GLProfiler.calls++;
+		gl.glShadeModel(mode);
+		check();
+	}
+
+	public void glTexCoordPointer (int size, int type, int stride, Buffer pointer) {
+		GLProfiler.calls++;
+		gl.glTexCoordPointer(size, type, stride, pointer);
+		check();
+	}
+
+	public void glTexEnvf (int target, int pname, float param) {
+		GLProfiler.calls++;
+		gl.glTexEnvf(target, pname, param);
+		check();
+	}
+
+	public void glTexEnvfv (int target, int pname, float[] params, int offset) {
+		GLProfiler.calls++;
+		gl.glTexEnvfv(target, pname, params, offset);
+		check();
+	}
+
+	public void glTexEnvfv (int target, int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl.glTexEnvfv(target, pname, params);
+		check();
+	}
+
+	public void glTranslatef (float x, float y, float z) {
+		GLProfiler.calls++;
+		gl.glTranslatef(x, y, z);
+		check();
+	}
+
+	public void glVertexPointer (int size, int type, int stride, Buffer pointer) {
+		GLProfiler.calls++;
+		gl.glVertexPointer(size, type, stride, pointer);
+		check();
+	}
+
+	public void glPolygonMode (int face, int mode) {
+		GLProfiler.calls++;
+		gl.glPolygonMode(face, mode);
+		check();
+	}
+}
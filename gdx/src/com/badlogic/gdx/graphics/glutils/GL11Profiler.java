@@ -0,0 +1,340 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL11;
+
+/** A {@link GL11} that counts calls in {@link GLProfiler} and passes them to the wrapped GL11.
+ * @see GLProfiler#enable() */
+public class GL11Profiler extends GL10Profiler implements GL11 {
+	private final GL11 gl11;
+
+	public GL11Profiler (GL11 gl) {
+		super(gl);
+		gl11 = gl;
+	}
+
+	/** Returns the GL11 that calls are passed to. */
+	public GL11 getWrapped () {
+		return gl11;
+	}
+
+	public void glClipPlanef (int plane, float[] equation, int offset) {
+		GLProfiler.calls++;
+		gl11.glClipPlanef(plane, equation, offset);
+		check();
+	}
+
+	public void glClipPlanef (int plane, FloatBuffer equation) {
+		GLProfiler.calls++;
+		gl11.glClipPlanef(plane, equation);
+		check();
+	}
+
+	public void glGetClipPlanef (int pname, float[] eqn, int offset) {
+		GLProfiler.calls++;
+		gl11.glGetClipPlanef(pname, eqn, offset);
+		check();
+	}
+
+	public void glGetClipPlanef (int pname, FloatBuffer eqn) {
+		GLProfiler.calls++;
+		gl11.glGetClipPlanef(pname, eqn);
+		check();
+	}
+
+	public void glGetFloatv (int pname, float[] params, int offset) {
+		GLProfiler.calls++;
+		gl11.glGetFloatv(pname, params, offset);
+		check();
+	}
+
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl11.glGetFloatv(pname, params);
+		check();
+	}
+
+	public void glGetLightfv (int light, int pname, float[] params, int offset) {
+		GLProfiler.calls++;
+		gl11.glGetLightfv(light, pname, params, offset);
+		check();
+	}
+
+	public void glGetLightfv (int light, int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl11.glGetLightfv(light, pname, params);
+		check();
+	}
+
+	public void glGetMaterialfv (int face, int pname, float[] params, int offset) {
+		GLProfiler.calls++;
+		gl11.glGetMaterialfv(face, pname, params, offset);
+		check();
+	}
+
+	public void glGetMaterialfv (int face, int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl11.glGetMaterialfv(face, pname, params);
+		check();
+	}
+
+	public void glGetTexParameterfv (int target, int pname, float[] params, int offset) {
+		GLProfiler.calls++;
+		gl11.glGetTexParameterfv(target, pname, params, offset);
+		check();
+	}
+
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl11.glGetTexParameterfv(target, pname, params);
+		check();
+	}
+
+	public void glPointParameterf (int pname, float param) {
+		GLProfiler.calls++;
+		gl11.glPointParameterf(pname, param);
+		check();
+	}
+
+	public void glPointParameterfv (int pname, float[] params, int offset) {
+		GLProfiler.calls++;
+		gl11.glPointParameterfv(pname, params, offset);
+		check();
+	}
+
+	public void glPointParameterfv (int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl11.glPointParameterfv(pname, params);
+		check();
+	}
+
+	public void glTexParameterfv (int target, int pname, float[] params, int offset) {
+		GLProfiler.calls++;
+		gl11.glTexParameterfv(target, pname, params, offset);
+		check();
+	}
+
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl11.glTexParameterfv(target, pname, params);
+		check();
+	}
+
+	public void glBindBuffer (int target, int buffer) {
+		GLProfiler.calls++;
+		gl11.glBindBuffer(target, buffer);
+		check();
+	}
+
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		GLProfiler.calls++;
+		if (data != null) GLProfiler.bufferUploadBytes += size;
+		gl11.glBufferData(target, size, data, usage);
+		check();
+	}
+
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		GLProfiler.calls++;
+		GLProfiler.bufferUploadBytes += size;
+		gl11.glBufferSubData(target, offset, size, data);
+		check();
+	}
+
+	public void glColor4ub (byte red, byte green, byte blue, byte alpha) {
+		GLProfiler.calls++;
+		gl11.glColor4ub(red, green, blue, alpha);
+		check();
+	}
+
+	public void glDeleteBuffers (int n, int[] buffers, int offset) {
+		GLProfiler.calls++;
+		gl11.glDeleteBuffers(n, buffers, offset);
+		check();
+	}
+
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		GLProfiler.calls++;
+		gl11.glDeleteBuffers(n, buffers);
+		check();
+	}
+
+	public void glGetBooleanv (int pname, boolean[] params, int offset) {
+		GLProfiler.calls++;
+		gl11.glGetBooleanv(pname, params, offset);
+		check();
+	}
+
+	public void glGetBooleanv (int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl11.glGetBooleanv(pname, params);
+		check();
+	}
+
+	public void glGetBufferParameteriv (int target, int pname, int[] params, int offset) {
+		GLProfiler.calls++;
+		gl11.glGetBufferParameteriv(target, pname, params, offset);
+		check();
+	}
+
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl11.glGetBufferParameteriv(target, pname, params);
+		check();
+	}
+
+	public void glGenBuffers (int n, int[] buffers, int offset) {
+		GLProfiler.calls++;
+		gl11.glGenBuffers(n, buffers, offset);
+		check();
+	}
+
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		GLProfiler.calls++;
+		gl11.glGenBuffers(n, buffers);
+		check();
+	}
+
+	public void glGetPointerv (int pname, Buffer[] params) {
+		GLProfiler.calls++;
+		gl11.glGetPointerv(pname, params);
+		check();
+	}
+
+	public void glGetTexEnviv (int env, int pname, int[] params, int offset) {
+		GLProfiler.calls++;
+		gl11.glGetTexEnviv(env, pname, params, offset);
+		check();
+	}
+
+	public void glGetTexEnviv (int env, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl11.glGetTexEnviv(env, pname, params);
+		check();
+	}
+
+	public void glGetTexParameteriv (int target, int pname, int[] params, int offset) {
+		GLProfiler.calls++;
+		gl11.glGetTexParameteriv(target, pname, params, offset);
+		check();
+	}
+
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl11.glGetTexParameteriv(target, pname, params);
+		check();
+	}
+
+	public boolean glIsBuffer (int buffer) {
+		GLProfiler.calls++;
+		boolean result = gl11.glIsBuffer(buffer);
+		check();
+		return result;
+	}
+
+	public boolean glIsEnabled (int cap) {
+		GLProfiler.calls++;
+		boolean result = gl11.glIsEnabled(cap);
+		check();
+		return result;
+	}
+
+	public boolean glIsTexture (int texture) {
+		GLProfiler.calls++;
+		boolean result = gl11.glIsTexture(texture);
+		check();
+		return result;
+	}
+
+	public void glTexEnvi (int target, int pname, int param) {
+		GLProfiler.calls++;
+		gl11.glTexEnvi(target, pname, param);
+		check();
+	}
+
+	public void glTexEnviv (int target, int pname, int[] params, int offset) {
+		GLProfiler.calls++;
+		gl11.glTexEnviv(target, pname, params, offset);
+		check();
+	}
+
+	public void glTexEnviv (int target, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl11.glTexEnviv(target, pname, params);
+		check();
+	}
+
+	public void glTexParameteri (int target, int pname, int param) {
+		GLProfiler.calls++;
+		gl11.glTexParameteri(target, pname, param);
+		check();
+	}
+
+	public void glTexParameteriv (int target, int pname, int[] params, int offset) {
+		GLProfiler.calls++;
+		gl11.glTexParameteriv(target, pname, params, offset);
+		check();
+	}
+
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl11.glTexParameteriv(target, pname, params);
+		check();
+	}
+
+	public void glPointSizePointerOES (int type, int stride, Buffer pointer) {
+		GLProfiler.calls++;
+		gl11.glPointSizePointerOES(type, stride, pointer);
+		check();
+	}
+
+	public void glVertexPointer (int size, int type, int stride, int pointer) {
+		GLProfiler.calls++;
+		gl11.glVertexPointer(size, type, stride, pointer);
+		check();
+	}
+
+	public void glColorPointer (int size, int type, int stride, int pointer) {
+		GLProfiler.calls++;
+		gl11.glColorPointer(size, type, stride, pointer);
+		check();
+	}
+
+	public void glNormalPointer (int type, int stride, int pointer) {
+		GLProfiler.calls++;
+		gl11.glNormalPointer(type, stride, pointer);
+		check();
+	}
+
+	public void glTexCoordPointer (int size, int type, int stride, int pointer) {
+		GLProfiler.calls++;
+		gl11.glTexCoordPointer(size, type, stride, pointer);
+		check();
+	}
+
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		GLProfiler.calls++;
+		GLProfiler.drawCalls++;
+		GLProfiler.vertexCount += count;
+		gl11.glDrawElements(mode, count, type, indices);
+		check();
+	}
+}
@@ -0,0 +1,947 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.graphics.GL20;
+
+/** A {@link GL20} that counts calls in {@link GLProfiler} and passes them to the wrapped GL20.
+ * @see GLProfiler#enable() */
+public class GL20Profiler implements GL20 {
+	private final GL20 gl;
+	private int lastError;
+
+	public GL20Profiler (GL20 gl) {
+		if (gl == null) throw new IllegalArgumentException("gl cannot be null.");
+		this.gl = gl;
+	}
+
+	/** Returns the GL20 that calls are passed to. */
+	public GL20 getWrapped () {
+		return gl;
+	}
+
+	/** Counts an error, if any, caused by the last call. */
+	protected void check () {
+		int error = gl.glGetError();
+		if (error != GL_NO_ERROR) {
+			GLProfiler.errors++;
+			lastError = error;
+		}
+	}
+
+	public int glGetError () {
+		GLProfiler.calls++;
+		int error = gl.glGetError();
+		// Errors already consumed by check() are still reported.
+		if (error == GL_NO_ERROR) error = lastError;
+		lastError = GL_NO_ERROR;
+		return error;
+	}
+
+	public void glActiveTexture (int texture) {
+		GLProfiler.calls++;
+		gl.glActiveTexture(texture);
+		check();
+	}
+
+	public void glBindTexture (int target, int texture) {
+		GLProfiler.calls++;
+		GLProfiler.textureBindings++;
+		gl.glBindTexture(target, texture);
+		check();
+	}
+
+	public void glBlendFunc (int sfactor, int dfactor) {
+		GLProfiler.calls++;
+		gl.glBlendFunc(sfactor, dfactor);
+		check();
+	}
+
+	public void glClear (int mask) {
+		GLProfiler.calls++;
+		gl.glClear(mask);
+		check();
+	}
+
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		GLProfiler.calls++;
+		gl.glClearColor(red, green, blue, alpha);
+		check();
+	}
+
+	public void glClearDepthf (float depth) {
+		GLProfiler.calls++;
+		gl.glClearDepthf(depth);
+		check();
+	}
+
+	public void glClearStencil (int s) {
+		GLProfiler.calls++;
+		gl.glClearStencil(s);
+		check();
+	}
+
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		GLProfiler.calls++;
+		gl.glColorMask(red, green, blue, alpha);
+		check();
+	}
+
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border,
+		int imageSize, Buffer data) {
+		GLProfiler.calls++;
+		gl.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+		check();
+	}
+
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format,
+		int imageSize, Buffer data) {
+		GLProfiler.calls++;
+		gl.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+		check();
+	}
+
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		GLProfiler.calls++;
+		gl.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+		check();
+	}
+
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		GLProfiler.calls++;
+		gl.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+		check();
+	}
+
+	public void glCullFace (int mode) {
+		GLProfiler.calls++;
+		gl.glCullFace(mode);
+		check();
+	}
+
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		GLProfiler.calls++;
+		gl.glDeleteTextures(n, textures);
+		check();
+	}
+
+	public void glDepthFunc (int func) {
+		GLProfiler.calls++;
+		gl.glDepthFunc(func);
+		check();
+	}
+
+	public void glDepthMask (boolean flag) {
+		GLProfiler.calls++;
+		gl.glDepthMask(flag);
+		check();
+	}
+
+	public void glDepthRangef (float zNear, float zFar) {
+		GLProfiler.calls++;
+		gl.glDepthRangef(zNear, zFar);
+		check();
+	}
+
+	public void glDisable (int cap) {
+		GLProfiler.calls++;
+		gl.glDisable(cap);
+		check();
+	}
+
+	public void glDrawArrays (int mode, int first, int count) {
+		GLProfiler.calls++;
+		GLProfiler.drawCalls++;
+		GLProfiler.vertexCount += count;
+		gl.glDrawArrays(mode, first, count);
+		check();
+	}
+
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		GLProfiler.calls++;
+		GLProfiler.drawCalls++;
+		GLProfiler.vertexCount += count;
+		gl.glDrawElements(mode, count, type, indices);
+		check();
+	}
+
+	public void glEnable (int cap) {
+		GLProfiler.calls++;
+		gl.glEnable(cap);
+		check();
+	}
+
+	public void glFinish () {
+		GLProfiler.calls++;
+		gl.glFinish();
+		check();
+	}
+
+	public void glFlush () {
+		GLProfiler.calls++;
+		gl.glFlush();
+		check();
+	}
+
+	public void glFrontFace (int mode) {
+		GLProfiler.calls++;
+		gl.glFrontFace(mode);
+		check();
+	}
+
+	public void glGenTextures (int n, IntBuffer textures) {
+		GLProfiler.calls++;
+		gl.glGenTextures(n, textures);
+		check();
+	}
+
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetIntegerv(pname, params);
+		check();
+	}
+
+	public String glGetString (int name) {
+		GLProfiler.calls++;
+		String result = gl.glGetString(name);
+		check();
+		return result;
+	}
+
+	public void glHint (int target, int mode) {
+		GLProfiler.calls++;
+		gl.glHint(target, mode);
+		check();
+	}
+
+	public void glLineWidth (float width) {
+		GLProfiler.calls++;
+		gl.glLineWidth(width);
+		check();
+	}
+
+	public void glPixelStorei (int pname, int param) {
+		GLProfiler.calls++;
+		gl.glPixelStorei(pname, param);
+		check();
+	}
+
+	public void glPolygonOffset (float factor, float units) {
+		GLProfiler.calls++;
+		gl.glPolygonOffset(factor, units);
+		check();
+	}
+
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		GLProfiler.calls++;
+		gl.glReadPixels(x, y, width, height, format, type, pixels);
+		check();
+	}
+
+	public void glScissor (int x, int y, int width, int height) {
+		GLProfiler.calls++;
+		gl.glScissor(x, y, width, height);
+		check();
+	}
+
+	public void glStencilFunc (int func, int ref, int mask) {
+		GLProfiler.calls++;
+		gl.glStencilFunc(func, ref, mask);
+		check();
+	}
+
+	public void glStencilMask (int mask) {
+		GLProfiler.calls++;
+		gl.glStencilMask(mask);
+		check();
+	}
+
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		GLProfiler.calls++;
+		gl.glStencilOp(fail, zfail, zpass);
+		check();
+	}
+
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type,
+		Buffer pixels) {
+		GLProfiler.calls++;
+		gl.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+		check();
+	}
+
+	public void glTexParameterf (int target, int pname, float param) {
+		GLProfiler.calls++;
+		gl.glTexParameterf(target, pname, param);
+		check();
+	}
+
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
+		Buffer pixels) {
+		GLProfiler.calls++;
+		gl.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+		check();
+	}
+
+	public void glViewport (int x, int y, int width, int height) {
+		GLProfiler.calls++;
+		gl.glViewport(x, y, width, height);
+		check();
+	}
+
+	public void glAttachShader (int program, int shader) {
+		GLProfiler.calls++;
+		gl.glAttachShader(program, shader);
+		check();
+	}
+
+	public void glBindAttribLocation (int program, int index, String name) {
+		GLProfiler.calls++;
+		gl.glBindAttribLocation(program, index, name);
+		check();
+	}
+
+	public void glBindBuffer (int target, int buffer) {
+		GLProfiler.calls++;
+		gl.glBindBuffer(target, buffer);
+		check();
+	}
+
+	public void glBindFramebuffer (int target, int framebuffer) {
+		GLProfiler.calls++;
+		gl.glBindFramebuffer(target, framebuffer);
+		check();
+	}
+
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		GLProfiler.calls++;
+		gl.glBindRenderbuffer(target, renderbuffer);
+		check();
+	}
+
+	public void glBlendColor (float red, float green, float blue, float alpha) {
+		GLProfiler.calls++;
+		gl.glBlendColor(red, green, blue, alpha);
+		check();
+	}
+
+	public void glBlendEquation (int mode) {
+		GLProfiler.calls++;
+		gl.glBlendEquation(mode);
+		check();
+	}
+
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		GLProfiler.calls++;
+		gl.glBlendEquationSeparate(modeRGB, modeAlpha);
+		check();
+	}
+
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		GLProfiler.calls++;
+		gl.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+		check();
+	}
+
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		GLProfiler.calls++;
+		if (data != null) GLProfiler.bufferUploadBytes += size;
+		gl.glBufferData(target, size, data, usage);
+		check();
+	}
+
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		GLProfiler.calls++;
+		GLProfiler.bufferUploadBytes += size;
+		gl.glBufferSubData(target, offset, size, data);
+		check();
+	}
+
+	public int glCheckFramebufferStatus (int target) {
+		GLProfiler.calls++;
+		int result = gl.glCheckFramebufferStatus(target);
+		check();
+		return result;
+	}
+
+	public void glCompileShader (int shader) {
+		GLProfiler.calls++;
+		gl.glCompileShader(shader);
+		check();
+	}
+
+	public int glCreateProgram () {
+		GLProfiler.calls++;
+		int result = gl.glCreateProgram();
+		check();
+		return result;
+	}
+
+	public int glCreateShader (int type) {
+		GLProfiler.calls++;
+		int result = gl.glCreateShader(type);
+		check();
+		return result;
+	}
+
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		GLProfiler.calls++;
+		gl.glDeleteBuffers(n, buffers);
+		check();
+	}
+
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		GLProfiler.calls++;
+		gl.glDeleteFramebuffers(n, framebuffers);
+		check();
+	}
+
+	public void glDeleteProgram (int program) {
+		GLProfiler.calls++;
+		gl.glDeleteProgram(program);
+		check();
+	}
+
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		GLProfiler.calls++;
+		gl.glDeleteRenderbuffers(n, renderbuffers);
+		check();
+	}
+
+	public void glDeleteShader (int shader) {
+		GLProfiler.calls++;
+		gl.glDeleteShader(shader);
+		check();
+	}
+
+	public void glDetachShader (int program, int shader) {
+		GLProfiler.calls++;
+		gl.glDetachShader(program, shader);
+		check();
+	}
+
+	public void glDisableVertexAttribArray (int index) {
+		GLProfiler.calls++;
+		gl.glDisableVertexAttribArray(index);
+		check();
+	}
+
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		GLProfiler.calls++;
+		GLProfiler.drawCalls++;
+		GLProfiler.vertexCount += count;
+		gl.glDrawElements(mode, count, type, indices);
+		check();
+	}
+
+	public void glEnableVertexAttribArray (int index) {
+		GLProfiler.calls++;
+		gl.glEnableVertexAttribArray(index);
+		check();
+	}
+
+	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
+		GLProfiler.calls++;
+		gl.glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+		check();
+	}
+
+	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
+		GLProfiler.calls++;
+		gl.glFramebufferTexture2D(target, attachment, textarget, texture, level);
+		check();
+	}
+
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		GLProfiler.calls++;
+		gl.glGenBuffers(n, buffers);
+		check();
+	}
+
+	public void glGenerateMipmap (int target) {
+		GLProfiler.calls++;
+		gl.glGenerateMipmap(target);
+		check();
+	}
+
+	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
+		GLProfiler.calls++;
+		gl.glGenFramebuffers(n, framebuffers);
+		check();
+	}
+
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		GLProfiler.calls++;
+		gl.glGenRenderbuffers(n, renderbuffers);
+		check();
+	}
+
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, Buffer type) {
+		GLProfiler.calls++;
+		String result = gl.glGetActiveAttrib(program, index, size, type);
+		check();
+		return result;
+	}
+
+	public String glGetActiveUniform (int program, int index, IntBuffer size, Buffer type) {
+		GLProfiler.calls++;
+		String result = gl.glGetActiveUniform(program, index, size, type);
+		check();
+		return result;
+	}
+
+	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
+		GLProfiler.calls++;
+		gl.glGetAttachedShaders(program, maxcount, count, shaders);
+		check();
+	}
+
+	public int glGetAttribLocation (int program, String name) {
+		GLProfiler.calls++;
+		int result = gl.glGetAttribLocation(program, name);
+		check();
+		return result;
+	}
+
+	public void glGetBooleanv (int pname, Buffer params) {
+		GLProfiler.calls++;
+		gl.glGetBooleanv(pname, params);
+		check();
+	}
+
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetBufferParameteriv(target, pname, params);
+		check();
+	}
+
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetFloatv(pname, params);
+		check();
+	}
+
+	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
+		check();
+	}
+
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetProgramiv(program, pname, params);
+		check();
+	}
+
+	public String glGetProgramInfoLog (int program) {
+		GLProfiler.calls++;
+		String result = gl.glGetProgramInfoLog(program);
+		check();
+		return result;
+	}
+
+	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetRenderbufferParameteriv(target, pname, params);
+		check();
+	}
+
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetShaderiv(shader, pname, params);
+		check();
+	}
+
+	public String glGetShaderInfoLog (int shader) {
+		GLProfiler.calls++;
+		String result = gl.glGetShaderInfoLog(shader);
+		check();
+		return result;
+	}
+
+	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
+		GLProfiler.calls++;
+		gl.glGetShaderPrecisionFormat(shadertype, precisiontype, range, precision);
+		check();
+	}
+
+	public void glGetShaderSource (int shader, int bufsize, Buffer length, String source) {
+		GLProfiler.calls++;
+		gl.glGetShaderSource(shader, bufsize, length, source);
+		check();
+	}
+
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetTexParameterfv(target, pname, params);
+		check();
+	}
+
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetTexParameteriv(target, pname, params);
+		check();
+	}
+
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetUniformfv(program, location, params);
+		check();
+	}
+
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetUniformiv(program, location, params);
+		check();
+	}
+
+	public int glGetUniformLocation (int program, String name) {
+		GLProfiler.calls++;
+		int result = gl.glGetUniformLocation(program, name);
+		check();
+		return result;
+	}
+
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetVertexAttribfv(index, pname, params);
+		check();
+	}
+
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl.glGetVertexAttribiv(index, pname, params);
+		check();
+	}
+
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		GLProfiler.calls++;
+		gl.glGetVertexAttribPointerv(index, pname, pointer);
+		check();
+	}
+
+	public boolean glIsBuffer (int buffer) {
+		GLProfiler.calls++;
+		boolean result = gl.glIsBuffer(buffer);
+		check();
+		return result;
+	}
+
+	public boolean glIsEnabled (int cap) {
+		GLProfiler.calls++;
+		boolean result = gl.glIsEnabled(cap);
+		check();
+		return result;
+	}
+
+	public boolean glIsFramebuffer (int framebuffer) {
+		GLProfiler.calls++;
+		boolean result = gl.glIsFramebuffer(framebuffer);
+		check();
+		return result;
+	}
+
+	public boolean glIsProgram (int program) {
+		GLProfiler.calls++;
+		boolean result = gl.glIsProgram(program);
+		check();
+		return result;
+	}
+
+	public boolean glIsRenderbuffer (int renderbuffer) {
+		GLProfiler.calls++;
+		boolean result = gl.glIsRenderbuffer(renderbuffer);
+		check();
+		return result;
+	}
+
+	public boolean glIsShader (int shader) {
+		GLProfiler.calls++;
+		boolean result = gl.glIsShader(shader);
+		check();
+		return result;
+	}
+
+	public boolean glIsTexture (int texture) {
+		GLProfiler.calls++;
+		boolean result = gl.glIsTexture(texture);
+		check();
+		return result;
+	}
+
+	public void glLinkProgram (int program) {
+		GLProfiler.calls++;
+		gl.glLinkProgram(program);
+		check();
+	}
+
+	public void glReleaseShaderCompiler () {
+		GLProfiler.calls++;
+		gl.glReleaseShaderCompiler();
+		check();
+	}
+
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		GLProfiler.calls++;
+		gl.glRenderbufferStorage(target, internalformat, width, height);
+		check();
+	}
+
+	public void glSampleCoverage (float value, boolean invert) {
+		GLProfiler.calls++;
+		gl.glSampleCoverage(value, invert);
+		check();
+	}
+
+	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
+		GLProfiler.calls++;
+		gl.glShaderBinary(n, shaders, binaryformat, binary, length);
+		check();
+	}
+
+	public void glShaderSource (int shader, String string) {
+		GLProfiler.calls++;
+		gl.glShaderSource(shader, string);
+		check();
+	}
+
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		GLProfiler.calls++;
+		gl.glStencilFuncSeparate(face, func, ref, mask);
+		check();
+	}
+
+	public void glStencilMaskSeparate (int face, int mask) {
+		GLProfiler.calls++;
+		gl.glStencilMaskSeparate(face, mask);
+		check();
+	}
+
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		GLProfiler.calls++;
+		gl.glStencilOpSeparate(face, fail, zfail, zpass);
+		check();
+	}
+
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		GLProfiler.calls++;
+		gl.glTexParameterfv(target, pname, params);
+		check();
+	}
+
+	public void glTexParameteri (int target, int pname, int param) {
+		GLProfiler.calls++;
+		gl.glTexParameteri(target, pname, param);
+		check();
+	}
+
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		GLProfiler.calls++;
+		gl.glTexParameteriv(target, pname, params);
+		check();
+	}
+
+	public void glUniform1f (int location, float x) {
+		GLProfiler.calls++;
+		gl.glUniform1f(location, x);
+		check();
+	}
+
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		GLProfiler.calls++;
+		gl.glUniform1fv(location, count, v);
+		check();
+	}
+
+	public void glUniform1i (int location, int x) {
+		GLProfiler.calls++;
+		gl.glUniform1i(location, x);
+		check();
+	}
+
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		GLProfiler.calls++;
+		gl.glUniform1iv(location, count, v);
+		check();
+	}
+
+	public void glUniform2f (int location, float x, float y) {
+		GLProfiler.calls++;
+		gl.glUniform2f(location, x, y);
+		check();
+	}
+
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		GLProfiler.calls++;
+		gl.glUniform2fv(location, count, v);
+		check();
+	}
+
+	public void glUniform2i (int location, int x, int y) {
+		GLProfiler.calls++;
+		gl.glUniform2i(location, x, y);
+		check();
+	}
+
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		GLProfiler.calls++;
+		gl.glUniform2iv(location, count, v);
+		check();
+	}
+
+	public void glUniform3f (int location, float x, float y, float z) {
+		GLProfiler.calls++;
+		gl.glUniform3f(location, x, y, z);
+		check();
+	}
+
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		GLProfiler.calls++;
+		gl.glUniform3fv(location, count, v);
+		check();
+	}
+
+	public void glUniform3i (int location, int x, int y, int z) {
+		GLProfiler.calls++;
+		gl.glUniform3i(location, x, y, z);
+		check();
+	}
+
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		GLProfiler.calls++;
+		gl.glUniform3iv(location, count, v);
+		check();
+	}
+
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		GLProfiler.calls++;
+		gl.glUniform4f(location, x, y, z, w);
+		check();
+	}
+
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		GLProfiler.calls++;
+		gl.glUniform4fv(location, count, v);
+		check();
+	}
+
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		GLProfiler.calls++;
+		gl.glUniform4i(location, x, y, z, w);
+		check();
+	}
+
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		GLProfiler.calls++;
+		gl.glUniform4iv(location, count, v);
+		check();
+	}
+
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		GLProfiler.calls++;
+		gl.glUniformMatrix2fv(location, count, transpose, value);
+		check();
+	}
+
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		GLProfiler.calls++;
+		gl.glUniformMatrix3fv(location, count, transpose, value);
+		check();
+	}
+
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		GLProfiler.calls++;
+		gl.glUniformMatrix4fv(location, count, transpose, value);
+		check();
+	}
+
+	public void glUseProgram (int program) {
+		GLProfiler.calls++;
+		GLProfiler.shaderSwitches++;
+		gl.glUseProgram(program);
+		check();
+	}
+
+	public void glValidateProgram (int program) {
+		GLProfiler.calls++;
+		gl.glValidateProgram(program);
+		check();
+	}
+
+	public void glVertexAttrib1f (int indx, float x) {
+		GLProfiler.calls++;
+		gl.glVertexAttrib1f(indx, x);
+		check();
+	}
+
+	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
+		GLProfiler.calls++;
+		gl.glVertexAttrib1fv(indx, values);
+		check();
+	}
+
+	public void glVertexAttrib2f (int indx, float x, float y) {
+		GLProfiler.calls++;
+		gl.glVertexAttrib2f(indx, x, y);
+		check();
+	}
+
+	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
+		GLProfiler.calls++;
+		gl.glVertexAttrib2fv(indx, values);
+		check();
+	}
+
+	public void glVertexAttrib3f (int indx, float x, float y, float z) {
+		GLProfiler.calls++;
+		gl.glVertexAttrib3f(indx, x, y, z);
+		check();
+	}
+
+	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
+		GLProfiler.calls++;
+		gl.glVertexAttrib3fv(indx, values);
+		check();
+	}
+
+	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
+		GLProfiler.calls++;
+		gl.glVertexAttrib4f(indx, x, y, z, w);
+		check();
+	}
+
+	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
+		GLProfiler.calls++;
+		gl.glVertexAttrib4fv(indx, values);
+		check();
+	}
+
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		GLProfiler.calls++;
+		gl.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+		check();
+	}
+
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		GLProfiler.calls++;
+		gl.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+		check();
+	}
+}
@@ -0,0 +1,779 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.Buffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL20;
+
+/** A {@link GL20} that wraps another GL20 and drops calls that would not change the current GL state. Enabling and disabling
+ * blending, depth test, culling, scissor and stencil test, the blend function, depth mask, depth function, cull face, the active
+ * texture unit, the 2D texture bound to each unit, the bound array and element array buffers and the current program are
+ * shadowed. All other calls are passed through unchanged.
+ * <p>
+ * The cache must see every call that changes the shadowed state, so it should replace {@link Gdx#gl} and {@link Gdx#gl20} before
+ * anything is rendered: <code>Gdx.gl = Gdx.gl20 = new GL20StateCache(Gdx.gl20);</code> Call {@link #invalidate()} when the state
+ * may have been changed without going through the cache, eg by native code or when the GL context was recreated. */
+public class GL20StateCache implements GL20 {
+	static private final int UNKNOWN = -1;
+	static private final int BLEND = 0, DEPTH_TEST = 1, CULL_FACE = 2, SCISSOR_TEST = 3, STENCIL_TEST = 4;
+
+	private final GL20 gl;
+
+	/** The number of calls to shadowed state that were passed to the wrapped GL20. Can be reset by the application. */
+	public int issuedCalls;
+	/** The number of calls to shadowed state that were dropped because they would not have changed the state. Can be reset by the
+	 * application. */
+	public int skippedCalls;
+
+	/** 1 if enabled, 0 if disabled. */
+	private final int[] capabilities = new int[5];
+	private int blendSrcRGB, blendDstRGB, blendSrcAlpha, blendDstAlpha;
+	/** 1 if true, 0 if false. */
+	private int depthMask;
+	private int depthFunc, cullFaceMode;
+	/** The index of the active texture unit. */
+	private int activeUnit;
+	private final int[] textures = new int[32];
+	private int arrayBuffer, elementArrayBuffer, program;
+
+	public GL20StateCache (GL20 gl) {
+		if (gl == null) throw new IllegalArgumentException("gl cannot be null.");
+		this.gl = gl;
+		invalidate();
+	}
+
+	/** Forgets all shadowed state, so the next call for each is passed through. */
+	public void invalidate () {
+		for (int i = 0; i < capabilities.length; i++)
+			capabilities[i] = UNKNOWN;
+		blendSrcRGB = blendDstRGB = blendSrcAlpha = blendDstAlpha = UNKNOWN;
+		depthMask = depthFunc = cullFaceMode = UNKNOWN;
+		activeUnit = UNKNOWN;
+		for (int i = 0; i < textures.length; i++)
+			textures[i] = UNKNOWN;
+		arrayBuffer = elementArrayBuffer = program = UNKNOWN;
+	}
+
+	/** Returns the GL20 that calls are passed to. */
+	public GL20 getWrapped () {
+		return gl;
+	}
+
+	private int capabilityIndex (int cap) {
+		switch (cap) {
+		case GL_BLEND:
+			return BLEND;
+		case GL_DEPTH_TEST:
+			return DEPTH_TEST;
+		case GL_CULL_FACE:
+			return CULL_FACE;
+		case GL_SCISSOR_TEST:
+			return SCISSOR_TEST;
+		case GL_STENCIL_TEST:
+			return STENCIL_TEST;
+		}
+		return -1;
+	}
+
+	public void glEnable (int cap) {
+		int index = capabilityIndex(cap);
+		if (index != -1) {
+			if (capabilities[index] == 1) {
+				skippedCalls++;
+				return;
+			}
+			capabilities[index] = 1;
+			issuedCalls++;
+		}
+		gl.glEnable(cap);
+	}
+
+	public void glDisable (int cap) {
+		int index = capabilityIndex(cap);
+		if (index != -1) {
+			if (capabilities[index] == 0) {
+				skippedCalls++;
+				return;
+			}
+			capabilities[index] = 0;
+			issuedCalls++;
+		}
+		gl.glDisable(cap);
+	}
+
+	public void glBlendFunc (int sfactor, int dfactor) {
+		if (blendSrcRGB == sfactor && blendDstRGB == dfactor && blendSrcAlpha == sfactor && blendDstAlpha == dfactor) {
+			skippedCalls++;
+			return;
+		}
+		blendSrcRGB = blendSrcAlpha = sfactor;
+		blendDstRGB = blendDstAlpha = dfactor;
+		issuedCalls++;
+		gl.glBlendFunc(sfactor, dfactor);
+	}
+
+	public void glBlendFuncSeparate (int srcRGB, int dstRGB, int srcAlpha, int dstAlpha) {
+		if (blendSrcRGB == srcRGB && blendDstRGB == dstRGB && blendSrcAlpha == srcAlpha && blendDstAlpha == dstAlpha) {
+			skippedCalls++;
+			return;
+		}
+		blendSrcRGB = srcRGB;
+		blendDstRGB = dstRGB;
+		blendSrcAlpha = srcAlpha;
+		blendDstAlpha = dstAlpha;
+		issuedCalls++;
+		gl.glBlendFuncSeparate(srcRGB, dstRGB, srcAlpha, dstAlpha);
+	}
+
+	public void glDepthMask (boolean flag) {
+		int value = flag ? 1 : 0;
+		if (depthMask == value) {
+			skippedCalls++;
+			return;
+		}
+		depthMask = value;
+		issuedCalls++;
+		gl.glDepthMask(flag);
+	}
+
+	public void glDepthFunc (int func) {
+		if (depthFunc == func) {
+			skippedCalls++;
+			return;
+		}
+		depthFunc = func;
+		issuedCalls++;
+		gl.glDepthFunc(func);
+	}
+
+	public void glCullFace (int mode) {
+		if (cullFaceMode == mode) {
+			skippedCalls++;
+			return;
+		}
+		cullFaceMode = mode;
+		issuedCalls++;
+		gl.glCullFace(mode);
+	}
+
+	public void glActiveTexture (int texture) {
+		int unit = texture - GL_TEXTURE0;
+		if (unit == activeUnit) {
+			skippedCalls++;
+			return;
+		}
+		activeUnit = unit >= 0 && unit < textures.length ? unit : UNKNOWN;
+		issuedCalls++;
+		gl.glActiveTexture(texture);
+	}
+
+	public void glBindTexture (int target, int texture) {
+		if (target == GL_TEXTURE_2D && activeUnit != UNKNOWN) {
+			if (textures[activeUnit] == texture) {
+				skippedCalls++;
+				return;
+			}
+			textures[activeUnit] = texture;
+			issuedCalls++;
+		}
+		gl.glBindTexture(target, texture);
+	}
+
+	public void glDeleteTextures (int n, IntBuffer textures) {
+		gl.glDeleteTextures(n, textures);
+		// Deleted textures are unbound from all units.
+		int[] bound = this.textures;
+		for (int i = 0, position = textures.position(); i < n; i++) {
+			int texture = textures.get(position + i);
+			for (int unit = 0; unit < bound.length; unit++)
+				if (bound[unit] == texture) bound[unit] = 0;
+		}
+	}
+
+	public void glBindBuffer (int target, int buffer) {
+		if (target == GL_ARRAY_BUFFER) {
+			if (arrayBuffer == buffer) {
+				skippedCalls++;
+				return;
+			}
+			arrayBuffer = buffer;
+			issuedCalls++;
+		} else if (target == GL_ELEMENT_ARRAY_BUFFER) {
+			if (elementArrayBuffer == buffer) {
+				skippedCalls++;
+				return;
+			}
+			elementArrayBuffer = buffer;
+			issuedCalls++;
+		}
+		gl.glBindBuffer(target, buffer);
+	}
+
+	public void glDeleteBuffers (int n, IntBuffer buffers) {
+		gl.glDeleteBuffers(n, buffers);
+		// Deleted buffers are unbound.
+		for (int i = 0, position = buffers.position(); i < n; i++) {
+			int buffer = buffers.get(position + i);
+			if (arrayBuffer == buffer) arrayBuffer = 0;
+			if (elementArrayBuffer == buffer) elementArrayBuffer = 0;
+		}
+	}
+
+	public void glUseProgram (int program) {
+		if (this.program == program) {
+			skippedCalls++;
+			return;
+		}
+		this.program = program;
+		issuedCalls++;
+		gl.glUseProgram(program);
+	}
+
+	// Passed through unchanged.
+
+	public void glClear (int mask) {
+		gl.glClear(mask);
+	}
+
+	public void glClearColor (float red, float green, float blue, float alpha) {
+		gl.glClearColor(red, green, blue, alpha);
+	}
+
+	public void glClearDepthf (float depth) {
+		gl.glClearDepthf(depth);
+	}
+
+	public void glClearStencil (int s) {
+		gl.glClearStencil(s);
+	}
+
+	public void glColorMask (boolean red, boolean green, boolean blue, boolean alpha) {
+		gl.glColorMask(red, green, blue, alpha);
+	}
+
+	public void glCompressedTexImage2D (int target, int level, int internalformat, int width, int height, int border,
+		int imageSize, Buffer data) {
+		gl.glCompressedTexImage2D(target, level, internalformat, width, height, border, imageSize, data);
+	}
+
+	public void glCompressedTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format,
+		int imageSize, Buffer data) {
+		gl.glCompressedTexSubImage2D(target, level, xoffset, yoffset, width, height, format, imageSize, data);
+	}
+
+	public void glCopyTexImage2D (int target, int level, int internalformat, int x, int y, int width, int height, int border) {
+		gl.glCopyTexImage2D(target, level, internalformat, x, y, width, height, border);
+	}
+
+	public void glCopyTexSubImage2D (int target, int level, int xoffset, int yoffset, int x, int y, int width, int height) {
+		gl.glCopyTexSubImage2D(target, level, xoffset, yoffset, x, y, width, height);
+	}
+
+	public void glDepthRangef (float zNear, float zFar) {
+		gl.glDepthRangef(zNear, zFar);
+	}
+
+	public void glDrawArrays (int mode, int first, int count) {
+		gl.glDrawArrays(mode, first, count);
+	}
+
+	public void glDrawElements (int mode, int count, int type, Buffer indices) {
+		gl.glDrawElements(mode, count, type, indices);
+	}
+
+	public void glFinish () {
+		gl.glFinish();
+	}
+
+	public void glFlush () {
+		gl.glFlush();
+	}
+
+	public void glFrontFace (int mode) {
+		gl.glFrontFace(mode);
+	}
+
+	public void glGenTextures (int n, IntBuffer textures) {
+		gl.glGenTextures(n, textures);
+	}
+
+	public int glGetError () {
+		return gl.glGetError();
+	}
+
+	public void glGetIntegerv (int pname, IntBuffer params) {
+		gl.glGetIntegerv(pname, params);
+	}
+
+	public String glGetString (int name) {
+		return gl.glGetString(name);
+	}
+
+	public void glHint (int target, int mode) {
+		gl.glHint(target, mode);
+	}
+
+	public void glLineWidth (float width) {
+		gl.glLineWidth(width);
+	}
+
+	public void glPixelStorei (int pname, int param) {
+		gl.glPixelStorei(pname, param);
+	}
+
+	public void glPolygonOffset (float factor, float units) {
+		gl.glPolygonOffset(factor, units);
+	}
+
+	public void glReadPixels (int x, int y, int width, int height, int format, int type, Buffer pixels) {
+		gl.glReadPixels(x, y, width, height, format, type, pixels);
+	}
+
+	public void glScissor (int x, int y, int width, int height) {
+		gl.glScissor(x, y, width, height);
+	}
+
+	public void glStencilFunc (int func, int ref, int mask) {
+		gl.glStencilFunc(func, ref, mask);
+	}
+
+	public void glStencilMask (int mask) {
+		gl.glStencilMask(mask);
+	}
+
+	public void glStencilOp (int fail, int zfail, int zpass) {
+		gl.glStencilOp(fail, zfail, zpass);
+	}
+
+	public void glTexImage2D (int target, int level, int internalformat, int width, int height, int border, int format, int type,
+		Buffer pixels) {
+		gl.glTexImage2D(target, level, internalformat, width, height, border, format, type, pixels);
+	}
+
+	public void glTexParameterf (int target, int pname, float param) {
+		gl.glTexParameterf(target, pname, param);
+	}
+
+	public void glTexSubImage2D (int target, int level, int xoffset, int yoffset, int width, int height, int format, int type,
+		Buffer pixels) {
+		gl.glTexSubImage2D(target, level, xoffset, yoffset, width, height, format, type, pixels);
+	}
+
+	public void glViewport (int x, int y, int width, int height) {
+		gl.glViewport(x, y, width, height);
+	}
+
+	public void glAttachShader (int program, int shader) {
+		gl.glAttachShader(program, shader);
+	}
+
+	public void glBindAttribLocation (int program, int index, String name) {
+		gl.glBindAttribLocation(program, index, name);
+	}
+
+	public void glBindFramebuffer (int target, int framebuffer) {
+		gl.glBindFramebuffer(target, framebuffer);
+	}
+
+	public void glBindRenderbuffer (int target, int renderbuffer) {
+		gl.glBindRenderbuffer(target, renderbuffer);
+	}
+
+	public void glBlendColor (float red, float green, float blue, float alpha) {
+		gl.glBlendColor(red, green, blue, alpha);
+	}
+
+	public void glBlendEquation (int mode) {
+		gl.glBlendEquation(mode);
+	}
+
+	public void glBlendEquationSeparate (int modeRGB, int modeAlpha) {
+		gl.glBlendEquationSeparate(modeRGB, modeAlpha);
+	}
+
+	public void glBufferData (int target, int size, Buffer data, int usage) {
+		gl.glBufferData(target, size, data, usage);
+	}
+
+	public void glBufferSubData (int target, int offset, int size, Buffer data) {
+		gl.glBufferSubData(target, offset, size, data);
+	}
+
+	public int glCheckFramebufferStatus (int target) {
+		return gl.glCheckFramebufferStatus(target);
+	}
+
+	public void glCompileShader (int shader) {
+		gl.glCompileShader(shader);
+	}
+
+	public int glCreateProgram () {
+		return gl.glCreateProgram();
+	}
+
+	public int glCreateShader (int type) {
+		return gl.glCreateShader(type);
+	}
+
+	public void glDeleteFramebuffers (int n, IntBuffer framebuffers) {
+		gl.glDeleteFramebuffers(n, framebuffers);
+	}
+
+	public void glDeleteProgram (int program) {
+		gl.glDeleteProgram(program);
+	}
+
+	public void glDeleteRenderbuffers (int n, IntBuffer renderbuffers) {
+		gl.glDeleteRenderbuffers(n, renderbuffers);
+	}
+
+	public void glDeleteShader (int shader) {
+		gl.glDeleteShader(shader);
+	}
+
+	public void glDetachShader (int program, int shader) {
+		gl.glDetachShader(program, shader);
+	}
+
+	public void glDisableVertexAttribArray (int index) {
+		gl.glDisableVertexAttribArray(index);
+	}
+
+	public void glDrawElements (int mode, int count, int type, int indices) {
+		gl.glDrawElements(mode, count, type, indices);
+	}
+
+	public void glEnableVertexAttribArray (int index) {
+		gl.glEnableVertexAttribArray(index);
+	}
+
+	public void glFramebufferRenderbuffer (int target, int attachment, int renderbuffertarget, int renderbuffer) {
+		gl.glFramebufferRenderbuffer(target, attachment, renderbuffertarget, renderbuffer);
+	}
+
+	public void glFramebufferTexture2D (int target, int attachment, int textarget, int texture, int level) {
+		gl.glFramebufferTexture2D(target, attachment, textarget, texture, level);
+	}
+
+	public void glGenBuffers (int n, IntBuffer buffers) {
+		gl.glGenBuffers(n, buffers);
+	}
+
+	public void glGenerateMipmap (int target) {
+		gl.glGenerateMipmap(target);
+	}
+
+	public void glGenFramebuffers (int n, IntBuffer framebuffers) {
+		gl.glGenFramebuffers(n, framebuffers);
+	}
+
+	public void glGenRenderbuffers (int n, IntBuffer renderbuffers) {
+		gl.glGenRenderbuffers(n, renderbuffers);
+	}
+
+	public String glGetActiveAttrib (int program, int index, IntBuffer size, Buffer type) {
+		return gl.glGetActiveAttrib(program, index, size, type);
+	}
+
+	public String glGetActiveUniform (int program, int index, IntBuffer size, Buffer type) {
+		return gl.glGetActiveUniform(program, index, size, type);
+	}
+
+	public void glGetAttachedShaders (int program, int maxcount, Buffer count, IntBuffer shaders) {
+		gl.glGetAttachedShaders(program, maxcount, count, shaders);
+	}
+
+	public int glGetAttribLocation (int program, String name) {
+		return gl.glGetAttribLocation(program, name);
+	}
+
+	public void glGetBooleanv (int pname, Buffer params) {
+		gl.glGetBooleanv(pname, params);
+	}
+
+	public void glGetBufferParameteriv (int target, int pname, IntBuffer params) {
+		gl.glGetBufferParameteriv(target, pname, params);
+	}
+
+	public void glGetFloatv (int pname, FloatBuffer params) {
+		gl.glGetFloatv(pname, params);
+	}
+
+	public void glGetFramebufferAttachmentParameteriv (int target, int attachment, int pname, IntBuffer params) {
+		gl.glGetFramebufferAttachmentParameteriv(target, attachment, pname, params);
+	}
+
+	public void glGetProgramiv (int program, int pname, IntBuffer params) {
+		gl.glGetProgramiv(program, pname, params);
+	}
+
+	public String glGetProgramInfoLog (int program) {
+		return gl.glGetProgramInfoLog(program);
+	}
+
+	public void glGetRenderbufferParameteriv (int target, int pname, IntBuffer params) {
+		gl.glGetRenderbufferParameteriv(target, pname, params);
+	}
+
+	public void glGetShaderiv (int shader, int pname, IntBuffer params) {
+		gl.glGetShaderiv(shader, pname, params);
+	}
+
+	public String glGetShaderInfoLog (int shader) {
+		return gl.glGetShaderInfoLog(shader);
+	}
+
+	public void glGetShaderPrecisionFormat (int shadertype, int precisiontype, IntBuffer range, IntBuffer precision) {
+		gl.glGetShaderPrecisionFormat(shadertype, precisiontype, range, precision);
+	}
+
+	public void glGetShaderSource (int shader, int bufsize, Buffer length, String source) {
+		gl.glGetShaderSource(shader, bufsize, length, source);
+	}
+
+	public void glGetTexParameterfv (int target, int pname, FloatBuffer params) {
+		gl.glGetTexParameterfv(target, pname, params);
+	}
+
+	public void glGetTexParameteriv (int target, int pname, IntBuffer params) {
+		gl.glGetTexParameteriv(target, pname, params);
+	}
+
+	public void glGetUniformfv (int program, int location, FloatBuffer params) {
+		gl.glGetUniformfv(program, location, params);
+	}
+
+	public void glGetUniformiv (int program, int location, IntBuffer params) {
+		gl.glGetUniformiv(program, location, params);
+	}
+
+	public int glGetUniformLocation (int program, String name) {
+		return gl.glGetUniformLocation(program, name);
+	}
+
+	public void glGetVertexAttribfv (int index, int pname, FloatBuffer params) {
+		gl.glGetVertexAttribfv(index, pname, params);
+	}
+
+	public void glGetVertexAttribiv (int index, int pname, IntBuffer params) {
+		gl.glGetVertexAttribiv(index, pname, params);
+	}
+
+	public void glGetVertexAttribPointerv (int index, int pname, Buffer pointer) {
+		gl.glGetVertexAttribPointerv(index, pname, pointer);
+	}
+
+	public boolean glIsBuffer (int buffer) {
+		return gl.glIsBuffer(buffer);
+	}
+
+	public boolean glIsEnabled (int cap) {
+		return gl.glIsEnabled(cap);
+	}
+
+	public boolean glIsFramebuffer (int framebuffer) {
+		return gl.glIsFramebuffer(framebuffer);
+	}
+
+	public boolean glIsProgram (int program) {
+		return gl.glIsProgram(program);
+	}
+
+	public boolean glIsRenderbuffer (int renderbuffer) {
+		return gl.glIsRenderbuffer(renderbuffer);
+	}
+
+	public boolean glIsShader (int shader) {
+		return gl.glIsShader(shader);
+	}
+
+	public boolean glIsTexture (int texture) {
+		return gl.glIsTexture(texture);
+	}
+
+	public void glLinkProgram (int program) {
+		gl.glLinkProgram(program);
+	}
+
+	public void glReleaseShaderCompiler () {
+		gl.glReleaseShaderCompiler();
+	}
+
+	public void glRenderbufferStorage (int target, int internalformat, int width, int height) {
+		gl.glRenderbufferStorage(target, internalformat, width, height);
+	}
+
+	public void glSampleCoverage (float value, boolean invert) {
+		gl.glSampleCoverage(value, invert);
+	}
+
+	public void glShaderBinary (int n, IntBuffer shaders, int binaryformat, Buffer binary, int length) {
+		gl.glShaderBinary(n, shaders, binaryformat, binary, length);
+	}
+
+	public void glShaderSource (int shader, String string) {
+		gl.glShaderSource(shader, string);
+	}
+
+	public void glStencilFuncSeparate (int face, int func, int ref, int mask) {
+		gl.glStencilFuncSeparate(face, func, ref, mask);
+	}
+
+	public void glStencilMaskSeparate (int face, int mask) {
+		gl.glStencilMaskSeparate(face, mask);
+	}
+
+	public void glStencilOpSeparate (int face, int fail, int zfail, int zpass) {
+		gl.glStencilOpSeparate(face, fail, zfail, zpass);
+	}
+
+	public void glTexParameterfv (int target, int pname, FloatBuffer params) {
+		gl.glTexParameterfv(target, pname, params);
+	}
+
+	public void glTexParameteri (int target, int pname, int param) {
+		gl.glTexParameteri(target, pname, param);
+	}
+
+	public void glTexParameteriv (int target, int pname, IntBuffer params) {
+		gl.glTexParameteriv(target, pname, params);
+	}
+
+	public void glUniform1f (int location, float x) {
+		gl.glUniform1f(location, x);
+	}
+
+	public void glUniform1fv (int location, int count, FloatBuffer v) {
+		gl.glUniform1fv(location, count, v);
+	}
+
+	public void glUniform1i (int location, int x) {
+		gl.glUniform1i(location, x);
+	}
+
+	public void glUniform1iv (int location, int count, IntBuffer v) {
+		gl.glUniform1iv(location, count, v);
+	}
+
+	public void glUniform2f (int location, float x, float y) {
+		gl.glUniform2f(location, x, y);
+	}
+
+	public void glUniform2fv (int location, int count, FloatBuffer v) {
+		gl.glUniform2fv(location, count, v);
+	}
+
+	public void glUniform2i (int location, int x, int y) {
+		gl.glUniform2i(location, x, y);
+	}
+
+	public void glUniform2iv (int location, int count, IntBuffer v) {
+		gl.glUniform2iv(location, count, v);
+	}
+
+	public void glUniform3f (int location, float x, float y, float z) {
+		gl.glUniform3f(location, x, y, z);
+	}
+
+	public void glUniform3fv (int location, int count, FloatBuffer v) {
+		gl.glUniform3fv(location, count, v);
+	}
+
+	public void glUniform3i (int location, int x, int y, int z) {
+		gl.glUniform3i(location, x, y, z);
+	}
+
+	public void glUniform3iv (int location, int count, IntBuffer v) {
+		gl.glUniform3iv(location, count, v);
+	}
+
+	public void glUniform4f (int location, float x, float y, float z, float w) {
+		gl.glUniform4f(location, x, y, z, w);
+	}
+
+	public void glUniform4fv (int location, int count, FloatBuffer v) {
+		gl.glUniform4fv(location, count, v);
+	}
+
+	public void glUniform4i (int location, int x, int y, int z, int w) {
+		gl.glUniform4i(location, x, y, z, w);
+	}
+
+	public void glUniform4iv (int location, int count, IntBuffer v) {
+		gl.glUniform4iv(location, count, v);
+	}
+
+	public void glUniformMatrix2fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl.glUniformMatrix2fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix3fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl.glUniformMatrix3fv(location, count, transpose, value);
+	}
+
+	public void glUniformMatrix4fv (int location, int count, boolean transpose, FloatBuffer value) {
+		gl.glUniformMatrix4fv(location, count, transpose, value);
+	}
+
+	public void glValidateProgram (int program) {
+		gl.glValidateProgram(program);
+	}
+
+	public void glVertexAttrib1f (int indx, float x) {
+		gl.glVertexAttrib1f(indx, x);
+	}
+
+	public void glVertexAttrib1fv (int indx, FloatBuffer values) {
+		gl.glVertexAttrib1fv(indx, values);
+	}
+
+	public void glVertexAttrib2f (int indx, float x, float y) {
+		gl.glVertexAttrib2f(indx, x, y);
+	}
+
+	public void glVertexAttrib2fv (int indx, FloatBuffer values) {
+		gl.glVertexAttrib2fv(indx, values);
+	}
+
+	public void glVertexAttrib3f (int indx, float x, float y, float z) {
+		gl.glVertexAttrib3f(indx, x, y, z);
+	}
+
+	public void glVertexAttrib3fv (int indx, FloatBuffer values) {
+		gl.glVertexAttrib3fv(indx, values);
+	}
+
+	public void glVertexAttrib4f (int indx, float x, float y, float z, float w) {
+		gl.glVertexAttrib4f(indx, x, y, z, w);
+	}
+
+	public void glVertexAttrib4fv (int indx, FloatBuffer values) {
+		gl.glVertexAttrib4fv(indx, values);
+	}
+
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, Buffer ptr) {
+		gl.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+	}
+
+	public void glVertexAttribPointer (int indx, int size, int type, boolean normalized, int stride, int ptr) {
+		gl.glVertexAttribPointer(indx, size, type, normalized, stride, ptr);
+	}
+}
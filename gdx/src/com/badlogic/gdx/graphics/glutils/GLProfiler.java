@@ -0,0 +1,94 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+package com.badlogic.gdx.graphics.glutils;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL11;
+
+/** Counts the GL calls made through {@link Gdx#gl}, {@link Gdx#gl10}, {@link Gdx#gl11} and {@link Gdx#gl20} while enabled. The
+ * counters are never reset automatically, call {@link #reset()} at the start of a frame and read them at its end to get per frame
+ * statistics. Profiling checks glGetError after every call, so it has a noticeable cost and should only be enabled when needed.
+ * <p>
+ * {@link #enable()} replaces the GL instances in {@link Gdx} with {@link GL20Profiler}, {@link GL11Profiler} or
+ * {@link GL10Profiler} wrappers. The desktop backends' setGLProfiling also makes their Graphics return the wrappers. */
+public class GLProfiler {
+	/** The number of GL calls. */
+	static public int calls;
+	/** The number of glDrawArrays and glDrawElements calls. */
+	static public int drawCalls;
+	/** The number of vertices (or indices) passed to glDrawArrays and glDrawElements. */
+	static public int vertexCount;
+	/** The number of glBindTexture calls. */
+	static public int textureBindings;
+	/** The number of glUseProgram calls. */
+	static public int shaderSwitches;
+	/** The number of bytes uploaded with glBufferData and glBufferSubData, not counting glBufferData calls without data. */
+	static public int bufferUploadBytes;
+	/** The number of calls that caused a GL error. */
+	static public int errors;
+
+	/** Sets all counters to zero. */
+	static public void reset () {
+		calls = 0;
+		drawCalls = 0;
+		vertexCount = 0;
+		textureBindings = 0;
+		shaderSwitches = 0;
+		bufferUploadBytes = 0;
+		errors = 0;
+	}
+
+	/** Replaces the GL instances in {@link Gdx} with profiling wrappers. Does nothing if they are already wrapped. */
+	static public void enable () {
+		if (isEnabled()) return;
+		if (Gdx.gl20 != null) {
+			GL20Profiler gl20 = new GL20Profiler(Gdx.gl20);
+			Gdx.gl = Gdx.gl20 = gl20;
+		} else if (Gdx.gl11 != null) {
+			GL11Profiler gl11 = new GL11Profiler(Gdx.gl11);
+			Gdx.gl = Gdx.gl10 = Gdx.gl11 = gl11;
+		} else if (Gdx.gl10 != null) {
+			GL10Profiler gl10 = new GL10Profiler(Gdx.gl10);
+			Gdx.gl = Gdx.gl10 = gl10;
+		}
+	}
+
+	/** Restores the GL instances in {@link Gdx} that were replaced by {@link #enable()}. */
+	static public void disable () {
+		if (Gdx.gl20 instanceof GL20Profiler) {
+			Gdx.gl = Gdx.gl20 = ((GL20Profiler)Gdx.gl20).getWrapped();
+		} else if (Gdx.gl11 instanceof GL11Profiler) {
+			GL11 gl11 = ((GL11Profiler)Gdx.gl11).getWrapped();
+			Gdx.gl = Gdx.gl10 = Gdx.gl11 = gl11;
+		} else if (Gdx.gl10 instanceof GL10Profiler) {
+			Gdx.gl = Gdx.gl10 = ((GL10Profiler)Gdx.gl10).getWrapped();
+		}
+	}
+
+	/** Calls {@link #enable()} or {@link #disable()}. */
+	static public void setEnabled (boolean enabled) {
+		if (enabled)
+			enable();
+		else
+			disable();
+	}
+
+	/** Returns true if the GL instances in {@link Gdx} are profiling wrappers. */
+	static public boolean isEnabled () {
+		return Gdx.gl instanceof GL20Profiler || Gdx.gl instanceof GL10Profiler;
+	}
+}
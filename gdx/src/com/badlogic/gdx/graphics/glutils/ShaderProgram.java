@@ -36,6 +36,7 @@ import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.math.Vector3;
 import com.badlogic.gdx.utils.BufferUtils;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.NumberUtils;
 import com.badlogic.gdx.utils.ObjectIntMap;
 import com.badlogic.gdx.utils.ObjectMap;
 
@@ -105,6 +106,9 @@ public class ShaderProgram implements Disposable {
 	/** uniform names **/
 	private String[] uniformNames;
 
+	/** uniform handles **/
+	private final ObjectMap<String, Uniform> uniformHandles = new ObjectMap<String, Uniform>();
+
 	/** attribute lookup **/
 	private final ObjectIntMap<String> attributes = new ObjectIntMap<String>();
 
@@ -194,7 +198,7 @@ public class ShaderProgram implements Disposable {
 	}
 
 	private int loadShader (int type, String source) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		IntBuffer intbuf = BufferUtils.newIntBuffer(1);
 
 		int shader = gl.glCreateShader(type);
@@ -219,7 +223,7 @@ public class ShaderProgram implements Disposable {
 	}
 
 	private int linkProgram () {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		int program = gl.glCreateProgram();
 		if (program == 0) return -1;
 
@@ -268,7 +272,7 @@ public class ShaderProgram implements Disposable {
 	}
 
 	private int fetchAttributeLocation (String name) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		// -2 == not yet cached
 		// -1 == cached but not found
 		int location;
@@ -280,7 +284,7 @@ public class ShaderProgram implements Disposable {
 	}
 
 	private int fetchUniformLocation (String name) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		// -2 == not yet cached
 		// -1 == cached but not found
 		int location;
@@ -292,20 +296,33 @@ public class ShaderProgram implements Disposable {
 		return location;
 	}
 
+	/** Returns a handle to set the uniform with the given name without looking up the name each time. The handle remembers the
+	 * last value set through it and skips the GL call when the same value is set again. The same handle is returned for the same
+	 * name and stays valid when the program is reloaded after the OpenGL context was lost.
+	 * @throws IllegalArgumentException if {@link #pedantic} is true and the uniform does not exist. */
+	public Uniform getUniform (String name) {
+		Uniform uniform = uniformHandles.get(name);
+		if (uniform == null) {
+			uniform = new Uniform(this, name, fetchUniformLocation(name));
+			uniformHandles.put(name, uniform);
+		}
+		return uniform;
+	}
+
 	/** Sets the uniform with the given name. Throws an IllegalArgumentException in case it is not called in between a
 	 * {@link #begin()}/{@link #end()} block.
 	 * 
 	 * @param name the name of the uniform
 	 * @param value the value */
 	public void setUniformi (String name, int value) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		gl.glUniform1i(location, value);
 	}
 	
 	public void setUniformi (int location, int value) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glUniform1i(location, value);
 	}
@@ -317,14 +334,14 @@ public class ShaderProgram implements Disposable {
 	 * @param value1 the first value
 	 * @param value2 the second value */
 	public void setUniformi (String name, int value1, int value2) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		gl.glUniform2i(location, value1, value2);
 	}
 	
 	public void setUniformi (int location, int value1, int value2) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glUniform2i(location, value1, value2);
 	}
@@ -337,14 +354,14 @@ public class ShaderProgram implements Disposable {
 	 * @param value2 the second value
 	 * @param value3 the third value */
 	public void setUniformi (String name, int value1, int value2, int value3) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		gl.glUniform3i(location, value1, value2, value3);
 	}
 	
 	public void setUniformi (int location, int value1, int value2, int value3) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glUniform3i(location, value1, value2, value3);
 	}
@@ -358,14 +375,14 @@ public class ShaderProgram implements Disposable {
 	 * @param value3 the third value
 	 * @param value4 the fourth value */
 	public void setUniformi (String name, int value1, int value2, int value3, int value4) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		gl.glUniform4i(location, value1, value2, value3, value4);
 	}
 	
 	public void setUniformi (int location, int value1, int value2, int value3, int value4) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glUniform4i(location, value1, value2, value3, value4);
 	}
@@ -376,14 +393,14 @@ public class ShaderProgram implements Disposable {
 	 * @param name the name of the uniform
 	 * @param value the value */
 	public void setUniformf (String name, float value) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		gl.glUniform1f(location, value);
 	}
 	
 	public void setUniformf (int location, float value) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glUniform1f(location, value);
 	}
@@ -395,14 +412,14 @@ public class ShaderProgram implements Disposable {
 	 * @param value1 the first value
 	 * @param value2 the second value */
 	public void setUniformf (String name, float value1, float value2) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		gl.glUniform2f(location, value1, value2);
 	}
 	
 	public void setUniformf (int location, float value1, float value2) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glUniform2f(location, value1, value2);
 	}
@@ -415,14 +432,14 @@ public class ShaderProgram implements Disposable {
 	 * @param value2 the second value
 	 * @param value3 the third value */
 	public void setUniformf (String name, float value1, float value2, float value3) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		gl.glUniform3f(location, value1, value2, value3);
 	}
 	
 	public void setUniformf (int location, float value1, float value2, float value3) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glUniform3f(location, value1, value2, value3);
 	}
@@ -436,20 +453,20 @@ public class ShaderProgram implements Disposable {
 	 * @param value3 the third value
 	 * @param value4 the fourth value */
 	public void setUniformf (String name, float value1, float value2, float value3, float value4) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		gl.glUniform4f(location, value1, value2, value3, value4);
 	}
 	
 	public void setUniformf (int location, float value1, float value2, float value3, float value4) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glUniform4f(location, value1, value2, value3, value4);
 	}
 
 	public void setUniform1fv (String name, float[] values, int offset, int length) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		ensureBufferCapacity(length << 2);
@@ -459,7 +476,7 @@ public class ShaderProgram implements Disposable {
 	}
 	
 	public void setUniform1fv (int location, float[] values, int offset, int length) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		ensureBufferCapacity(length << 2);
 		floatBuffer.clear();
@@ -468,7 +485,7 @@ public class ShaderProgram implements Disposable {
 	}
 
 	public void setUniform2fv (String name, float[] values, int offset, int length) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		ensureBufferCapacity(length << 2);
@@ -478,7 +495,7 @@ public class ShaderProgram implements Disposable {
 	}
 	
 	public void setUniform2fv (int location, float[] values, int offset, int length) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		ensureBufferCapacity(length << 2);
 		floatBuffer.clear();
@@ -487,7 +504,7 @@ public class ShaderProgram implements Disposable {
 	}
 
 	public void setUniform3fv (String name, float[] values, int offset, int length) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		ensureBufferCapacity(length << 2);
@@ -497,7 +514,7 @@ public class ShaderProgram implements Disposable {
 	}
 	
 	public void setUniform3fv (int location, float[] values, int offset, int length) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		ensureBufferCapacity(length << 2);
 		floatBuffer.clear();
@@ -506,7 +523,7 @@ public class ShaderProgram implements Disposable {
 	}
 
 	public void setUniform4fv (String name, float[] values, int offset, int length) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		ensureBufferCapacity(length << 2);
@@ -516,7 +533,7 @@ public class ShaderProgram implements Disposable {
 	}
 	
 	public void setUniform4fv (int location, float[] values, int offset, int length) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		ensureBufferCapacity(length << 2);
 		floatBuffer.clear();
@@ -540,7 +557,7 @@ public class ShaderProgram implements Disposable {
 	 * @param matrix the matrix
 	 * @param transpose whether the matrix shouls be transposed */
 	public void setUniformMatrix (String name, Matrix4 matrix, boolean transpose) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		this.matrix.clear();
@@ -553,7 +570,7 @@ public class ShaderProgram implements Disposable {
 	}
 	
 	public void setUniformMatrix (int location, Matrix4 matrix, boolean transpose) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		this.matrix.clear();
 		BufferUtils.copy(matrix.val, this.matrix, matrix.val.length, 0);
@@ -576,7 +593,7 @@ public class ShaderProgram implements Disposable {
 	 * @param matrix the matrix
 	 * @param transpose whether the uniform matrix should be transposed */
 	public void setUniformMatrix (String name, Matrix3 matrix, boolean transpose) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchUniformLocation(name);
 		float[] vals = matrix.getValues();
@@ -590,7 +607,7 @@ public class ShaderProgram implements Disposable {
 	}
 	
 	public void setUniformMatrix (int location, Matrix3 matrix, boolean transpose) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		float[] vals = matrix.getValues();
 		this.matrix.clear();
@@ -605,7 +622,7 @@ public class ShaderProgram implements Disposable {
 	 * @param buffer buffer containing the matrix data
 	 * @param transpose whether the uniform matrix should be transposed */
 	public void setUniformMatrix4fv (String name, FloatBuffer buffer, int count, boolean transpose) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		buffer.position(0);
 		int location = fetchUniformLocation(name);
@@ -662,7 +679,7 @@ public class ShaderProgram implements Disposable {
 	 * @param stride the stride in bytes between successive attributes
 	 * @param buffer the buffer containing the vertex attributes. */
 	public void setVertexAttribute (String name, int size, int type, boolean normalize, int stride, Buffer buffer) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchAttributeLocation(name);
 		if (location == -1) return;
@@ -670,7 +687,7 @@ public class ShaderProgram implements Disposable {
 	}
 
 	public void setVertexAttribute (int location, int size, int type, boolean normalize, int stride, Buffer buffer) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glVertexAttribPointer(location, size, type, normalize, stride, buffer);
 	}
@@ -686,7 +703,7 @@ public class ShaderProgram implements Disposable {
 	 * @param stride the stride in bytes between successive attributes
 	 * @param offset byte offset into the vertex buffer object bound to GL20.GL_ARRAY_BUFFER. */
 	public void setVertexAttribute (String name, int size, int type, boolean normalize, int stride, int offset) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchAttributeLocation(name);
 		if (location == -1) return;
@@ -694,7 +711,7 @@ public class ShaderProgram implements Disposable {
 	}
 	
 	public void setVertexAttribute (int location, int size, int type, boolean normalize, int stride, int offset) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glVertexAttribPointer(location, size, type, normalize, stride, offset);
 	}
@@ -702,7 +719,7 @@ public class ShaderProgram implements Disposable {
 	/** Makes OpenGL ES 2.0 use this vertex and fragment shader pair. When you are done with this shader you have to call
 	 * {@link ShaderProgram#end()}. */
 	public void begin () {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glUseProgram(program);
 	}
@@ -710,13 +727,13 @@ public class ShaderProgram implements Disposable {
 	/** Disables this shader. Must be called when one is done with the shader. Don't mix it with dispose, that will release the
 	 * shader resources. */
 	public void end () {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		gl.glUseProgram(0);
 	}
 
 	/** Disposes all resources associated with this shader. Must be called when the shader is no longer used. */
 	public void dispose () {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		gl.glUseProgram(0);
 		gl.glDeleteShader(vertexShaderHandle);
 		gl.glDeleteShader(fragmentShaderHandle);
@@ -728,7 +745,7 @@ public class ShaderProgram implements Disposable {
 	 * 
 	 * @param name the vertex attribute name */
 	public void disableVertexAttribute (String name) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchAttributeLocation(name);
 		if (location == -1) return;
@@ -736,7 +753,7 @@ public class ShaderProgram implements Disposable {
 	}
 	
 	public void disableVertexAttribute (int location) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glDisableVertexAttribArray(location);
 	}
@@ -745,7 +762,7 @@ public class ShaderProgram implements Disposable {
 	 * 
 	 * @param name the vertex attribute name */
 	public void enableVertexAttribute (String name) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		int location = fetchAttributeLocation(name);
 		if (location == -1) return;
@@ -753,7 +770,7 @@ public class ShaderProgram implements Disposable {
 	}
 	
 	public void enableVertexAttribute (int location) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		checkManaged();
 		gl.glEnableVertexAttribArray(location);
 	}
@@ -762,6 +779,11 @@ public class ShaderProgram implements Disposable {
 		if (invalidated) {
 			compileShaders(vertexShaderSource, fragmentShaderSource);
 			invalidated = false;
+			// The new program has its own locations and values.
+			for (Uniform uniform : uniformHandles.values()) {
+				uniform.location = Gdx.gl20.glGetUniformLocation(program, uniform.name);
+				uniform.kind = 0;
+			}
 		}
 	}
 
@@ -775,7 +797,7 @@ public class ShaderProgram implements Disposable {
 	/** Invalidates all shaders so the next time they are used new handles are generated
 	 * @param app */
 	public static void invalidateAllShaderPrograms (Application app) {
-		if (Gdx.graphics.getGL20() == null) return;
+		if (Gdx.gl20 == null) return;
 
 		List<ShaderProgram> shaderList = shaders.get(app);
 		if (shaderList == null) return;
@@ -810,7 +832,7 @@ public class ShaderProgram implements Disposable {
 	 * @param value3 the third value
 	 * @param value4 the fourth value */
 	public void setAttributef (String name, float value1, float value2, float value3, float value4) {
-		GL20 gl = Gdx.graphics.getGL20();
+		GL20 gl = Gdx.gl20;
 		int location = fetchAttributeLocation(name);
 		gl.glVertexAttrib4f(location, value1, value2, value3, value4);
 	}
@@ -947,4 +969,148 @@ public class ShaderProgram implements Disposable {
 	public String[] getUniforms () {
 		return uniformNames;
 	}
+
+	/** A uniform of a {@link ShaderProgram}, see {@link ShaderProgram#getUniform(String)}. Setting a value does not look up the
+	 * uniform by name and does nothing if the value is the same as the last one set through this handle. Values set through the
+	 * setUniform methods of the ShaderProgram are not known to the handle, so a uniform should either always or never be set through
+	 * its handle. Like the setUniform methods, the set methods must be called between {@link ShaderProgram#begin()} and
+	 * {@link ShaderProgram#end()}. */
+	static public class Uniform {
+		static private final int INT1 = 1, INT2 = 2, INT3 = 3, INT4 = 4, FLOAT1 = 5, FLOAT2 = 6, FLOAT3 = 7, FLOAT4 = 8;
+		static private final int MATRIX3 = 9, MATRIX3_TRANSPOSED = 10, MATRIX4 = 11, MATRIX4_TRANSPOSED = 12;
+
+		final ShaderProgram program;
+		final String name;
+		int location;
+		/** The kind of the last value set, 0 if unknown. */
+		int kind;
+		/** The last value set, as int bits. */
+		private final int[] values = new int[16];
+
+		Uniform (ShaderProgram program, String name, int location) {
+			this.program = program;
+			this.name = name;
+			this.location = location;
+		}
+
+		public String getName () {
+			return name;
+		}
+
+		/** @return the location of the uniform, or -1 if it does not exist. */
+		public int getLocation () {
+			return location;
+		}
+
+		/** Forgets the last value, so the next value is always set. Call this if the uniform was set without using this handle. */
+		public void invalidate () {
+			kind = 0;
+		}
+
+		/** Returns true and stores the value if it differs from the last value. */
+		private boolean changed (int kind, int value1, int value2, int value3, int value4) {
+			program.checkManaged();
+			int[] values = this.values;
+			if (this.kind == kind && values[0] == value1 && values[1] == value2 && values[2] == value3 && values[3] == value4)
+				return false;
+			this.kind = kind;
+			values[0] = value1;
+			values[1] = value2;
+			values[2] = value3;
+			values[3] = value4;
+			return true;
+		}
+
+		private boolean changed (int kind, float[] matrix, int count) {
+			program.checkManaged();
+			int[] values = this.values;
+			boolean changed = this.kind != kind;
+			for (int i = 0; i < count; i++) {
+				int value = NumberUtils.floatToRawIntBits(matrix[i]);
+				if (values[i] != value) {
+					values[i] = value;
+					changed = true;
+				}
+			}
+			this.kind = kind;
+			return changed;
+		}
+
+		public void set (int value) {
+			if (changed(INT1, value, 0, 0, 0)) Gdx.gl20.glUniform1i(location, value);
+		}
+
+		public void set (int value1, int value2) {
+			if (changed(INT2, value1, value2, 0, 0)) Gdx.gl20.glUniform2i(location, value1, value2);
+		}
+
+		public void set (int value1, int value2, int value3) {
+			if (changed(INT3, value1, value2, value3, 0)) Gdx.gl20.glUniform3i(location, value1, value2, value3);
+		}
+
+		public void set (int value1, int value2, int value3, int value4) {
+			if (changed(INT4, value1, value2, value3, value4)) Gdx.gl20.glUniform4i(location, value1, value2, value3, value4);
+		}
+
+		public void set (float value) {
+			if (changed(FLOAT1, NumberUtils.floatToRawIntBits(value), 0, 0, 0)) Gdx.gl20.glUniform1f(location, value);
+		}
+
+		public void set (float value1, float value2) {
+			if (changed(FLOAT2, NumberUtils.floatToRawIntBits(value1), NumberUtils.floatToRawIntBits(value2), 0, 0))
+				Gdx.gl20.glUniform2f(location, value1, value2);
+		}
+
+		public void set (float value1, float value2, float value3) {
+			if (changed(FLOAT3, NumberUtils.floatToRawIntBits(value1), NumberUtils.floatToRawIntBits(value2),
+				NumberUtils.floatToRawIntBits(value3), 0)) Gdx.gl20.glUniform3f(location, value1, value2, value3);
+		}
+
+		public void set (float value1, float value2, float value3, float value4) {
+			if (changed(FLOAT4, NumberUtils.floatToRawIntBits(value1), NumberUtils.floatToRawIntBits(value2),
+				NumberUtils.floatToRawIntBits(value3), NumberUtils.floatToRawIntBits(value4)))
+				Gdx.gl20.glUniform4f(location, value1, value2, value3, value4);
+		}
+
+		public void set (Vector2 values) {
+			set(values.x, values.y);
+		}
+
+		public void set (Vector3 values) {
+			set(values.x, values.y, values.z);
+		}
+
+		public void set (Color values) {
+			set(values.r, values.g, values.b, values.a);
+		}
+
+		public void set (Matrix3 matrix) {
+			set(matrix, false);
+		}
+
+		public void set (Matrix3 matrix, boolean transpose) {
+			float[] values = matrix.getValues();
+			if (!changed(transpose ? MATRIX3_TRANSPOSED : MATRIX3, values, 9)) return;
+			FloatBuffer buffer = program.matrix;
+			buffer.clear();
+			BufferUtils.copy(values, buffer, values.length, 0);
+			Gdx.gl20.glUniformMatrix3fv(location, 1, transpose, buffer);
+		}
+
+		public void set (Matrix4 matrix) {
+			set(matrix, false);
+		}
+
+		public void set (Matrix4 matrix, boolean transpose) {
+			if (!changed(transpose ? MATRIX4_TRANSPOSED : MATRIX4, matrix.val, 16)) return;
+			FloatBuffer buffer = program.matrix;
+			buffer.clear();
+			BufferUtils.copy(matrix.val, buffer, matrix.val.length, 0);
+			Gdx.gl20.glUniformMatrix4fv(location, 1, transpose, buffer);
+		}
+
+		public String toString () {
+			return name;
+		}
+	}
 }
@@ -0,0 +1,318 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.graphics.glutils;
+
+import java.nio.ByteBuffer;
+import java.nio.FloatBuffer;
+import java.nio.IntBuffer;
+
+import com.badlogic.gdx.Gdx;
+import com.badlogic.gdx.graphics.GL10;
+import com.badlogic.gdx.graphics.GL11;
+import com.badlogic.gdx.graphics.GL20;
+import com.badlogic.gdx.graphics.Mesh;
+import com.badlogic.gdx.graphics.VertexAttribute;
+import com.badlogic.gdx.graphics.VertexAttributes;
+import com.badlogic.gdx.graphics.VertexAttributes.Usage;
+import com.badlogic.gdx.utils.BufferUtils;
+
+/** <p>
+ * A {@link VertexData} implementation for vertices that change every time they are rendered, like the batches of a sprite or
+ * shape renderer. Each upload is appended after the previous one in a vertex buffer object that can hold several batches, and the
+ * attribute pointers are set to where the vertices were written. When the buffer is full it is orphaned by calling glBufferData
+ * with no data, so the driver can hand out new memory instead of waiting for the GPU to finish drawing the old vertices. This
+ * avoids pipeline stalls without rotating through multiple {@link Mesh} instances.
+ * </p>
+ * 
+ * <p>
+ * If the OpenGL ES context was lost you can call {@link #invalidate()} to recreate a new OpenGL vertex buffer object. This class
+ * can be used with OpenGL ES 1.1 and 2.0.
+ * </p>
+ * 
+ * <p>
+ * VertexBufferObjectStreaming must be disposed via the {@link #dispose()} method when no longer needed
+ * </p> */
+public class VertexBufferObjectStreaming implements VertexData {
+	final static IntBuffer tmpHandle = BufferUtils.newIntBuffer(1);
+
+	final VertexAttributes attributes;
+	final FloatBuffer buffer;
+	final ByteBuffer byteBuffer;
+	final int capacity;
+	final int usage;
+	int bufferHandle;
+	/** Byte offset in the buffer object where the next upload is written. */
+	int writeOffset;
+	/** Byte offset in the buffer object of the last upload, which the attribute pointers point to. */
+	int drawOffset;
+	boolean isDirty = false;
+	boolean isBound = false;
+	boolean needsAllocation = true;
+	ShaderProgram boundShader;
+
+	/** Constructs a new interleaved VertexBufferObjectStreaming.
+	 * 
+	 * @param numVertices the maximum number of vertices per upload
+	 * @param batches the number of uploads of numVertices the buffer object can hold before it is orphaned
+	 * @param attributes the {@link VertexAttribute}s. */
+	public VertexBufferObjectStreaming (int numVertices, int batches, VertexAttribute... attributes) {
+		this(numVertices, batches, new VertexAttributes(attributes));
+	}
+
+	/** Constructs a new interleaved VertexBufferObjectStreaming.
+	 * 
+	 * @param numVertices the maximum number of vertices per upload
+	 * @param batches the number of uploads of numVertices the buffer object can hold before it is orphaned
+	 * @param attributes the {@link VertexAttributes}. */
+	public VertexBufferObjectStreaming (int numVertices, int batches, VertexAttributes attributes) {
+		if (batches < 1) throw new IllegalArgumentException("batches must be > 0: " + batches);
+		this.attributes = attributes;
+
+		byteBuffer = BufferUtils.newUnsafeByteBuffer(this.attributes.vertexSize * numVertices);
+		buffer = byteBuffer.asFloatBuffer();
+		buffer.flip();
+		byteBuffer.flip();
+		capacity = byteBuffer.capacity() * batches;
+		bufferHandle = createBufferObject();
+		usage = Gdx.gl20 != null ? GL20.GL_STREAM_DRAW : GL11.GL_DYNAMIC_DRAW;
+	}
+
+	private int createBufferObject () {
+		if (Gdx.gl20 != null)
+			Gdx.gl20.glGenBuffers(1, tmpHandle);
+		else
+			Gdx.gl11.glGenBuffers(1, tmpHandle);
+		return tmpHandle.get(0);
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public VertexAttributes getAttributes () {
+		return attributes;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public int getNumVertices () {
+		return buffer.limit() * 4 / attributes.vertexSize;
+	}
+
+	/** {@inheritDoc} */
+	public int getNumMaxVertices () {
+		return byteBuffer.capacity() / attributes.vertexSize;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public FloatBuffer getBuffer () {
+		isDirty = true;
+		return buffer;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void setVertices (float[] vertices, int offset, int count) {
+		isDirty = true;
+		BufferUtils.copy(vertices, byteBuffer, count, offset);
+		buffer.position(0);
+		buffer.limit(count);
+
+		if (isBound) {
+			// The vertices are written to a new offset, so the attribute pointers have to follow.
+			if (boundShader != null)
+				bind(boundShader);
+			else
+				bind();
+		}
+	}
+
+	/** Writes the vertices after the last upload, orphaning the buffer object if they don't fit. The buffer object must be bound. */
+	private void upload (GL11 gl11, GL20 gl20) {
+		int size = buffer.limit() * 4;
+		byteBuffer.limit(size);
+		if (needsAllocation || writeOffset + size > capacity) {
+			if (gl20 != null)
+				gl20.glBufferData(GL20.GL_ARRAY_BUFFER, capacity, null, usage);
+			else
+				gl11.glBufferData(GL11.GL_ARRAY_BUFFER, capacity, null, usage);
+			writeOffset = 0;
+			needsAllocation = false;
+		}
+		if (gl20 != null)
+			gl20.glBufferSubData(GL20.GL_ARRAY_BUFFER, writeOffset, size, byteBuffer);
+		else
+			gl11.glBufferSubData(GL11.GL_ARRAY_BUFFER, writeOffset, size, byteBuffer);
+		drawOffset = writeOffset;
+		// Keep the next upload at a vertex boundary.
+		int vertexSize = attributes.vertexSize;
+		writeOffset += (size + vertexSize - 1) / vertexSize * vertexSize;
+		isDirty = false;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void bind () {
+		GL11 gl = Gdx.gl11;
+
+		gl.glBindBuffer(GL11.GL_ARRAY_BUFFER, bufferHandle);
+		if (isDirty) upload(gl, null);
+
+		int textureUnit = 0;
+		int numAttributes = attributes.size();
+		int drawOffset = this.drawOffset;
+
+		for (int i = 0; i < numAttributes; i++) {
+			VertexAttribute attribute = attributes.get(i);
+
+			switch (attribute.usage) {
+			case Usage.Position:
+				gl.glEnableClientState(GL11.GL_VERTEX_ARRAY);
+				gl.glVertexPointer(attribute.numComponents, GL10.GL_FLOAT, attributes.vertexSize, drawOffset + attribute.offset);
+				break;
+
+			case Usage.Color:
+			case Usage.ColorPacked:
+				int colorType = GL10.GL_FLOAT;
+				if (attribute.usage == Usage.ColorPacked) colorType = GL11.GL_UNSIGNED_BYTE;
+
+				gl.glEnableClientState(GL10.GL_COLOR_ARRAY);
+				gl.glColorPointer(attribute.numComponents, colorType, attributes.vertexSize, drawOffset + attribute.offset);
+				break;
+
+			case Usage.Normal:
+				gl.glEnableClientState(GL10.GL_NORMAL_ARRAY);
+				gl.glNormalPointer(GL10.GL_FLOAT, attributes.vertexSize, drawOffset + attribute.offset);
+				break;
+
+			case Usage.TextureCoordinates:
+				gl.glClientActiveTexture(GL10.GL_TEXTURE0 + textureUnit);
+				gl.glEnableClientState(GL10.GL_TEXTURE_COORD_ARRAY);
+				gl.glTexCoordPointer(attribute.numComponents, GL10.GL_FLOAT, attributes.vertexSize, drawOffset + attribute.offset);
+				textureUnit++;
+				break;
+
+			default:
+				// throw new GdxRuntimeException("unkown vertex attribute type: " + attribute.usage);
+			}
+		}
+
+		isBound = true;
+		boundShader = null;
+	}
+
+	/** Binds this VertexBufferObjectStreaming for rendering via glDrawArrays or glDrawElements
+	 * 
+	 * @param shader the shader */
+	public void bind (ShaderProgram shader) {
+		GL20 gl = Gdx.gl20;
+
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, bufferHandle);
+		if (isDirty) upload(null, gl);
+
+		int numAttributes = attributes.size();
+		for (int i = 0; i < numAttributes; i++) {
+			VertexAttribute attribute = attributes.get(i);
+			shader.enableVertexAttribute(attribute.alias);
+			int colorType = GL20.GL_FLOAT;
+			boolean normalize = false;
+			if (attribute.usage == Usage.ColorPacked) {
+				colorType = GL20.GL_UNSIGNED_BYTE;
+				normalize = true;
+			}
+			shader.setVertexAttribute(attribute.alias, attribute.numComponents, colorType, normalize, attributes.vertexSize,
+				drawOffset + attribute.offset);
+		}
+		isBound = true;
+		boundShader = shader;
+	}
+
+	/** {@inheritDoc} */
+	@Override
+	public void unbind () {
+		GL11 gl = Gdx.gl11;
+		int textureUnit = 0;
+		int numAttributes = attributes.size();
+
+		for (int i = 0; i < numAttributes; i++) {
+
+			VertexAttribute attribute = attributes.get(i);
+			switch (attribute.usage) {
+			case Usage.Position:
+				break; // no-op, we also need a position bound in gles
+			case Usage.Color:
+			case Usage.ColorPacked:
+				gl.glDisableClientState(GL11.GL_COLOR_ARRAY);
+				break;
+			case Usage.Normal:
+				gl.glDisableClientState(GL11.GL_NORMAL_ARRAY);
+				break;
+			case Usage.TextureCoordinates:
+				gl.glClientActiveTexture(GL11.GL_TEXTURE0 + textureUnit);
+				gl.glDisableClientState(GL11.GL_TEXTURE_COORD_ARRAY);
+				textureUnit++;
+				break;
+			default:
+				// throw new GdxRuntimeException("unkown vertex attribute type: " + attribute.usage);
+			}
+		}
+
+		gl.glBindBuffer(GL11.GL_ARRAY_BUFFER, 0);
+		isBound = false;
+	}
+
+	/** Unbinds this VertexBufferObjectStreaming.
+	 * 
+	 * @param shader the shader */
+	public void unbind (ShaderProgram shader) {
+		GL20 gl = Gdx.gl20;
+		int numAttributes = attributes.size();
+		for (int i = 0; i < numAttributes; i++) {
+			VertexAttribute attribute = attributes.get(i);
+			shader.disableVertexAttribute(attribute.alias);
+		}
+		gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+		isBound = false;
+		boundShader = null;
+	}
+
+	/** Invalidates the VertexBufferObjectStreaming so a new OpenGL buffer handle is created. Use this in case of a context loss. */
+	public void invalidate () {
+		bufferHandle = createBufferObject();
+		needsAllocation = true;
+		isDirty = true;
+	}
+
+	/** Disposes of all resources this VertexBufferObjectStreaming uses. */
+	@Override
+	public void dispose () {
+		tmpHandle.clear();
+		tmpHandle.put(bufferHandle);
+		tmpHandle.flip();
+		if (Gdx.gl20 != null) {
+			GL20 gl = Gdx.gl20;
+			gl.glBindBuffer(GL20.GL_ARRAY_BUFFER, 0);
+			gl.glDeleteBuffers(1, tmpHandle);
+		} else {
+			GL11 gl = Gdx.gl11;
+			gl.glBindBuffer(GL11.GL_ARRAY_BUFFER, 0);
+			gl.glDeleteBuffers(1, tmpHandle);
+		}
+		bufferHandle = 0;
+		BufferUtils.disposeUnsafeByteBuffer(byteBuffer);
+	}
+}
@@ -4,9 +4,24 @@ import com.badlogic.gdx.maps.MapLayer;
 
 /**
  * @brief Layer for a TiledMap 
+ * 
+ * Cells are either stored as {@link Cell} objects or, for layers created with
+ * {@link #TiledMapTileLayer(int, int, int, int, TiledMapTileSets)}, packed into a single int array. The packed storage needs
+ * no object per cell, which matters for very large maps. Its data can be read with {@link #getCellData(int, int)},
+ * {@link #getTile(int, int)} and the other methods taking cell coordinates, none of which allocate.
  */
 public class TiledMapTileLayer extends MapLayer {
 
+	/** Bit of the cell data set when the tile is flipped horizontally */
+	public static final int FLIP_HORIZONTALLY = 0x80000000;
+	/** Bit of the cell data set when the tile is flipped vertically */
+	public static final int FLIP_VERTICALLY = 0x40000000;
+	/** Bits of the cell data holding the rotation, one of the Cell.ROTATE_XXX constants */
+	public static final int ROTATION_MASK = 0x30000000;
+	public static final int ROTATION_SHIFT = 28;
+	/** Bits of the cell data holding the tile id, 0 is an empty cell */
+	public static final int TILE_ID_MASK = 0x0fffffff;
+	
 	private int width;
 	private int height;
 	
@@ -15,6 +30,10 @@ public class TiledMapTileLayer extends MapLayer {
 	
 	private Cell[][] cells;
 	
+	private int[] cellData;
+	private TiledMapTileSets tileSets;
+	private Cell packedCell;
+	
 	/**
 	 * @return layer's width in tiles
 	 */
@@ -60,9 +79,141 @@ public class TiledMapTileLayer extends MapLayer {
 		this.cells = new Cell[width][height];
 	}
 	
+	/**
+	 * Creates TiledMap layer which packs the tile id, flip and rotation of each cell into an int instead of keeping
+	 * {@link Cell} objects, see {@link #getCellData()}. Tiles are looked up by id in the tilesets, so every tile used by the
+	 * layer must be in them.
+	 * 
+	 * @param width layer width in tiles
+	 * @param height layer height in tiles
+	 * @param tileWidth tile width in pixels
+	 * @param tileHeight tile height in pixels 
+	 * @param tileSets tilesets the tile ids refer to, usually the map's
+	 */
+	public TiledMapTileLayer(int width, int height, int tileWidth, int tileHeight, TiledMapTileSets tileSets) {
+		this(width, height, tileWidth, tileHeight, tileSets, new int[width * height]);
+	}
+	
+	/**
+	 * Creates a packed TiledMap layer which uses the given array for its cells, without copying it, see
+	 * {@link #TiledMapTileLayer(int, int, int, int, TiledMapTileSets)}.
+	 * 
+	 * @param width layer width in tiles
+	 * @param height layer height in tiles
+	 * @param tileWidth tile width in pixels
+	 * @param tileHeight tile height in pixels 
+	 * @param tileSets tilesets the tile ids refer to, usually the map's
+	 * @param cellData the packed cells in row-major order, at least width * height long, see {@link #getCellData()}
+	 */
+	public TiledMapTileLayer(int width, int height, int tileWidth, int tileHeight, TiledMapTileSets tileSets, int[] cellData) {
+		super();
+		if (cellData.length < width * height)
+			throw new IllegalArgumentException("cellData must have at least width * height entries: " + cellData.length);
+		this.width = width;
+		this.height = height;
+		this.tileWidth = tileWidth;
+		this.tileHeight = tileHeight;
+		this.tileSets = tileSets;
+		this.cellData = cellData;
+	}
+	
+	/**
+	 * @return whether the cells are packed into {@link #getCellData()} instead of being stored as {@link Cell} objects
+	 */
+	public boolean isPacked() {
+		return cellData != null;
+	}
+	
+	/**
+	 * @return the packed cells in row-major order, the cell (x, y) is at index y * width + x. Null if the layer stores
+	 * {@link Cell} objects. Changes to the array are reflected by the layer.
+	 */
+	public int[] getCellData() {
+		return cellData;
+	}
+	
+	/**
+	 * @return the tile id, flip and rotation of the cell packed into an int, see {@link #packCellData(int, boolean, boolean, int)}.
+	 * 0 for empty cells and cells outside the bounds of the map.
+	 */
+	public int getCellData(int x, int y) {
+		if(x < 0 || x >= width) return 0;
+		if(y < 0 || y >= height) return 0;
+		if (cellData != null) return cellData[y * width + x];
+		final Cell cell = cells[x][y];
+		if (cell == null || cell.getTile() == null) return 0;
+		return packCellData(cell.getTile().getId(), cell.getFlipHorizontally(), cell.getFlipVertically(), cell.getRotation());
+	}
+	
+	/**
+	 * Sets the packed tile id, flip and rotation of the cell, see {@link #packCellData(int, boolean, boolean, int)}.
+	 * Does nothing if the cell is outside the bounds of the map.
+	 * 
+	 * @throws IllegalStateException if the layer is not packed
+	 */
+	public void setCellData(int x, int y, int data) {
+		if (cellData == null) throw new IllegalStateException("Layer is not packed, use setCell.");
+		if(x < 0 || x >= width) return;
+		if(y < 0 || y >= height) return;
+		cellData[y * width + x] = data;
+	}
+	
+	/**
+	 * @return the tile of the cell, null for empty cells and cells outside the bounds of the map
+	 */
+	public TiledMapTile getTile(int x, int y) {
+		if (cellData != null) {
+			final int id = getCellData(x, y) & TILE_ID_MASK;
+			return id == 0 ? null : tileSets.getTile(id);
+		}
+		final Cell cell = getCell(x, y);
+		return cell == null ? null : cell.getTile();
+	}
+	
+	/**
+	 * @return the id of the cell's tile, 0 for empty cells and cells outside the bounds of the map
+	 */
+	public int getTileId(int x, int y) {
+		return getCellData(x, y) & TILE_ID_MASK;
+	}
+	
+	/**
+	 * @return whether the cell's tile is flipped horizontally
+	 */
+	public boolean getFlipHorizontally(int x, int y) {
+		return (getCellData(x, y) & FLIP_HORIZONTALLY) != 0;
+	}
+	
+	/**
+	 * @return whether the cell's tile is flipped vertically
+	 */
+	public boolean getFlipVertically(int x, int y) {
+		return (getCellData(x, y) & FLIP_VERTICALLY) != 0;
+	}
+	
+	/**
+	 * @return the rotation of the cell's tile, one of the Cell.ROTATE_XXX constants
+	 */
+	public int getRotation(int x, int y) {
+		return (getCellData(x, y) & ROTATION_MASK) >>> ROTATION_SHIFT;
+	}
+	
+	/**
+	 * @param tileId id of the tile, at most {@link #TILE_ID_MASK}, 0 for an empty cell
+	 * @param rotation one of the Cell.ROTATE_XXX constants
+	 * @return the cell packed into an int as stored by packed layers
+	 */
+	public static int packCellData(int tileId, boolean flipHorizontally, boolean flipVertically, int rotation) {
+		int data = tileId & TILE_ID_MASK | (rotation & 3) << ROTATION_SHIFT;
+		if (flipHorizontally) data |= FLIP_HORIZONTALLY;
+		if (flipVertically) data |= FLIP_VERTICALLY;
+		return data;
+	}
+	
 	/**
      * Gets the {@link Cell} at the given coordinates.
      * Returns null if the cell is outside the bounds of the map.
+     * For packed layers the same Cell instance is returned by every call, changes to it are not stored in the layer.
 	 * @param x 0-based X coordinate of the cell in the map.
 	 * @param y 0-based Y coordinate of the cell in the map.
 	 * @return cell at (x, y)
@@ -70,12 +221,24 @@ public class TiledMapTileLayer extends MapLayer {
 	public Cell getCell(int x, int y) {
 		if(x < 0 || x >= width) return null;
 		if(y < 0 || y >= height) return null;
+		if (cellData != null) {
+			final int data = cellData[y * width + x];
+			if (data == 0) return null;
+			if (packedCell == null) packedCell = new Cell();
+			final Cell cell = packedCell;
+			cell.setTile(tileSets.getTile(data & TILE_ID_MASK));
+			cell.setFlipHorizontally((data & FLIP_HORIZONTALLY) != 0);
+			cell.setFlipVertically((data & FLIP_VERTICALLY) != 0);
+			cell.setRotation((data & ROTATION_MASK) >>> ROTATION_SHIFT);
+			return cell;
+		}
 		return cells[x][y];
 	}
 	
 	/**
 	 * Sets the {@link Cell} at the given coordinates.
 	 * Does nothing if the cell is outside the bounds of the map.
+     * For packed layers the cell's tile id, flip and rotation are stored, the tile must be in the layer's tilesets.
      * @param x 0-based X coordinate of the cell in the map.
      * @param y 0-based Y coordinate of the cell in the map.
 	 * @param cell
@@ -83,6 +246,12 @@ public class TiledMapTileLayer extends MapLayer {
 	public void setCell(int x, int y, Cell cell) {
 		if(x < 0 || x >= width) return;
 		if(y < 0 || y >= height) return;
+		if (cellData != null) {
+			final TiledMapTile tile = cell == null ? null : cell.getTile();
+			cellData[y * width + x] = tile == null ? 0 : packCellData(tile.getId(), cell.getFlipHorizontally(),
+				cell.getFlipVertically(), cell.getRotation());
+			return;
+		}
 		cells[x][y] = cell;
 	}
 	
@@ -67,8 +67,8 @@ public class TiledMapTileSets implements Iterable<TiledMapTileSet> {
 	 * @return tile with matching id, null if it doesn't exist
 	 */
 	public TiledMapTile getTile(int id) {
-		for (TiledMapTileSet tileset : tilesets) {
-			TiledMapTile tile = tileset.getTile(id);
+		for (int i = 0, n = tilesets.size; i < n; i++) {
+			TiledMapTile tile = tilesets.get(i).getTile(id);
 			if (tile != null) {
 				return tile;
 			}
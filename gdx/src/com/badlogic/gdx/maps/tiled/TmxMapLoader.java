@@ -1,11 +1,11 @@
 package com.badlogic.gdx.maps.tiled;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.util.StringTokenizer;
-import java.util.zip.DataFormatException;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import com.badlogic.gdx.assets.AssetDescriptor;
 import com.badlogic.gdx.assets.AssetLoaderParameters;
@@ -37,7 +37,6 @@ import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Polygon;
 import com.badlogic.gdx.math.Polyline;
 import com.badlogic.gdx.utils.Array;
-import com.badlogic.gdx.utils.Base64Coder;
 import com.badlogic.gdx.utils.GdxRuntimeException;
 import com.badlogic.gdx.utils.ObjectMap;
 import com.badlogic.gdx.utils.XmlReader;
@@ -188,6 +187,9 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		public TextureFilter textureMinFilter = TextureFilter.Nearest;
 		/** The TextureFilter to use for magnification **/
 		public TextureFilter textureMagFilter = TextureFilter.Nearest;
+		/** Whether tile layers store their cells packed in an int[] instead of one Cell object per tile, see
+		 * {@link TiledMapTileLayer#TiledMapTileLayer(int, int, int, int, TiledMapTileSets)} **/
+		public boolean packedLayers = false;
 	}
 
     // Flags as bits in 'gid' value of cells:
@@ -206,10 +208,15 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 	protected static final String PROPERTY_WIDTH  = "width";
 	protected static final String PROPERTY_HEIGHT = "height";
 
-	protected XmlReader        xml                    = new XmlReader();
+	protected XmlReader        xml                    = new LayerDataReader();
 	/** The root node of the .TMX (XML) file.     */
 	protected Element          root;
 	protected boolean          yUp;
+	protected boolean          packedLayers;
+
+	/** The gids decoded by the {@link LayerDataReader} for each 'layer' tag of the map, in document order. */
+	private final Array<int[]> decodedLayers = new Array<int[]>();
+	private final byte[]       buffer                 = new byte[4096];
 
 	/** The total width of the map in pixels. Assigned in loadTileMap
 	 * and can be used in loadTileLayer, loadObjectGroup and loadObject.
@@ -258,6 +265,7 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 	public TiledMap load (String fileName, TmxMapLoader.Parameters parameters) {
 		try {
 			this.yUp = parameters.yUp;
+			this.packedLayers = parameters.packedLayers;
 			FileHandle tmxFile = resolve(fileName);
 			root = xml.parse(tmxFile);               // open the file
 			ObjectMap<String, Texture> textures = new ObjectMap<String, Texture>();
@@ -272,6 +280,9 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 			return map;
 		} catch (IOException e) {
 			throw new GdxRuntimeException("Couldn't load tilemap '" + fileName + "'", e);
+		} finally {
+			root = null;
+			decodedLayers.clear();
 		}
 	}
 
@@ -282,13 +293,18 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		FileHandle tmxFile = resolve(fileName);
 		if (parameter != null) {
 			yUp = parameter.yUp;
+			packedLayers = parameter.packedLayers;
 		} else {
 			yUp = true;
+			packedLayers = false;
 		}
 		try {
 			map = loadTilemap(root, tmxFile, new AssetManagerImageResolver(manager));
 		} catch (Exception e) {
 			throw new GdxRuntimeException("Couldn't load tilemap '" + fileName + "'", e);
+		} finally {
+			root = null;
+			decodedLayers.clear();
 		}
 	}
 
@@ -558,11 +574,6 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 			int tileHeight = element.getParent().getIntAttribute("tileheight", 0);
 			boolean visible = element.getIntAttribute("visible", 1) == 1;
 			float opacity = element.getFloatAttribute("opacity", 1.0f);
-			TiledMapTileLayer layer = new TiledMapTileLayer(width, height, tileWidth, tileHeight);
-			layer.setVisible(visible);
-			layer.setOpacity(opacity);
-			layer.setName(name);
-
 			TiledMapTileSets tilesets = map.getTileSets();
 
 			Element data = element.getChildByName("data");
@@ -572,194 +583,49 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 				// no 'encoding' attribute means that the encoding is XML
 				throw new GdxRuntimeException("Unsupported encoding (XML) for TMX Layer Data");
 			}
-			if (encoding.equals("csv")) {
-				String[] array = data.getText().split(",");
-				for (int y = 0; y < height; y++) {
+
+			// The gids were decoded while parsing if the XmlReader is a LayerDataReader, otherwise they are decoded from the text.
+			int[] gids = takeDecodedLayer(element);
+			if (gids == null) {
+				gids = new int[width * height];
+				String text = data.getText();
+				if (text != null) {
+					char[] chars = text.toCharArray();
+					decodeLayerData(encoding, compression, chars, 0, chars.length, gids);
+				}
+			}
+
+			TiledMapTileLayer layer;
+			if (packedLayers) {
+				// The gids are converted in place and the array becomes the layer's cell data.
+				for (int y = 0, n = yUp ? (height + 1) / 2 : height; y < n; y++) {
+					int row = y * width, otherRow = yUp ? (height - 1 - y) * width : row;
 					for (int x = 0; x < width; x++) {
-						int id = (int)Long.parseLong(array[y * width + x].trim());
-
-						final boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-						final boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-						final boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
-
-						id = id & ~MASK_CLEAR;
-
-						tilesets.getTile(id);
-						TiledMapTile tile = tilesets.getTile(id);
-						if (tile != null) {
-							Cell cell = new Cell();
-							if (flipDiagonally) {
-								if (flipHorizontally && flipVertically) {
-									cell.setFlipHorizontally(true);
-									cell.setRotation(Cell.ROTATE_270);
-								} else if (flipHorizontally) {
-									cell.setRotation(Cell.ROTATE_270);
-								} else if (flipVertically) {
-									cell.setRotation(Cell.ROTATE_90);
-								} else {
-									cell.setFlipVertically(true);
-									cell.setRotation(Cell.ROTATE_270);
-								}
-							} else {
-								cell.setFlipHorizontally(flipHorizontally);
-								cell.setFlipVertically(flipVertically);
-							}
-							cell.setTile(tile);
-							layer.setCell(x, yUp ? height - 1 - y : y, cell);
-						}
+						int cellData = toCellData(gids[row + x], tilesets);
+						gids[row + x] = toCellData(gids[otherRow + x], tilesets);
+						gids[otherRow + x] = cellData;
 					}
 				}
+				layer = new TiledMapTileLayer(width, height, tileWidth, tileHeight, tilesets, gids);
 			} else {
-				if (encoding.equals("base64")) {
-					byte[] bytes = Base64Coder.decode(data.getText());
-					if (compression == null) {
-						int read = 0;
-						for (int y = 0; y < height; y++) {
-							for (int x = 0; x < width; x++) {
-
-								int id = unsignedByteToInt(bytes[read++]) | unsignedByteToInt(bytes[read++]) << 8
-									| unsignedByteToInt(bytes[read++]) << 16 | unsignedByteToInt(bytes[read++]) << 24;
-
-								final boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-								final boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-								final boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
-
-								id = id & ~MASK_CLEAR;
-
-								tilesets.getTile(id);
-								TiledMapTile tile = tilesets.getTile(id);
-								if (tile != null) {
-									Cell cell = new Cell();
-									if (flipDiagonally) {
-										if (flipHorizontally && flipVertically) {
-											cell.setFlipHorizontally(true);
-											cell.setRotation(Cell.ROTATE_270);
-										} else if (flipHorizontally) {
-											cell.setRotation(Cell.ROTATE_270);
-										} else if (flipVertically) {
-											cell.setRotation(Cell.ROTATE_90);
-										} else {
-											cell.setFlipVertically(true);
-											cell.setRotation(Cell.ROTATE_270);
-										}
-									} else {
-										cell.setFlipHorizontally(flipHorizontally);
-										cell.setFlipVertically(flipVertically);
-									}
-									cell.setTile(tile);
-									layer.setCell(x, yUp ? height - 1 - y : y, cell);
-								}
-							}
-						}
-					} else if (compression.equals("gzip")) {
-						GZIPInputStream GZIS = null;
-						try {
-							GZIS = new GZIPInputStream(new ByteArrayInputStream(bytes), bytes.length);
-						} catch (IOException e) {
-							throw new GdxRuntimeException("Error Reading TMX Layer Data - IOException: " + e.getMessage(), e);
-						}
-
-						byte[] temp = new byte[4];
-						for (int y = 0; y < height; y++) {
-							for (int x = 0; x < width; x++) {
-								try {
-									GZIS.read(temp, 0, 4);
-									int id = unsignedByteToInt(temp[0]) | unsignedByteToInt(temp[1]) << 8
-										| unsignedByteToInt(temp[2]) << 16 | unsignedByteToInt(temp[3]) << 24;
-
-									final boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-									final boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-									final boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
-
-									id = id & ~MASK_CLEAR;
-
-									tilesets.getTile(id);
-									TiledMapTile tile = tilesets.getTile(id);
-									if (tile != null) {
-										Cell cell = new Cell();
-										if (flipDiagonally) {
-											if (flipHorizontally && flipVertically) {
-												cell.setFlipHorizontally(true);
-												cell.setRotation(Cell.ROTATE_270);
-											} else if (flipHorizontally) {
-												cell.setRotation(Cell.ROTATE_270);
-											} else if (flipVertically) {
-												cell.setRotation(Cell.ROTATE_90);
-											} else {
-												cell.setFlipVertically(true);
-												cell.setRotation(Cell.ROTATE_270);
-											}
-										} else {
-											cell.setFlipHorizontally(flipHorizontally);
-											cell.setFlipVertically(flipVertically);
-										}
-										cell.setTile(tile);
-										layer.setCell(x, yUp ? height - 1 - y : y, cell);
-									}
-								} catch (IOException e) {
-									throw new GdxRuntimeException("Error Reading TMX Layer Data", e);
-								}
-							}
-						}
-					} else if (compression.equals("zlib")) {
-						Inflater zlib = new Inflater();
-
-						byte[] temp = new byte[4];
-
-						zlib.setInput(bytes, 0, bytes.length);
-
-						for (int y = 0; y < height; y++) {
-							for (int x = 0; x < width; x++) {
-								try {
-									zlib.inflate(temp, 0, 4);
-									int id =
-										unsignedByteToInt(temp[0]) |
-										unsignedByteToInt(temp[1]) << 8 |
-										unsignedByteToInt(temp[2]) << 16 |
-										unsignedByteToInt(temp[3]) << 24;
-
-									final boolean flipHorizontally = ((id & FLAG_FLIP_HORIZONTALLY) != 0);
-									final boolean flipVertically = ((id & FLAG_FLIP_VERTICALLY) != 0);
-									final boolean flipDiagonally = ((id & FLAG_FLIP_DIAGONALLY) != 0);
-
-									id = id & ~MASK_CLEAR;
-
-									tilesets.getTile(id);
-									TiledMapTile tile = tilesets.getTile(id);
-									if (tile != null) {
-										Cell cell = new Cell();
-										if (flipDiagonally) {
-											if (flipHorizontally && flipVertically) {
-												cell.setFlipHorizontally(true);
-												cell.setRotation(Cell.ROTATE_270);
-											} else if (flipHorizontally) {
-												cell.setRotation(Cell.ROTATE_270);
-											} else if (flipVertically) {
-												cell.setRotation(Cell.ROTATE_90);
-											} else {
-												cell.setFlipVertically(true);
-												cell.setRotation(Cell.ROTATE_270);
-											}
-										} else {
-											cell.setFlipHorizontally(flipHorizontally);
-											cell.setFlipVertically(flipVertically);
-										}
-										cell.setTile(tile);
-										layer.setCell(x, yUp ? height - 1 - y : y, cell);
-									}
-								} catch (DataFormatException e) {
-									throw new GdxRuntimeException("Error Reading TMX Layer Data",
-										e);
-								}
-							}
-						}
+				layer = new TiledMapTileLayer(width, height, tileWidth, tileHeight);
+				for (int y = 0; y < height; y++) {
+					for (int x = 0; x < width; x++) {
+						int cellData = toCellData(gids[y * width + x], tilesets);
+						if (cellData == 0) continue;
+						Cell cell = new Cell();
+						cell.setTile(tilesets.getTile(cellData & TiledMapTileLayer.TILE_ID_MASK));
+						cell.setFlipHorizontally((cellData & TiledMapTileLayer.FLIP_HORIZONTALLY) != 0);
+						cell.setFlipVertically((cellData & TiledMapTileLayer.FLIP_VERTICALLY) != 0);
+						cell.setRotation((cellData & TiledMapTileLayer.ROTATION_MASK) >>> TiledMapTileLayer.ROTATION_SHIFT);
+						layer.setCell(x, yUp ? height - 1 - y : y, cell);
 					}
-				} else {   // any other value of 'encoding' is one we're not aware of, probably a feature of a future version of Tiled or
-						   // another editor
-					throw new GdxRuntimeException("Unrecognised encoding (" + encoding
-					                              + ") for TMX Layer Data");
 				}
 			}
+			layer.setVisible(visible);
+			layer.setOpacity(opacity);
+			layer.setName(name);
+
 			Element properties = element.getChildByName("properties");
 			if (properties != null) {
 				loadProperties(layer.getProperties(), properties);
@@ -768,6 +634,130 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		}
 	}
 
+	/**
+	 * Converts a gid from the layer data to the packed cell data of {@link TiledMapTileLayer}, turning the diagonal flip into
+	 * a rotation.
+	 * 
+	 * @return the cell data, 0 if the tile is not in the tilesets.
+	 */
+	protected static int toCellData (int gid, TiledMapTileSets tilesets) {
+		boolean flipHorizontally = ((gid & FLAG_FLIP_HORIZONTALLY) != 0);
+		boolean flipVertically = ((gid & FLAG_FLIP_VERTICALLY) != 0);
+		final boolean flipDiagonally = ((gid & FLAG_FLIP_DIAGONALLY) != 0);
+
+		int id = gid & ~MASK_CLEAR;
+		if (id == 0 || tilesets.getTile(id) == null) return 0;
+
+		int rotation = Cell.ROTATE_0;
+		if (flipDiagonally) {
+			if (flipHorizontally && flipVertically) {
+				flipVertically = false;
+				rotation = Cell.ROTATE_270;
+			} else if (flipHorizontally) {
+				flipHorizontally = false;
+				rotation = Cell.ROTATE_270;
+			} else if (flipVertically) {
+				flipVertically = false;
+				rotation = Cell.ROTATE_90;
+			} else {
+				flipVertically = true;
+				rotation = Cell.ROTATE_270;
+			}
+		}
+		return TiledMapTileLayer.packCellData(id, flipHorizontally, flipVertically, rotation);
+	}
+
+	/**
+	 * Returns the gids the {@link LayerDataReader} decoded for the 'layer' tag and releases them, or null if they were not
+	 * decoded while parsing. The tag is found by its position among the 'layer' tags of its parent.
+	 */
+	private int[] takeDecodedLayer (Element layer) {
+		Element parent = layer.getParent();
+		if (parent == null || parent.getParent() != null) return null;
+		int index = 0;
+		for (int i = 0, n = parent.getChildCount(); i < n; i++) {
+			Element child = parent.getChild(i);
+			if (child == layer) break;
+			if (child.getName().equals("layer")) index++;
+		}
+		if (index >= decodedLayers.size) return null;
+		int[] gids = decodedLayers.get(index);
+		decodedLayers.set(index, null);
+		return gids;
+	}
+
+	/**
+	 * Decodes the text of a layer's 'data' tag into global tile ids, including the flip flags.
+	 * Base64 data is decoded and inflated in small chunks, so no copy of the whole layer
+	 * data is made besides the gids.
+	 * 
+	 * @param encoding the 'encoding' attribute, "csv" or "base64".
+	 * @param compression the 'compression' attribute, null, "gzip" or "zlib".
+	 * @param data the characters of the tag's text.
+	 * @param gids receives the gids of the layer, in rows from the top.
+	 */
+	protected void decodeLayerData (String encoding, String compression, char[] data, int offset, int length, int[] gids) {
+		if (encoding.equals("csv")) {
+			long value = 0;
+			boolean hasValue = false;
+			int index = 0;
+			for (int i = offset, n = offset + length; i < n && index < gids.length; i++) {
+				char c = data[i];
+				if (c >= '0' && c <= '9') {
+					value = value * 10 + (c - '0');
+					hasValue = true;
+				} else if (c == ',') {
+					gids[index++] = (int)value;
+					value = 0;
+					hasValue = false;
+				}
+			}
+			if (hasValue && index < gids.length) gids[index] = (int)value;
+		} else if (encoding.equals("base64")) {
+			byte[] buffer = this.buffer;
+			InputStream input = new Base64InputStream(data, offset, length);
+			Inflater inflater = null;
+			try {
+				if (compression != null) {
+					if (compression.equals("gzip"))
+						input = new GZIPInputStream(input, buffer.length);
+					else if (compression.equals("zlib"))
+						input = new InflaterInputStream(input, inflater = new Inflater(), buffer.length);
+					else
+						throw new GdxRuntimeException("Unrecognised compression (" + compression + ") for TMX Layer Data");
+				}
+				int index = 0, id = 0, shift = 0;
+				while (index < gids.length) {
+					int count = input.read(buffer, 0, buffer.length);
+					if (count == -1) break;
+					for (int i = 0; i < count; i++) {
+						id |= unsignedByteToInt(buffer[i]) << shift;
+						shift += 8;
+						if (shift == 32) {
+							if (index == gids.length) break;
+							gids[index++] = id;
+							id = 0;
+							shift = 0;
+						}
+					}
+				}
+			} catch (IOException e) {
+				throw new GdxRuntimeException("Error Reading TMX Layer Data - IOException: " + e.getMessage(), e);
+			} finally {
+				try {
+					input.close();
+				} catch (IOException ignored) {
+				}
+				// InflaterInputStream only ends an Inflater it created itself.
+				if (inflater != null) inflater.end();
+			}
+		} else {   // any other value of 'encoding' is one we're not aware of, probably a feature of a future version of Tiled or
+				   // another editor
+			throw new GdxRuntimeException("Unrecognised encoding (" + encoding
+			                              + ") for TMX Layer Data");
+		}
+	}
+
 	/**
 	 * Loads an object group (object layer).
 	 * @param map the map that this group is in.
@@ -997,4 +987,124 @@ public class TmxMapLoader extends AsynchronousAssetLoader<TiledMap, TmxMapLoader
 		return (int)b & 0xFF;
 	}
 
+	/**
+	 * XmlReader that decodes the text of each tile layer's 'data' tag into an int[] of gids as it is parsed, instead of
+	 * storing it as a string in the DOM. Packed layers use that array for their cells.
+	 */
+	protected class LayerDataReader extends XmlReader {
+		private String element, encoding, compression;
+		private int width, height;
+		/** The number of open tags, and the index in decodedLayers of the open 'layer' tag or -1. */
+		private int depth, layerIndex;
+
+		public LayerDataReader () {
+			// Maps repeat the same few element and attribute names thousands of times.
+			setInternNames(true);
+		}
+
+		@Override
+		public Element parse (char[] data, int offset, int length) {
+			decodedLayers.clear();
+			depth = 0;
+			layerIndex = -1;
+			return super.parse(data, offset, length);
+		}
+
+		@Override
+		protected void open (String name) {
+			super.open(name);
+			element = name;
+			depth++;
+			if (name.equals("layer")) {
+				width = 0;
+				height = 0;
+				// Only the layers of the map are counted, see takeDecodedLayer.
+				if (depth == 2) {
+					layerIndex = decodedLayers.size;
+					decodedLayers.add(null);
+				} else
+					layerIndex = -1;
+			} else if (name.equals("data")) {
+				encoding = null;
+				compression = null;
+			}
+		}
+
+		@Override
+		protected void attribute (String name, String value) {
+			super.attribute(name, value);
+			if (element.equals("layer")) {
+				if (name.equals("width"))
+					width = Integer.parseInt(value);
+				else if (name.equals("height")) height = Integer.parseInt(value);
+			} else if (element.equals("data")) {
+				if (name.equals("encoding"))
+					encoding = value;
+				else if (name.equals("compression")) compression = value;
+			}
+		}
+
+		@Override
+		protected void text (char[] data, int offset, int length) {
+			if (element.equals("data") && encoding != null && layerIndex != -1) {
+				int[] gids = new int[width * height];
+				decodeLayerData(encoding, compression, data, offset, length, gids);
+				decodedLayers.set(layerIndex, gids);
+			} else
+				super.text(data, offset, length);
+		}
+
+		@Override
+		protected void close () {
+			super.close();
+			element = "";
+			if (--depth < 2) layerIndex = -1;
+		}
+	}
+
+	/** Decodes base64 characters as they are read, ignoring whitespace. */
+	static private class Base64InputStream extends InputStream {
+		private final char[] data;
+		private int offset;
+		private final int end;
+		private int bits, bitCount;
+
+		public Base64InputStream (char[] data, int offset, int length) {
+			this.data = data;
+			this.offset = offset;
+			this.end = offset + length;
+		}
+
+		public int read () throws IOException {
+			while (bitCount < 8) {
+				if (offset == end) return -1;
+				int value = decode(data[offset++]);
+				if (value == -1) continue;
+				bits = (bits << 6) | value;
+				bitCount += 6;
+			}
+			bitCount -= 8;
+			return (bits >> bitCount) & 0xff;
+		}
+
+		public int read (byte[] bytes, int offset, int length) throws IOException {
+			int count = 0;
+			while (count < length) {
+				int b = read();
+				if (b == -1) break;
+				bytes[offset + count++] = (byte)b;
+			}
+			return count == 0 && length > 0 ? -1 : count;
+		}
+
+		static private int decode (char c) {
+			if (c >= 'A' && c <= 'Z') return c - 'A';
+			if (c >= 'a' && c <= 'z') return c - 'a' + 26;
+			if (c >= '0' && c <= '9') return c - '0' + 52;
+			if (c == '+') return 62;
+			if (c == '/') return 63;
+			return -1; // Whitespace and padding.
+		}
+	}
+
 }
@@ -26,19 +26,33 @@ import com.badlogic.gdx.graphics.Color;
 import com.badlogic.gdx.graphics.GL10;
 import com.badlogic.gdx.graphics.GL11;
 import com.badlogic.gdx.graphics.OrthographicCamera;
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
 import com.badlogic.gdx.graphics.g2d.SpriteCache;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapLayer;
+import com.badlogic.gdx.maps.MapLayers;
 import com.badlogic.gdx.maps.MapObject;
 import com.badlogic.gdx.maps.tiled.TiledMap;
 import com.badlogic.gdx.maps.tiled.TiledMapRenderer;
 import com.badlogic.gdx.maps.tiled.TiledMapTile;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer;
 import com.badlogic.gdx.maps.tiled.TiledMapTileLayer.Cell;
+import com.badlogic.gdx.maps.tiled.tiles.AnimatedTiledMapTile;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.utils.Disposable;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ObjectMap;
 
+/**
+ * @brief Renders orthogonal tile layers from geometry that is built once and kept in a {@link SpriteCache}
+ * 
+ * Each tile layer is split into chunks of {@link #getChunkSize()} x {@link #getChunkSize()} tiles. The geometry of the
+ * static tiles of all chunks is built on the first render, afterwards only the chunks overlapping the view bounds are
+ * drawn. Cells with an {@link AnimatedTiledMapTile} are not cached, they are drawn with a {@link SpriteBatch} every frame.
+ * 
+ * The cache must be rebuilt with {@link #invalidateCache()} when cells, tiles or layer opacities change.
+ */
 public class OrthogonalTiledMapRenderer2 implements TiledMapRenderer, Disposable {
 
 	protected TiledMap map;
@@ -47,244 +61,434 @@ public class OrthogonalTiledMapRenderer2 implements TiledMapRenderer, Disposable
 	
 	protected SpriteCache spriteCache;
 	
+	protected SpriteBatch spriteBatch;
+	
 	protected Rectangle viewBounds; 
 	
+	protected int chunkSize;
+	
 	private float[] vertices = new float[20];
 	
-	public boolean recache;
+	private float[] cacheVertices = new float[30];
+	
+	private int cacheCapacity;
+	
+	private final ObjectMap<TiledMapTileLayer, LayerCache> layerCaches = new ObjectMap<TiledMapTileLayer, LayerCache>();
+	
+	/**
+	 * Set to true to rebuild the cached geometry on the next render
+	 */
+	public boolean recache = true;
 	
 	public OrthogonalTiledMapRenderer2(TiledMap map) {
-		this.map = map;
-		this.unitScale = 1;
-		this.spriteCache = new SpriteCache(4000, true);
-		this.viewBounds = new Rectangle();
+		this(map, 1, 32);
 	}
 	
 	public OrthogonalTiledMapRenderer2(TiledMap map, float unitScale) {
+		this(map, unitScale, 32);
+	}
+	
+	/**
+	 * @param chunkSize width and height of a chunk in tiles
+	 */
+	public OrthogonalTiledMapRenderer2(TiledMap map, float unitScale, int chunkSize) {
+		if (chunkSize < 1) throw new IllegalArgumentException("chunkSize must be > 0: " + chunkSize);
 		this.map = map;
 		this.unitScale = unitScale;
+		this.chunkSize = chunkSize;
 		this.viewBounds = new Rectangle();
-		this.spriteCache = new SpriteCache(4000, true);
+		this.spriteBatch = new SpriteBatch();
+	}
+	
+	public TiledMap getMap() {
+		return map;
+	}
+	
+	/**
+	 * Sets the map to render and rebuilds the cache on the next render
+	 */
+	public void setMap(TiledMap map) {
+		this.map = map;
+		invalidateCache();
+	}
+	
+	public float getUnitScale() {
+		return unitScale;
+	}
+	
+	public int getChunkSize() {
+		return chunkSize;
+	}
+	
+	public Rectangle getViewBounds() {
+		return viewBounds;
+	}
+	
+	public SpriteBatch getSpriteBatch() {
+		return spriteBatch;
+	}
+	
+	/**
+	 * Rebuilds the cached geometry on the next render, call this after changing cells, tiles or layer opacities
+	 */
+	public void invalidateCache() {
+		recache = true;
 	}
 	
 	@Override
 	public void setView(OrthographicCamera camera) {
-		spriteCache.setProjectionMatrix(camera.combined);
 		float width = camera.viewportWidth * camera.zoom;
 		float height = camera.viewportHeight * camera.zoom;
-		viewBounds.set(camera.position.x - width / 2, camera.position.y - height / 2, width, height);
-		recache = true;
+		setView(camera.combined, camera.position.x - width / 2, camera.position.y - height / 2, width, height);
 	}
 	
 	@Override
 	public void setView (Matrix4 projection, float x, float y, float width, float height) {
-		spriteCache.setProjectionMatrix(projection);
+		if (spriteCache != null) spriteCache.setProjectionMatrix(projection);
+		spriteBatch.setProjectionMatrix(projection);
 		viewBounds.set(x, y, width, height);
-		recache = true;
-	}
-
-	public void begin () {
-		if (recache) {
-			cached = false;
-			recache = false;
-			spriteCache.clear();
-		}
-		if (!cached) {
-			spriteCache.beginCache();	
-		} else {
-			Gdx.gl.glEnable(GL10.GL_BLEND);
-			Gdx.gl.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
-			spriteCache.begin();
-		}
-		
-	}
-
-	public void end () {
-		if (!cached) {
-			spriteCache.endCache();
-			cached = true;
-			Gdx.gl.glEnable(GL10.GL_BLEND);
-			Gdx.gl.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
-			spriteCache.begin();
-			spriteCache.draw(0);
-			spriteCache.end();
-			Gdx.gl.glDisable(GL10.GL_BLEND);
-		} else {
-			spriteCache.end();
-			Gdx.gl.glDisable(GL10.GL_BLEND);
-		}
 	}
 
 	@Override
 	public void render () {
-		begin();
-		if (cached) {
-			spriteCache.draw(0);
-		} else {
-			for (MapLayer layer : map.getLayers()) {
-				if (layer.isVisible()) {
-					if (layer instanceof TiledMapTileLayer) {
-						renderTileLayer((TiledMapTileLayer) layer);
-					} else {
-						for (MapObject object : layer.getObjects()) {
-							renderObject(object);
-						}
-					}					
-				}				
+		for (MapLayer layer : map.getLayers()) {
+			if (layer.isVisible()) {
+				if (layer instanceof TiledMapTileLayer) {
+					renderTileLayer((TiledMapTileLayer) layer);
+				} else {
+					for (MapObject object : layer.getObjects()) {
+						renderObject(object);
+					}
+				}					
 			}				
 		}
-		end();
 	}
 	
 	@Override
 	public void render (int[] layers) {
-		// FIXME not implemented
-		throw new UnsupportedOperationException("Not implemented");
+		for (int layerIdx : layers) {
+			MapLayer layer = map.getLayers().get(layerIdx);
+			if (layer.isVisible()) {
+				if (layer instanceof TiledMapTileLayer) {
+					renderTileLayer((TiledMapTileLayer) layer);
+				} else {
+					for (MapObject object : layer.getObjects()) {
+						renderObject(object);
+					}
+				}					
+			}				
+		}
 	}
 
 	@Override
 	public void renderObject (MapObject object) {
-		// TODO Auto-generated method stub
 		
 	}
 
-	boolean cached = false;
-	int count = 0;
 	@Override
 	public void renderTileLayer (TiledMapTileLayer layer) {
-		final float color = Color.toFloatBits(1, 1, 1, layer.getOpacity());
-	
-		final int layerWidth = layer.getWidth();
-		final int layerHeight = layer.getHeight();
+		LayerCache layerCache = layerCaches.get(layer);
+		if (recache || layerCache == null) {
+			cache();
+			layerCache = layerCaches.get(layer);
+			if (layerCache == null) return;
+		}
 		
-		final float layerTileWidth = layer.getTileWidth() * unitScale;
-		final float layerTileHeight = layer.getTileHeight() * unitScale;
+		final float chunkWidth = layerCache.tileWidth * chunkSize;
+		final float chunkHeight = layerCache.tileHeight * chunkSize;
 		
-		final int col1 = Math.max(0, (int) (viewBounds.x / layerTileWidth));
-		final int col2 = Math.min(layerWidth, (int) ((viewBounds.x + viewBounds.width + layerTileWidth) / layerTileWidth));
-
-		final int row1 = Math.max(0, (int) (viewBounds.y / layerTileHeight));
-		final int row2 = Math.min(layerHeight, (int) ((viewBounds.y + viewBounds.height + layerTileHeight) / layerTileHeight));				
+		// the bounds of a chunk can exceed its cells by the overhang of tiles larger than the layer's tiles
+		final int col1 = Math.max(0, (int) ((viewBounds.x - layerCache.overhangX) / chunkWidth));
+		final int col2 = Math.min(layerCache.chunksX, (int) ((viewBounds.x + viewBounds.width) / chunkWidth) + 1);
+		final int row1 = Math.max(0, (int) ((viewBounds.y - layerCache.overhangY) / chunkHeight));
+		final int row2 = Math.min(layerCache.chunksY, (int) ((viewBounds.y + viewBounds.height) / chunkHeight) + 1);
 		
+		final int[] cacheIds = layerCache.cacheIds;
+		boolean drawing = false;
 		for (int row = row1; row < row2; row++) {
 			for (int col = col1; col < col2; col++) {
-				final TiledMapTileLayer.Cell cell = layer.getCell(col, row);
-				if(cell == null) continue;
+				final int cacheId = cacheIds[row * layerCache.chunksX + col];
+				if (cacheId == -1) continue;
+				if (!drawing) {
+					Gdx.gl.glEnable(GL10.GL_BLEND);
+					Gdx.gl.glBlendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
+					spriteCache.begin();
+					drawing = true;
+				}
+				spriteCache.draw(cacheId);
+			}
+		}
+		if (drawing) {
+			spriteCache.end();
+			Gdx.gl.glDisable(GL10.GL_BLEND);
+		}
+		
+		renderAnimatedCells(layer, layerCache);
+	}
+	
+	private void renderAnimatedCells (TiledMapTileLayer layer, LayerCache layerCache) {
+		final IntArray animatedCells = layerCache.animatedCells;
+		if (animatedCells.size == 0) return;
+		
+		final float color = Color.toFloatBits(1, 1, 1, layer.getOpacity());
+		final float layerTileWidth = layerCache.tileWidth;
+		final float layerTileHeight = layerCache.tileHeight;
+		
+		final float x1 = viewBounds.x - layerTileWidth - layerCache.overhangX;
+		final float x2 = viewBounds.x + viewBounds.width;
+		final float y1 = viewBounds.y - layerTileHeight - layerCache.overhangY;
+		final float y2 = viewBounds.y + viewBounds.height;
+		
+		final int[] items = animatedCells.items;
+		boolean drawing = false;
+		for (int i = 0, n = animatedCells.size; i < n; i += 2) {
+			final int col = items[i];
+			final int row = items[i + 1];
+			final float x = col * layerTileWidth;
+			final float y = row * layerTileHeight;
+			if (x < x1 || x > x2 || y < y1 || y > y2) continue;
+			
+			final Cell cell = layer.getCell(col, row);
+			if (cell == null) continue;
+			final TiledMapTile tile = cell.getTile();
+			if (tile == null) continue;
+			if (!drawing) {
+				spriteBatch.begin();
+				drawing = true;
+			}
+			final TextureRegion region = tile.getTextureRegion();
+			computeVertices(cell, region, x, y, color);
+			spriteBatch.draw(region.getTexture(), vertices, 0, 20);
+		}
+		if (drawing) spriteBatch.end();
+	}
+	
+	/**
+	 * Builds the geometry of the static tiles of all tile layers, one cache per non empty chunk
+	 */
+	protected void cache () {
+		recache = false;
+		layerCaches.clear();
+		
+		final MapLayers layers = map.getLayers();
+		int tileCount = 0;
+		for (int i = 0, n = layers.getCount(); i < n; i++) {
+			final MapLayer layer = layers.get(i);
+			if (layer instanceof TiledMapTileLayer) tileCount += countStaticTiles((TiledMapTileLayer) layer);
+		}
+		
+		if (spriteCache == null || tileCount > cacheCapacity) {
+			Matrix4 projection = spriteCache != null ? spriteCache.getProjectionMatrix() : spriteBatch.getProjectionMatrix();
+			if (spriteCache != null) spriteCache.dispose();
+			cacheCapacity = Math.max(1, tileCount);
+			// non indexed geometry, the number of tiles isn't limited by 16 bit indices
+			spriteCache = new SpriteCache(cacheCapacity, false);
+			spriteCache.setProjectionMatrix(projection);
+		} else {
+			spriteCache.clear();
+		}
+		
+		for (int i = 0, n = layers.getCount(); i < n; i++) {
+			final MapLayer layer = layers.get(i);
+			if (layer instanceof TiledMapTileLayer) cacheLayer((TiledMapTileLayer) layer);
+		}
+	}
+	
+	private int countStaticTiles (TiledMapTileLayer layer) {
+		int count = 0;
+		for (int row = 0, height = layer.getHeight(); row < height; row++) {
+			for (int col = 0, width = layer.getWidth(); col < width; col++) {
+				final Cell cell = layer.getCell(col, row);
+				if (cell == null) continue;
 				final TiledMapTile tile = cell.getTile();
-				if (tile != null) {
-					count++;
-					final boolean flipX = cell.getFlipHorizontally();
-					final boolean flipY = cell.getFlipVertically();
-					final int rotations = cell.getRotation();
-					
-					TextureRegion region = tile.getTextureRegion();
-					
-					float x1 = col * layerTileWidth;
-					float y1 = row * layerTileHeight;
-					float x2 = x1 + region.getRegionWidth() * unitScale;
-					float y2 = y1 + region.getRegionHeight() * unitScale;
-					
-					float u1 = region.getU();
-					float v1 = region.getV2();
-					float u2 = region.getU2();
-					float v2 = region.getV();
-					
-					vertices[X1] = x1;
-					vertices[Y1] = y1;
-					vertices[C1] = color;
-					vertices[U1] = u1;
-					vertices[V1] = v1;
-					
-					vertices[X2] = x1;
-					vertices[Y2] = y2;
-					vertices[C2] = color;
-					vertices[U2] = u1;
-					vertices[V2] = v2;
-					
-					vertices[X3] = x2;
-					vertices[Y3] = y2;
-					vertices[C3] = color;
-					vertices[U3] = u2;
-					vertices[V3] = v2;
-					
-					vertices[X4] = x2;
-					vertices[Y4] = y1;
-					vertices[C4] = color;
-					vertices[U4] = u2;
-					vertices[V4] = v1;							
-					
-					if (flipX) {
-						float temp = vertices[U1];
-						vertices[U1] = vertices[U3];
-						vertices[U3] = temp;
-						temp = vertices[U2];
-						vertices[U2] = vertices[U4];
-						vertices[U4] = temp;
-					}
-					if (flipY) {
-						float temp = vertices[V1];
-						vertices[V1] = vertices[V3];
-						vertices[V3] = temp;
-						temp = vertices[V2];
-						vertices[V2] = vertices[V4];
-						vertices[V4] = temp;
+				if (tile != null && !(tile instanceof AnimatedTiledMapTile)) count++;
+			}
+		}
+		return count;
+	}
+	
+	private void cacheLayer (TiledMapTileLayer layer) {
+		final LayerCache layerCache = new LayerCache();
+		layerCache.tileWidth = layer.getTileWidth() * unitScale;
+		layerCache.tileHeight = layer.getTileHeight() * unitScale;
+		layerCache.chunksX = (layer.getWidth() + chunkSize - 1) / chunkSize;
+		layerCache.chunksY = (layer.getHeight() + chunkSize - 1) / chunkSize;
+		layerCache.cacheIds = new int[layerCache.chunksX * layerCache.chunksY];
+		layerCaches.put(layer, layerCache);
+		
+		final float color = Color.toFloatBits(1, 1, 1, layer.getOpacity());
+		final float layerTileWidth = layerCache.tileWidth;
+		final float layerTileHeight = layerCache.tileHeight;
+		final float[] vertices = this.vertices;
+		final float[] cacheVertices = this.cacheVertices;
+		
+		for (int chunkRow = 0; chunkRow < layerCache.chunksY; chunkRow++) {
+			for (int chunkCol = 0; chunkCol < layerCache.chunksX; chunkCol++) {
+				final int col1 = chunkCol * chunkSize;
+				final int col2 = Math.min(layer.getWidth(), col1 + chunkSize);
+				final int row1 = chunkRow * chunkSize;
+				final int row2 = Math.min(layer.getHeight(), row1 + chunkSize);
+				
+				boolean empty = true;
+				for (int row = row1; row < row2; row++) {
+					for (int col = col1; col < col2; col++) {
+						final Cell cell = layer.getCell(col, row);
+						if (cell == null) continue;
+						final TiledMapTile tile = cell.getTile();
+						if (tile == null) continue;
+						if (tile instanceof AnimatedTiledMapTile) {
+							layerCache.animatedCells.add(col);
+							layerCache.animatedCells.add(row);
+							continue;
+						}
+						
+						final TextureRegion region = tile.getTextureRegion();
+						final float x = col * layerTileWidth;
+						final float y = row * layerTileHeight;
+						layerCache.overhangX = Math.max(layerCache.overhangX, region.getRegionWidth() * unitScale - layerTileWidth);
+						layerCache.overhangY = Math.max(layerCache.overhangY, region.getRegionHeight() * unitScale - layerTileHeight);
+						computeVertices(cell, region, x, y, color);
+						
+						// two triangles: 0, 1, 2 and 2, 3, 0
+						System.arraycopy(vertices, 0, cacheVertices, 0, 15);
+						System.arraycopy(vertices, 10, cacheVertices, 15, 10);
+						System.arraycopy(vertices, 0, cacheVertices, 25, 5);
+						
+						if (empty) {
+							spriteCache.beginCache();
+							empty = false;
+						}
+						spriteCache.add(region.getTexture(), cacheVertices, 0, 30);
 					}
-					if (rotations != 0) {
-						switch (rotations) {
-							case Cell.ROTATE_90: {
-								float tempV = vertices[V1];
-								vertices[V1] = vertices[V2];
-								vertices[V2] = vertices[V3];
-								vertices[V3] = vertices[V4];
-								vertices[V4] = tempV;
+				}
+				layerCache.cacheIds[chunkRow * layerCache.chunksX + chunkCol] = empty ? -1 : spriteCache.endCache();
+			}
+		}
+	}
+	
+	private void computeVertices (Cell cell, TextureRegion region, float x, float y, float color) {
+		final float[] vertices = this.vertices;
+		final boolean flipX = cell.getFlipHorizontally();
+		final boolean flipY = cell.getFlipVertically();
+		final int rotations = cell.getRotation();
+		
+		float x1 = x;
+		float y1 = y;
+		float x2 = x1 + region.getRegionWidth() * unitScale;
+		float y2 = y1 + region.getRegionHeight() * unitScale;
+		
+		float u1 = region.getU();
+		float v1 = region.getV2();
+		float u2 = region.getU2();
+		float v2 = region.getV();
+		
+		vertices[X1] = x1;
+		vertices[Y1] = y1;
+		vertices[C1] = color;
+		vertices[U1] = u1;
+		vertices[V1] = v1;
+		
+		vertices[X2] = x1;
+		vertices[Y2] = y2;
+		vertices[C2] = color;
+		vertices[U2] = u1;
+		vertices[V2] = v2;
+		
+		vertices[X3] = x2;
+		vertices[Y3] = y2;
+		vertices[C3] = color;
+		vertices[U3] = u2;
+		vertices[V3] = v2;
+		
+		vertices[X4] = x2;
+		vertices[Y4] = y1;
+		vertices[C4] = color;
+		vertices[U4] = u2;
+		vertices[V4] = v1;							
+		
+		if (flipX) {
+			float temp = vertices[U1];
+			vertices[U1] = vertices[U3];
+			vertices[U3] = temp;
+			temp = vertices[U2];
+			vertices[U2] = vertices[U4];
+			vertices[U4] = temp;
+		}
+		if (flipY) {
+			float temp = vertices[V1];
+			vertices[V1] = vertices[V3];
+			vertices[V3] = temp;
+			temp = vertices[V2];
+			vertices[V2] = vertices[V4];
+			vertices[V4] = temp;
+		}
+		if (rotations != 0) {
+			switch (rotations) {
+				case Cell.ROTATE_90: {
+					float tempV = vertices[V1];
+					vertices[V1] = vertices[V2];
+					vertices[V2] = vertices[V3];
+					vertices[V3] = vertices[V4];
+					vertices[V4] = tempV;
 
-								float tempU = vertices[U1];
-								vertices[U1] = vertices[U2];
-								vertices[U2] = vertices[U3];
-								vertices[U3] = vertices[U4];
-								vertices[U4] = tempU;									
-								break;
-							}
-							case Cell.ROTATE_180: {
-								float tempU = vertices[U1];
-								vertices[U1] = vertices[U3];
-								vertices[U3] = tempU;
-								tempU = vertices[U2];
-								vertices[U2] = vertices[U4];
-								vertices[U4] = tempU;									
-								float tempV = vertices[V1];
-								vertices[V1] = vertices[V3];
-								vertices[V3] = tempV;
-								tempV = vertices[V2];
-								vertices[V2] = vertices[V4];
-								vertices[V4] = tempV;
-								break;
-							}
-							case Cell.ROTATE_270: {
-								float tempV = vertices[V1];
-								vertices[V1] = vertices[V4];
-								vertices[V4] = vertices[V3];
-								vertices[V3] = vertices[V2];
-								vertices[V2] = tempV;
+					float tempU = vertices[U1];
+					vertices[U1] = vertices[U2];
+					vertices[U2] = vertices[U3];
+					vertices[U3] = vertices[U4];
+					vertices[U4] = tempU;									
+					break;
+				}
+				case Cell.ROTATE_180: {
+					float tempU = vertices[U1];
+					vertices[U1] = vertices[U3];
+					vertices[U3] = tempU;
+					tempU = vertices[U2];
+					vertices[U2] = vertices[U4];
+					vertices[U4] = tempU;									
+					float tempV = vertices[V1];
+					vertices[V1] = vertices[V3];
+					vertices[V3] = tempV;
+					tempV = vertices[V2];
+					vertices[V2] = vertices[V4];
+					vertices[V4] = tempV;
+					break;
+				}
+				case Cell.ROTATE_270: {
+					float tempV = vertices[V1];
+					vertices[V1] = vertices[V4];
+					vertices[V4] = vertices[V3];
+					vertices[V3] = vertices[V2];
+					vertices[V2] = tempV;
 
-								float tempU = vertices[U1];
-								vertices[U1] = vertices[U4];
-								vertices[U4] = vertices[U3];
-								vertices[U3] = vertices[U2];
-								vertices[U2] = tempU;									
-								break;
-							}
-						}								
-					}
-					spriteCache.add(region.getTexture(), vertices, 0, 20);
+					float tempU = vertices[U1];
+					vertices[U1] = vertices[U4];
+					vertices[U4] = vertices[U3];
+					vertices[U3] = vertices[U2];
+					vertices[U2] = tempU;									
+					break;
 				}
-			}
+			}								
 		}
 	}
 
 	@Override
 	public void dispose () {
-		spriteCache.dispose();
+		if (spriteCache != null) spriteCache.dispose();
+		spriteBatch.dispose();
+	}
+	
+	/**
+	 * @brief the cache ids of a layer's chunks, -1 for empty chunks, and the cells with animated tiles as col, row pairs
+	 */
+	private static class LayerCache {
+		float tileWidth;
+		float tileHeight;
+		float overhangX;
+		float overhangY;
+		int chunksX;
+		int chunksY;
+		int[] cacheIds;
+		final IntArray animatedCells = new IntArray();
 	}
 	
-}
\ No newline at end of file
+}
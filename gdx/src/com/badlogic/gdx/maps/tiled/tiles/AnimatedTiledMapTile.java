@@ -1,17 +1,25 @@
 package com.badlogic.gdx.maps.tiled.tiles;
 
-import com.badlogic.gdx.graphics.g2d.Animation;
 import com.badlogic.gdx.graphics.g2d.TextureRegion;
 import com.badlogic.gdx.maps.MapProperties;
 import com.badlogic.gdx.maps.tiled.TiledMapTile;
 import com.badlogic.gdx.utils.Array;
 
+/**
+ * @brief Represents a changing TiledMapTile, its texture region depends on the animation time (can't be cached)
+ */
 public class AnimatedTiledMapTile implements TiledMapTile {
 
 	private int id;
 	
+	private BlendMode blendMode = BlendMode.ALPHA;
+	
+	private MapProperties properties;
+	
 	private Array<StaticTiledMapTile> frameTiles;
 	
+	private float interval;
+	
 	private float animationTime;
 	
 	@Override
@@ -26,30 +34,62 @@ public class AnimatedTiledMapTile implements TiledMapTile {
 	
 	@Override
 	public BlendMode getBlendMode () {
-		// TODO Auto-generated method stub
-		return null;
+		return blendMode;
 	}
 
 	@Override
 	public void setBlendMode (BlendMode blendMode) {
-		// TODO Auto-generated method stub
-		
+		this.blendMode = blendMode;
 	}
 
+	/**
+	 * @return texture region of the frame shown at the current animation time
+	 */
 	@Override
 	public TextureRegion getTextureRegion () {
-		// TODO Auto-generated method stub
-		return null;
+		return getCurrentFrame().getTextureRegion();
 	}
 
+	/**
+	 * @return tile's properties set
+	 */
 	@Override
 	public MapProperties getProperties () {
-		// TODO Auto-generated method stub
-		return null;
+		if (properties == null) {
+			properties = new MapProperties();
+		}
+		return properties;
 	}
 
+	/**
+	 * Creates an animated tile with the given frames
+	 * 
+	 * @param interval time in seconds each frame is shown
+	 * @param frameTiles the frames, at least one
+	 */
 	public AnimatedTiledMapTile(float interval, Array<StaticTiledMapTile> frameTiles) {
-
+		this.interval = interval;
+		this.frameTiles = frameTiles;
+	}
+	
+	/**
+	 * @return the frame shown at the current animation time, the animation loops. The first frame is shown for a negative time.
+	 */
+	public StaticTiledMapTile getCurrentFrame() {
+		int index = interval > 0 && animationTime > 0 ? (int)(animationTime / interval) % frameTiles.size : 0;
+		return frameTiles.get(index);
+	}
+	
+	public Array<StaticTiledMapTile> getFrameTiles() {
+		return frameTiles;
+	}
+	
+	public float getInterval() {
+		return interval;
+	}
+	
+	public float getAnimationTime() {
+		return animationTime;
 	}
 	
 	public void setAnimationTime(float animationTime) {
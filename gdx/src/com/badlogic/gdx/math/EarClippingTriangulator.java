@@ -17,125 +17,232 @@
 package com.badlogic.gdx.math;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.List;
 
+import com.badlogic.gdx.utils.FloatArray;
+import com.badlogic.gdx.utils.IntArray;
+import com.badlogic.gdx.utils.ShortArray;
+
 /** A simple implementation of the ear cutting algorithm to triangulate simple polygons without holes. For more information:
  * <ul>
  * <li><a href="http://cgm.cs.mcgill.ca/~godfried/teaching/cg-projects/97/Ian/algorithm2.html">http://cgm.cs.mcgill.ca/~godfried/teaching/cg-projects/97/Ian/algorithm2.html</a></li>
  * <li><a href="http://www.geometrictools.com/Documentation/TriangulationByEarClipping.pdf">http://www.geometrictools.com/Documentation/TriangulationByEarClipping.pdf</a></li>
  * </ul>
+ * The float[] methods don't allocate once the internal arrays are large enough, so an instance can be reused to triangulate
+ * every frame. Instances are not thread safe.
  * 
  * @author badlogicgames@gmail.com
  * @author Nicolas Gramlich (Improved performance. Collinear edges are now supported.)
  * @author Eric Spitz */
 public final class EarClippingTriangulator {
+	private static final int CONCAVE = -1;
+	private static final int TANGENTIAL = 0;
+	private static final int CONVEX = 1;
 
-	private static final int CONCAVE = 1;
-	private static final int CONVEX = -1;
-
-	private int concaveVertexCount;
+	private final ShortArray indicesArray = new ShortArray();
+	private short[] indices;
+	private float[] vertices;
+	private int vertexCount;
+	private final IntArray vertexTypes = new IntArray();
+	private final ShortArray triangles = new ShortArray();
 
 	/** Triangulates the given (concave) polygon to a list of triangles. The resulting triangles have clockwise order.
 	 * 
 	 * @param polygon the polygon
-	 * @return the triangles */
+	 * @return the triangles, three new vectors per triangle
+	 * @see #computeTriangles(float[], int, int) */
 	public List<Vector2> computeTriangles (final List<Vector2> polygon) {
-		// TODO Check if LinkedList performs better
-		final ArrayList<Vector2> triangles = new ArrayList<Vector2>();
-		final ArrayList<Vector2> vertices = new ArrayList<Vector2>(polygon.size());
-		vertices.addAll(polygon);
+		final int vertexCount = polygon.size();
+		final float[] vertices = new float[vertexCount * 2];
+		for (int i = 0, v = 0; i < vertexCount; i++, v += 2) {
+			final Vector2 vertex = polygon.get(i);
+			vertices[v] = vertex.x;
+			vertices[v + 1] = vertex.y;
+		}
+
+		final ShortArray triangles = computeTriangles(vertices, 0, vertices.length);
+
+		final ArrayList<Vector2> result = new ArrayList<Vector2>(triangles.size);
+		for (int i = 0, n = triangles.size; i < n; i++) {
+			final int index = triangles.get(i) * 2;
+			result.add(new Vector2(vertices[index], vertices[index + 1]));
+		}
+		this.vertices = null;
+		return result;
+	}
+
+	/** @see #computeTriangles(float[], int, int) */
+	public ShortArray computeTriangles (final FloatArray vertices) {
+		return computeTriangles(vertices.items, 0, vertices.size);
+	}
+
+	/** @see #computeTriangles(float[], int, int) */
+	public ShortArray computeTriangles (final float[] vertices) {
+		return computeTriangles(vertices, 0, vertices.length);
+	}
+
+	/** Triangulates the given (concave) polygon without allocating. The resulting triangles have clockwise order, regardless of
+	 * the winding of the polygon. Triangles with no area, caused by collinear edges, are omitted.
+	 * 
+	 * @param vertices pairs describing the x and y coordinates of the polygon's vertices
+	 * @param offset the offset into the array of the first coordinate, must be even
+	 * @param count the number of coordinates, must be even
+	 * @return three indices per triangle, the index of a vertex refers to the coordinates at vertices[index * 2] and
+	 *         vertices[index * 2 + 1], so they can be used as is for a {@link com.badlogic.gdx.graphics.Mesh} that contains the
+	 *         whole array. The returned array is reused by the next call to this method. */
+	public ShortArray computeTriangles (final float[] vertices, final int offset, final int count) {
+		this.vertices = vertices;
+		final int vertexCount = this.vertexCount = count / 2;
+		final int vertexOffset = offset / 2;
+
+		final ShortArray indicesArray = this.indicesArray;
+		indicesArray.clear();
+		short[] indices = indicesArray.items;
+		if (indices.length < vertexCount) indices = indicesArray.ensureCapacity(vertexCount);
+		this.indices = indices;
+		indicesArray.size = vertexCount;
+		/* Ensure vertices are in clockwise order. */
+		if (EarClippingTriangulator.areVerticesClockwise(vertices, offset, count)) {
+			for (int i = 0; i < vertexCount; i++)
+				indices[i] = (short)(vertexOffset + i);
+		} else {
+			for (int i = 0, n = vertexOffset + vertexCount - 1; i < vertexCount; i++)
+				indices[i] = (short)(n - i);
+		}
+
+		final IntArray vertexTypes = this.vertexTypes;
+		vertexTypes.clear();
+		if (vertexTypes.items.length < vertexCount) vertexTypes.ensureCapacity(vertexCount);
+		for (int i = 0; i < vertexCount; i++)
+			vertexTypes.add(this.classifyVertex(i));
+
+		final ShortArray triangles = this.triangles;
+		triangles.clear();
+		final int triangleIndexCount = Math.max(0, vertexCount - 2) * 3;
+		if (triangles.items.length < triangleIndexCount) triangles.ensureCapacity(triangleIndexCount);
+		this.triangulate();
+		return triangles;
+	}
+
+	private void triangulate () {
+		final int[] vertexTypes = this.vertexTypes.items;
 
 		/*
 		 * ESpitz: For the sake of performance, we only need to test for eartips while the polygon has more than three verts. If
 		 * there are only three verts left to test, or there were only three verts to begin with, there is no need to continue with
 		 * this loop.
 		 */
-		while (vertices.size() > 3) {
-			// TODO Usually(Always?) only the Types of the vertices next to the
-			// ear change! --> Improve
-			final int vertexTypes[] = this.classifyVertices(vertices);
-
-			final int vertexCount = vertices.size();
-			for (int index = 0; index < vertexCount; index++) {
-				if (this.isEarTip(vertices, index, vertexTypes)) {
-					this.cutEarTip(vertices, index, triangles);
-					break;
-				}
-			}
+		while (this.vertexCount > 3) {
+			final int earTipIndex = this.findEarTip();
+			this.cutEarTip(earTipIndex);
+
+			/* Only the types of the two vertices next to the ear can have changed. */
+			final int previousIndex = this.computePreviousIndex(earTipIndex);
+			final int nextIndex = earTipIndex == this.vertexCount ? 0 : earTipIndex;
+			vertexTypes[previousIndex] = this.classifyVertex(previousIndex);
+			vertexTypes[nextIndex] = this.classifyVertex(nextIndex);
 		}
 
 		/*
 		 * ESpitz: If there are only three verts left to test, or there were only three verts to begin with, we have the final
 		 * triangle.
 		 */
-		if (vertices.size() == 3) {
-			triangles.addAll(vertices);
+		if (this.vertexCount == 3) {
+			final ShortArray triangles = this.triangles;
+			final short[] indices = this.indices;
+			if (vertexTypes[1] != TANGENTIAL) {
+				triangles.add(indices[0]);
+				triangles.add(indices[1]);
+				triangles.add(indices[2]);
+			}
 		}
-
-		return triangles;
 	}
 
-	private static boolean areVerticesClockwise (final ArrayList<Vector2> pVertices) {
-		final int vertexCount = pVertices.size();
-
-		float area = 0;
-		for (int i = 0; i < vertexCount; i++) {
-			final Vector2 p1 = pVertices.get(i);
-			final Vector2 p2 = pVertices.get(EarClippingTriangulator.computeNextIndex(pVertices, i));
-			area += p1.x * p2.y - p2.x * p1.y;
-		}
-
-		if (area < 0) {
-			return true;
-		} else {
-			return false;
-		}
+	/** @return {@link #CONCAVE}, {@link #TANGENTIAL} or {@link #CONVEX} for the vertex at the given position in
+	 *         {@link #indices}. */
+	private int classifyVertex (final int index) {
+		final short[] indices = this.indices;
+		final int previous = indices[this.computePreviousIndex(index)] * 2;
+		final int current = indices[index] * 2;
+		final int next = indices[this.computeNextIndex(index)] * 2;
+		final float[] vertices = this.vertices;
+		return EarClippingTriangulator.computeSpannedAreaSign(vertices[previous], vertices[previous + 1], vertices[current],
+			vertices[current + 1], vertices[next], vertices[next + 1]);
 	}
 
-	/** @param pVertices
-	 * @return An array of length <code>pVertices.size()</code> filled with either {@link EarClippingTriangulator#CONCAVE} or
-	 *         {@link EarClippingTriangulator#CONVEX}. */
-	private int[] classifyVertices (final ArrayList<Vector2> pVertices) {
-		final int vertexCount = pVertices.size();
+	private int findEarTip () {
+		final int vertexCount = this.vertexCount;
+		for (int i = 0; i < vertexCount; i++)
+			if (this.isEarTip(i)) return i;
 
-		final int[] vertexTypes = new int[vertexCount];
-		this.concaveVertexCount = 0;
+		/* Degenerate polygon, cut a vertex that isn't concave or, failing that, the first one. */
+		final int[] vertexTypes = this.vertexTypes.items;
+		for (int i = 0; i < vertexCount; i++)
+			if (vertexTypes[i] != CONCAVE) return i;
+		return 0;
+	}
 
-		/* Ensure vertices are in clockwise order. */
-		if (!EarClippingTriangulator.areVerticesClockwise(pVertices)) {
-			Collections.reverse(pVertices);
+	private boolean isEarTip (final int earTipIndex) {
+		final int[] vertexTypes = this.vertexTypes.items;
+		if (vertexTypes[earTipIndex] == CONCAVE) return false;
+
+		final int previousIndex = this.computePreviousIndex(earTipIndex);
+		final int nextIndex = this.computeNextIndex(earTipIndex);
+		final short[] indices = this.indices;
+		final int p1 = indices[previousIndex] * 2;
+		final int p2 = indices[earTipIndex] * 2;
+		final int p3 = indices[nextIndex] * 2;
+		final float[] vertices = this.vertices;
+		final float p1x = vertices[p1], p1y = vertices[p1 + 1];
+		final float p2x = vertices[p2], p2y = vertices[p2 + 1];
+		final float p3x = vertices[p3], p3y = vertices[p3 + 1];
+
+		/* Only concave vertices can be inside the ear. Vertices on its edges count as inside. */
+		for (int i = this.computeNextIndex(nextIndex); i != previousIndex; i = this.computeNextIndex(i)) {
+			if (vertexTypes[i] == CONCAVE) {
+				final int v = indices[i] * 2;
+				final float vx = vertices[v];
+				final float vy = vertices[v + 1];
+				if (EarClippingTriangulator.computeSpannedAreaSign(p1x, p1y, p2x, p2y, vx, vy) >= 0
+					&& EarClippingTriangulator.computeSpannedAreaSign(p2x, p2y, p3x, p3y, vx, vy) >= 0
+					&& EarClippingTriangulator.computeSpannedAreaSign(p3x, p3y, p1x, p1y, vx, vy) >= 0) return false;
+			}
 		}
+		return true;
+	}
 
-		for (int index = 0; index < vertexCount; index++) {
-			final int previousIndex = EarClippingTriangulator.computePreviousIndex(pVertices, index);
-			final int nextIndex = EarClippingTriangulator.computeNextIndex(pVertices, index);
-
-			final Vector2 previousVertex = pVertices.get(previousIndex);
-			final Vector2 currentVertex = pVertices.get(index);
-			final Vector2 nextVertex = pVertices.get(nextIndex);
-
-			if (EarClippingTriangulator.isTriangleConvex(previousVertex.x, previousVertex.y, currentVertex.x, currentVertex.y,
-				nextVertex.x, nextVertex.y)) {
-				vertexTypes[index] = CONVEX;
-			} else {
-				vertexTypes[index] = CONCAVE;
-				this.concaveVertexCount++;
-			}
+	private void cutEarTip (final int earTipIndex) {
+		final short[] indices = this.indices;
+		if (this.vertexTypes.items[earTipIndex] != TANGENTIAL) {
+			final ShortArray triangles = this.triangles;
+			triangles.add(indices[this.computePreviousIndex(earTipIndex)]);
+			triangles.add(indices[earTipIndex]);
+			triangles.add(indices[this.computeNextIndex(earTipIndex)]);
 		}
 
-		return vertexTypes;
+		this.indicesArray.removeIndex(earTipIndex);
+		this.vertexTypes.removeIndex(earTipIndex);
+		this.vertexCount--;
 	}
 
-	private static boolean isTriangleConvex (final float pX1, final float pY1, final float pX2, final float pY2, final float pX3,
-		final float pY3) {
-		if (EarClippingTriangulator.computeSpannedAreaSign(pX1, pY1, pX2, pY2, pX3, pY3) < 0) {
-			return false;
-		} else {
-			return true;
+	private static boolean areVerticesClockwise (final float[] vertices, final int offset, final int count) {
+		if (count <= 2) return false;
+		float area = 0;
+		for (int i = offset, n = offset + count - 3; i < n; i += 2) {
+			final float p1x = vertices[i];
+			final float p1y = vertices[i + 1];
+			final float p2x = vertices[i + 2];
+			final float p2y = vertices[i + 3];
+			area += p1x * p2y - p2x * p1y;
 		}
+		final float p1x = vertices[offset + count - 2];
+		final float p1y = vertices[offset + count - 1];
+		final float p2x = vertices[offset];
+		final float p2y = vertices[offset + 1];
+		return area + p1x * p2y - p2x * p1y < 0;
 	}
 
+	/** @return positive if the vertices turn clockwise, negative if they turn counter clockwise, zero if they are collinear. */
 	private static int computeSpannedAreaSign (final float pX1, final float pY1, final float pX2, final float pY2,
 		final float pX3, final float pY3) {
 		/*
@@ -151,112 +258,11 @@ public final class EarClippingTriangulator {
 		return (int)Math.signum(area);
 	}
 
-	/** @return <code>true</code> when the Triangles contains one or more vertices, <code>false</code> otherwise. */
-	private static boolean isAnyVertexInTriangle (final ArrayList<Vector2> pVertices, final int[] pVertexTypes, final float pX1,
-		final float pY1, final float pX2, final float pY2, final float pX3, final float pY3) {
-		int i = 0;
-
-		final int vertexCount = pVertices.size();
-		while (i < vertexCount - 1) {
-			if ((pVertexTypes[i] == CONCAVE)) {
-				final Vector2 currentVertex = pVertices.get(i);
-
-				final float currentVertexX = currentVertex.x;
-				final float currentVertexY = currentVertex.y;
-
-				final int areaSign1 = EarClippingTriangulator.computeSpannedAreaSign(pX1, pY1, pX2, pY2, currentVertexX,
-					currentVertexY);
-				final int areaSign2 = EarClippingTriangulator.computeSpannedAreaSign(pX2, pY2, pX3, pY3, currentVertexX,
-					currentVertexY);
-				final int areaSign3 = EarClippingTriangulator.computeSpannedAreaSign(pX3, pY3, pX1, pY1, currentVertexX,
-					currentVertexY);
-
-				if (areaSign1 > 0 && areaSign2 > 0 && areaSign3 > 0) {
-					return true;
-				} else if (areaSign1 <= 0 && areaSign2 <= 0 && areaSign3 <= 0) {
-					return true;
-				}
-			}
-			i++;
-		}
-		return false;
-	}
-
-	private boolean isEarTip (final ArrayList<Vector2> pVertices, final int pEarTipIndex, final int[] pVertexTypes) {
-		if (this.concaveVertexCount != 0) {
-			final Vector2 previousVertex = pVertices.get(EarClippingTriangulator.computePreviousIndex(pVertices, pEarTipIndex));
-			final Vector2 currentVertex = pVertices.get(pEarTipIndex);
-			final Vector2 nextVertex = pVertices.get(EarClippingTriangulator.computeNextIndex(pVertices, pEarTipIndex));
-
-			if (EarClippingTriangulator.isAnyVertexInTriangle(pVertices, pVertexTypes, previousVertex.x, previousVertex.y,
-				currentVertex.x, currentVertex.y, nextVertex.x, nextVertex.y)) {
-				return false;
-			} else {
-				return true;
-			}
-		} else {
-			return true;
-		}
-	}
-
-	private void cutEarTip (final ArrayList<Vector2> pVertices, final int pEarTipIndex, final ArrayList<Vector2> pTriangles) {
-		final int previousIndex = EarClippingTriangulator.computePreviousIndex(pVertices, pEarTipIndex);
-		final int nextIndex = EarClippingTriangulator.computeNextIndex(pVertices, pEarTipIndex);
-
-		if (!EarClippingTriangulator.isCollinear(pVertices, previousIndex, pEarTipIndex, nextIndex)) {
-			pTriangles.add(new Vector2(pVertices.get(previousIndex)));
-			pTriangles.add(new Vector2(pVertices.get(pEarTipIndex)));
-			pTriangles.add(new Vector2(pVertices.get(nextIndex)));
-		}
-
-		pVertices.remove(pEarTipIndex);
-		if (pVertices.size() >= 3) {
-			EarClippingTriangulator.removeCollinearNeighborEarsAfterRemovingEarTip(pVertices, pEarTipIndex);
-		}
-	}
-
-	private static void removeCollinearNeighborEarsAfterRemovingEarTip (final ArrayList<Vector2> pVertices,
-		final int pEarTipCutIndex) {
-		final int collinearityCheckNextIndex = pEarTipCutIndex % pVertices.size();
-		int collinearCheckPreviousIndex = EarClippingTriangulator.computePreviousIndex(pVertices, collinearityCheckNextIndex);
-
-		if (EarClippingTriangulator.isCollinear(pVertices, collinearityCheckNextIndex)) {
-			pVertices.remove(collinearityCheckNextIndex);
-
-			if (pVertices.size() > 3) {
-				/* Update */
-				collinearCheckPreviousIndex = EarClippingTriangulator.computePreviousIndex(pVertices, collinearityCheckNextIndex);
-				if (EarClippingTriangulator.isCollinear(pVertices, collinearCheckPreviousIndex)) {
-					pVertices.remove(collinearCheckPreviousIndex);
-				}
-			}
-		} else if (EarClippingTriangulator.isCollinear(pVertices, collinearCheckPreviousIndex)) {
-			pVertices.remove(collinearCheckPreviousIndex);
-		}
-	}
-
-	private static boolean isCollinear (final ArrayList<Vector2> pVertices, final int pIndex) {
-		final int previousIndex = EarClippingTriangulator.computePreviousIndex(pVertices, pIndex);
-		final int nextIndex = EarClippingTriangulator.computeNextIndex(pVertices, pIndex);
-
-		return EarClippingTriangulator.isCollinear(pVertices, previousIndex, pIndex, nextIndex);
-	}
-
-	private static boolean isCollinear (final ArrayList<Vector2> pVertices, final int pPreviousIndex, final int pIndex,
-		final int pNextIndex) {
-		final Vector2 previousVertex = pVertices.get(pPreviousIndex);
-		final Vector2 vertex = pVertices.get(pIndex);
-		final Vector2 nextVertex = pVertices.get(pNextIndex);
-
-		return EarClippingTriangulator.computeSpannedAreaSign(previousVertex.x, previousVertex.y, vertex.x, vertex.y, nextVertex.x,
-			nextVertex.y) == 0;
-	}
-
-	private static int computePreviousIndex (final List<Vector2> pVertices, final int pIndex) {
-		return pIndex == 0 ? pVertices.size() - 1 : pIndex - 1;
+	private int computePreviousIndex (final int index) {
+		return index == 0 ? this.vertexCount - 1 : index - 1;
 	}
 
-	private static int computeNextIndex (final List<Vector2> pVertices, final int pIndex) {
-		return pIndex == pVertices.size() - 1 ? 0 : pIndex + 1;
+	private int computeNextIndex (final int index) {
+		return index == this.vertexCount - 1 ? 0 : index + 1;
 	}
 }
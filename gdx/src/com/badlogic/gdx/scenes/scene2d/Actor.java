@@ -343,6 +343,7 @@ public class Actor {
 
 	public void setX (float x) {
 		this.x = x;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	public float getY () {
@@ -351,17 +352,20 @@ public class Actor {
 
 	public void setY (float y) {
 		this.y = y;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	/** Sets the x and y. */
 	public void setPosition (float x, float y) {
 		this.x = x;
 		this.y = y;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	public void translate (float x, float y) {
 		this.x += x;
 		this.y += y;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	public float getWidth () {
@@ -370,6 +374,7 @@ public class Actor {
 
 	public void setWidth (float width) {
 		this.width = width;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	public float getHeight () {
@@ -378,6 +383,7 @@ public class Actor {
 
 	public void setHeight (float height) {
 		this.height = height;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	/** Returns y plus height. */
@@ -394,18 +400,21 @@ public class Actor {
 	public void setSize (float width, float height) {
 		this.width = width;
 		this.height = height;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	/** Adds the specified size to the current size. */
 	public void size (float size) {
 		width += size;
 		height += size;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	/** Adds the specified size to the current size. */
 	public void size (float width, float height) {
 		this.width += width;
 		this.height += height;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	/** Set bounds the x, y, width, and height. */
@@ -414,6 +423,7 @@ public class Actor {
 		this.y = y;
 		this.width = width;
 		this.height = height;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	public float getOriginX () {
@@ -444,6 +454,7 @@ public class Actor {
 
 	public void setScaleX (float scaleX) {
 		this.scaleX = scaleX;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	public float getScaleY () {
@@ -452,30 +463,35 @@ public class Actor {
 
 	public void setScaleY (float scaleY) {
 		this.scaleY = scaleY;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	/** Sets the scalex and scaley. */
 	public void setScale (float scale) {
 		this.scaleX = scale;
 		this.scaleY = scale;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	/** Sets the scalex and scaley. */
 	public void setScale (float scaleX, float scaleY) {
 		this.scaleX = scaleX;
 		this.scaleY = scaleY;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	/** Adds the specified scale to the current scale. */
 	public void scale (float scale) {
 		scaleX += scale;
 		scaleY += scale;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	/** Adds the specified scale to the current scale. */
 	public void scale (float scaleX, float scaleY) {
 		this.scaleX += scaleX;
 		this.scaleY += scaleY;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	public float getRotation () {
@@ -484,11 +500,13 @@ public class Actor {
 
 	public void setRotation (float degrees) {
 		this.rotation = degrees;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	/** Adds the specified rotation to the current rotation. */
 	public void rotate (float amountInDegrees) {
 		rotation += amountInDegrees;
+		if (parent != null) parent.childBoundsChanged(this);
 	}
 
 	public void setColor (Color color) {
@@ -538,6 +556,7 @@ public class Actor {
 			children.add(this);
 		else
 			children.insert(index, this);
+		parent.invalidateHitGrid();
 	}
 
 	/** Returns the z-index of this actor.
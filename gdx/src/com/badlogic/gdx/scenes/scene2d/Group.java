@@ -17,12 +17,15 @@
 package com.badlogic.gdx.scenes.scene2d;
 
 import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.MathUtils;
 import com.badlogic.gdx.math.Matrix3;
 import com.badlogic.gdx.math.Matrix4;
 import com.badlogic.gdx.math.Rectangle;
 import com.badlogic.gdx.math.Vector2;
 import com.badlogic.gdx.scenes.scene2d.utils.Cullable;
 import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.LongMap;
 import com.badlogic.gdx.utils.SnapshotArray;
 
 /** 2D scene graph node that may contain other actors.
@@ -39,7 +42,10 @@ public class Group extends Actor implements Cullable {
 	private final Matrix4 oldBatchTransform = new Matrix4();
 	private boolean transform = true;
 	private Rectangle cullingArea;
+	private final Rectangle visibleArea = new Rectangle();
+	private boolean hasVisibleArea;
 	private final Vector2 point = new Vector2();
+	private HitGrid hitGrid;
 
 	public void act (float delta) {
 		super.act(delta);
@@ -61,12 +67,19 @@ public class Group extends Actor implements Cullable {
 	 * {@link #resetTransform(SpriteBatch)} after this method if {@link #setTransform(boolean) transform} is true. If
 	 * {@link #setTransform(boolean) transform} is false these methods don't need to be called, children positions are temporarily
 	 * offset by the group position when drawn. This method avoids drawing children completely outside the
-	 * {@link #setCullingArea(Rectangle) culling area}, if set. */
+	 * {@link #setCullingArea(Rectangle) culling area}, if set, or else outside the area visible to the stage's camera when the
+	 * stage {@link Stage#setCulling(boolean) culls}. */
 	protected void drawChildren (SpriteBatch batch, float parentAlpha) {
 		parentAlpha *= this.color.a;
 		SnapshotArray<Actor> children = this.children;
 		Actor[] actors = children.begin();
 		Rectangle cullingArea = this.cullingArea;
+		// The visible area is only valid for the draw it was set for.
+		boolean cullChildren = hasVisibleArea;
+		hasVisibleArea = false;
+		// A group's bounds don't contain its children, so child groups are only culled by a culling area set by hand.
+		boolean cullGroups = cullingArea != null;
+		if (cullingArea == null && cullChildren) cullingArea = visibleArea;
 		if (cullingArea != null) {
 			// Draw children only if inside culling area.
 			float cullLeft = cullingArea.x;
@@ -77,9 +90,12 @@ public class Group extends Actor implements Cullable {
 				for (int i = 0, n = children.size; i < n; i++) {
 					Actor child = actors[i];
 					if (!child.isVisible()) continue;
-					float cx = child.x, cy = child.y;
-					if (cx <= cullRight && cy <= cullTop && cx + child.width >= cullLeft && cy + child.height >= cullBottom)
-						child.draw(batch, parentAlpha);
+					if (cullChildren && child instanceof Group) {
+						if (cullGroups && !overlaps(child, cullLeft, cullBottom, cullRight, cullTop)) continue;
+						((Group)child).setVisibleArea(cullLeft, cullBottom, cullRight, cullTop);
+					} else if (!overlaps(child, cullLeft, cullBottom, cullRight, cullTop)) //
+						continue;
+					child.draw(batch, parentAlpha);
 				}
 				batch.flush();
 			} else {
@@ -90,14 +106,17 @@ public class Group extends Actor implements Cullable {
 				for (int i = 0, n = children.size; i < n; i++) {
 					Actor child = actors[i];
 					if (!child.isVisible()) continue;
+					if (cullChildren && child instanceof Group) {
+						if (cullGroups && !overlaps(child, cullLeft, cullBottom, cullRight, cullTop)) continue;
+						((Group)child).setVisibleArea(cullLeft, cullBottom, cullRight, cullTop);
+					} else if (!overlaps(child, cullLeft, cullBottom, cullRight, cullTop)) //
+						continue;
 					float cx = child.x, cy = child.y;
-					if (cx <= cullRight && cy <= cullTop && cx + child.width >= cullLeft && cy + child.height >= cullBottom) {
-						child.x = cx + offsetX;
-						child.y = cy + offsetY;
-						child.draw(batch, parentAlpha);
-						child.x = cx;
-						child.y = cy;
-					}
+					child.x = cx + offsetX;
+					child.y = cy + offsetY;
+					child.draw(batch, parentAlpha);
+					child.x = cx;
+					child.y = cy;
 				}
 				x = offsetX;
 				y = offsetY;
@@ -133,6 +152,57 @@ public class Group extends Actor implements Cullable {
 		children.end();
 	}
 
+	/** Returns true if the child's bounds, rotated and scaled, overlap the rectangle. */
+	static private boolean overlaps (Actor child, float left, float bottom, float right, float top) {
+		float x = child.x, y = child.y;
+		float scaleX = child.scaleX, scaleY = child.scaleY;
+		if (child.rotation == 0 && scaleX == 1 && scaleY == 1)
+			return x <= right && y <= top && x + child.width >= left && y + child.height >= bottom;
+		// Axis aligned bounds of the transformed rectangle, from its center and half size.
+		float cos = (float)Math.cos(child.rotation * MathUtils.degreesToRadians);
+		float sin = (float)Math.sin(child.rotation * MathUtils.degreesToRadians);
+		float halfWidth = child.width / 2, halfHeight = child.height / 2;
+		float centerX = (halfWidth - child.originX) * scaleX, centerY = (halfHeight - child.originY) * scaleY;
+		float worldCenterX = x + child.originX + cos * centerX - sin * centerY;
+		float worldCenterY = y + child.originY + sin * centerX + cos * centerY;
+		halfWidth *= scaleX;
+		halfHeight *= scaleY;
+		float extentX = Math.abs(cos * halfWidth) + Math.abs(sin * halfHeight);
+		float extentY = Math.abs(sin * halfWidth) + Math.abs(cos * halfHeight);
+		return worldCenterX - extentX <= right && worldCenterY - extentY <= top && worldCenterX + extentX >= left
+			&& worldCenterY + extentY >= bottom;
+	}
+
+	/** Sets the area visible to the stage's camera for the next {@link #drawChildren(SpriteBatch, float)}, given in the parent's
+	 * coordinates. It is converted to this group's coordinates, using the bounds of the area if this group is rotated or scaled.
+	 * Without {@link #setTransform(boolean) transform} the children are only offset by the group's position when drawn. */
+	void setVisibleArea (float left, float bottom, float right, float top) {
+		if (!transform || (rotation == 0 && scaleX == 1 && scaleY == 1))
+			visibleArea.set(left - x, bottom - y, right - left, top - bottom);
+		else {
+			Vector2 point = this.point;
+			parentToLocalCoordinates(point.set(left, bottom));
+			float minX = point.x, minY = point.y, maxX = minX, maxY = minY;
+			parentToLocalCoordinates(point.set(right, bottom));
+			minX = Math.min(minX, point.x);
+			minY = Math.min(minY, point.y);
+			maxX = Math.max(maxX, point.x);
+			maxY = Math.max(maxY, point.y);
+			parentToLocalCoordinates(point.set(right, top));
+			minX = Math.min(minX, point.x);
+			minY = Math.min(minY, point.y);
+			maxX = Math.max(maxX, point.x);
+			maxY = Math.max(maxY, point.y);
+			parentToLocalCoordinates(point.set(left, top));
+			minX = Math.min(minX, point.x);
+			minY = Math.min(minY, point.y);
+			maxX = Math.max(maxX, point.x);
+			maxY = Math.max(maxY, point.y);
+			visibleArea.set(minX, minY, maxX - minX, maxY - minY);
+		}
+		hasVisibleArea = true;
+	}
+
 	/** Set the SpriteBatch's transformation matrix, often with the result of {@link #computeTransform()}. Note this causes the
 	 * batch to be flushed. {@link #resetTransform(SpriteBatch)} will restore the transform to what it was before this call. */
 	protected void applyTransform (SpriteBatch batch, Matrix4 transform) {
@@ -183,25 +253,53 @@ public class Group extends Actor implements Cullable {
 		batch.setTransformMatrix(oldBatchTransform);
 	}
 
-	/** Children completely outside of this rectangle will not be drawn. This is only valid for use with unrotated and unscaled
-	 * actors! */
+	/** Children completely outside of this rectangle will not be drawn. Rotated and scaled children are tested using the bounds of
+	 * their transformed rectangle. */
 	public void setCullingArea (Rectangle cullingArea) {
 		this.cullingArea = cullingArea;
 	}
 
 	public Actor hit (float x, float y, boolean touchable) {
 		if (touchable && getTouchable() == Touchable.disabled) return null;
-		Array<Actor> children = this.children;
-		for (int i = children.size - 1; i >= 0; i--) {
-			Actor child = children.get(i);
-			if (!child.isVisible()) continue;
-			child.parentToLocalCoordinates(point.set(x, y));
-			Actor hit = child.hit(point.x, point.y, touchable);
+		if (hitGrid != null) {
+			Actor hit = hitGrid.hit(x, y, touchable);
 			if (hit != null) return hit;
+		} else {
+			Array<Actor> children = this.children;
+			for (int i = children.size - 1; i >= 0; i--) {
+				Actor child = children.get(i);
+				if (!child.isVisible()) continue;
+				child.parentToLocalCoordinates(point.set(x, y));
+				Actor hit = child.hit(point.x, point.y, touchable);
+				if (hit != null) return hit;
+			}
 		}
 		return super.hit(x, y, touchable);
 	}
 
+	/** Enables a uniform grid that {@link #hit(float, float, boolean)} uses to only test the children near the point, which makes
+	 * hit detection, and so {@link Stage} touch and mouse over events, fast for groups with many children. Children that are not
+	 * rotated or scaled are stored in the cells their bounds overlap and are updated as they move or are resized. Other children
+	 * and children covering many cells are always tested. With the grid, a child that is not rotated or scaled is only hit within
+	 * its bounds, so it is not suited for children that are hit outside their bounds, such as groups whose children extend past
+	 * the group's size.
+	 * @param cellSize The size of the grid cells, or 0 to disable the grid. A size near that of the children works well. */
+	public void setHitGrid (float cellSize) {
+		if (cellSize < 0) throw new IllegalArgumentException("cellSize cannot be < 0: " + cellSize);
+		hitGrid = cellSize == 0 ? null : new HitGrid(cellSize);
+	}
+
+	/** Causes the {@link #setHitGrid(float) hit grid} to be rebuilt. This is done automatically, except when the
+	 * {@link #getChildren() children} array is modified directly. */
+	public void invalidateHitGrid () {
+		if (hitGrid != null) hitGrid.dirty = true;
+	}
+
+	/** Called by the child when its position, size, scale or rotation changes. */
+	void childBoundsChanged (Actor child) {
+		if (hitGrid != null) hitGrid.update(child);
+	}
+
 	/** Called when actors are added to or removed from the group. */
 	protected void childrenChanged () {
 	}
@@ -213,6 +311,7 @@ public class Group extends Actor implements Cullable {
 		children.add(actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		if (hitGrid != null) hitGrid.add(actor);
 		childrenChanged();
 	}
 
@@ -226,6 +325,7 @@ public class Group extends Actor implements Cullable {
 			children.insert(index, actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		invalidateHitGrid();
 		childrenChanged();
 	}
 
@@ -237,6 +337,7 @@ public class Group extends Actor implements Cullable {
 		children.insert(index, actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		invalidateHitGrid();
 		childrenChanged();
 	}
 
@@ -251,6 +352,7 @@ public class Group extends Actor implements Cullable {
 			children.insert(index + 1, actor);
 		actor.setParent(this);
 		actor.setStage(getStage());
+		invalidateHitGrid();
 		childrenChanged();
 	}
 
@@ -259,6 +361,7 @@ public class Group extends Actor implements Cullable {
 	 * {@link Action#setPool(com.badlogic.gdx.utils.Pool) pool}, if any. This is not done automatically. */
 	public boolean removeActor (Actor actor) {
 		if (!children.removeValue(actor, true)) return false;
+		if (hitGrid != null) hitGrid.remove(actor);
 		Stage stage = getStage();
 		if (stage != null) stage.unfocus(actor);
 		actor.setParent(null);
@@ -277,6 +380,7 @@ public class Group extends Actor implements Cullable {
 		}
 		children.end();
 		children.clear();
+		invalidateHitGrid();
 		childrenChanged();
 	}
 
@@ -314,6 +418,7 @@ public class Group extends Actor implements Cullable {
 		if (first < 0 || first >= maxIndex) return false;
 		if (second < 0 || second >= maxIndex) return false;
 		children.swap(first, second);
+		invalidateHitGrid();
 		return true;
 	}
 
@@ -323,6 +428,7 @@ public class Group extends Actor implements Cullable {
 		int secondIndex = children.indexOf(second, true);
 		if (firstIndex == -1 || secondIndex == -1) return false;
 		children.swap(firstIndex, secondIndex);
+		invalidateHitGrid();
 		return true;
 	}
 
@@ -373,4 +479,146 @@ public class Group extends Actor implements Cullable {
 		}
 		children.end();
 	}
+
+	/** Stores the children of a group in the cells of a uniform grid. Each cell, and the list of children that are always tested,
+	 * is kept sorted by the children's order so the topmost child is hit first. The order is the index in the children array
+	 * when the grid was built, so reordering the children requires the grid to be rebuilt. */
+	private class HitGrid {
+		static private final int MAX_CELLS = 16;
+
+		final float cellSize, invCellSize;
+		final LongMap<Array<Entry>> cells = new LongMap();
+		final Array<Entry> unindexed = new Array(true, 16, Entry.class);
+		final IdentityMap<Actor, Entry> entries = new IdentityMap();
+		int nextOrder;
+		boolean dirty = true;
+
+		HitGrid (float cellSize) {
+			this.cellSize = cellSize;
+			invCellSize = 1 / cellSize;
+		}
+
+		Actor hit (float x, float y, boolean touchable) {
+			if (dirty) rebuild();
+			Array<Entry> cell = cells.get(key(cell(x), cell(y)));
+			Entry[] cellEntries = cell == null ? null : cell.items;
+			Entry[] unindexedEntries = unindexed.items;
+			int c = cell == null ? -1 : cell.size - 1, u = unindexed.size - 1;
+			Vector2 point = Group.this.point;
+			while (c >= 0 || u >= 0) {
+				Entry entry;
+				if (u < 0 || (c >= 0 && cellEntries[c].order > unindexedEntries[u].order))
+					entry = cellEntries[c--];
+				else
+					entry = unindexedEntries[u--];
+				Actor child = entry.actor;
+				if (!child.isVisible()) continue;
+				child.parentToLocalCoordinates(point.set(x, y));
+				Actor hit = child.hit(point.x, point.y, touchable);
+				if (hit != null) return hit;
+			}
+			return null;
+		}
+
+		void add (Actor actor) {
+			if (dirty) return;
+			Entry entry = new Entry();
+			entry.actor = actor;
+			entry.order = nextOrder++;
+			entries.put(actor, entry);
+			place(entry);
+		}
+
+		void remove (Actor actor) {
+			if (dirty) return;
+			Entry entry = entries.remove(actor);
+			if (entry != null) unplace(entry);
+		}
+
+		void update (Actor actor) {
+			if (dirty) return;
+			Entry entry = entries.get(actor);
+			if (entry == null) return;
+			if (entry.indexed) {
+				if (actor.rotation == 0 && actor.scaleX == 1 && actor.scaleY == 1 && cell(actor.x) == entry.left
+					&& cell(actor.y) == entry.bottom && cell(actor.x + actor.width) == entry.right
+					&& cell(actor.y + actor.height) == entry.top) return;
+			} else if (actor.rotation != 0 || actor.scaleX != 1 || actor.scaleY != 1) //
+				return;
+			unplace(entry);
+			place(entry);
+		}
+
+		private void rebuild () {
+			dirty = false;
+			for (Array<Entry> cell : cells.values())
+				cell.clear();
+			unindexed.clear();
+			entries.clear();
+			nextOrder = 0;
+			Actor[] actors = children.items;
+			for (int i = 0, n = children.size; i < n; i++)
+				add(actors[i]);
+		}
+
+		private void place (Entry entry) {
+			Actor actor = entry.actor;
+			if (actor.rotation == 0 && actor.scaleX == 1 && actor.scaleY == 1) {
+				int left = cell(Math.min(actor.x, actor.x + actor.width)), right = cell(Math.max(actor.x, actor.x + actor.width));
+				int bottom = cell(Math.min(actor.y, actor.y + actor.height)), top = cell(Math.max(actor.y, actor.y + actor.height));
+				if ((long)(right - left + 1) * (top - bottom + 1) <= MAX_CELLS) {
+					entry.indexed = true;
+					entry.left = left;
+					entry.bottom = bottom;
+					entry.right = right;
+					entry.top = top;
+					for (int x = left; x <= right; x++) {
+						for (int y = bottom; y <= top; y++) {
+							long key = key(x, y);
+							Array<Entry> cell = cells.get(key);
+							if (cell == null) cells.put(key, cell = new Array(true, 4, Entry.class));
+							insert(cell, entry);
+						}
+					}
+					return;
+				}
+			}
+			entry.indexed = false;
+			insert(unindexed, entry);
+		}
+
+		private void unplace (Entry entry) {
+			if (entry.indexed) {
+				for (int x = entry.left; x <= entry.right; x++)
+					for (int y = entry.bottom; y <= entry.top; y++)
+						cells.get(key(x, y)).removeValue(entry, true);
+			} else
+				unindexed.removeValue(entry, true);
+		}
+
+		/** Inserts the entry so the array stays sorted by order. */
+		private void insert (Array<Entry> array, Entry entry) {
+			Entry[] items = array.items;
+			int order = entry.order;
+			int index = array.size;
+			while (index > 0 && items[index - 1].order > order)
+				index--;
+			array.insert(index, entry);
+		}
+
+		private int cell (float value) {
+			return (int)Math.floor(value * invCellSize);
+		}
+
+		private long key (int x, int y) {
+			return (long)x << 32 | (y & 0xffffffffL);
+		}
+	}
+
+	static private class Entry {
+		Actor actor;
+		int order;
+		boolean indexed;
+		int left, bottom, right, top;
+	}
 }
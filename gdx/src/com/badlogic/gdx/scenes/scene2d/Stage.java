@@ -73,6 +73,7 @@ public class Stage extends InputAdapter implements Disposable {
 	private Actor mouseOverActor;
 	private Actor keyboardFocus, scrollFocus;
 	private SnapshotArray<TouchFocus> touchFocuses = new SnapshotArray(true, 4, TouchFocus.class);
+	private boolean culling;
 
 	/** Creates a stage with a {@link #setViewport(float, float, boolean) viewport} equal to the device screen resolution. The stage
 	 * will use its own {@link SpriteBatch}. */
@@ -155,6 +156,19 @@ public class Stage extends InputAdapter implements Disposable {
 	public void draw () {
 		camera.update();
 		if (!root.isVisible()) return;
+		if (culling) {
+			// The bounds of the camera's frustum, which contain the visible area of the stage.
+			Vector3[] planePoints = camera.frustum.planePoints;
+			float left = planePoints[0].x, right = left, bottom = planePoints[0].y, top = bottom;
+			for (int i = 1; i < planePoints.length; i++) {
+				Vector3 point = planePoints[i];
+				left = Math.min(left, point.x);
+				right = Math.max(right, point.x);
+				bottom = Math.min(bottom, point.y);
+				top = Math.max(top, point.y);
+			}
+			root.setVisibleArea(left, bottom, right, top);
+		}
 		batch.setProjectionMatrix(camera.combined);
 		batch.begin();
 		root.draw(batch, 1);
@@ -634,6 +648,20 @@ public class Stage extends InputAdapter implements Disposable {
 		this.camera = camera;
 	}
 
+	/** When true, {@link #draw()} computes the area visible to the camera and each group skips drawing children whose bounds are
+	 * outside of it. Groups are always drawn, because their bounds don't contain their children, and pass the area on to their
+	 * children in their own coordinates. Rotated and scaled actors are tested using the bounds of their transformed rectangle.
+	 * Actors that draw outside of their bounds may be culled when they are partially visible. A group's
+	 * {@link Group#setCullingArea(com.badlogic.gdx.math.Rectangle) culling area}, if set, is used instead for its children.
+	 * Default is false. */
+	public void setCulling (boolean culling) {
+		this.culling = culling;
+	}
+
+	public boolean isCulling () {
+		return culling;
+	}
+
 	/** Returns the root group which holds all actors in the stage. */
 	public Group getRoot () {
 		return root;
@@ -120,7 +120,7 @@ public class SelectBox extends Widget {
 
 		float max = 0;
 		for (int i = 0; i < items.length; i++)
-			max = Math.max(font.getBounds(items[i]).width, max);
+			max = Math.max(font.getWidth(items[i]), max);
 		prefWidth = bg.getLeftWidth() + bg.getRightWidth() + max;
 		prefWidth = Math.max(prefWidth, max + style.listBackground.getLeftWidth() + style.listBackground.getRightWidth() + 2
 			* style.itemSpacing);
@@ -0,0 +1,232 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.scenes.scene2d.ui;
+
+import com.badlogic.gdx.graphics.g2d.SpriteBatch;
+import com.badlogic.gdx.math.Rectangle;
+import com.badlogic.gdx.scenes.scene2d.Actor;
+import com.badlogic.gdx.scenes.scene2d.utils.Cullable;
+import com.badlogic.gdx.scenes.scene2d.utils.Layout;
+import com.badlogic.gdx.utils.Array;
+
+/** A group that displays a large number of rows, creating actors only for the rows that are visible. It is meant to be the
+ * widget of a {@link ScrollPane}, which sets the culling area as it scrolls. The rows that are visible, plus a {@link #setMargin(int)
+ * margin} of rows above and below, are given an actor by the {@link RowAdapter}. Row actors that scroll out of view are reused for
+ * rows that scroll into view, so scrolling does not allocate.
+ * <p>
+ * Row heights come from {@link RowAdapter#getRowHeight(int)} and nothing is measured, so setting tens of thousands of rows is
+ * cheap. A tree can be shown by having the adapter return the expanded nodes in order and indent each row actor by its depth,
+ * calling {@link #rowsChanged()} when a node is expanded or collapsed.
+ * <p>
+ * The preferred height is the sum of the row heights. The preferred width is set with {@link #setPrefWidth(float)} and every row
+ * is given the width of the list. */
+public class VirtualList extends WidgetGroup implements Cullable {
+	private RowAdapter adapter;
+	private float[] rowTops = new float[1];
+	private int rowCount;
+	private float prefWidth;
+	private int margin = 2;
+	private Rectangle cullingArea;
+	private final Array<Actor> rows = new Array();
+	private final Array<Actor> freeRows = new Array();
+	private int firstRow;
+	private boolean sizeInvalid = true, rowsInvalid;
+
+	public VirtualList (RowAdapter adapter) {
+		setAdapter(adapter);
+	}
+
+	public void setAdapter (RowAdapter adapter) {
+		if (adapter == null) throw new IllegalArgumentException("adapter cannot be null.");
+		this.adapter = adapter;
+		clearRows();
+		freeRows.clear();
+		rowsChanged();
+	}
+
+	public RowAdapter getAdapter () {
+		return adapter;
+	}
+
+	/** Call when the number of rows or the row heights have changed, or to have every visible row updated. */
+	public void rowsChanged () {
+		sizeInvalid = true;
+		rowsInvalid = true;
+		invalidateHierarchy();
+	}
+
+	/** Sets the number of rows to keep an actor for above and below the visible rows, so scrolling a little does not need to update
+	 * rows. Default is 2. */
+	public void setMargin (int margin) {
+		if (margin < 0) throw new IllegalArgumentException("margin must be >= 0: " + margin);
+		this.margin = margin;
+	}
+
+	public void setPrefWidth (float prefWidth) {
+		this.prefWidth = prefWidth;
+		invalidateHierarchy();
+	}
+
+	private void computeSize () {
+		sizeInvalid = false;
+		int count = adapter.getRowCount();
+		if (rowTops.length < count + 1) rowTops = new float[count + 1];
+		float[] rowTops = this.rowTops;
+		float y = 0;
+		for (int i = 0; i < count; i++) {
+			rowTops[i] = y;
+			y += adapter.getRowHeight(i);
+		}
+		rowTops[count] = y;
+		rowCount = count;
+	}
+
+	public void layout () {
+		if (sizeInvalid) computeSize();
+		rowsInvalid = true;
+	}
+
+	/** Frees the rows that are no longer visible and gives actors to the rows that have become visible. */
+	private void updateRows () {
+		int first = 0, last = rowCount - 1;
+		if (cullingArea != null) {
+			first = Math.max(0, getRowAt(cullingArea.y + cullingArea.height) - margin);
+			last = Math.min(rowCount - 1, getRowAt(cullingArea.y) + margin);
+		}
+		if (!rowsInvalid && first == firstRow && last == firstRow + rows.size - 1) return;
+
+		Array<Actor> rows = this.rows;
+		int oldFirst = firstRow, oldLast = firstRow + rows.size - 1;
+		if (rowsInvalid || last < oldFirst || first > oldLast) {
+			clearRows();
+			oldFirst = first;
+			oldLast = first - 1;
+		} else {
+			while (oldFirst < first) {
+				freeRow(rows.removeIndex(0));
+				oldFirst++;
+			}
+			while (oldLast > last) {
+				freeRow(rows.pop());
+				oldLast--;
+			}
+		}
+		rowsInvalid = false;
+		firstRow = first;
+
+		float width = getWidth(), height = getHeight();
+		for (int i = oldFirst - 1; i >= first; i--)
+			rows.insert(0, obtainRow(i, width, height));
+		for (int i = oldLast + 1; i <= last; i++)
+			rows.add(obtainRow(i, width, height));
+	}
+
+	private Actor obtainRow (int index, float width, float height) {
+		Actor row = freeRows.size > 0 ? freeRows.pop() : adapter.newRow();
+		adapter.updateRow(row, index);
+		float[] rowTops = this.rowTops;
+		row.setBounds(0, height - rowTops[index + 1], width, rowTops[index + 1] - rowTops[index]);
+		if (row instanceof Layout) ((Layout)row).invalidate();
+		addActor(row);
+		return row;
+	}
+
+	private void freeRow (Actor row) {
+		removeActor(row);
+		freeRows.add(row);
+	}
+
+	private void clearRows () {
+		for (int i = rows.size - 1; i >= 0; i--)
+			freeRow(rows.get(i));
+		rows.clear();
+	}
+
+	/** The row actors are not part of the size of the list, so adding and removing them does not invalidate the layout. */
+	protected void childrenChanged () {
+	}
+
+	public void draw (SpriteBatch batch, float parentAlpha) {
+		validate();
+		updateRows();
+		super.draw(batch, parentAlpha);
+	}
+
+	/** Returns the index of the row at the specified y coordinate in the list's coordinates, or -1 if there are no rows. A y above or
+	 * below the rows returns the first or last row. */
+	public int getRowAt (float y) {
+		if (sizeInvalid) computeSize();
+		if (rowCount == 0) return -1;
+		float top = getHeight() - y;
+		float[] rowTops = this.rowTops;
+		int low = 0, high = rowCount - 1;
+		while (low < high) {
+			int middle = (low + high + 1) >>> 1;
+			if (rowTops[middle] <= top)
+				low = middle;
+			else
+				high = middle - 1;
+		}
+		return low;
+	}
+
+	/** Returns the actor for the specified row, or null if the row is not currently visible. */
+	public Actor getRow (int index) {
+		int i = index - firstRow;
+		if (i < 0 || i >= rows.size) return null;
+		return rows.get(i);
+	}
+
+	/** Returns the index of the first row that currently has an actor. */
+	public int getFirstVisibleRow () {
+		return firstRow;
+	}
+
+	/** Returns the number of rows that currently have an actor. */
+	public int getVisibleRowCount () {
+		return rows.size;
+	}
+
+	public float getPrefWidth () {
+		return prefWidth;
+	}
+
+	public float getPrefHeight () {
+		if (sizeInvalid) computeSize();
+		return rowTops[rowCount];
+	}
+
+	public void setCullingArea (Rectangle cullingArea) {
+		this.cullingArea = cullingArea;
+	}
+
+	/** Provides the rows for a {@link VirtualList}. */
+	static public interface RowAdapter {
+		public int getRowCount ();
+
+		/** Returns the height of the specified row. This is called for every row when the rows have {@link VirtualList#rowsChanged()
+		 * changed}, so it should not do any expensive work such as measuring text. */
+		public float getRowHeight (int index);
+
+		/** Returns a new actor that can display any row. */
+		public Actor newRow ();
+
+		/** Sets the actor to display the specified row. The actor may have previously displayed a different row. */
+		public void updateRow (Actor row, int index);
+	}
+}
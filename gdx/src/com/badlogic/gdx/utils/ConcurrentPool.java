@@ -0,0 +1,176 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.utils;
+
+/** A pool that may be used by multiple threads. Each thread keeps its own small stacks of free objects, called magazines, so
+ * {@link #obtain()} and {@link #free(Object)} usually don't need a lock. When a thread's magazines are empty or full, it exchanges
+ * a whole magazine with a shared depot, which is synchronized.
+ * <p>
+ * Each thread holds up to two magazines of free objects, and the depot holds at most {@link #max} objects. So the number of free
+ * objects, and {@link #getFree()}, are approximate.
+ * <p>
+ * When {@link #statistics} is true, each obtain and free also synchronizes on the pool to update the counts. */
+abstract public class ConcurrentPool<T> extends Pool<T> {
+	private final int magazineSize;
+	private final ThreadLocal<Cache> caches = new ThreadLocal<Cache>() {
+		protected Cache initialValue () {
+			return new Cache(magazineSize);
+		}
+	};
+	private final Array<Object[]> fullMagazines = new Array(false, 8, Object[].class);
+	private final Array<Object[]> emptyMagazines = new Array(false, 8, Object[].class);
+	private final int maxFullMagazines;
+
+	/** Creates a pool with magazines of 16 objects and no maximum. */
+	public ConcurrentPool () {
+		this(16, Integer.MAX_VALUE);
+	}
+
+	/** @param magazineSize The number of free objects a thread exchanges with the depot at once.
+	 * @param max The maximum number of free objects to store in the depot. */
+	public ConcurrentPool (int magazineSize, int max) {
+		super(0, max);
+		if (magazineSize < 1) throw new IllegalArgumentException("magazineSize must be > 0: " + magazineSize);
+		this.magazineSize = magazineSize;
+		maxFullMagazines = max / magazineSize;
+	}
+
+	/** Creates a new object. This may be called by any thread using the pool. */
+	abstract protected T newObject ();
+
+	public T obtain () {
+		Cache cache = caches.get();
+		if (cache.loadedSize == 0) {
+			if (cache.previousSize > 0)
+				cache.swap();
+			else {
+				Object[] magazine;
+				synchronized (fullMagazines) {
+					if (fullMagazines.size == 0) {
+						if (statistics) countObtain(true);
+						return newObject();
+					}
+					magazine = fullMagazines.pop();
+					emptyMagazines.add(cache.previous);
+				}
+				cache.previous = cache.loaded;
+				cache.loaded = magazine;
+				cache.loadedSize = magazine.length;
+			}
+		}
+		if (statistics) countObtain(false);
+		Object[] loaded = cache.loaded;
+		int index = --cache.loadedSize;
+		T object = (T)loaded[index];
+		loaded[index] = null;
+		return object;
+	}
+
+	/** Puts the specified object in the pool, making it eligible to be returned by {@link #obtain()} on any thread. The object is
+	 * reset before it is added. If the pool is full, the object is reset but not added. */
+	public void free (T object) {
+		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		if (object instanceof Poolable) ((Poolable)object).reset();
+		Cache cache = caches.get();
+		if (cache.loadedSize == magazineSize) {
+			if (cache.previousSize == 0)
+				cache.swap();
+			else {
+				synchronized (fullMagazines) {
+					if (fullMagazines.size >= maxFullMagazines) {
+						if (statistics) countFree(true);
+						return;
+					}
+					fullMagazines.add(cache.previous);
+					peak = Math.max(peak, fullMagazines.size * magazineSize);
+					cache.previous = cache.loaded;
+					cache.previousSize = magazineSize;
+					cache.loaded = emptyMagazines.size > 0 ? emptyMagazines.pop() : null;
+				}
+				if (cache.loaded == null) cache.loaded = new Object[magazineSize];
+				cache.loadedSize = 0;
+			}
+		}
+		if (statistics) countFree(false);
+		cache.loaded[cache.loadedSize++] = object;
+	}
+
+	/** Puts the specified objects in the pool. Null objects within the array are silently ignored.
+	 * @see #free(Object) */
+	public void freeAll (Array<T> objects) {
+		if (objects == null) throw new IllegalArgumentException("object cannot be null.");
+		for (int i = 0; i < objects.size; i++) {
+			T object = objects.get(i);
+			if (object != null) free(object);
+		}
+	}
+
+	/** Removes all free objects from the depot and from the magazines of the calling thread. The magazines of other threads are
+	 * not affected. */
+	public void clear () {
+		synchronized (fullMagazines) {
+			fullMagazines.clear();
+			emptyMagazines.clear();
+		}
+		caches.remove();
+	}
+
+	/** The number of objects available to the calling thread, in its magazines and in the depot. */
+	public int getFree () {
+		Cache cache = caches.get();
+		synchronized (fullMagazines) {
+			return cache.loadedSize + cache.previousSize + fullMagazines.size * magazineSize;
+		}
+	}
+
+	synchronized void countObtain (boolean created) {
+		super.countObtain(created);
+	}
+
+	synchronized void countFree (boolean discarded) {
+		super.countFree(discarded);
+	}
+
+	public synchronized int getInUse () {
+		return super.getInUse();
+	}
+
+	public synchronized void resetStatistics () {
+		super.resetStatistics();
+	}
+
+	/** The magazines of one thread. The previous magazine is always either empty or full. */
+	static private class Cache {
+		Object[] loaded, previous;
+		int loadedSize, previousSize;
+
+		Cache (int magazineSize) {
+			loaded = new Object[magazineSize];
+			previous = new Object[magazineSize];
+		}
+
+		void swap () {
+			Object[] magazine = loaded;
+			loaded = previous;
+			previous = magazine;
+			int size = loadedSize;
+			loadedSize = previousSize;
+			previousSize = size;
+		}
+	}
+}
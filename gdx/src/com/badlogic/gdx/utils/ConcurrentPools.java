@@ -0,0 +1,91 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.utils;
+
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+
+/** Stores a map of {@link ConcurrentPool}s by type for convenient static access from any thread. Unlike {@link Pools}, this may be
+ * used by multiple threads, such as asset loading or network threads. */
+public class ConcurrentPools {
+	static private final ConcurrentHashMap<Class, ConcurrentPool> typePools = new ConcurrentHashMap();
+	static private volatile boolean statistics;
+
+	/** Returns a new or existing pool for the specified type, which creates objects with the type's zero argument constructor. The
+	 * pool uses magazines of 16 objects and stores at most 128 free objects in its depot. */
+	static public <T> ConcurrentPool<T> get (Class<T> type) {
+		ConcurrentPool pool = typePools.get(type);
+		if (pool == null) {
+			final ReflectionPool<T> factory = new ReflectionPool(type, 0, 0);
+			pool = new ConcurrentPool<T>(16, 128) {
+				protected T newObject () {
+					return factory.newObject();
+				}
+			};
+			pool.statistics = statistics;
+			ConcurrentPool existing = typePools.putIfAbsent(type, pool);
+			if (existing != null) pool = existing;
+		}
+		return pool;
+	}
+
+	/** Obtains an object from the {@link #get(Class) pool}. */
+	static public <T> T obtain (Class<T> type) {
+		return (T)get(type).obtain();
+	}
+
+	/** Frees an object from the {@link #get(Class) pool}. */
+	static public void free (Object object) {
+		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		ConcurrentPool pool = typePools.get(object.getClass());
+		if (pool == null)
+			throw new IllegalArgumentException("No objects have been obtained of type: " + object.getClass().getName());
+		pool.free(object);
+	}
+
+	/** Frees the specified objects from the {@link #get(Class) pool}. */
+	static public void freeAll (Array objects) {
+		if (objects == null) throw new IllegalArgumentException("objects cannot be null.");
+		for (int i = 0, n = objects.size; i < n; i++) {
+			Object object = objects.get(i);
+			ConcurrentPool pool = typePools.get(object.getClass());
+			if (pool == null)
+				throw new IllegalArgumentException("No objects have been obtained of type: " + object.getClass().getName());
+			pool.free(object);
+		}
+	}
+
+	/** Sets {@link Pool#statistics} for all existing pools and pools created later. Threads already using a pool may not see the
+	 * change immediately. */
+	static public void setStatistics (boolean statistics) {
+		ConcurrentPools.statistics = statistics;
+		for (ConcurrentPool pool : typePools.values())
+			pool.statistics = statistics;
+	}
+
+	/** Returns a new map containing each pool by the type of its objects, for showing {@link Pool#statistics}. */
+	static public ObjectMap<Class, Pool> getPools () {
+		ObjectMap<Class, Pool> pools = new ObjectMap(typePools.size());
+		for (Entry<Class, ConcurrentPool> entry : typePools.entrySet())
+			pools.put(entry.getKey(), entry.getValue());
+		return pools;
+	}
+
+	private ConcurrentPools () {
+	}
+}
@@ -48,6 +48,7 @@ public class Json {
 	private boolean usePrototypes = true;
 	private OutputType outputType;
 	private final ObjectMap<Class, ObjectMap<String, FieldMetadata>> typeToFields = new ObjectMap();
+	private final ObjectMap<Class, FieldMetadata[]> typeToFieldArray = new ObjectMap();
 	private final ObjectMap<String, Class> tagToClass = new ObjectMap();
 	private final ObjectMap<Class, String> classToTag = new ObjectMap();
 	private final ObjectMap<Class, Serializer> classToSerializer = new ObjectMap();
@@ -145,9 +146,17 @@ public class Json {
 			nameToField.put(field.getName(), new FieldMetadata(field));
 		}
 		typeToFields.put(type, nameToField);
+		typeToFieldArray.put(type, nameToField.values().toArray().toArray(FieldMetadata.class));
 		return nameToField;
 	}
 
+	private FieldMetadata[] getFields (Class type) {
+		FieldMetadata[] fields = typeToFieldArray.get(type);
+		if (fields != null) return fields;
+		cacheFields(type);
+		return typeToFieldArray.get(type);
+	}
+
 	public String toJson (Object object) {
 		return toJson(object, object == null ? null : object.getClass(), (Class)null);
 	}
@@ -230,22 +239,26 @@ public class Json {
 
 		Object[] defaultValues = getDefaultValues(type);
 
-		ObjectMap<String, FieldMetadata> fields = typeToFields.get(type);
-		if (fields == null) fields = cacheFields(type);
-		int i = 0;
-		for (FieldMetadata metadata : fields.values()) {
+		FieldMetadata[] fields = getFields(type);
+		for (int i = 0, n = fields.length; i < n; i++) {
+			FieldMetadata metadata = fields[i];
 			Field field = metadata.field;
 			try {
+				if (metadata.primitiveType != 0) {
+					writePrimitiveField(object, metadata, defaultValues == null ? null : defaultValues[i]);
+					continue;
+				}
+
 				Object value = field.get(object);
 
 				if (defaultValues != null) {
-					Object defaultValue = defaultValues[i++];
+					Object defaultValue = defaultValues[i];
 					if (value == null && defaultValue == null) continue;
 					if (value != null && defaultValue != null && value.equals(defaultValue)) continue;
 				}
 
 				if (debug) System.out.println("Writing field: " + field.getName() + " (" + type.getName() + ")");
-				writer.name(field.getName());
+				writeFieldName(metadata);
 				writeValue(value, field.getType(), metadata.elementType);
 			} catch (IllegalAccessException ex) {
 				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
@@ -260,6 +273,74 @@ public class Json {
 		}
 	}
 
+	/** Writes a primitive field without boxing its value.
+	 * @param defaultValue May be null if default values are not used. */
+	private void writePrimitiveField (Object object, FieldMetadata metadata, Object defaultValue) throws IllegalAccessException,
+		IOException {
+		Field field = metadata.field;
+		switch (metadata.primitiveType) {
+		case FieldMetadata.BOOLEAN: {
+			boolean value = field.getBoolean(object);
+			if (defaultValue != null && value == (Boolean)defaultValue) return;
+			writeFieldName(metadata);
+			writer.value(value);
+			break;
+		}
+		case FieldMetadata.BYTE: {
+			byte value = field.getByte(object);
+			if (defaultValue != null && value == (Byte)defaultValue) return;
+			writeFieldName(metadata);
+			writer.value((int)value);
+			break;
+		}
+		case FieldMetadata.SHORT: {
+			short value = field.getShort(object);
+			if (defaultValue != null && value == (Short)defaultValue) return;
+			writeFieldName(metadata);
+			writer.value((int)value);
+			break;
+		}
+		case FieldMetadata.INT: {
+			int value = field.getInt(object);
+			if (defaultValue != null && value == (Integer)defaultValue) return;
+			writeFieldName(metadata);
+			writer.value(value);
+			break;
+		}
+		case FieldMetadata.LONG: {
+			long value = field.getLong(object);
+			if (defaultValue != null && value == (Long)defaultValue) return;
+			writeFieldName(metadata);
+			writer.value(value);
+			break;
+		}
+		case FieldMetadata.FLOAT: {
+			float value = field.getFloat(object);
+			if (defaultValue != null && Float.floatToIntBits(value) == Float.floatToIntBits((Float)defaultValue)) return;
+			writeFieldName(metadata);
+			writer.value(value);
+			break;
+		}
+		case FieldMetadata.DOUBLE: {
+			double value = field.getDouble(object);
+			if (defaultValue != null && Double.doubleToLongBits(value) == Double.doubleToLongBits((Double)defaultValue)) return;
+			writeFieldName(metadata);
+			writer.value(value);
+			break;
+		}
+		}
+	}
+
+	/** Writes the field's name, quoting it only once per output type. */
+	private void writeFieldName (FieldMetadata metadata) throws IOException {
+		OutputType outputType = writer.outputType;
+		if (metadata.quotedNameType != outputType) {
+			metadata.quotedName = outputType.quoteName(metadata.field.getName());
+			metadata.quotedNameType = outputType;
+		}
+		writer.quotedName(metadata.quotedName);
+	}
+
 	private Object[] getDefaultValues (Class type) {
 		if (!usePrototypes) return null;
 		if (classToDefaultValues.containsKey(type)) return classToDefaultValues.get(type);
@@ -271,17 +352,15 @@ public class Json {
 			return null;
 		}
 
-		ObjectMap<String, FieldMetadata> fields = typeToFields.get(type);
-		if (fields == null) fields = cacheFields(type);
+		FieldMetadata[] fields = getFields(type);
 
-		Object[] values = new Object[fields.size];
+		Object[] values = new Object[fields.length];
 		classToDefaultValues.put(type, values);
 
-		int i = 0;
-		for (FieldMetadata metadata : fields.values()) {
-			Field field = metadata.field;
+		for (int i = 0, n = fields.length; i < n; i++) {
+			Field field = fields[i].field;
 			try {
-				values[i++] = field.get(object);
+				values[i] = field.get(object);
 			} catch (IllegalAccessException ex) {
 				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
 			} catch (SerializationException ex) {
@@ -696,6 +775,7 @@ public class Json {
 		if (jsonValue == null) return;
 		if (elementType == null) elementType = metadata.elementType;
 		try {
+			if (metadata.primitiveType != 0 && readPrimitiveField(object, metadata, jsonValue)) return;
 			field.set(object, readValue(field.getType(), elementType, jsonValue));
 		} catch (IllegalAccessException ex) {
 			throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
@@ -726,6 +806,7 @@ public class Json {
 			Field field = metadata.field;
 			if (entry.value == null) continue;
 			try {
+				if (metadata.primitiveType != 0 && readPrimitiveField(object, metadata, entry.value)) continue;
 				field.set(object, readValue(field.getType(), metadata.elementType, entry.value));
 			} catch (IllegalAccessException ex) {
 				throw new SerializationException("Error accessing field: " + field.getName() + " (" + type.getName() + ")", ex);
@@ -740,6 +821,39 @@ public class Json {
 		}
 	}
 
+	/** Sets a primitive field from a JSON number or boolean without boxing the converted value.
+	 * @return false if the JSON value must be converted by {@link #readValue(Class, Class, Object)}. */
+	private boolean readPrimitiveField (Object object, FieldMetadata metadata, Object jsonValue) throws IllegalAccessException {
+		Field field = metadata.field;
+		if (jsonValue instanceof Number) {
+			Number number = (Number)jsonValue;
+			switch (metadata.primitiveType) {
+			case FieldMetadata.BYTE:
+				field.setByte(object, number.byteValue());
+				return true;
+			case FieldMetadata.SHORT:
+				field.setShort(object, number.shortValue());
+				return true;
+			case FieldMetadata.INT:
+				field.setInt(object, number.intValue());
+				return true;
+			case FieldMetadata.LONG:
+				field.setLong(object, number.longValue());
+				return true;
+			case FieldMetadata.FLOAT:
+				field.setFloat(object, number.floatValue());
+				return true;
+			case FieldMetadata.DOUBLE:
+				field.setDouble(object, number.doubleValue());
+				return true;
+			}
+		} else if (jsonValue instanceof Boolean && metadata.primitiveType == FieldMetadata.BOOLEAN) {
+			field.setBoolean(object, (Boolean)jsonValue);
+			return true;
+		}
+		return false;
+	}
+
 	/** @param type May be null if the type is unknown.
 	 * @return May be null. */
 	public <T> T readValue (String name, Class<T> type, Object jsonData) {
@@ -1072,12 +1186,36 @@ public class Json {
 	}
 
 	static private class FieldMetadata {
+		static final int BOOLEAN = 1, BYTE = 2, SHORT = 3, INT = 4, LONG = 5, FLOAT = 6, DOUBLE = 7;
+
 		Field field;
 		Class elementType;
+		/** One of the constants above if the field can be read and written without boxing, else 0. */
+		final int primitiveType;
+		String quotedName;
+		OutputType quotedNameType;
 
 		public FieldMetadata (Field field) {
 			this.field = field;
 
+			Class type = field.getType();
+			if (type == boolean.class)
+				primitiveType = BOOLEAN;
+			else if (type == byte.class)
+				primitiveType = BYTE;
+			else if (type == short.class)
+				primitiveType = SHORT;
+			else if (type == int.class)
+				primitiveType = INT;
+			else if (type == long.class)
+				primitiveType = LONG;
+			else if (type == float.class)
+				primitiveType = FLOAT;
+			else if (type == double.class)
+				primitiveType = DOUBLE;
+			else
+				primitiveType = 0;
+
 			Type genericType = field.getGenericType();
 			if (genericType instanceof ParameterizedType) {
 				Type[] actualTypes = ((ParameterizedType)genericType).getActualTypeArguments();
@@ -30,7 +30,7 @@ import com.badlogic.gdx.files.FileHandle;
  * <br>
  * The default behavior is to parse the JSON into a DOM made up of {@link OrderedMap}, {@link Array}, String, Float, Long, and
  * Boolean objects. Extend this class and override methods to perform event driven parsing. When this is done, the parse methods
- * will return null.
+ * will return null. To process large documents without building a DOM or boxing, pass a {@link Listener} to a parse method.
  * @author Nathan Sweet */
 public class JsonReader {
 	public Object parse (String json) {
@@ -38,29 +38,9 @@ public class JsonReader {
 		return parse(data, 0, data.length);
 	}
 
+	/** Parses the JSON in fixed size chunks, so the whole document is never held in memory. The reader is closed. */
 	public Object parse (Reader reader) {
-		try {
-			char[] data = new char[1024];
-			int offset = 0;
-			while (true) {
-				int length = reader.read(data, offset, data.length - offset);
-				if (length == -1) break;
-				if (length == 0) {
-					char[] newData = new char[data.length * 2];
-					System.arraycopy(data, 0, newData, 0, data.length);
-					data = newData;
-				} else
-					offset += length;
-			}
-			return parse(data, 0, offset);
-		} catch (IOException ex) {
-			throw new SerializationException(ex);
-		} finally {
-			try {
-				reader.close();
-			} catch (IOException ignored) {
-			}
-		}
+		return parse(reader, null, 0, 0, null);
 	}
 
 	public Object parse (InputStream input) {
@@ -80,18 +60,58 @@ public class JsonReader {
 	}
 
 	public Object parse (char[] data, int offset, int length) {
-		int cs, p = offset, pe = length, eof = pe, top = 0;
+		return parse(null, data, offset, length, null);
+	}
+
+	/** Parses the JSON, calling the listener for each value instead of building a DOM. */
+	public void parse (String json, Listener listener) {
+		char[] data = json.toCharArray();
+		parse(null, data, 0, data.length, listener);
+	}
+
+	/** Parses the JSON in fixed size chunks, calling the listener for each value instead of building a DOM. Memory use does not
+	 * depend on the size of the document. The reader is closed. */
+	public void parse (Reader reader, Listener listener) {
+		parse(reader, null, 0, 0, listener);
+	}
+
+	/** @see #parse(Reader, Listener) */
+	public void parse (InputStream input, Listener listener) {
+		try {
+			parse(new InputStreamReader(input, "ISO-8859-1"), listener);
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		}
+	}
+
+	/** @see #parse(Reader, Listener) */
+	public void parse (FileHandle file, Listener listener) {
+		try {
+			parse(file.read(), listener);
+		} catch (Exception ex) {
+			throw new SerializationException("Error parsing file: " + file, ex);
+		}
+	}
+
+	/** Parses the JSON, calling the listener for each value instead of building a DOM. */
+	public void parse (char[] data, int offset, int length, Listener listener) {
+		parse(null, data, offset, length, listener);
+	}
+
+	/** @param reader If not null, the data is read from the reader in chunks and data, offset and length are ignored. */
+	private Object parse (Reader reader, char[] data, int offset, int length, Listener listener) {
+		if (reader != null) data = new char[1024];
+		this.listener = listener;
+		names.clear();
+
+		int cs, p = offset, pe = length, eof = reader == null ? pe : -1, top = 0;
 		int[] stack = new int[4];
 
-		int s = 0;
-		Array<String> names = new Array(8);
+		int s = 0, lineNumber = 1;
 		boolean needsUnescape = false;
 		boolean discardBuffer = false; // When unquotedString and true/false/null both match, this discards unquotedString.
 		RuntimeException parseRuntimeEx = null;
 
-		boolean debug = false;
-		if (debug) System.out.println();
-
 		try {
 
 			// line 3 "JsonReader.java"
@@ -100,6 +120,9 @@ public class JsonReader {
 				top = 0;
 			}
 
+			// line 210 "JsonReader.rl"
+			while (true) {
+
 			// line 8 "JsonReader.java"
 			{
 				int _klen;
@@ -178,7 +201,7 @@ public class JsonReader {
 							while (_nacts-- > 0) {
 								switch (_json_actions[_acts++]) {
 								case 0:
-								// line 106 "JsonReader.rl"
+								// line 126 "JsonReader.rl"
 								{
 									s = p;
 									needsUnescape = false;
@@ -186,87 +209,67 @@ public class JsonReader {
 								}
 									break;
 								case 1:
-								// line 111 "JsonReader.rl"
+								// line 131 "JsonReader.rl"
 								{
 									needsUnescape = true;
 								}
 									break;
 								case 2:
-								// line 114 "JsonReader.rl"
+								// line 134 "JsonReader.rl"
 								{
-									String name = new String(data, s, p - s);
+									parsedName(data, s, p - s, needsUnescape);
 									s = p;
-									if (needsUnescape) name = unescape(name);
-									if (debug) System.out.println("name: " + name);
-									names.add(name);
 								}
 									break;
 								case 3:
-								// line 121 "JsonReader.rl"
+								// line 138 "JsonReader.rl"
 								{
 									if (!discardBuffer) {
-										String value = new String(data, s, p - s);
+										parsedString(data, s, p - s, needsUnescape);
 										s = p;
-										if (needsUnescape) value = unescape(value);
-										String name = names.size > 0 ? names.pop() : null;
-										if (debug) System.out.println("string: " + name + "=" + value);
-										string(name, value);
 									}
 								}
 									break;
 								case 4:
-								// line 131 "JsonReader.rl"
+								// line 144 "JsonReader.rl"
 								{
-									String value = new String(data, s, p - s);
+									parsedFloat(data, s, p - s);
 									s = p;
-									String name = names.size > 0 ? names.pop() : null;
-									if (debug) System.out.println("float: " + name + "=" + Float.parseFloat(value));
-									number(name, Float.parseFloat(value));
 								}
 									break;
 								case 5:
-								// line 138 "JsonReader.rl"
+								// line 148 "JsonReader.rl"
 								{
-									String value = new String(data, s, p - s);
+									parsedLong(data, s, p - s);
 									s = p;
-									String name = names.size > 0 ? names.pop() : null;
-									if (debug) System.out.println("long: " + name + "=" + Long.parseLong(value));
-									number(name, Long.parseLong(value));
 								}
 									break;
 								case 6:
-								// line 145 "JsonReader.rl"
+								// line 152 "JsonReader.rl"
 								{
-									String name = names.size > 0 ? names.pop() : null;
-									if (debug) System.out.println("boolean: " + name + "=true");
-									bool(name, true);
+									parsedBoolean(true);
 									discardBuffer = true;
 								}
 									break;
 								case 7:
-								// line 151 "JsonReader.rl"
+								// line 156 "JsonReader.rl"
 								{
-									String name = names.size > 0 ? names.pop() : null;
-									if (debug) System.out.println("boolean: " + name + "=false");
-									bool(name, false);
+									parsedBoolean(false);
 									discardBuffer = true;
 								}
 									break;
 								case 8:
-								// line 157 "JsonReader.rl"
+								// line 160 "JsonReader.rl"
 								{
-									String name = names.size > 0 ? names.pop() : null;
-									if (debug) System.out.println("null: " + name);
-									string(name, null);
+									parsedNull();
 									discardBuffer = true;
 								}
 									break;
 								case 9:
-								// line 163 "JsonReader.rl"
+								// line 164 "JsonReader.rl"
 								{
-									String name = names.size > 0 ? names.pop() : null;
-									if (debug) System.out.println("startObject: " + name);
-									startObject(name);
+									parsedStartObject();
+									s = p;
 									{
 										if (top == stack.length) {
 											int[] newStack = new int[stack.length * 2];
@@ -285,8 +288,8 @@ public class JsonReader {
 								case 10:
 								// line 169 "JsonReader.rl"
 								{
-									if (debug) System.out.println("endObject");
-									pop();
+									parsedEndObject();
+									s = p;
 									{
 										cs = stack[--top];
 										_goto_targ = 2;
@@ -297,9 +300,8 @@ public class JsonReader {
 								case 11:
 								// line 174 "JsonReader.rl"
 								{
-									String name = names.size > 0 ? names.pop() : null;
-									if (debug) System.out.println("startArray: " + name);
-									startArray(name);
+									parsedStartArray();
+									s = p;
 									{
 										if (top == stack.length) {
 											int[] newStack = new int[stack.length * 2];
@@ -316,10 +318,10 @@ public class JsonReader {
 								}
 									break;
 								case 12:
-								// line 180 "JsonReader.rl"
+								// line 179 "JsonReader.rl"
 								{
-									if (debug) System.out.println("endArray");
-									pop();
+									parsedEndArray();
+									s = p;
 									{
 										cs = stack[--top];
 										_goto_targ = 2;
@@ -348,62 +350,46 @@ public class JsonReader {
 							while (__nacts-- > 0) {
 								switch (_json_actions[__acts++]) {
 								case 3:
-								// line 121 "JsonReader.rl"
+								// line 138 "JsonReader.rl"
 								{
 									if (!discardBuffer) {
-										String value = new String(data, s, p - s);
+										parsedString(data, s, p - s, needsUnescape);
 										s = p;
-										if (needsUnescape) value = unescape(value);
-										String name = names.size > 0 ? names.pop() : null;
-										if (debug) System.out.println("string: " + name + "=" + value);
-										string(name, value);
 									}
 								}
 									break;
 								case 4:
-								// line 131 "JsonReader.rl"
+								// line 144 "JsonReader.rl"
 								{
-									String value = new String(data, s, p - s);
+									parsedFloat(data, s, p - s);
 									s = p;
-									String name = names.size > 0 ? names.pop() : null;
-									if (debug) System.out.println("float: " + name + "=" + Float.parseFloat(value));
-									number(name, Float.parseFloat(value));
 								}
 									break;
 								case 5:
-								// line 138 "JsonReader.rl"
+								// line 148 "JsonReader.rl"
 								{
-									String value = new String(data, s, p - s);
+									parsedLong(data, s, p - s);
 									s = p;
-									String name = names.size > 0 ? names.pop() : null;
-									if (debug) System.out.println("long: " + name + "=" + Long.parseLong(value));
-									number(name, Long.parseLong(value));
 								}
 									break;
 								case 6:
-								// line 145 "JsonReader.rl"
+								// line 152 "JsonReader.rl"
 								{
-									String name = names.size > 0 ? names.pop() : null;
-									if (debug) System.out.println("boolean: " + name + "=true");
-									bool(name, true);
+									parsedBoolean(true);
 									discardBuffer = true;
 								}
 									break;
 								case 7:
-								// line 151 "JsonReader.rl"
+								// line 156 "JsonReader.rl"
 								{
-									String name = names.size > 0 ? names.pop() : null;
-									if (debug) System.out.println("boolean: " + name + "=false");
-									bool(name, false);
+									parsedBoolean(false);
 									discardBuffer = true;
 								}
 									break;
 								case 8:
-								// line 157 "JsonReader.rl"
+								// line 160 "JsonReader.rl"
 								{
-									String name = names.size > 0 ? names.pop() : null;
-									if (debug) System.out.println("null: " + name);
-									string(name, null);
+									parsedNull();
 									discardBuffer = true;
 								}
 									break;
@@ -418,14 +404,41 @@ public class JsonReader {
 				}
 			}
 
-			// line 212 "JsonReader.rl"
-
+			// line 213 "JsonReader.rl"
+				if (reader == null || p < pe || p == eof) break;
+				// The chunk was consumed. Keep the start of the current token and read the next chunk.
+				for (int i = 0; i < s; i++)
+					if (data[i] == '\n') lineNumber++;
+				p -= s;
+				pe -= s;
+				System.arraycopy(data, s, data, 0, pe);
+				s = 0;
+				if (pe == data.length) {
+					char[] newData = new char[data.length * 2];
+					System.arraycopy(data, 0, newData, 0, pe);
+					data = newData;
+				}
+				int count = reader.read(data, pe, data.length - pe);
+				if (count == -1)
+					eof = pe;
+				else
+					pe += count;
+			}
 		} catch (RuntimeException ex) {
 			parseRuntimeEx = ex;
+		} catch (IOException ex) {
+			throw new SerializationException(ex);
+		} finally {
+			this.listener = null;
+			if (reader != null) {
+				try {
+					reader.close();
+				} catch (IOException ignored) {
+				}
+			}
 		}
 
 		if (p < pe) {
-			int lineNumber = 1;
 			for (int i = 0; i < p; i++)
 				if (data[i] == '\n') lineNumber++;
 			throw new SerializationException("Error parsing JSON on line " + lineNumber + " near: " + new String(data, p, pe - p),
@@ -437,6 +450,8 @@ public class JsonReader {
 				throw new SerializationException("Error parsing JSON, unmatched brace.");
 			else
 				throw new SerializationException("Error parsing JSON, unmatched bracket.");
+		} else if (listener != null && top != 0) {
+			throw new SerializationException("Error parsing JSON, unmatched brace or bracket.");
 		}
 		Object root = this.root;
 		this.root = null;
@@ -574,10 +589,16 @@ public class JsonReader {
 	static final int json_en_array = 46;
 	static final int json_en_main = 1;
 
-	// line 236 "JsonReader.rl"
+	// line 266 "JsonReader.rl"
+
+	static private final boolean debug = false;
+	static private final float[] powersOfTen = {1, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
 
 	private final Array elements = new Array(8);
 	private Object root, current;
+	private final Array<String> names = new Array(8);
+	private final StringBuilder token = new StringBuilder(32);
+	private Listener listener;
 
 	private void set (String name, Object value) {
 		if (current instanceof OrderedMap)
@@ -623,20 +644,138 @@ public class JsonReader {
 		set(name, value);
 	}
 
-	private String unescape (String value) {
-		int length = value.length();
-		StringBuilder buffer = new StringBuilder(length + 16);
-		for (int i = 0; i < length;) {
-			char c = value.charAt(i++);
+	private String popName () {
+		return names.size > 0 ? names.pop() : null;
+	}
+
+	private void parsedName (char[] data, int offset, int length, boolean escaped) {
+		if (listener != null) {
+			listener.name(token(data, offset, length, escaped));
+			return;
+		}
+		String name = escaped ? token(data, offset, length, true).toString() : new String(data, offset, length);
+		if (debug) System.out.println("name: " + name);
+		names.add(name);
+	}
+
+	private void parsedString (char[] data, int offset, int length, boolean escaped) {
+		if (listener != null) {
+			listener.string(token(data, offset, length, escaped));
+			return;
+		}
+		String value = escaped ? token(data, offset, length, true).toString() : new String(data, offset, length);
+		String name = popName();
+		if (debug) System.out.println("string: " + name + "=" + value);
+		string(name, value);
+	}
+
+	private void parsedFloat (char[] data, int offset, int length) {
+		float value = parseFloat(data, offset, length);
+		if (listener != null) {
+			listener.number(value);
+			return;
+		}
+		String name = popName();
+		if (debug) System.out.println("float: " + name + "=" + value);
+		number(name, value);
+	}
+
+	private void parsedLong (char[] data, int offset, int length) {
+		long value = parseLong(data, offset, length);
+		if (listener != null) {
+			listener.number(value);
+			return;
+		}
+		String name = popName();
+		if (debug) System.out.println("long: " + name + "=" + value);
+		number(name, value);
+	}
+
+	private void parsedBoolean (boolean value) {
+		if (listener != null) {
+			listener.bool(value);
+			return;
+		}
+		String name = popName();
+		if (debug) System.out.println("boolean: " + name + "=" + value);
+		bool(name, value);
+	}
+
+	private void parsedNull () {
+		if (listener != null) {
+			listener.string(null);
+			return;
+		}
+		String name = popName();
+		if (debug) System.out.println("null: " + name);
+		string(name, null);
+	}
+
+	private void parsedStartObject () {
+		if (listener != null) {
+			listener.startObject();
+			return;
+		}
+		String name = popName();
+		if (debug) System.out.println("startObject: " + name);
+		startObject(name);
+	}
+
+	private void parsedStartArray () {
+		if (listener != null) {
+			listener.startArray();
+			return;
+		}
+		String name = popName();
+		if (debug) System.out.println("startArray: " + name);
+		startArray(name);
+	}
+
+	private void parsedEndObject () {
+		if (debug) System.out.println("endObject");
+		if (listener != null)
+			listener.endObject();
+		else
+			pop();
+	}
+
+	private void parsedEndArray () {
+		if (debug) System.out.println("endArray");
+		if (listener != null)
+			listener.endArray();
+		else
+			pop();
+	}
+
+	/** Returns the characters in a reused buffer, unescaped if necessary. */
+	private StringBuilder token (char[] data, int offset, int length, boolean escaped) {
+		StringBuilder token = this.token;
+		token.setLength(0);
+		if (escaped)
+			unescape(data, offset, length, token);
+		else
+			token.append(data, offset, length);
+		return token;
+	}
+
+	private void unescape (char[] data, int offset, int length, StringBuilder buffer) {
+		for (int i = offset, n = offset + length; i < n;) {
+			char c = data[i++];
 			if (c != '\\') {
 				buffer.append(c);
 				continue;
 			}
-			if (i == length) break;
-			c = value.charAt(i++);
+			if (i == n) break;
+			c = data[i++];
 			if (c == 'u') {
-				buffer.append(Character.toChars(Integer.parseInt(value.substring(i, i + 4), 16)));
-				i += 4;
+				if (i + 4 > n) throw new SerializationException("Illegal escaped character: \\u" + new String(data, i, n - i));
+				int value = 0;
+				for (int ii = i + 4; i < ii; i++) {
+					int digit = Character.digit(data[i], 16);
+					if (digit == -1) throw new SerializationException("Illegal escaped character: \\u" + new String(data, ii - 4, 4));
+					value = value * 16 + digit;
+				}
+				buffer.append((char)value);
 				continue;
 			}
 			switch (c) {
@@ -664,6 +803,85 @@ public class JsonReader {
 			}
 			buffer.append(c);
 		}
-		return buffer.toString();
+	}
+
+	/** Parses a float without creating a string when the result can be computed exactly with a single float operation, else
+	 * uses {@link Float#parseFloat(String)}. */
+	static private float parseFloat (char[] data, int offset, int length) {
+		int i = offset, n = offset + length;
+		boolean negative = data[i] == '-';
+		if (negative) i++;
+		int mantissa = 0, exponent = 0;
+		boolean fraction = false, exact = true;
+		for (; i < n; i++) {
+			char c = data[i];
+			if (c == '.') {
+				fraction = true;
+				continue;
+			}
+			if (c == 'e' || c == 'E') break;
+			mantissa = mantissa * 10 + (c - '0');
+			if (fraction) exponent--;
+			if (mantissa > 1 << 24) {
+				exact = false;
+				break;
+			}
+		}
+		if (exact && i < n) {
+			i++; // e or E
+			boolean negativeExponent = data[i] == '-';
+			if (negativeExponent || data[i] == '+') i++;
+			int value = 0;
+			for (; i < n; i++) {
+				value = value * 10 + (data[i] - '0');
+				if (value > 100) {
+					exact = false;
+					break;
+				}
+			}
+			exponent += negativeExponent ? -value : value;
+		}
+		if (exact && exponent >= -10 && exponent <= 10) {
+			float value = exponent < 0 ? mantissa / powersOfTen[-exponent] : mantissa * powersOfTen[exponent];
+			return negative ? -value : value;
+		}
+		return Float.parseFloat(new String(data, offset, length));
+	}
+
+	/** Parses a long without creating a string. */
+	static private long parseLong (char[] data, int offset, int length) {
+		int i = offset, n = offset + length;
+		boolean negative = data[i] == '-';
+		if (negative) i++;
+		if (n - i > 18) return Long.parseLong(new String(data, offset, length));
+		long value = 0;
+		for (; i < n; i++)
+			value = value * 10 + (data[i] - '0');
+		return negative ? -value : value;
+	}
+
+	/** Receives the values of a JSON document as it is parsed, instead of a DOM being built. Names and strings are passed as a
+	 * {@link CharSequence} that is reused and is only valid until the method returns. Numbers are not boxed.
+	 * @see JsonReader#parse(Reader, Listener) */
+	static public interface Listener {
+		public void startObject ();
+
+		public void endObject ();
+
+		public void startArray ();
+
+		public void endArray ();
+
+		/** Called before each value in an object. */
+		public void name (CharSequence name);
+
+		/** @param value May be null for a JSON null. */
+		public void string (CharSequence value);
+
+		public void number (float value);
+
+		public void number (long value);
+
+		public void bool (boolean value);
 	}
 }
@@ -27,7 +27,8 @@ public class JsonWriter extends Writer {
 	private final Array<JsonObject> stack = new Array();
 	private JsonObject current;
 	private boolean named;
-	private OutputType outputType = OutputType.json;
+	OutputType outputType = OutputType.json;
+	private final char[] digits = new char[20];
 
 	public JsonWriter (Writer writer) {
 		this.writer = writer;
@@ -42,12 +43,17 @@ public class JsonWriter extends Writer {
 	}
 
 	public JsonWriter name (String name) throws IOException {
+		return quotedName(outputType.quoteName(name));
+	}
+
+	/** Writes a name that has already been quoted with {@link OutputType#quoteName(String)} for the current output type. */
+	JsonWriter quotedName (String quotedName) throws IOException {
 		if (current == null || current.array) throw new IllegalStateException("Current item must be an object.");
 		if (!current.needsComma)
 			current.needsComma = true;
 		else
 			writer.write(',');
-		writer.write(outputType.quoteName(name));
+		writer.write(quotedName);
 		writer.write(':');
 		named = true;
 		return this;
@@ -86,6 +92,58 @@ public class JsonWriter extends Writer {
 	}
 
 	public JsonWriter value (Object value) throws IOException {
+		beforeValue();
+		writer.write(outputType.quoteValue(value));
+		return this;
+	}
+
+	public JsonWriter value (boolean value) throws IOException {
+		beforeValue();
+		writer.write(value ? "true" : "false");
+		return this;
+	}
+
+	public JsonWriter value (char value) throws IOException {
+		return value((Object)String.valueOf(value));
+	}
+
+	public JsonWriter value (int value) throws IOException {
+		return value((long)value);
+	}
+
+	/** Writes the value without boxing it or creating a string. */
+	public JsonWriter value (long value) throws IOException {
+		beforeValue();
+		if (value == Long.MIN_VALUE) {
+			writer.write(String.valueOf(value));
+			return this;
+		}
+		char[] digits = this.digits;
+		int start = digits.length;
+		boolean negative = value < 0;
+		if (negative) value = -value;
+		do {
+			digits[--start] = (char)('0' + value % 10);
+			value /= 10;
+		} while (value != 0);
+		if (negative) digits[--start] = '-';
+		writer.write(digits, start, digits.length - start);
+		return this;
+	}
+
+	public JsonWriter value (float value) throws IOException {
+		beforeValue();
+		writer.write(Float.toString(value));
+		return this;
+	}
+
+	public JsonWriter value (double value) throws IOException {
+		beforeValue();
+		writer.write(Double.toString(value));
+		return this;
+	}
+
+	private void beforeValue () throws IOException {
 		if (current != null) {
 			if (current.array) {
 				if (!current.needsComma)
@@ -97,8 +155,6 @@ public class JsonWriter extends Writer {
 				named = false;
 			}
 		}
-		writer.write(outputType.quoteValue(value));
-		return this;
 	}
 
 	public JsonWriter object (String name) throws IOException {
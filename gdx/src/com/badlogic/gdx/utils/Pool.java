@@ -17,6 +17,9 @@
 package com.badlogic.gdx.utils;
 
 /** A pool of objects that can be reused to avoid allocation.
+ * <p>
+ * When {@link #statistics} is true, the pool counts how it is used, which helps to size pools and to find where objects are
+ * allocated or never freed.
  * @author Nathan Sweet */
 abstract public class Pool<T> {
 	/** The maximum number of objects that will be pooled. */
@@ -24,6 +27,20 @@ abstract public class Pool<T> {
 	/** The highest number of free objects. Can be reset any time. */
 	public int peak;
 
+	/** When true, the statistics below are updated by {@link #obtain()}, {@link #free(Object)} and {@link #freeAll(Array)}.
+	 * Default is false. */
+	public boolean statistics;
+	/** The number of objects obtained. */
+	public int obtainCount;
+	/** The number of objects freed. */
+	public int freeCount;
+	/** The number of objects obtained that had to be created because the pool was empty. */
+	public int newCount;
+	/** The number of objects freed that were not pooled because the pool already had {@link #max} free objects. */
+	public int discardCount;
+	/** The highest number of objects obtained and not yet freed. */
+	public int peakInUse;
+
 	private final Array<T> freeObjects;
 
 	/** Creates a pool with an initial capacity of 16 and no maximum. */
@@ -47,6 +64,7 @@ abstract public class Pool<T> {
 	/** Returns an object from this pool. The object may be new (from {@link #newObject()}) or reused (previously
 	 * {@link #free(Object) freed}). */
 	public T obtain () {
+		if (statistics) countObtain(freeObjects.size == 0);
 		return freeObjects.size == 0 ? newObject() : freeObjects.pop();
 	}
 
@@ -54,6 +72,7 @@ abstract public class Pool<T> {
 	 * {@link #max} free objects, the specified object is reset but not added to the pool. */
 	public void free (T object) {
 		if (object == null) throw new IllegalArgumentException("object cannot be null.");
+		if (statistics) countFree(freeObjects.size >= max);
 		if (freeObjects.size < max) {
 			freeObjects.add(object);
 			peak = Math.max(peak, freeObjects.size);
@@ -68,6 +87,7 @@ abstract public class Pool<T> {
 		for (int i = 0; i < objects.size; i++) {
 			T object = objects.get(i);
 			if (object == null) continue;
+			if (statistics) countFree(freeObjects.size >= max);
 			if (freeObjects.size < max) freeObjects.add(object);
 			if (object instanceof Poolable) ((Poolable)object).reset();
 		}
@@ -84,6 +104,32 @@ abstract public class Pool<T> {
 		return freeObjects.size;
 	}
 
+	void countObtain (boolean created) {
+		obtainCount++;
+		if (created) newCount++;
+		peakInUse = Math.max(peakInUse, obtainCount - freeCount);
+	}
+
+	void countFree (boolean discarded) {
+		freeCount++;
+		if (discarded) discardCount++;
+	}
+
+	/** Returns the number of objects obtained and not yet freed, according to the {@link #statistics}. Objects freed to this pool
+	 * that were not obtained from it make this smaller. */
+	public int getInUse () {
+		return obtainCount - freeCount;
+	}
+
+	/** Sets the statistics counts to zero. */
+	public void resetStatistics () {
+		obtainCount = 0;
+		freeCount = 0;
+		newCount = 0;
+		discardCount = 0;
+		peakInUse = 0;
+	}
+
 	/** Objects implementing this interface will have {@link #reset()} called when passed to {@link #free(Object)}. */
 	static public interface Poolable {
 		/** Resets the object for reuse. Object references should be nulled and fields may be set to default values. */
@@ -20,6 +20,7 @@ package com.badlogic.gdx.utils;
  * @author Nathan Sweet */
 public class Pools {
 	static private final ObjectMap<Class, ReflectionPool> typePools = new ObjectMap();
+	static private boolean statistics;
 
 	/** Returns a new or existing pool for the specified type, stored in a a Class to {@link ReflectionPool} map. The max size of
 	 * the pool used is 100. */
@@ -27,6 +28,7 @@ public class Pools {
 		ReflectionPool pool = typePools.get(type);
 		if (pool == null) {
 			pool = new ReflectionPool(type, 4, 100);
+			pool.statistics = statistics;
 			typePools.put(type, pool);
 		}
 		return pool;
@@ -58,6 +60,21 @@ public class Pools {
 		}
 	}
 
+	/** Sets {@link Pool#statistics} for all existing pools and pools created later. */
+	static public void setStatistics (boolean statistics) {
+		Pools.statistics = statistics;
+		for (ReflectionPool pool : typePools.values())
+			pool.statistics = statistics;
+	}
+
+	/** Returns a new map containing each pool by the type of its objects, for showing {@link Pool#statistics}. */
+	static public ObjectMap<Class, Pool> getPools () {
+		ObjectMap<Class, Pool> pools = new ObjectMap(typePools.size);
+		for (ObjectMap.Entry<Class, ReflectionPool> entry : typePools.entries())
+			pools.put(entry.key, entry.value);
+		return pools;
+	}
+
 	private Pools () {
 	}
 }
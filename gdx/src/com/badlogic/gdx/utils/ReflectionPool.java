@@ -18,46 +18,54 @@ package com.badlogic.gdx.utils;
 
 import java.lang.reflect.Constructor;
 
-/** Pool that creates new instances of a type using reflection. The type must have a zero argument constructor.
- * {@link Constructor#setAccessible(boolean)} will be used if the class and/or constructor is not visible.
+/** Pool that creates new instances of a type using reflection. The type must have a zero argument constructor, which is looked up when
+ * the pool is created. {@link Constructor#setAccessible(boolean)} will be used if the class and/or constructor is not visible.
  * @author Nathan Sweet */
 public class ReflectionPool<T> extends Pool<T> {
 	private final Class<T> type;
+	private final Constructor<T> constructor;
 
 	public ReflectionPool (Class<T> type) {
 		this.type = type;
+		constructor = findConstructor();
 	}
 
 	public ReflectionPool (Class<T> type, int initialCapacity, int max) {
 		super(initialCapacity, max);
 		this.type = type;
+		constructor = findConstructor();
 	}
 
 	public ReflectionPool (Class<T> type, int initialCapacity) {
 		super(initialCapacity);
 		this.type = type;
+		constructor = findConstructor();
 	}
 
 	protected T newObject () {
 		try {
-			return type.newInstance();
+			return constructor.newInstance();
 		} catch (Exception ex) {
-			Constructor ctor;
-			try {
-				ctor = type.getConstructor((Class[])null);
-			} catch (Exception ex2) {
-				try {
-					ctor = type.getDeclaredConstructor((Class[])null);
-					ctor.setAccessible(true);
-				} catch (NoSuchMethodException ex3) {
-					throw new RuntimeException("Class cannot be created (missing no-arg constructor): " + type.getName());
-				}
-			}
+			throw new GdxRuntimeException("Unable to create new instance: " + type.getName(), ex);
+		}
+	}
+
+	private Constructor<T> findConstructor () {
+		Constructor<T> constructor;
+		try {
+			constructor = type.getConstructor((Class[])null);
+		} catch (Exception ex1) {
 			try {
-				return (T)ctor.newInstance();
-			} catch (Exception ex3) {
-				throw new GdxRuntimeException("Unable to create new instance: " + type.getName(), ex);
+				constructor = type.getDeclaredConstructor((Class[])null);
+			} catch (NoSuchMethodException ex2) {
+				throw new RuntimeException("Class cannot be created (missing no-arg constructor): " + type.getName());
 			}
 		}
+		// Also needed for a public constructor of a class that is not visible.
+		try {
+			constructor.setAccessible(true);
+		} catch (SecurityException ignored) {
+		}
+		return constructor;
 	}
 }
@@ -32,19 +32,92 @@ import com.badlogic.gdx.utils.ObjectMap.Entry;
  * encodings are supported. Input is assumed to be well formed.<br>
  * <br>
  * The default behavior is to parse the XML into a DOM. Extends this class and override methods to perform event driven parsing.
- * When this is done, the parse methods will return null.
+ * When this is done, the parse methods will return null.<br>
+ * <br>
+ * To walk the XML once without building a DOM, use {@link #setInput(char[], int, int)} and call {@link #next()} until it returns
+ * {@link #END_DOCUMENT}. The name, attributes and text of the current event can be retrieved without allocating per attribute.
  * @author Nathan Sweet */
 public class XmlReader {
+	/** Event types returned by {@link #next()}. */
+	static public final int END_DOCUMENT = 0, START_ELEMENT = 1, END_ELEMENT = 2, TEXT = 3;
+
 	private final Array<Element> elements = new Array(8);
 	private Element root, current;
 	private final StringBuilder textBuffer = new StringBuilder(64);
 
+	private char[] data;
+	private int cs, p, pe, s;
+	private boolean hasBody, pendingEnd;
+	private int event, nameStart, nameLength, textStart, textLength;
+	private boolean textHasEntities;
+	private int[] attributes = new int[32];
+	private int attributeCount;
+	private final IntArray openNames = new IntArray();
+	private String[] names;
+	private int namesSize;
+
 	public Element parse (String xml) {
 		char[] data = xml.toCharArray();
 		return parse(data, 0, data.length);
 	}
 
 	public Element parse (Reader reader) throws IOException {
+		setInput(reader);
+		return parse();
+	}
+
+	public Element parse (InputStream input) throws IOException {
+		return parse(new InputStreamReader(input, "ISO-8859-1"));
+	}
+
+	public Element parse (FileHandle file) throws IOException {
+		try {
+			return parse(file.read());
+		} catch (Exception ex) {
+			throw new SerializationException("Error parsing file: " + file, ex);
+		}
+	}
+
+	public Element parse (char[] data, int offset, int length) {
+		setInput(data, offset, length);
+		return parse();
+	}
+
+	private Element parse () {
+		elements.clear();
+		root = null;
+		current = null;
+		while (true) {
+			switch (next()) {
+			case START_ELEMENT:
+				open(getName());
+				for (int i = 0, n = attributeCount; i < n; i++)
+					attribute(getAttributeName(i), getAttributeValue(i));
+				break;
+			case TEXT:
+				if (textHasEntities)
+					text(getText());
+				else
+					text(data, textStart, textLength);
+				break;
+			case END_ELEMENT:
+				close();
+				break;
+			default:
+				Element root = this.root;
+				this.root = null;
+				this.data = null;
+				return root;
+			}
+		}
+	}
+
+	public void setInput (String xml) {
+		char[] data = xml.toCharArray();
+		setInput(data, 0, data.length);
+	}
+
+	public void setInput (Reader reader) throws IOException {
 		char[] data = new char[1024];
 		int offset = 0;
 		while (true) {
@@ -57,34 +130,39 @@ public class XmlReader {
 			} else
 				offset += length;
 		}
-		return parse(data, 0, offset);
+		setInput(data, 0, offset);
 	}
 
-	public Element parse (InputStream input) throws IOException {
-		return parse(new InputStreamReader(input, "ISO-8859-1"));
+	public void setInput (InputStream input) throws IOException {
+		setInput(new InputStreamReader(input, "ISO-8859-1"));
 	}
 
-	public Element parse (FileHandle file) throws IOException {
+	public void setInput (FileHandle file) {
 		try {
-			return parse(file.read());
+			setInput(file.read());
 		} catch (Exception ex) {
 			throw new SerializationException("Error parsing file: " + file, ex);
 		}
 	}
 
-	public Element parse (char[] data, int offset, int length) {
-		int cs, p = offset, pe = length;
-
-		int s = 0;
-		String attributeName = null;
-		boolean hasBody = false;
-
-		// line 3 "XmlReader.java"
-		{
-			cs = xml_start;
+	/** Advances to the next element start, element end or text.
+	 * @return {@link #START_ELEMENT}, {@link #END_ELEMENT}, {@link #TEXT} or {@link #END_DOCUMENT} when the input is exhausted.
+	 *         An empty element such as <code>&lt;a/&gt;</code> produces both a start and an end event.
+	 * @throws SerializationException if the XML is malformed. */
+	public int next () {
+		if (event == END_ELEMENT) openNames.size -= 2;
+		if (pendingEnd) {
+			pendingEnd = false;
+			event = END_ELEMENT;
+			return END_ELEMENT;
 		}
 
-		// line 7 "XmlReader.java"
+		char[] data = this.data;
+		int cs = this.cs, p = this.p, pe = this.pe, s = this.s;
+		boolean hasBody = this.hasBody;
+		int event = END_DOCUMENT;
+
+		// line 144 "XmlReader.java"
 		{
 			int _klen;
 			int _trans = 0;
@@ -163,13 +241,13 @@ public class XmlReader {
 						while (_nacts-- > 0) {
 							switch (_xml_actions[_acts++]) {
 							case 0:
-							// line 80 "XmlReader.rl"
+							// line 167 "XmlReader.rl"
 							{
 								s = p;
 							}
 								break;
 							case 1:
-							// line 81 "XmlReader.rl"
+							// line 168 "XmlReader.rl"
 							{
 								char c = data[s];
 								if (c == '?' || c == '!') {
@@ -184,10 +262,19 @@ public class XmlReader {
 										p = s + 2;
 										while (data[p - 2] != ']' || data[p - 1] != ']' || data[p] != '>')
 											p++;
-										text(new String(data, s, p - s - 2));
-									} else
-										while (data[p] != '>')
-											p++;
+										textStart = s;
+										textLength = p - s - 2;
+										textHasEntities = false;
+										event = TEXT;
+										cs = 15;
+										{
+											p += 1;
+											_goto_targ = 5;
+											if (true) continue _goto;
+										}
+									}
+									while (data[p] != '>')
+										p++;
 									{
 										cs = 15;
 										_goto_targ = 2;
@@ -195,56 +282,74 @@ public class XmlReader {
 									}
 								}
 								hasBody = true;
-								open(new String(data, s, p - s));
+								nameStart = s;
+								nameLength = p - s;
+								attributeCount = 0;
 							}
 								break;
 							case 2:
-							// line 105 "XmlReader.rl"
+							// line 199 "XmlReader.rl"
 							{
 								hasBody = false;
-								close();
+								pendingEnd = true;
+								event = START_ELEMENT;
+								cs = 15;
 								{
-									cs = 15;
-									_goto_targ = 2;
+									p += 1;
+									_goto_targ = 5;
 									if (true) continue _goto;
 								}
 							}
 								break;
 							case 3:
-							// line 110 "XmlReader.rl"
+							// line 206 "XmlReader.rl"
 							{
-								close();
+								event = END_ELEMENT;
+								cs = 15;
 								{
-									cs = 15;
-									_goto_targ = 2;
+									p += 1;
+									_goto_targ = 5;
 									if (true) continue _goto;
 								}
 							}
 								break;
 							case 4:
-							// line 114 "XmlReader.rl"
+							// line 211 "XmlReader.rl"
 							{
 								if (hasBody) {
+									event = START_ELEMENT;
 									cs = 15;
-									_goto_targ = 2;
-									if (true) continue _goto;
+									{
+										p += 1;
+										_goto_targ = 5;
+										if (true) continue _goto;
+									}
 								}
 							}
 								break;
 							case 5:
-							// line 117 "XmlReader.rl"
+							// line 218 "XmlReader.rl"
 							{
-								attributeName = new String(data, s, p - s);
+								int index = attributeCount << 2;
+								if (index == attributes.length) {
+									int[] newAttributes = new int[index << 1];
+									System.arraycopy(attributes, 0, newAttributes, 0, index);
+									attributes = newAttributes;
+								}
+								attributes[index] = s;
+								attributes[index + 1] = p - s;
 							}
 								break;
 							case 6:
-							// line 120 "XmlReader.rl"
+							// line 228 "XmlReader.rl"
 							{
-								attribute(attributeName, new String(data, s, p - s));
+								int index = attributeCount++ << 2;
+								attributes[index + 2] = s;
+								attributes[index + 3] = p - s;
 							}
 								break;
 							case 7:
-							// line 123 "XmlReader.rl"
+							// line 233 "XmlReader.rl"
 							{
 								int end = p;
 								while (end != s) {
@@ -258,28 +363,21 @@ public class XmlReader {
 									}
 									break;
 								}
-								int current = s;
-								boolean entityFound = false;
-								while (current != end) {
-									if (data[current++] != '&') continue;
-									int entityStart = current;
-									while (current != end) {
-										if (data[current++] != ';') continue;
-										textBuffer.append(data, s, entityStart - s - 1);
-										String name = new String(data, entityStart, current - entityStart - 1);
-										String value = entity(name);
-										textBuffer.append(value != null ? value : name);
-										s = current;
-										entityFound = true;
+								textStart = s;
+								textLength = end - s;
+								textHasEntities = false;
+								for (int i = s; i < end; i++) {
+									if (data[i] == '&') {
+										textHasEntities = true;
 										break;
 									}
 								}
-								if (entityFound) {
-									if (s < end) textBuffer.append(data, s, end - s);
-									text(textBuffer.toString());
-									textBuffer.setLength(0);
-								} else
-									text(new String(data, s, end - s));
+								event = TEXT;
+								{
+									p += 1;
+									_goto_targ = 5;
+									if (true) continue _goto;
+								}
 							}
 								break;
 							// line 190 "XmlReader.java"
@@ -303,22 +401,52 @@ public class XmlReader {
 			}
 		}
 
-		// line 170 "XmlReader.rl"
+		// line 268 "XmlReader.rl"
+
+		this.cs = cs;
+		this.p = p;
+		this.s = s;
+		this.hasBody = hasBody;
+		this.event = event;
+
+		switch (event) {
+		case START_ELEMENT:
+			openNames.add(nameStart);
+			openNames.add(nameLength);
+			break;
+		case END_DOCUMENT:
+			if (p < pe) {
+				int lineNumber = 1;
+				for (int i = 0; i < p; i++)
+					if (data[i] == '\n') lineNumber++;
+				throw new SerializationException("Error parsing XML on line " + lineNumber + " near: "
+					+ new String(data, p, Math.min(32, pe - p)));
+			} else if (openNames.size != 0) {
+				String name = new String(data, openNames.items[openNames.size - 2], openNames.peek());
+				openNames.clear();
+				throw new SerializationException("Error parsing XML, unclosed element: " + name);
+			}
+		}
+		return event;
+	}
 
-		if (p < pe) {
-			int lineNumber = 1;
-			for (int i = 0; i < p; i++)
-				if (data[i] == '\n') lineNumber++;
-			throw new SerializationException("Error parsing XML on line " + lineNumber + " near: "
-				+ new String(data, p, Math.min(32, pe - p)));
-		} else if (elements.size != 0) {
-			Element element = elements.peek();
-			elements.clear();
-			throw new SerializationException("Error parsing XML, unclosed element: " + element.getName());
+	/** Sets the XML to be walked with {@link #next()}. The array is not copied and must not be modified until parsing is done. */
+	public void setInput (char[] data, int offset, int length) {
+		this.data = data;
+		p = offset;
+		pe = length;
+		s = 0;
+		hasBody = false;
+		pendingEnd = false;
+		event = END_DOCUMENT;
+		attributeCount = 0;
+		openNames.clear();
+		// line 3 "XmlReader.java"
+		{
+			cs = xml_start;
 		}
-		Element root = this.root;
-		this.root = null;
-		return root;
+
+		// line 309 "XmlReader.rl"
 	}
 
 	// line 210 "XmlReader.java"
@@ -397,7 +525,200 @@ public class XmlReader {
 	static final int xml_en_elementBody = 15;
 	static final int xml_en_main = 1;
 
-	// line 189 "XmlReader.rl"
+	// line 312 "XmlReader.rl"
+
+	/** Returns the name of the element for a {@link #START_ELEMENT} or {@link #END_ELEMENT} event, or of the enclosing element for
+	 * a {@link #TEXT} event. */
+	public String getName () {
+		int[] items = openNames.items;
+		int index = openNames.size - 2;
+		return name(data, items[index], items[index + 1]);
+	}
+
+	/** Returns the number of elements enclosing the current event, including the element of a start or end event. */
+	public int getDepth () {
+		return openNames.size >> 1;
+	}
+
+	/** Returns the number of attributes of the element for a {@link #START_ELEMENT} event. */
+	public int getAttributeCount () {
+		return attributeCount;
+	}
+
+	public String getAttributeName (int index) {
+		if (index >= attributeCount) throw new IndexOutOfBoundsException(String.valueOf(index));
+		index <<= 2;
+		return name(data, attributes[index], attributes[index + 1]);
+	}
+
+	public String getAttributeValue (int index) {
+		if (index >= attributeCount) throw new IndexOutOfBoundsException(String.valueOf(index));
+		index <<= 2;
+		return new String(data, attributes[index + 2], attributes[index + 3]);
+	}
+
+	/** Returns the index of the attribute with the specified name for a {@link #START_ELEMENT} event, or -1. The name is compared
+	 * without creating a string for each attribute. */
+	public int getAttributeIndex (String name) {
+		char[] data = this.data;
+		int[] attributes = this.attributes;
+		int length = name.length();
+		outer:
+		for (int i = 0, n = attributeCount << 2; i < n; i += 4) {
+			if (attributes[i + 1] != length) continue;
+			for (int ii = 0, start = attributes[i]; ii < length; ii++)
+				if (data[start + ii] != name.charAt(ii)) continue outer;
+			return i >> 2;
+		}
+		return -1;
+	}
+
+	public String getAttribute (String name, String defaultValue) {
+		int index = getAttributeIndex(name);
+		if (index == -1) return defaultValue;
+		return getAttributeValue(index);
+	}
+
+	public int getIntAttribute (String name, int defaultValue) {
+		int index = getAttributeIndex(name);
+		if (index == -1) return defaultValue;
+		index <<= 2;
+		char[] data = this.data;
+		int start = attributes[index + 2], end = start + attributes[index + 3], i = start;
+		boolean negative = false;
+		if (i < end && (data[i] == '-' || data[i] == '+')) negative = data[i++] == '-';
+		// Up to 9 digits can't overflow.
+		if (i < end && end - i <= 9) {
+			int value = 0;
+			for (; i < end; i++) {
+				int digit = data[i] - '0';
+				if (digit < 0 || digit > 9) break;
+				value = value * 10 + digit;
+			}
+			if (i == end) return negative ? -value : value;
+		}
+		return Integer.parseInt(new String(data, start, end - start));
+	}
+
+	public float getFloatAttribute (String name, float defaultValue) {
+		int index = getAttributeIndex(name);
+		if (index == -1) return defaultValue;
+		index <<= 2;
+		char[] data = this.data;
+		int start = attributes[index + 2], end = start + attributes[index + 3], i = start;
+		boolean negative = false;
+		if (i < end && (data[i] == '-' || data[i] == '+')) negative = data[i++] == '-';
+		// A mantissa of at most 2^24 and at most 10 fraction digits is converted exactly by a single float division.
+		int value = 0, digits = 0, fraction = -1;
+		for (; i < end; i++) {
+			char c = data[i];
+			if (c == '.' && fraction == -1) {
+				fraction = 0;
+				continue;
+			}
+			int digit = c - '0';
+			if (digit < 0 || digit > 9 || value > 1 << 24) break;
+			value = value * 10 + digit;
+			digits++;
+			if (fraction != -1) fraction++;
+		}
+		if (i == end && digits > 0 && value <= 1 << 24 && fraction <= 10) {
+			float result = fraction > 0 ? value / powersOfTen[fraction] : value;
+			return negative ? -result : result;
+		}
+		return Float.parseFloat(new String(data, start, end - start));
+	}
+
+	public boolean getBooleanAttribute (String name, boolean defaultValue) {
+		int index = getAttributeIndex(name);
+		if (index == -1) return defaultValue;
+		index <<= 2;
+		char[] data = this.data;
+		int start = attributes[index + 2];
+		if (attributes[index + 3] != 4) return false;
+		return (data[start] | 32) == 't' && (data[start + 1] | 32) == 'r' && (data[start + 2] | 32) == 'u'
+			&& (data[start + 3] | 32) == 'e';
+	}
+
+	/** Returns the text for a {@link #TEXT} event, with entities replaced using {@link #entity(String)}. Leading whitespace is
+	 * skipped and trailing whitespace is trimmed. */
+	public String getText () {
+		char[] data = this.data;
+		int s = textStart, end = textStart + textLength;
+		if (!textHasEntities) return new String(data, s, end - s);
+		int current = s;
+		boolean entityFound = false;
+		while (current != end) {
+			if (data[current++] != '&') continue;
+			int entityStart = current;
+			while (current != end) {
+				if (data[current++] != ';') continue;
+				textBuffer.append(data, s, entityStart - s - 1);
+				String name = new String(data, entityStart, current - entityStart - 1);
+				String value = entity(name);
+				textBuffer.append(value != null ? value : name);
+				s = current;
+				entityFound = true;
+				break;
+			}
+		}
+		if (!entityFound) return new String(data, textStart, textLength);
+		if (s < end) textBuffer.append(data, s, end - s);
+		String text = textBuffer.toString();
+		textBuffer.setLength(0);
+		return text;
+	}
+
+	/** If true, element and attribute names are interned by this reader, so that each distinct name is created only once no
+	 * matter how often it occurs. This greatly reduces garbage and the size of the DOM for large documents. The interned names
+	 * are kept until this method is called again. Default is false. */
+	public void setInternNames (boolean internNames) {
+		names = internNames ? new String[64] : null;
+		namesSize = 0;
+	}
+
+	private String name (char[] data, int offset, int length) {
+		String[] names = this.names;
+		if (names == null) return new String(data, offset, length);
+		int hash = 0;
+		for (int i = offset, n = offset + length; i < n; i++)
+			hash = 31 * hash + data[i];
+		int mask = names.length - 1;
+		int index = (hash ^ hash >>> 16) & mask;
+		outer:
+		for (;; index = (index + 1) & mask) {
+			String name = names[index];
+			if (name == null) break;
+			if (name.length() != length || name.hashCode() != hash) continue;
+			for (int i = 0; i < length; i++)
+				if (name.charAt(i) != data[offset + i]) continue outer;
+			return name;
+		}
+		String name = new String(data, offset, length);
+		if (++namesSize > names.length >> 1) {
+			String[] newNames = new String[names.length << 1];
+			mask = newNames.length - 1;
+			for (int i = 0, n = names.length; i < n; i++) {
+				String existing = names[i];
+				if (existing == null) continue;
+				hash = existing.hashCode();
+				int newIndex = (hash ^ hash >>> 16) & mask;
+				while (newNames[newIndex] != null)
+					newIndex = (newIndex + 1) & mask;
+				newNames[newIndex] = existing;
+			}
+			this.names = names = newNames;
+			hash = name.hashCode();
+			index = (hash ^ hash >>> 16) & mask;
+			while (names[index] != null)
+				index = (index + 1) & mask;
+		}
+		names[index] = name;
+		return name;
+	}
+
+	static private final float[] powersOfTen = {1, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f};
+
 
 	protected void open (String name) {
 		Element child = new Element(name, current);
@@ -420,6 +741,12 @@ public class XmlReader {
 		return null;
 	}
 
+	/** Called for text that contains no entities. By default this creates a string and calls {@link #text(String)}. Override this
+	 * method to process large text without creating a string, eg to decode it directly. */
+	protected void text (char[] data, int offset, int length) {
+		text(new String(data, offset, length));
+	}
+
 	protected void text (String text) {
 		String existing = current.getText();
 		current.setText(existing != null ? existing + text : text);
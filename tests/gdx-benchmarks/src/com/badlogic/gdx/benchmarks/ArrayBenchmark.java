@@ -0,0 +1,138 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DelayedRemovalArray;
+import com.badlogic.gdx.utils.SnapshotArray;
+
+/** Compares {@link Array}, {@link SnapshotArray} and {@link DelayedRemovalArray} with {@link ArrayList}. All benchmarks work on
+ * the whole array, see {@link ArrayRemovalBenchmark} for removing while iterating. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ArrayBenchmark {
+	@Param({"16", "1024", "65536", "1000000", "10000000"}) public int size;
+
+	Integer[] values;
+	Array<Integer> array;
+	SnapshotArray<Integer> snapshotArray;
+	DelayedRemovalArray<Integer> delayedRemovalArray;
+	ArrayList<Integer> arrayList;
+
+	@Setup
+	public void setup () {
+		values = KeySets.boxed(KeySets.RANDOM, size);
+		array = fillArray();
+		snapshotArray = new SnapshotArray<Integer>(true, size, Integer.class);
+		snapshotArray.addAll(values);
+		delayedRemovalArray = new DelayedRemovalArray<Integer>(true, size, Integer.class);
+		delayedRemovalArray.addAll(values);
+		arrayList = fillArrayList();
+	}
+
+	private Array<Integer> fillArray () {
+		Array<Integer> array = new Array<Integer>(Integer.class);
+		for (int i = 0, n = size; i < n; i++)
+			array.add(values[i]);
+		return array;
+	}
+
+	private ArrayList<Integer> fillArrayList () {
+		ArrayList<Integer> list = new ArrayList<Integer>();
+		for (int i = 0, n = size; i < n; i++)
+			list.add(values[i]);
+		return list;
+	}
+
+	// fill an empty array, includes growing the backing array
+
+	@Benchmark
+	public Array<Integer> arrayAdd () {
+		return fillArray();
+	}
+
+	@Benchmark
+	public ArrayList<Integer> arrayListAdd () {
+		return fillArrayList();
+	}
+
+	// iterate
+
+	@Benchmark
+	public int arrayIterateIndexed () {
+		int sum = 0;
+		Integer[] items = array.items;
+		for (int i = 0, n = array.size; i < n; i++)
+			sum += items[i];
+		return sum;
+	}
+
+	@Benchmark
+	public int arrayIterate () {
+		int sum = 0;
+		for (Integer value : array)
+			sum += value;
+		return sum;
+	}
+
+	@Benchmark
+	public int snapshotArrayIterate () {
+		int sum = 0;
+		Integer[] items = snapshotArray.begin();
+		for (int i = 0, n = snapshotArray.size; i < n; i++)
+			sum += items[i];
+		snapshotArray.end();
+		return sum;
+	}
+
+	@Benchmark
+	public int arrayListIterateIndexed () {
+		int sum = 0;
+		ArrayList<Integer> list = arrayList;
+		for (int i = 0, n = list.size(); i < n; i++)
+			sum += list.get(i);
+		return sum;
+	}
+
+	@Benchmark
+	public int arrayListIterate () {
+		int sum = 0;
+		for (Integer value : arrayList)
+			sum += value;
+		return sum;
+	}
+}
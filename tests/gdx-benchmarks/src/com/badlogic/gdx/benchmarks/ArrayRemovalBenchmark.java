@@ -0,0 +1,135 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.DelayedRemovalArray;
+import com.badlogic.gdx.utils.SnapshotArray;
+
+/** Removes every eighth item of an {@link Array}, {@link SnapshotArray}, {@link DelayedRemovalArray} and {@link ArrayList} while
+ * iterating and adds them back afterward, which is the use case the snapshot and delayed removal arrays exist for. Removing from
+ * an ordered array is linear, so the sizes are kept smaller than in {@link ArrayBenchmark}. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArrayRemovalBenchmark {
+	@Param({"16", "256", "4096", "65536"}) public int size;
+
+	Array<Integer> array;
+	SnapshotArray<Integer> snapshotArray;
+	DelayedRemovalArray<Integer> delayedRemovalArray;
+	ArrayList<Integer> arrayList;
+	Array<Integer> removed = new Array<Integer>();
+	ArrayList<Integer> removedList = new ArrayList<Integer>();
+
+	@Setup
+	public void setup () {
+		Integer[] values = KeySets.boxed(KeySets.RANDOM, size);
+		array = new Array<Integer>(true, size, Integer.class);
+		array.addAll(values);
+		snapshotArray = new SnapshotArray<Integer>(true, size, Integer.class);
+		snapshotArray.addAll(values);
+		delayedRemovalArray = new DelayedRemovalArray<Integer>(true, size, Integer.class);
+		delayedRemovalArray.addAll(values);
+		arrayList = new ArrayList<Integer>(Arrays.asList(values));
+	}
+
+	@Benchmark
+	public int arrayIterateModify () {
+		Array<Integer> array = this.array;
+		Array<Integer> removed = this.removed;
+		for (int i = array.size - 1; i >= 0; i--)
+			if (i % 8 == 0) removed.add(array.removeIndex(i));
+		array.addAll(removed);
+		removed.clear();
+		return array.size;
+	}
+
+	@Benchmark
+	public int snapshotArrayIterateModify () {
+		SnapshotArray<Integer> array = snapshotArray;
+		Array<Integer> removed = this.removed;
+		Integer[] items = array.begin();
+		// Backward, so the live array and the snapshot agree on the indices still to be visited.
+		for (int i = array.size - 1; i >= 0; i--) {
+			if (i % 8 == 0) {
+				removed.add(items[i]);
+				array.removeIndex(i);
+			}
+		}
+		array.end();
+		array.addAll(removed);
+		removed.clear();
+		return array.size;
+	}
+
+	@Benchmark
+	public int delayedRemovalArrayIterateModify () {
+		DelayedRemovalArray<Integer> array = delayedRemovalArray;
+		Array<Integer> removed = this.removed;
+		array.begin();
+		Integer[] items = array.items;
+		for (int i = 0, n = array.size; i < n; i++) {
+			if (i % 8 == 0) {
+				removed.add(items[i]);
+				array.removeIndex(i);
+			}
+		}
+		array.end();
+		array.addAll(removed);
+		removed.clear();
+		return array.size;
+	}
+
+	@Benchmark
+	public int arrayListIterateModify () {
+		ArrayList<Integer> list = arrayList;
+		ArrayList<Integer> removed = removedList;
+		int i = 0;
+		for (Iterator<Integer> iter = list.iterator(); iter.hasNext(); i++) {
+			Integer value = iter.next();
+			if (i % 8 == 0) {
+				removed.add(value);
+				iter.remove();
+			}
+		}
+		list.addAll(removed);
+		removed.clear();
+		return list.size();
+	}
+}
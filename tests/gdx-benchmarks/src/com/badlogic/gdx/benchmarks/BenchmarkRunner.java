@@ -0,0 +1,43 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.benchmarks;
+
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.badlogic.gdx.Version;
+
+/** Runs the benchmarks and writes the results as JSON to gdx-benchmarks-&lt;version&gt;.json, so runs against different libgdx
+ * releases can be compared. Accepts the usual JMH command line options, eg "ObjectMap -p size=1024,65536" runs only the
+ * ObjectMap benchmarks for two sizes and "-rf csv -rff results.csv" changes the output. */
+public class BenchmarkRunner {
+	static public void main (String[] args) throws Exception {
+		CommandLineOptions commandLine = new CommandLineOptions(args);
+		if (commandLine.shouldHelp()) {
+			commandLine.showHelp();
+			return;
+		}
+		ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+		if (!commandLine.getResultFormat().hasValue()) options.resultFormat(ResultFormatType.JSON);
+		if (!commandLine.getResult().hasValue()) options.result("gdx-benchmarks-" + Version.VERSION + ".json");
+		new Runner(options.build()).run();
+	}
+}
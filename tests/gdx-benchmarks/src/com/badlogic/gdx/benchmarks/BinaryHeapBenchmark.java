@@ -0,0 +1,102 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.BinaryHeap;
+import com.badlogic.gdx.utils.BinaryHeap.Node;
+
+/** Compares {@link BinaryHeap} with {@link PriorityQueue}. Each operation pops the smallest node and adds it back with a new
+ * value, the way a path finder's open list is used. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BinaryHeapBenchmark {
+	static private final Comparator<Node> comparator = new Comparator<Node>() {
+		public int compare (Node o1, Node o2) {
+			return Float.compare(o1.getValue(), o2.getValue());
+		}
+	};
+
+	@Param({"16", "1024", "65536", "1000000", "10000000"}) public int size;
+
+	float[] values;
+	int index;
+	BinaryHeap<Node> heap;
+	PriorityQueue<Node> queue;
+
+	@Setup
+	public void setup () {
+		Random random = new Random(1234);
+		values = new float[4096];
+		for (int i = 0; i < values.length; i++)
+			values[i] = random.nextFloat();
+		heap = new BinaryHeap<Node>();
+		queue = new PriorityQueue<Node>(16, comparator);
+		for (int i = 0; i < size; i++) {
+			float value = random.nextFloat();
+			heap.add(new Node(value));
+			queue.add(new Node(value));
+		}
+	}
+
+	private float nextValue () {
+		// Values slightly larger than the popped ones keep the heap from degenerating.
+		return values[index++ & 4095] + 1;
+	}
+
+	@Benchmark
+	public Node binaryHeapPopAdd () {
+		Node node = heap.pop();
+		heap.add(new Node(node.getValue() + nextValue()));
+		return node;
+	}
+
+	@Benchmark
+	public Node binaryHeapSetValue () {
+		Node node = heap.peek();
+		heap.setValue(node, node.getValue() + nextValue());
+		return node;
+	}
+
+	@Benchmark
+	public Node priorityQueuePollAdd () {
+		Node node = queue.poll();
+		queue.add(new Node(node.getValue() + nextValue()));
+		return node;
+	}
+}
@@ -0,0 +1,100 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.benchmarks;
+
+import java.io.StringWriter;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.Array;
+import com.badlogic.gdx.utils.Json;
+import com.badlogic.gdx.utils.JsonWriter.OutputType;
+
+/** Writes and reads a save game like object graph with {@link Json}. Most of the fields are primitives. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBenchmark {
+	static public class Entity {
+		public int id;
+		public float x, y, rotation;
+		public boolean active = true;
+		public long spawnTime;
+		public double score;
+		public String name;
+	}
+
+	static public class Snapshot {
+		public int frame;
+		public Array<Entity> entities = new Array<Entity>();
+	}
+
+	@Param({"16", "1024"}) public int entities;
+	@Param({"json", "minimal"}) public OutputType outputType;
+
+	Json json;
+	Snapshot snapshot;
+	String text;
+
+	@Setup
+	public void setup () {
+		json = new Json(outputType);
+		json.setElementType(Snapshot.class, "entities", Entity.class);
+		snapshot = new Snapshot();
+		snapshot.frame = 1234;
+		for (int i = 0; i < entities; i++) {
+			Entity entity = new Entity();
+			entity.id = i;
+			entity.x = i * 1.5f;
+			entity.y = -i * 0.25f;
+			entity.rotation = i % 360;
+			entity.active = i % 3 != 0;
+			entity.spawnTime = 1000000000000L + i;
+			entity.score = i * 0.125;
+			entity.name = "entity" + i;
+			snapshot.entities.add(entity);
+		}
+		text = json.toJson(snapshot);
+	}
+
+	@Benchmark
+	public int write () {
+		StringWriter writer = new StringWriter(text.length());
+		json.toJson(snapshot, Snapshot.class, writer);
+		return writer.getBuffer().length();
+	}
+
+	@Benchmark
+	public Snapshot read () {
+		return json.fromJson(Snapshot.class, text);
+	}
+}
@@ -0,0 +1,85 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.Random;
+
+/** Generates the key sets used by the map benchmarks. All key sets contain distinct keys so a map filled with them has exactly
+ * the requested size. */
+public class KeySets {
+	/** Keys 0..size-1, best case for the first hash of the cuckoo maps. */
+	static public final String SEQUENTIAL = "sequential";
+	/** Keys spread over the whole int range in a random order. */
+	static public final String RANDOM = "random";
+	/** Keys which share their low bits, so they all collide on the first hash and most pushes end up in the stash. */
+	static public final String COLLIDING = "colliding";
+
+	static public int[] ints (String keySet, int size) {
+		int[] keys = new int[size];
+		if (keySet.equals(SEQUENTIAL)) {
+			for (int i = 0; i < size; i++)
+				keys[i] = i;
+		} else if (keySet.equals(RANDOM)) {
+			// Multiplying by an odd constant is a bijection on int, so the keys stay distinct.
+			for (int i = 0; i < size; i++)
+				keys[i] = (i + 1) * 0x9E3779B9;
+			shuffle(keys);
+		} else if (keySet.equals(COLLIDING)) {
+			// The rotation is a bijection too, the low 16 bits are zero for the first 65536 keys.
+			for (int i = 0; i < size; i++)
+				keys[i] = Integer.rotateLeft(i + 1, 16);
+		} else
+			throw new IllegalArgumentException("Unknown key set: " + keySet);
+		return keys;
+	}
+
+	static public long[] longs (String keySet, int size) {
+		int[] ints = ints(keySet, size);
+		long[] keys = new long[size];
+		for (int i = 0; i < size; i++)
+			keys[i] = (long)ints[i] << 32 | ints[i] & 0xffffffffL;
+		return keys;
+	}
+
+	static public Integer[] boxed (String keySet, int size) {
+		int[] ints = ints(keySet, size);
+		Integer[] keys = new Integer[size];
+		for (int i = 0; i < size; i++)
+			keys[i] = Integer.valueOf(ints[i]);
+		return keys;
+	}
+
+	/** Returns the keys in a random order, so lookups don't simply walk the backing arrays. */
+	static public int[] lookupOrder (int size) {
+		int[] order = new int[size];
+		for (int i = 0; i < size; i++)
+			order[i] = i;
+		shuffle(order);
+		return order;
+	}
+
+	static private void shuffle (int[] values) {
+		Random random = new Random(1234);
+		for (int i = values.length - 1; i > 0; i--) {
+			int ii = random.nextInt(i + 1);
+			int temp = values[i];
+			values[i] = values[ii];
+			values[ii] = temp;
+		}
+	}
+}
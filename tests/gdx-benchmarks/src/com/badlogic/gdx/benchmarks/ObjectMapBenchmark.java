@@ -0,0 +1,234 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.IdentityMap;
+import com.badlogic.gdx.utils.ObjectIntMap;
+import com.badlogic.gdx.utils.ObjectMap;
+import com.badlogic.gdx.utils.ObjectMap.Entry;
+
+/** Compares {@link ObjectMap}, {@link ObjectIntMap} and {@link IdentityMap} with {@link HashMap} and {@link IdentityHashMap}.
+ * The get, getMissing and removePut benchmarks measure a single operation, fill and iterate measure the whole map. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ObjectMapBenchmark {
+	@Param({"16", "1024", "65536", "1000000", "10000000"}) public int size;
+	@Param({"0.5", "0.8", "0.9"}) public float loadFactor;
+	@Param({KeySets.SEQUENTIAL, KeySets.RANDOM, KeySets.COLLIDING}) public String keySet;
+
+	/** The first half is put in the maps, the second half is used for missing lookups. */
+	Integer[] keys;
+	int[] order;
+	int index;
+
+	ObjectMap<Integer, Integer> objectMap;
+	ObjectIntMap<Integer> objectIntMap;
+	IdentityMap<Integer, Integer> identityMap;
+	HashMap<Integer, Integer> hashMap;
+	IdentityHashMap<Integer, Integer> identityHashMap;
+
+	@Setup
+	public void setup () {
+		keys = KeySets.boxed(keySet, size * 2);
+		order = KeySets.lookupOrder(size);
+		objectMap = fill(new ObjectMap<Integer, Integer>(16, loadFactor));
+		objectIntMap = new ObjectIntMap<Integer>(16, loadFactor);
+		for (int i = 0; i < size; i++)
+			objectIntMap.put(keys[i], i);
+		identityMap = new IdentityMap<Integer, Integer>(16, loadFactor);
+		for (int i = 0; i < size; i++)
+			identityMap.put(keys[i], keys[i]);
+		hashMap = fill(new HashMap<Integer, Integer>(16, loadFactor));
+		identityHashMap = fill(new IdentityHashMap<Integer, Integer>());
+	}
+
+	private Integer nextKey () {
+		int i = index;
+		if (++index == size) index = 0;
+		return keys[order[i]];
+	}
+
+	private Integer nextMissingKey () {
+		int i = index;
+		if (++index == size) index = 0;
+		return keys[size + order[i]];
+	}
+
+	private ObjectMap<Integer, Integer> fill (ObjectMap<Integer, Integer> map) {
+		Integer[] keys = this.keys;
+		for (int i = 0, n = size; i < n; i++)
+			map.put(keys[i], keys[i]);
+		return map;
+	}
+
+	private <T extends Map<Integer, Integer>> T fill (T map) {
+		Integer[] keys = this.keys;
+		for (int i = 0, n = size; i < n; i++)
+			map.put(keys[i], keys[i]);
+		return map;
+	}
+
+	// get
+
+	@Benchmark
+	public Integer objectMapGet () {
+		return objectMap.get(nextKey());
+	}
+
+	@Benchmark
+	public int objectIntMapGet () {
+		return objectIntMap.get(nextKey(), -1);
+	}
+
+	@Benchmark
+	public Integer identityMapGet () {
+		return identityMap.get(nextKey());
+	}
+
+	@Benchmark
+	public Integer hashMapGet () {
+		return hashMap.get(nextKey());
+	}
+
+	@Benchmark
+	public Integer identityHashMapGet () {
+		return identityHashMap.get(nextKey());
+	}
+
+	// get of keys not in the map, the worst case for cuckoo hashing as all hashes and the stash are checked
+
+	@Benchmark
+	public Integer objectMapGetMissing () {
+		return objectMap.get(nextMissingKey());
+	}
+
+	@Benchmark
+	public int objectIntMapGetMissing () {
+		return objectIntMap.get(nextMissingKey(), -1);
+	}
+
+	@Benchmark
+	public Integer hashMapGetMissing () {
+		return hashMap.get(nextMissingKey());
+	}
+
+	// remove followed by put of the same key, keeps the size stable
+
+	@Benchmark
+	public Integer objectMapRemovePut () {
+		Integer key = nextKey();
+		objectMap.remove(key);
+		return objectMap.put(key, key);
+	}
+
+	@Benchmark
+	public int objectIntMapRemovePut () {
+		Integer key = nextKey();
+		int value = objectIntMap.remove(key, -1);
+		objectIntMap.put(key, value);
+		return value;
+	}
+
+	@Benchmark
+	public Integer identityMapRemovePut () {
+		Integer key = nextKey();
+		identityMap.remove(key);
+		return identityMap.put(key, key);
+	}
+
+	@Benchmark
+	public Integer hashMapRemovePut () {
+		Integer key = nextKey();
+		hashMap.remove(key);
+		return hashMap.put(key, key);
+	}
+
+	@Benchmark
+	public Integer identityHashMapRemovePut () {
+		Integer key = nextKey();
+		identityHashMap.remove(key);
+		return identityHashMap.put(key, key);
+	}
+
+	// fill an empty map, includes growing the backing arrays
+
+	@Benchmark
+	public ObjectMap<Integer, Integer> objectMapFill () {
+		return fill(new ObjectMap<Integer, Integer>(16, loadFactor));
+	}
+
+	@Benchmark
+	public HashMap<Integer, Integer> hashMapFill () {
+		return fill(new HashMap<Integer, Integer>(16, loadFactor));
+	}
+
+	// iterate all entries
+
+	@Benchmark
+	public int objectMapIterate () {
+		int sum = 0;
+		for (Entry<Integer, Integer> entry : objectMap.entries())
+			sum += entry.value;
+		return sum;
+	}
+
+	@Benchmark
+	public int objectIntMapIterate () {
+		int sum = 0;
+		for (ObjectIntMap.Entry<Integer> entry : objectIntMap.entries())
+			sum += entry.value;
+		return sum;
+	}
+
+	@Benchmark
+	public int identityMapIterate () {
+		int sum = 0;
+		for (IdentityMap.Entry<Integer, Integer> entry : identityMap.entries())
+			sum += entry.value;
+		return sum;
+	}
+
+	@Benchmark
+	public int hashMapIterate () {
+		int sum = 0;
+		for (Map.Entry<Integer, Integer> entry : hashMap.entrySet())
+			sum += entry.getValue();
+		return sum;
+	}
+}
@@ -0,0 +1,269 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.IntFloatMap;
+import com.badlogic.gdx.utils.IntIntMap;
+import com.badlogic.gdx.utils.IntMap;
+import com.badlogic.gdx.utils.LongMap;
+
+/** Compares {@link IntMap}, {@link IntIntMap}, {@link IntFloatMap} and {@link LongMap} with a boxing {@link HashMap}. The get,
+ * getMissing and removePut benchmarks measure a single operation, fill and iterate measure the whole map. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PrimitiveMapBenchmark {
+	@Param({"16", "1024", "65536", "1000000", "10000000"}) public int size;
+	@Param({"0.5", "0.8", "0.9"}) public float loadFactor;
+	@Param({KeySets.SEQUENTIAL, KeySets.RANDOM, KeySets.COLLIDING}) public String keySet;
+
+	/** The first half is put in the maps, the second half is used for missing lookups. */
+	int[] keys;
+	long[] longKeys;
+	Integer[] boxedKeys;
+	int[] order;
+	int index;
+
+	IntMap<Integer> intMap;
+	IntIntMap intIntMap;
+	IntFloatMap intFloatMap;
+	LongMap<Integer> longMap;
+	HashMap<Integer, Integer> hashMap;
+
+	@Setup
+	public void setup () {
+		keys = KeySets.ints(keySet, size * 2);
+		longKeys = KeySets.longs(keySet, size * 2);
+		boxedKeys = KeySets.boxed(keySet, size * 2);
+		order = KeySets.lookupOrder(size);
+		intMap = fillIntMap();
+		intIntMap = fillIntIntMap();
+		intFloatMap = new IntFloatMap(16, loadFactor);
+		for (int i = 0; i < size; i++)
+			intFloatMap.put(keys[i], i);
+		longMap = new LongMap<Integer>(16, loadFactor);
+		for (int i = 0; i < size; i++)
+			longMap.put(longKeys[i], boxedKeys[i]);
+		hashMap = fillHashMap();
+	}
+
+	private int next () {
+		int i = index;
+		if (++index == size) index = 0;
+		return order[i];
+	}
+
+	private IntMap<Integer> fillIntMap () {
+		IntMap<Integer> map = new IntMap<Integer>(16, loadFactor);
+		int[] keys = this.keys;
+		Integer[] boxedKeys = this.boxedKeys;
+		for (int i = 0, n = size; i < n; i++)
+			map.put(keys[i], boxedKeys[i]);
+		return map;
+	}
+
+	private IntIntMap fillIntIntMap () {
+		IntIntMap map = new IntIntMap(16, loadFactor);
+		int[] keys = this.keys;
+		for (int i = 0, n = size; i < n; i++)
+			map.put(keys[i], i);
+		return map;
+	}
+
+	private HashMap<Integer, Integer> fillHashMap () {
+		HashMap<Integer, Integer> map = new HashMap<Integer, Integer>(16, loadFactor);
+		Integer[] boxedKeys = this.boxedKeys;
+		for (int i = 0, n = size; i < n; i++)
+			map.put(boxedKeys[i], boxedKeys[i]);
+		return map;
+	}
+
+	// get
+
+	@Benchmark
+	public Integer intMapGet () {
+		return intMap.get(keys[next()]);
+	}
+
+	@Benchmark
+	public int intIntMapGet () {
+		return intIntMap.get(keys[next()], -1);
+	}
+
+	@Benchmark
+	public float intFloatMapGet () {
+		return intFloatMap.get(keys[next()], -1);
+	}
+
+	@Benchmark
+	public Integer longMapGet () {
+		return longMap.get(longKeys[next()]);
+	}
+
+	/** Boxes the key like typical code using a HashMap with int keys would. */
+	@Benchmark
+	public Integer hashMapGet () {
+		return hashMap.get(keys[next()]);
+	}
+
+	/** Uses preboxed keys, only measures the lookup. */
+	@Benchmark
+	public Integer hashMapGetBoxed () {
+		return hashMap.get(boxedKeys[next()]);
+	}
+
+	// get of keys not in the map
+
+	@Benchmark
+	public Integer intMapGetMissing () {
+		return intMap.get(keys[size + next()]);
+	}
+
+	@Benchmark
+	public int intIntMapGetMissing () {
+		return intIntMap.get(keys[size + next()], -1);
+	}
+
+	@Benchmark
+	public Integer longMapGetMissing () {
+		return longMap.get(longKeys[size + next()]);
+	}
+
+	@Benchmark
+	public Integer hashMapGetMissing () {
+		return hashMap.get(boxedKeys[size + next()]);
+	}
+
+	// remove followed by put of the same key, keeps the size stable
+
+	@Benchmark
+	public Integer intMapRemovePut () {
+		int i = next();
+		intMap.remove(keys[i]);
+		return intMap.put(keys[i], boxedKeys[i]);
+	}
+
+	@Benchmark
+	public int intIntMapRemovePut () {
+		int key = keys[next()];
+		int value = intIntMap.remove(key, -1);
+		intIntMap.put(key, value);
+		return value;
+	}
+
+	@Benchmark
+	public float intFloatMapRemovePut () {
+		int key = keys[next()];
+		float value = intFloatMap.remove(key, -1);
+		intFloatMap.put(key, value);
+		return value;
+	}
+
+	@Benchmark
+	public Integer longMapRemovePut () {
+		int i = next();
+		longMap.remove(longKeys[i]);
+		return longMap.put(longKeys[i], boxedKeys[i]);
+	}
+
+	@Benchmark
+	public Integer hashMapRemovePut () {
+		Integer key = boxedKeys[next()];
+		hashMap.remove(key);
+		return hashMap.put(key, key);
+	}
+
+	// fill an empty map, includes growing the backing arrays
+
+	@Benchmark
+	public IntMap<Integer> intMapFill () {
+		return fillIntMap();
+	}
+
+	@Benchmark
+	public IntIntMap intIntMapFill () {
+		return fillIntIntMap();
+	}
+
+	@Benchmark
+	public HashMap<Integer, Integer> hashMapFill () {
+		return fillHashMap();
+	}
+
+	// iterate all entries
+
+	@Benchmark
+	public int intMapIterate () {
+		int sum = 0;
+		for (IntMap.Entry<Integer> entry : intMap.entries())
+			sum += entry.key;
+		return sum;
+	}
+
+	@Benchmark
+	public int intIntMapIterate () {
+		int sum = 0;
+		for (IntIntMap.Entry entry : intIntMap.entries())
+			sum += entry.value;
+		return sum;
+	}
+
+	@Benchmark
+	public int intIntMapIterateValues () {
+		int sum = 0;
+		IntIntMap.Values values = intIntMap.values();
+		while (values.hasNext)
+			sum += values.next();
+		return sum;
+	}
+
+	@Benchmark
+	public long longMapIterate () {
+		long sum = 0;
+		for (LongMap.Entry<Integer> entry : longMap.entries())
+			sum += entry.key;
+		return sum;
+	}
+
+	@Benchmark
+	public int hashMapIterate () {
+		int sum = 0;
+		for (Map.Entry<Integer, Integer> entry : hashMap.entrySet())
+			sum += entry.getKey();
+		return sum;
+	}
+}
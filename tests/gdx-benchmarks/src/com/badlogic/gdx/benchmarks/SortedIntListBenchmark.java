@@ -0,0 +1,120 @@
+/*******************************************************************************
+ * Copyright 2011 See AUTHORS file.
+ * 
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ ******************************************************************************/
+
+
+package com.badlogic.gdx.benchmarks;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.badlogic.gdx.utils.SortedIntList;
+
+/** Compares {@link SortedIntList} with {@link TreeMap}. SortedIntList is a linked list, so get and insert are linear and the sizes
+ * are kept small. The get benchmark measures a single lookup, fill and iterate measure the whole list. */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SortedIntListBenchmark {
+	@Param({"16", "256", "4096", "65536"}) public int size;
+
+	int[] indices;
+	Integer[] values;
+	int[] order;
+	int index;
+	SortedIntList<Integer> list;
+	TreeMap<Integer, Integer> treeMap;
+
+	@Setup
+	public void setup () {
+		indices = KeySets.ints(KeySets.RANDOM, size);
+		values = KeySets.boxed(KeySets.RANDOM, size);
+		order = KeySets.lookupOrder(size);
+		list = fillList();
+		treeMap = fillTreeMap();
+	}
+
+	private int next () {
+		int i = index;
+		if (++index == size) index = 0;
+		return order[i];
+	}
+
+	private SortedIntList<Integer> fillList () {
+		SortedIntList<Integer> list = new SortedIntList<Integer>();
+		for (int i = 0, n = size; i < n; i++)
+			list.insert(indices[i], values[i]);
+		return list;
+	}
+
+	private TreeMap<Integer, Integer> fillTreeMap () {
+		TreeMap<Integer, Integer> map = new TreeMap<Integer, Integer>();
+		for (int i = 0, n = size; i < n; i++)
+			map.put(indices[i], values[i]);
+		return map;
+	}
+
+	@Benchmark
+	public Integer sortedIntListGet () {
+		return list.get(indices[next()]);
+	}
+
+	@Benchmark
+	public Integer treeMapGet () {
+		return treeMap.get(indices[next()]);
+	}
+
+	@Benchmark
+	public SortedIntList<Integer> sortedIntListFill () {
+		return fillList();
+	}
+
+	@Benchmark
+	public TreeMap<Integer, Integer> treeMapFill () {
+		return fillTreeMap();
+	}
+
+	@Benchmark
+	public int sortedIntListIterate () {
+		int sum = 0;
+		for (SortedIntList.Node<Integer> node : list)
+			sum += node.index;
+		return sum;
+	}
+
+	@Benchmark
+	public int treeMapIterate () {
+		int sum = 0;
+		for (Map.Entry<Integer, Integer> entry : treeMap.entrySet())
+			sum += entry.getKey();
+		return sum;
+	}
+}